@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.index.compositeindex;
+
+import org.opensearch.index.compositeindex.datacube.DimensionDataType;
+import org.opensearch.index.compositeindex.datacube.startree.StarTreeDocument;
+import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeDocumentsMerger;
+import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeDocumentsSorter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares merging the sorted segment star-tree documents of several segments with a k-way merge against
+ * re-sorting all of them, as done when the star-tree is rebuilt from scratch on merge.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class StarTreeMergeBenchmark {
+
+    @Param({ "2", "10" })
+    int numSegments;
+
+    @Param({ "100000" })
+    int docsPerSegment;
+
+    @Param({ "3", "6" })
+    int numDimensions;
+
+    @Param({ "100" })
+    int cardinality;
+
+    private List<StarTreeDocument[]> segments;
+    private List<Comparator<Long>> comparators;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(0);
+        comparators = new ArrayList<>();
+        for (int i = 0; i < numDimensions; i++) {
+            comparators.add(DimensionDataType.LONG::compare);
+        }
+        segments = new ArrayList<>();
+        for (int seg = 0; seg < numSegments; seg++) {
+            StarTreeDocument[] documents = new StarTreeDocument[docsPerSegment];
+            for (int doc = 0; doc < docsPerSegment; doc++) {
+                Long[] dimensions = new Long[numDimensions];
+                for (int dim = 0; dim < numDimensions; dim++) {
+                    dimensions[dim] = (long) random.nextInt(cardinality);
+                }
+                documents[doc] = new StarTreeDocument(dimensions, new Object[] { (double) random.nextInt(1000), 1L });
+            }
+            // segment star-tree documents are persisted sorted and reduced
+            Iterator<StarTreeDocument> reduced = sortAndReduce(documents);
+            List<StarTreeDocument> sorted = new ArrayList<>();
+            reduced.forEachRemaining(sorted::add);
+            segments.add(sorted.toArray(new StarTreeDocument[0]));
+        }
+    }
+
+    @Benchmark
+    public void rebuild(Blackhole blackhole) {
+        int numDocs = 0;
+        for (StarTreeDocument[] segment : segments) {
+            numDocs += segment.length;
+        }
+        StarTreeDocument[] documents = new StarTreeDocument[numDocs];
+        int offset = 0;
+        for (StarTreeDocument[] segment : segments) {
+            System.arraycopy(segment, 0, documents, offset, segment.length);
+            offset += segment.length;
+        }
+        consume(sortAndReduce(documents), blackhole);
+    }
+
+    @Benchmark
+    public void incrementalMerge(Blackhole blackhole) {
+        List<Iterator<StarTreeDocument>> sources = new ArrayList<>(segments.size());
+        for (StarTreeDocument[] segment : segments) {
+            sources.add(Arrays.asList(segment).iterator());
+        }
+        consume(StarTreeDocumentsMerger.merge(sources, comparators, StarTreeMergeBenchmark::reduce), blackhole);
+    }
+
+    private Iterator<StarTreeDocument> sortAndReduce(StarTreeDocument[] documents) {
+        int[] sortedDocIds = new int[documents.length];
+        for (int i = 0; i < documents.length; i++) {
+            sortedDocIds[i] = i;
+        }
+        StarTreeDocumentsSorter.sort(sortedDocIds, -1, documents.length, index -> documents[sortedDocIds[index]].dimensions, comparators);
+        List<StarTreeDocument> reduced = new ArrayList<>();
+        StarTreeDocument current = null;
+        for (int docId : sortedDocIds) {
+            StarTreeDocument document = documents[docId];
+            if (current != null && Arrays.equals(current.dimensions, document.dimensions)) {
+                reduce(current, document);
+            } else {
+                current = reduce(null, document);
+                reduced.add(current);
+            }
+        }
+        return reduced.iterator();
+    }
+
+    private static StarTreeDocument reduce(StarTreeDocument aggregated, StarTreeDocument document) {
+        if (aggregated == null) {
+            return new StarTreeDocument(Arrays.copyOf(document.dimensions, document.dimensions.length), document.metrics.clone());
+        }
+        aggregated.metrics[0] = (Double) aggregated.metrics[0] + (Double) document.metrics[0];
+        aggregated.metrics[1] = (Long) aggregated.metrics[1] + (Long) document.metrics[1];
+        return aggregated;
+    }
+
+    private static void consume(Iterator<StarTreeDocument> documents, Blackhole blackhole) {
+        while (documents.hasNext()) {
+            blackhole.consume(documents.next());
+        }
+    }
+}
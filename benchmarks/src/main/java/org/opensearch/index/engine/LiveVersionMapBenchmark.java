@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.lease.Releasable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures the throughput of upserts into the {@link LiveVersionMap} when many threads update a small set of hot document
+ * ids, comparing the default lock per id with lock stripes.
+ */
+@Fork(value = 1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(64)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class LiveVersionMapBenchmark {
+
+    /**
+     * The number of lock stripes, {@code 0} meaning a lock per id
+     */
+    @Param({ "0", "256", "4096" })
+    public int lockStripes;
+
+    @Param({ "16", "1024", "100000" })
+    public int numIds;
+
+    private LiveVersionMap versionMap;
+    private BytesRef[] uids;
+    private final AtomicLong seqNo = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        versionMap = new LiveVersionMap(lockStripes);
+        // updates by id require the version map to track all the ids
+        versionMap.enforceSafeAccess();
+        uids = new BytesRef[numIds];
+        for (int i = 0; i < numIds; i++) {
+            uids[i] = new BytesRef("doc-" + i);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void refresh() throws IOException {
+        // keep the version map from growing across iterations, as refreshes would
+        versionMap.beforeRefresh();
+        versionMap.afterRefresh(true);
+    }
+
+    @Benchmark
+    public VersionValue upsert() {
+        final BytesRef uid = uids[ThreadLocalRandom.current().nextInt(uids.length)];
+        try (Releasable ignored = versionMap.acquireLock(uid)) {
+            final VersionValue current = versionMap.getUnderLock(uid);
+            final long version = current == null ? 1 : current.version + 1;
+            final IndexVersionValue updated = new IndexVersionValue(null, version, seqNo.incrementAndGet(), 1);
+            versionMap.putIndexUnderLock(uid, updated);
+            return updated;
+        }
+    }
+}
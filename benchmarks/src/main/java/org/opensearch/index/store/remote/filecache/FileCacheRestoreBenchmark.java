@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.filecache;
+
+import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.NoopCircuitBreaker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.opensearch.index.store.remote.directory.RemoteSnapshotDirectoryFactory.LOCAL_STORE_LOCATION;
+
+/**
+ * Measures the time it takes a restarted node to restore its {@link FileCache} from disk, with and without replaying the
+ * journal which restores the access order of the cached files. The cached files are kept either way, so this is the time
+ * until the warm working set is usable again, as opposed to re-downloading it.
+ */
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class FileCacheRestoreBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    public int numFiles;
+
+    private Path shardCachePath;
+    private Path journalFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final Path root = Files.createTempDirectory("file-cache-restore-benchmark");
+        shardCachePath = root.resolve("index").resolve("0");
+        final Path localStorePath = Files.createDirectories(shardCachePath.resolve(LOCAL_STORE_LOCATION));
+        final byte[] block = new byte[1024];
+        for (int i = 0; i < numFiles; i++) {
+            Files.write(localStorePath.resolve("_" + i + ".cfs_block_0"), block);
+        }
+        final FileCache fileCache = createFileCache();
+        fileCache.restoreFromDirectory(List.of(shardCachePath));
+        journalFile = root.resolve(FileCache.JOURNAL_FILE_NAME);
+        fileCache.writeJournal(journalFile);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        IOUtils.rm(journalFile.getParent());
+    }
+
+    @Benchmark
+    public FileCache restoreFromDirectory() {
+        final FileCache fileCache = createFileCache();
+        fileCache.restoreFromDirectory(List.of(shardCachePath));
+        return fileCache;
+    }
+
+    @Benchmark
+    public FileCache restoreFromDirectoryAndJournal() throws IOException {
+        final FileCache fileCache = createFileCache();
+        fileCache.restoreFromDirectory(List.of(shardCachePath));
+        fileCache.restoreAccessOrder(journalFile);
+        return fileCache;
+    }
+
+    private static FileCache createFileCache() {
+        // never evict, the cached files are not actually removed by the benchmark
+        return FileCacheFactory.createConcurrentLRUFileCache(Long.MAX_VALUE, new NoopCircuitBreaker(CircuitBreaker.REQUEST));
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.policy;
+
+import org.opensearch.common.cache.FrequencySketch;
+import org.opensearch.common.cache.ICacheKey;
+
+/**
+ * A cache tier policy which accepts entries whose key has been accessed at least some number of times.
+ * Access frequencies are estimated with a {@link FrequencySketch}, in the manner of TinyLFU, so that the estimates
+ * reflect recent popularity rather than all-time popularity.
+ * @param <K> The type of the underlying key.
+ * @param <V> The type of the value.
+ */
+public class FrequencyPolicy<K, V> implements TierAdmissionPolicy<K, V> {
+
+    /**
+     * The maximum frequency tracked for a key. Counters saturate at this value.
+     */
+    public static final int MAX_FREQUENCY = FrequencySketch.MAX_FREQUENCY;
+
+    /**
+     * The minimum estimated frequency of a key for its entry to be admitted.
+     */
+    private final int threshold;
+
+    private final FrequencySketch sketch;
+
+    /**
+     * Constructs a frequency policy.
+     * @param threshold the minimum number of accesses of a key for its entry to be admitted
+     */
+    public FrequencyPolicy(int threshold) {
+        if (threshold < 1 || threshold > MAX_FREQUENCY) {
+            throw new IllegalArgumentException(
+                "Threshold for FrequencyPolicy must be between 1 and " + MAX_FREQUENCY + " but was " + threshold
+            );
+        }
+        this.threshold = threshold;
+        this.sketch = new FrequencySketch(FrequencySketch.DEFAULT_WIDTH);
+    }
+
+    @Override
+    public void recordAccess(ICacheKey<K> key) {
+        sketch.increment(key.hashCode());
+    }
+
+    /**
+     * Returns the estimated number of recent accesses of the given key.
+     * @param key the key
+     * @return the estimated frequency, at most {@link #MAX_FREQUENCY}
+     */
+    public int frequency(ICacheKey<K> key) {
+        return sketch.frequency(key.hashCode());
+    }
+
+    /**
+     * Check whether to admit an entry.
+     * @param key the key of the entry
+     * @param value the value of the entry
+     * @return whether to admit the entry
+     */
+    @Override
+    public boolean test(ICacheKey<K> key, V value) {
+        return frequency(key) >= threshold;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.policy;
+
+import org.opensearch.common.cache.ICacheKey;
+
+import java.util.Objects;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * A cache tier policy which accepts entries whose size is at most some threshold, so that a few large entries can't
+ * push many small ones out of a tier.
+ * @param <K> The type of the underlying key.
+ * @param <V> The type of the value.
+ */
+public class SizePolicy<K, V> implements TierAdmissionPolicy<K, V> {
+    /**
+     * The maximum size of an entry admitted by this policy, in bytes.
+     */
+    private final long maxEntrySizeInBytes;
+
+    /**
+     * Function which computes the size of an entry
+     */
+    private final ToLongBiFunction<ICacheKey<K>, V> weigher;
+
+    /**
+     * Constructs a size policy.
+     * @param maxEntrySizeInBytes the maximum size of an admitted entry, in bytes
+     * @param weigher the function computing the size of an entry
+     */
+    public SizePolicy(long maxEntrySizeInBytes, ToLongBiFunction<ICacheKey<K>, V> weigher) {
+        if (maxEntrySizeInBytes < 0) {
+            throw new IllegalArgumentException("Max entry size for SizePolicy must be >= 0 but was " + maxEntrySizeInBytes);
+        }
+        this.maxEntrySizeInBytes = maxEntrySizeInBytes;
+        this.weigher = Objects.requireNonNull(weigher, "Weigher can't be null");
+    }
+
+    /**
+     * Check whether to admit an entry.
+     * @param key the key of the entry
+     * @param value the value of the entry
+     * @return whether to admit the entry
+     */
+    @Override
+    public boolean test(ICacheKey<K> key, V value) {
+        return weigher.applyAsLong(key, value) <= maxEntrySizeInBytes;
+    }
+}
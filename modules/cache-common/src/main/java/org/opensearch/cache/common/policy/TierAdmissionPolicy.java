@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.policy;
+
+import org.opensearch.common.cache.ICacheKey;
+
+import java.util.function.BiPredicate;
+
+/**
+ * A policy deciding whether an entry is admitted into one tier of a tiered cache.
+ * Unlike the policies guarding the cache as a whole, which only inspect values, tier admission policies see the key
+ * of the entry and are notified of every access to a key.
+ * @param <K> The type of the underlying key.
+ * @param <V> The type of the value.
+ */
+public interface TierAdmissionPolicy<K, V> extends BiPredicate<ICacheKey<K>, V> {
+
+    /**
+     * Records an access to the given key. This is called on every lookup or put of a key, before any admission
+     * decision is made for it.
+     * @param key the accessed key
+     */
+    default void recordAccess(ICacheKey<K> key) {}
+}
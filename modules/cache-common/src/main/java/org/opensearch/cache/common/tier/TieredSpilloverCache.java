@@ -10,6 +10,9 @@ package org.opensearch.cache.common.tier;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.opensearch.cache.common.policy.FrequencyPolicy;
+import org.opensearch.cache.common.policy.SizePolicy;
+import org.opensearch.cache.common.policy.TierAdmissionPolicy;
 import org.opensearch.cache.common.policy.TookTimePolicy;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.common.cache.CacheType;
@@ -20,12 +23,14 @@ import org.opensearch.common.cache.RemovalListener;
 import org.opensearch.common.cache.RemovalNotification;
 import org.opensearch.common.cache.RemovalReason;
 import org.opensearch.common.cache.policy.CachedQueryResult;
+import org.opensearch.common.cache.stats.EvictionPolicyStats;
 import org.opensearch.common.cache.stats.ImmutableCacheStatsHolder;
 import org.opensearch.common.cache.store.config.CacheConfig;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.ReleasableLock;
 
 import java.io.IOException;
@@ -38,10 +43,12 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BiFunction;
@@ -50,7 +57,12 @@ import java.util.function.Predicate;
 import java.util.function.ToLongBiFunction;
 
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.DISK_CACHE_ENABLED_SETTING_MAP;
+import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.TIERED_SPILLOVER_DISK_FREQUENCY_THRESHOLD;
+import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.TIERED_SPILLOVER_DISK_MAX_ENTRY_SIZE;
+import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.TIERED_SPILLOVER_DISK_PROMOTE_ON_HIT;
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.TIERED_SPILLOVER_DISK_STORE_SIZE;
+import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.TIERED_SPILLOVER_ONHEAP_FREQUENCY_THRESHOLD;
+import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.TIERED_SPILLOVER_ONHEAP_MAX_ENTRY_SIZE;
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.TIERED_SPILLOVER_ONHEAP_STORE_SIZE;
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.TIERED_SPILLOVER_SEGMENTS;
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.TOOK_TIME_DISK_TIER_POLICY_CONCRETE_SETTINGS_MAP;
@@ -64,6 +76,10 @@ import static org.opensearch.common.cache.settings.CacheSettings.VALID_SEGMENT_C
  * This cache spillover the evicted items from heap tier to disk tier. All the new items are first cached on heap
  * and the items evicted from on heap cache are moved to disk based cache. If disk based cache also gets full,
  * then items are eventually evicted from it and removed which will result in cache miss.
+ * <p>
+ * Each tier may have its own key aware admission policies (for example on access frequency or entry size). New items
+ * rejected by the heap tier policies are put straight in the disk tier if the disk tier admits them, and items hit in
+ * the disk tier can optionally be promoted back to the heap tier.
  *
  * @param <K> Type of key
  * @param <V> Type of value
@@ -153,8 +169,24 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
         // Policies guarding access to the disk tier.
         private final List<Predicate<V>> diskPolicies;
 
+        // Key aware policies guarding access to the individual tiers.
+        private final List<TierAdmissionPolicy<K, V>> onHeapAdmissionPolicies;
+        private final List<TierAdmissionPolicy<K, V>> diskAdmissionPolicies;
+
+        // Whether entries hit in the disk tier are moved back to the heap tier.
+        private final boolean promoteOnHit;
+
+        /**
+         * Keys which are being moved from the disk tier to the heap tier. Their removal from the disk tier must not be
+         * reported to the removal listener of the cache, as they don't leave the cache.
+         */
+        private final Set<ICacheKey<K>> keysBeingPromoted = ConcurrentCollections.newConcurrentSet();
+
         private final TieredSpilloverCacheStatsHolder statsHolder;
 
+        // New entries the heap tier admission policies kept out of the heap tier
+        private final LongAdder onHeapAdmissionRejections = new LongAdder();
+
         private final long onHeapCacheMaxWeight;
         private final long diskCacheMaxWeight;
 
@@ -227,6 +259,9 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
             this.caches = Collections.synchronizedMap(cacheListMap);
             this.policies = builder.policies;
             this.diskPolicies = builder.diskPolicies; // Will never be null; builder initializes it to an empty list
+            this.onHeapAdmissionPolicies = builder.onHeapAdmissionPolicies;
+            this.diskAdmissionPolicies = builder.diskAdmissionPolicies;
+            this.promoteOnHit = builder.promoteOnHit;
             this.onHeapCacheMaxWeight = onHeapCacheSizeInBytes;
             this.diskCacheMaxWeight = diskCacheSizeInBytes;
         }
@@ -250,24 +285,29 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
 
         @Override
         public V get(ICacheKey<K> key) {
+            recordAccess(key);
             Tuple<V, String> cacheValueTuple = getValueFromTieredCache(true).apply(key);
             if (cacheValueTuple == null) {
                 return null;
             }
+            if (cacheValueTuple.v2().equals(TIER_DIMENSION_VALUE_DISK)) {
+                maybePromoteToHeapTier(key, cacheValueTuple.v1());
+            }
             return cacheValueTuple.v1();
         }
 
         @Override
         public void put(ICacheKey<K> key, V value) {
+            recordAccess(key);
             // First check in case the key is already present in either of tiers.
             Tuple<V, String> cacheValueTuple = getValueFromTieredCache(true).apply(key);
             if (evaluatePoliciesList(value, policies)) {
                 if (cacheValueTuple == null) {
-                    // In case it is not present in any tier, put it inside onHeap cache by default.
-                    try (ReleasableLock ignore = writeLock.acquire()) {
-                        onHeapCache.put(key, value);
+                    // In case it is not present in any tier, put it inside the fastest tier admitting it.
+                    String tierValue = putInFirstAdmittingTier(key, value);
+                    if (tierValue != null) {
+                        updateStatsOnPut(tierValue, key, value);
                     }
-                    updateStatsOnPut(TIER_DIMENSION_VALUE_ON_HEAP, key, value);
                 } else {
                     try (ReleasableLock ignore = writeLock.acquire()) {
                         for (Map.Entry<ICache<K, V>, TierInfo> entry : this.caches.entrySet()) {
@@ -287,6 +327,7 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
             // and it only has to be loaded one time, we should report one miss and the rest hits. But, if we do stats in
             // getValueFromTieredCache(),
             // we will see all misses. Instead, handle stats in computeIfAbsent().
+            recordAccess(key);
             Tuple<V, String> cacheValueTuple;
             CompletableFuture<Tuple<Tuple<ICacheKey<K>, V>, Boolean>> future = null;
             try (ReleasableLock ignore = readLock.acquire()) {
@@ -332,6 +373,7 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
                     // Miss for the heap tier, hit for the disk tier
                     statsHolder.incrementMisses(heapDimensionValues);
                     statsHolder.incrementHits(diskDimensionValues);
+                    maybePromoteToHeapTier(key, cacheValueTuple.v1());
                 }
             }
             return cacheValueTuple.v1();
@@ -353,18 +395,17 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
                         Tuple<ICacheKey<K>, V> pair = pairInfo.v1();
                         boolean rejectedByPolicy = pairInfo.v2();
                         if (pair != null && !rejectedByPolicy) {
-                            boolean didAddToCache = false;
-                            try (ReleasableLock ignore = writeLock.acquire()) {
-                                onHeapCache.put(pair.v1(), pair.v2());
-                                didAddToCache = true;
+                            String addedToTierValue = null;
+                            try {
+                                addedToTierValue = putInFirstAdmittingTier(pair.v1(), pair.v2());
                             } catch (Exception e) {
                                 // TODO: Catch specific exceptions to know whether this resulted from cache or underlying removal
                                 // listeners/stats. Needs better exception handling at underlying layers.For now swallowing
                                 // exception.
                                 logger.warn("Exception occurred while putting item onto heap cache", e);
                             }
-                            if (didAddToCache) {
-                                updateStatsOnPut(TIER_DIMENSION_VALUE_ON_HEAP, key, pair.v2());
+                            if (addedToTierValue != null) {
+                                updateStatsOnPut(addedToTierValue, key, pair.v2());
                             }
                         }
                     } else {
@@ -461,6 +502,19 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
             return null;
         }
 
+        /**
+         * Returns the stats of the eviction policy of the heap tier, whose admission rejections include the new entries which
+         * the heap tier admission policies kept out of it.
+         */
+        @Override
+        public EvictionPolicyStats evictionPolicyStats() {
+            EvictionPolicyStats heapTierStats = onHeapCache.evictionPolicyStats();
+            if (heapTierStats == null) {
+                return null;
+            }
+            return heapTierStats.withAdditionalAdmissionRejections(onHeapAdmissionRejections.sum());
+        }
+
         @Override
         public void close() throws IOException {
             for (Map.Entry<ICache<K, V>, TierInfo> cacheEntry : caches.entrySet()) {
@@ -474,9 +528,7 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
             boolean wasEvicted = SPILLOVER_REMOVAL_REASONS.contains(notification.getRemovalReason());
             boolean countEvictionTowardsTotal = false; // Don't count this eviction towards the cache's total if it ends up in the disk tier
             boolean exceptionOccurredOnDiskCachePut = false;
-            boolean canCacheOnDisk = caches.get(diskCache).isEnabled()
-                && wasEvicted
-                && evaluatePoliciesList(notification.getValue(), diskPolicies);
+            boolean canCacheOnDisk = wasEvicted && canCacheOnDisk(key, notification.getValue());
             if (canCacheOnDisk) {
                 try (ReleasableLock ignore = writeLock.acquire()) {
                     diskCache.put(key, notification.getValue()); // spill over to the disk tier and increment its stats
@@ -508,6 +560,88 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
             return true;
         }
 
+        boolean evaluateAdmissionPolicies(ICacheKey<K> key, V value, List<TierAdmissionPolicy<K, V>> admissionPolicies) {
+            for (TierAdmissionPolicy<K, V> policy : admissionPolicies) {
+                if (!policy.test(key, value)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void recordAccess(ICacheKey<K> key) {
+            if (key.key == null) {
+                return;
+            }
+            for (TierAdmissionPolicy<K, V> policy : onHeapAdmissionPolicies) {
+                policy.recordAccess(key);
+            }
+            for (TierAdmissionPolicy<K, V> policy : diskAdmissionPolicies) {
+                policy.recordAccess(key);
+            }
+        }
+
+        private boolean canCacheOnDisk(ICacheKey<K> key, V value) {
+            return caches.get(diskCache).isEnabled()
+                && evaluatePoliciesList(value, diskPolicies)
+                && evaluateAdmissionPolicies(key, value, diskAdmissionPolicies);
+        }
+
+        /**
+         * Puts a new entry into the fastest tier admitting it. Entries rejected by the heap tier policies go straight
+         * to the disk tier, if the disk tier admits them.
+         * @return the name of the tier the entry was put into, or null if no tier admitted it
+         */
+        private String putInFirstAdmittingTier(ICacheKey<K> key, V value) {
+            if (evaluateAdmissionPolicies(key, value, onHeapAdmissionPolicies)) {
+                try (ReleasableLock ignore = writeLock.acquire()) {
+                    onHeapCache.put(key, value);
+                }
+                return TIER_DIMENSION_VALUE_ON_HEAP;
+            }
+            onHeapAdmissionRejections.increment();
+            if (canCacheOnDisk(key, value)) {
+                try (ReleasableLock ignore = writeLock.acquire()) {
+                    diskCache.put(key, value);
+                }
+                return TIER_DIMENSION_VALUE_DISK;
+            }
+            return null;
+        }
+
+        /**
+         * Moves an entry which was hit in the disk tier back to the heap tier, if promotion is enabled and the heap
+         * tier policies admit it. Entries spilled over from the heap tier to make room for it go to the disk tier as usual.
+         */
+        private void maybePromoteToHeapTier(ICacheKey<K> key, V value) {
+            if (!promoteOnHit || !evaluateAdmissionPolicies(key, value, onHeapAdmissionPolicies)) {
+                return;
+            }
+            try (ReleasableLock ignore = writeLock.acquire()) {
+                if (diskCache.get(key) == null) {
+                    // Another thread already promoted or invalidated this entry
+                    return;
+                }
+                keysBeingPromoted.add(key);
+                try {
+                    diskCache.invalidate(key);
+                } catch (Exception e) {
+                    keysBeingPromoted.remove(key);
+                    logger.warn("Exception occurred while removing promoted item from disk cache", e);
+                    return;
+                }
+                try {
+                    onHeapCache.put(key, value);
+                } catch (Exception e) {
+                    // The value already left the disk tier, so it leaves the cache entirely
+                    logger.warn("Exception occurred while putting promoted item onto heap cache", e);
+                    removalListener.onRemoval(new RemovalNotification<>(key, value, RemovalReason.INVALIDATED));
+                    return;
+                }
+            }
+            updateStatsOnPut(TIER_DIMENSION_VALUE_ON_HEAP, key, value);
+        }
+
         /**
          * Get a value from the tiered cache, and the name of the tier it was found in.
          * @param captureStats Whether to record hits/misses for this call of the function
@@ -538,9 +672,11 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
         }
 
         void handleRemovalFromDiskTier(RemovalNotification<ICacheKey<K>, V> notification) {
-            // Values removed from the disk tier leave the TSC entirely
-            removalListener.onRemoval(notification);
             boolean wasEvicted = SPILLOVER_REMOVAL_REASONS.contains(notification.getRemovalReason());
+            if (wasEvicted || !keysBeingPromoted.remove(notification.getKey())) {
+                // Values removed from the disk tier leave the TSC entirely, unless they were promoted to the heap tier
+                removalListener.onRemoval(notification);
+            }
             updateStatsOnRemoval(TIER_DIMENSION_VALUE_DISK, wasEvicted, notification.getKey(), notification.getValue(), true);
         }
 
@@ -701,6 +837,18 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
         return statsHolder.getImmutableCacheStatsHolder(levels);
     }
 
+    @Override
+    public EvictionPolicyStats evictionPolicyStats() {
+        EvictionPolicyStats stats = null;
+        for (int iter = 0; iter < this.numberOfSegments; iter++) {
+            EvictionPolicyStats segmentStats = tieredSpilloverCacheSegments[iter].evictionPolicyStats();
+            if (segmentStats != null) {
+                stats = stats == null ? segmentStats : EvictionPolicyStats.add(stats, segmentStats);
+            }
+        }
+        return stats;
+    }
+
     // Package private for testing.
     @SuppressWarnings({ "unchecked" })
     Iterable<ICacheKey<K>> getOnHeapCacheKeys() {
@@ -877,7 +1025,35 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
             long diskCacheSize = TIERED_SPILLOVER_DISK_STORE_SIZE.getConcreteSettingForNamespace(cacheType.getSettingPrefix())
                 .get(settings);
 
-            return new Builder<K, V>().setDiskCacheFactory(diskCacheFactory)
+            Builder<K, V> builder = new Builder<K, V>();
+            int onHeapFrequencyThreshold = TIERED_SPILLOVER_ONHEAP_FREQUENCY_THRESHOLD.getConcreteSettingForNamespace(
+                cacheType.getSettingPrefix()
+            ).get(settings);
+            if (onHeapFrequencyThreshold > 0) {
+                builder.addOnHeapAdmissionPolicy(new FrequencyPolicy<>(onHeapFrequencyThreshold));
+            }
+            long onHeapMaxEntrySize = TIERED_SPILLOVER_ONHEAP_MAX_ENTRY_SIZE.getConcreteSettingForNamespace(cacheType.getSettingPrefix())
+                .get(settings)
+                .getBytes();
+            if (onHeapMaxEntrySize >= 0) {
+                builder.addOnHeapAdmissionPolicy(new SizePolicy<>(onHeapMaxEntrySize, config.getWeigher()));
+            }
+            int diskFrequencyThreshold = TIERED_SPILLOVER_DISK_FREQUENCY_THRESHOLD.getConcreteSettingForNamespace(
+                cacheType.getSettingPrefix()
+            ).get(settings);
+            if (diskFrequencyThreshold > 0) {
+                builder.addDiskAdmissionPolicy(new FrequencyPolicy<>(diskFrequencyThreshold));
+            }
+            long diskMaxEntrySize = TIERED_SPILLOVER_DISK_MAX_ENTRY_SIZE.getConcreteSettingForNamespace(cacheType.getSettingPrefix())
+                .get(settings)
+                .getBytes();
+            if (diskMaxEntrySize >= 0) {
+                builder.addDiskAdmissionPolicy(new SizePolicy<>(diskMaxEntrySize, config.getWeigher()));
+            }
+            boolean promoteOnHit = TIERED_SPILLOVER_DISK_PROMOTE_ON_HIT.getConcreteSettingForNamespace(cacheType.getSettingPrefix())
+                .get(settings);
+
+            return builder.setDiskCacheFactory(diskCacheFactory)
                 .setOnHeapCacheFactory(onHeapCacheFactory)
                 .setRemovalListener(config.getRemovalListener())
                 .setCacheConfig(config)
@@ -901,6 +1077,7 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
                 )
                 .setOnHeapCacheSizeInBytes(onHeapCacheSize)
                 .setDiskCacheSize(diskCacheSize)
+                .setPromoteOnHit(promoteOnHit)
                 .build();
         }
 
@@ -924,6 +1101,9 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
         private Map<String, ICache.Factory> cacheFactories;
         private final List<Predicate<V>> policies = new ArrayList<>();
         private final List<Predicate<V>> diskPolicies = new ArrayList<>();
+        private final List<TierAdmissionPolicy<K, V>> onHeapAdmissionPolicies = new ArrayList<>();
+        private final List<TierAdmissionPolicy<K, V>> diskAdmissionPolicies = new ArrayList<>();
+        private boolean promoteOnHit;
 
         private int numberOfSegments;
         private long onHeapCacheSizeInBytes;
@@ -1014,6 +1194,37 @@ public class TieredSpilloverCache<K, V> implements ICache<K, V> {
             return this;
         }
 
+        /**
+         * Set a key aware policy to be used to limit access to this cache's heap tier. Entries rejected by it go
+         * straight to the disk tier, if the disk tier admits them.
+         * @param admissionPolicy the policy
+         * @return builder
+         */
+        public Builder<K, V> addOnHeapAdmissionPolicy(TierAdmissionPolicy<K, V> admissionPolicy) {
+            this.onHeapAdmissionPolicies.add(admissionPolicy);
+            return this;
+        }
+
+        /**
+         * Set a key aware policy to be used to limit access to this cache's disk tier.
+         * @param admissionPolicy the policy
+         * @return builder
+         */
+        public Builder<K, V> addDiskAdmissionPolicy(TierAdmissionPolicy<K, V> admissionPolicy) {
+            this.diskAdmissionPolicies.add(admissionPolicy);
+            return this;
+        }
+
+        /**
+         * Sets whether entries hit in the disk tier are moved back to the heap tier.
+         * @param promoteOnHit whether to promote entries on disk tier hits
+         * @return builder
+         */
+        public Builder<K, V> setPromoteOnHit(boolean promoteOnHit) {
+            this.promoteOnHit = promoteOnHit;
+            return this;
+        }
+
         /**
          * Sets number of segments for tiered cache
          * @param numberOfSegments number of segments
@@ -73,6 +73,31 @@ public class TieredSpilloverCachePlugin extends Plugin implements CachePlugin {
             settingList.add(
                 TieredSpilloverCacheSettings.TIERED_SPILLOVER_DISK_STORE_SIZE.getConcreteSettingForNamespace(cacheType.getSettingPrefix())
             );
+            settingList.add(
+                TieredSpilloverCacheSettings.TIERED_SPILLOVER_ONHEAP_FREQUENCY_THRESHOLD.getConcreteSettingForNamespace(
+                    cacheType.getSettingPrefix()
+                )
+            );
+            settingList.add(
+                TieredSpilloverCacheSettings.TIERED_SPILLOVER_DISK_FREQUENCY_THRESHOLD.getConcreteSettingForNamespace(
+                    cacheType.getSettingPrefix()
+                )
+            );
+            settingList.add(
+                TieredSpilloverCacheSettings.TIERED_SPILLOVER_ONHEAP_MAX_ENTRY_SIZE.getConcreteSettingForNamespace(
+                    cacheType.getSettingPrefix()
+                )
+            );
+            settingList.add(
+                TieredSpilloverCacheSettings.TIERED_SPILLOVER_DISK_MAX_ENTRY_SIZE.getConcreteSettingForNamespace(
+                    cacheType.getSettingPrefix()
+                )
+            );
+            settingList.add(
+                TieredSpilloverCacheSettings.TIERED_SPILLOVER_DISK_PROMOTE_ON_HIT.getConcreteSettingForNamespace(
+                    cacheType.getSettingPrefix()
+                )
+            );
         }
         return settingList;
     }
@@ -8,6 +8,7 @@
 
 package org.opensearch.cache.common.tier;
 
+import org.opensearch.cache.common.policy.FrequencyPolicy;
 import org.opensearch.common.cache.CacheType;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.unit.TimeValue;
@@ -118,6 +119,52 @@ public class TieredSpilloverCacheSettings {
         (key) -> Setting.longSetting(key, DEFAULT_DISK_CACHE_SIZE_IN_BYTES, MIN_DISK_CACHE_SIZE_IN_BYTES, NodeScope)
     );
 
+    /**
+     * Setting defining the minimum number of recent accesses of a key for its entry to be admitted into the heap tier.
+     * Entries rejected by the heap tier go straight to the disk tier, if the disk tier admits them.
+     * The default of 0 disables the policy.
+     *
+     * Pattern: {cache_type}.tiered_spillover.onheap.store.policies.frequency.threshold
+     */
+    public static final Setting.AffixSetting<Integer> TIERED_SPILLOVER_ONHEAP_FREQUENCY_THRESHOLD = Setting.suffixKeySetting(
+        TieredSpilloverCache.TieredSpilloverCacheFactory.TIERED_SPILLOVER_CACHE_NAME + ".onheap.store.policies.frequency.threshold",
+        (key) -> Setting.intSetting(key, 0, 0, FrequencyPolicy.MAX_FREQUENCY, NodeScope)
+    );
+
+    /**
+     * Setting defining the minimum number of recent accesses of a key for its entry to be admitted into the disk tier.
+     * The default of 0 disables the policy.
+     */
+    public static final Setting.AffixSetting<Integer> TIERED_SPILLOVER_DISK_FREQUENCY_THRESHOLD = Setting.suffixKeySetting(
+        TieredSpilloverCache.TieredSpilloverCacheFactory.TIERED_SPILLOVER_CACHE_NAME + ".disk.store.policies.frequency.threshold",
+        (key) -> Setting.intSetting(key, 0, 0, FrequencyPolicy.MAX_FREQUENCY, NodeScope)
+    );
+
+    /**
+     * Setting defining the maximum size of an entry admitted into the heap tier. Larger entries go straight to the disk
+     * tier, if the disk tier admits them. The default of -1 disables the policy.
+     */
+    public static final Setting.AffixSetting<ByteSizeValue> TIERED_SPILLOVER_ONHEAP_MAX_ENTRY_SIZE = Setting.suffixKeySetting(
+        TieredSpilloverCache.TieredSpilloverCacheFactory.TIERED_SPILLOVER_CACHE_NAME + ".onheap.store.policies.size.max_entry_size",
+        (key) -> new Setting<>(key, "-1", (s) -> ByteSizeValue.parseBytesSizeValue(s, key), NodeScope)
+    );
+
+    /**
+     * Setting defining the maximum size of an entry admitted into the disk tier. The default of -1 disables the policy.
+     */
+    public static final Setting.AffixSetting<ByteSizeValue> TIERED_SPILLOVER_DISK_MAX_ENTRY_SIZE = Setting.suffixKeySetting(
+        TieredSpilloverCache.TieredSpilloverCacheFactory.TIERED_SPILLOVER_CACHE_NAME + ".disk.store.policies.size.max_entry_size",
+        (key) -> new Setting<>(key, "-1", (s) -> ByteSizeValue.parseBytesSizeValue(s, key), NodeScope)
+    );
+
+    /**
+     * Setting to move entries which are hit in the disk tier back to the heap tier, if the heap tier policies admit them.
+     */
+    public static final Setting.AffixSetting<Boolean> TIERED_SPILLOVER_DISK_PROMOTE_ON_HIT = Setting.suffixKeySetting(
+        TieredSpilloverCache.TieredSpilloverCacheFactory.TIERED_SPILLOVER_CACHE_NAME + ".disk.store.promote_on_hit",
+        (key) -> Setting.boolSetting(key, false, NodeScope)
+    );
+
     /**
      * Setting defining the minimum took time for a query to be allowed in the cache.
      */
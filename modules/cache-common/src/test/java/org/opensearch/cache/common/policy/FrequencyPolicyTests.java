@@ -0,0 +1,40 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.policy;
+
+import org.opensearch.common.cache.ICacheKey;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.List;
+
+public class FrequencyPolicyTests extends OpenSearchTestCase {
+
+    public void testInvalidThreshold() {
+        expectThrows(IllegalArgumentException.class, () -> new FrequencyPolicy<String, String>(0));
+        expectThrows(IllegalArgumentException.class, () -> new FrequencyPolicy<String, String>(FrequencyPolicy.MAX_FREQUENCY + 1));
+    }
+
+    public void testAdmitsFrequentKeys() {
+        int threshold = randomIntBetween(1, FrequencyPolicy.MAX_FREQUENCY);
+        FrequencyPolicy<String, String> policy = new FrequencyPolicy<>(threshold);
+        ICacheKey<String> key = getKey("key");
+        assertEquals(0, policy.frequency(key));
+        for (int i = 1; i < threshold; i++) {
+            policy.recordAccess(key);
+            assertFalse(policy.test(key, "value"));
+        }
+        policy.recordAccess(key);
+        assertTrue(policy.test(key, "value"));
+        assertEquals(threshold, policy.frequency(key));
+    }
+
+    private ICacheKey<String> getKey(String key) {
+        return new ICacheKey<>(key, List.of("dim1"));
+    }
+}
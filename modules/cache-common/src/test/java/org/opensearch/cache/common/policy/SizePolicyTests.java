@@ -0,0 +1,29 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.policy;
+
+import org.opensearch.common.cache.ICacheKey;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.List;
+
+public class SizePolicyTests extends OpenSearchTestCase {
+
+    public void testInvalidMaxEntrySize() {
+        expectThrows(IllegalArgumentException.class, () -> new SizePolicy<String, String>(-1, (key, value) -> 0));
+    }
+
+    public void testSizePolicy() {
+        long maxEntrySize = randomLongBetween(0, 100);
+        SizePolicy<String, String> policy = new SizePolicy<>(maxEntrySize, (key, value) -> key.key.length() + value.length());
+        ICacheKey<String> key = new ICacheKey<>("", List.of());
+        assertTrue(policy.test(key, "a".repeat((int) maxEntrySize)));
+        assertFalse(policy.test(key, "a".repeat((int) maxEntrySize + 1)));
+    }
+}
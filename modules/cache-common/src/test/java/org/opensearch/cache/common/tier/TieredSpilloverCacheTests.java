@@ -9,8 +9,10 @@
 package org.opensearch.cache.common.tier;
 
 import org.opensearch.OpenSearchException;
+import org.opensearch.cache.common.policy.FrequencyPolicy;
 import org.opensearch.common.Randomness;
 import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.EvictionPolicy;
 import org.opensearch.common.cache.ICache;
 import org.opensearch.common.cache.ICacheKey;
 import org.opensearch.common.cache.LoadAwareCacheLoader;
@@ -19,6 +21,7 @@ import org.opensearch.common.cache.RemovalNotification;
 import org.opensearch.common.cache.policy.CachedQueryResult;
 import org.opensearch.common.cache.serializer.Serializer;
 import org.opensearch.common.cache.settings.CacheSettings;
+import org.opensearch.common.cache.stats.EvictionPolicyStats;
 import org.opensearch.common.cache.stats.ImmutableCacheStats;
 import org.opensearch.common.cache.stats.ImmutableCacheStatsHolder;
 import org.opensearch.common.cache.store.OpenSearchOnHeapCache;
@@ -1485,6 +1488,117 @@ public class TieredSpilloverCacheTests extends OpenSearchTestCase {
         return new Tuple<>(policies, keyValuePairs);
     }
 
+    public void testOnHeapAdmissionPolicies() throws Exception {
+        int keyValueSize = 50;
+        MockCacheRemovalListener<String, String> removalListener = new MockCacheRemovalListener<>();
+        TieredSpilloverCache<String, String> tieredSpilloverCache = getTieredSpilloverCacheBuilder(
+            keyValueSize,
+            100,
+            100,
+            removalListener
+        ).addOnHeapAdmissionPolicy((key, value) -> value.charAt(0) == 'a').build();
+
+        ICacheKey<String> heapKey = getICacheKey("key1");
+        ICacheKey<String> diskKey = getICacheKey("key2");
+        tieredSpilloverCache.put(heapKey, "abc");
+        LoadAwareCacheLoader<ICacheKey<String>, String> loader = getLoadAwareCacheLoader(Map.of("key2", new Tuple<>("xyz", true)));
+        assertEquals("xyz", tieredSpilloverCache.computeIfAbsent(diskKey, loader));
+
+        // Values rejected by the heap tier go straight to the disk tier
+        assertEquals(1, getItemsForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_ON_HEAP));
+        assertEquals(1, getItemsForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_DISK));
+        assertEquals(heapKey, tieredSpilloverCache.getOnHeapCacheKeys().iterator().next());
+        assertEquals(diskKey, tieredSpilloverCache.getDiskCacheKeys().iterator().next());
+        assertEquals("abc", tieredSpilloverCache.get(heapKey));
+        assertEquals("xyz", tieredSpilloverCache.get(diskKey));
+        assertEquals(0, removalListener.evictionsMetric.count());
+
+        // The heap tier stats report the policy of the heap tier and count the values its admission policies rejected
+        EvictionPolicyStats heapTierStats = tieredSpilloverCache.evictionPolicyStats();
+        assertEquals(EvictionPolicy.LRU, heapTierStats.getEvictionPolicy());
+        assertEquals(1, heapTierStats.getAdmissionRejections());
+        assertTrue(heapTierStats.getHits() > 0);
+        assertTrue(heapTierStats.getMisses() > 0);
+    }
+
+    public void testDiskAdmissionPolicies() throws Exception {
+        int keyValueSize = 50;
+        MockCacheRemovalListener<String, String> removalListener = new MockCacheRemovalListener<>();
+        TieredSpilloverCache<String, String> tieredSpilloverCache = getTieredSpilloverCacheBuilder(
+            keyValueSize,
+            1,
+            100,
+            removalListener
+        ).addDiskAdmissionPolicy((key, value) -> key.key.equals("key1")).build();
+
+        tieredSpilloverCache.put(getICacheKey("key1"), "abc");
+        tieredSpilloverCache.put(getICacheKey("key2"), "abc");
+        tieredSpilloverCache.put(getICacheKey("key3"), "abc");
+
+        // key1 spilled over to the disk tier, while key2 was rejected by the disk tier policy and left the cache
+        assertEquals(1, getItemsForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_ON_HEAP));
+        assertEquals(1, getItemsForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_DISK));
+        assertNotNull(tieredSpilloverCache.get(getICacheKey("key1")));
+        assertNull(tieredSpilloverCache.get(getICacheKey("key2")));
+        assertEquals(1, removalListener.evictionsMetric.count());
+    }
+
+    public void testPromoteOnHit() throws Exception {
+        int keyValueSize = 50;
+        MockCacheRemovalListener<String, String> removalListener = new MockCacheRemovalListener<>();
+        TieredSpilloverCache<String, String> tieredSpilloverCache = getTieredSpilloverCacheBuilder(
+            keyValueSize,
+            1,
+            100,
+            removalListener
+        ).setPromoteOnHit(true).build();
+
+        ICacheKey<String> key1 = getICacheKey("key1");
+        ICacheKey<String> key2 = getICacheKey("key2");
+        tieredSpilloverCache.put(key1, "value1");
+        tieredSpilloverCache.put(key2, "value2");
+        assertEquals(key1, tieredSpilloverCache.getDiskCacheKeys().iterator().next());
+
+        // A hit in the disk tier moves the entry back to the heap tier, spilling over the previous heap entry
+        assertEquals("value1", tieredSpilloverCache.get(key1));
+        assertEquals(key1, tieredSpilloverCache.getOnHeapCacheKeys().iterator().next());
+        assertEquals(key2, tieredSpilloverCache.getDiskCacheKeys().iterator().next());
+        assertEquals(1, getItemsForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_ON_HEAP));
+        assertEquals(1, getItemsForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_DISK));
+        assertEquals(1, getHitsForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_DISK));
+
+        // The same happens for computeIfAbsent
+        assertEquals("value2", tieredSpilloverCache.computeIfAbsent(key2, getLoadAwareCacheLoader()));
+        assertEquals(key2, tieredSpilloverCache.getOnHeapCacheKeys().iterator().next());
+        assertEquals(key1, tieredSpilloverCache.getDiskCacheKeys().iterator().next());
+        assertEquals(2, tieredSpilloverCache.count());
+
+        // Promoted entries never left the cache
+        assertEquals(0, removalListener.evictionsMetric.count());
+    }
+
+    public void testPromoteOnHitWithFrequencyPolicy() throws Exception {
+        int keyValueSize = 50;
+        MockCacheRemovalListener<String, String> removalListener = new MockCacheRemovalListener<>();
+        TieredSpilloverCache<String, String> tieredSpilloverCache = getTieredSpilloverCacheBuilder(
+            keyValueSize,
+            10,
+            100,
+            removalListener
+        ).addOnHeapAdmissionPolicy(new FrequencyPolicy<>(3)).setPromoteOnHit(true).build();
+
+        ICacheKey<String> key = getICacheKey("key1");
+        tieredSpilloverCache.put(key, "value1");
+        // The first accesses of a key are served by the disk tier, until the key is frequent enough for the heap tier
+        assertEquals(1, getItemsForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_DISK));
+        assertEquals("value1", tieredSpilloverCache.get(key));
+        assertEquals(1, getItemsForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_DISK));
+        assertEquals("value1", tieredSpilloverCache.get(key));
+        assertEquals(1, getItemsForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_ON_HEAP));
+        assertEquals(0, getItemsForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_DISK));
+        assertEquals(0, removalListener.evictionsMetric.count());
+    }
+
     public void testTookTimePoliciesFromFactory() throws Exception {
         // Mock took time by passing this map to the policy info wrapper fn
         // The policy inspects values, not keys, so this is a map from values -> took time
@@ -2631,6 +2745,30 @@ public class TieredSpilloverCacheTests extends OpenSearchTestCase {
         };
     }
 
+    private TieredSpilloverCache.Builder<String, String> getTieredSpilloverCacheBuilder(
+        int keyValueSize,
+        int onHeapCacheEntries,
+        int diskCacheEntries,
+        RemovalListener<ICacheKey<String>, String> removalListener
+    ) {
+        Settings settings = Settings.builder()
+            .put(
+                TieredSpilloverCacheSettings.TIERED_SPILLOVER_ONHEAP_STORE_SIZE.getConcreteSettingForNamespace(
+                    CacheType.INDICES_REQUEST_CACHE.getSettingPrefix()
+                ).getKey(),
+                onHeapCacheEntries * keyValueSize + "b"
+            )
+            .build();
+        return new TieredSpilloverCache.Builder<String, String>().setCacheType(CacheType.INDICES_REQUEST_CACHE)
+            .setRemovalListener(removalListener)
+            .setOnHeapCacheFactory(new OpenSearchOnHeapCache.OpenSearchOnHeapCacheFactory())
+            .setDiskCacheFactory(new MockDiskCache.MockDiskCacheFactory(0, diskCacheEntries, false, keyValueSize))
+            .setNumberOfSegments(1)
+            .setOnHeapCacheSizeInBytes((long) onHeapCacheEntries * keyValueSize)
+            .setDiskCacheSize(diskCacheEntries)
+            .setCacheConfig(getCacheConfig(keyValueSize, settings, removalListener, 1));
+    }
+
     private TieredSpilloverCache<String, String> getTieredSpilloverCache(
         ICache.Factory onHeapCacheFactory,
         ICache.Factory mockDiskCacheFactory,
@@ -79,6 +79,7 @@ import org.opensearch.index.engine.NoOpEngine;
 import org.opensearch.index.flush.FlushStats;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.mapper.SourceToParse;
+import org.opensearch.index.remote.RemoteTranslogUploadBatcher;
 import org.opensearch.index.seqno.RetentionLeaseSyncer;
 import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.index.translog.InternalTranslogFactory;
@@ -733,7 +734,8 @@ public class IndexShardIT extends OpenSearchSingleNodeTestCase {
             indexService.getRefreshMutex(),
             clusterService.getClusterApplierService(),
             MergedSegmentPublisher.EMPTY,
-            ReferencedSegmentsPublisher.EMPTY
+            ReferencedSegmentsPublisher.EMPTY,
+            new RemoteTranslogUploadBatcher(() -> ByteSizeValue.ZERO)
         );
     }
 
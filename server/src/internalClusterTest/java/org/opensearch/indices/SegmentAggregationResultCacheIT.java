@@ -0,0 +1,137 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.opensearch.action.admin.cluster.node.stats.NodeStats;
+import org.opensearch.action.admin.cluster.node.stats.NodesStatsResponse;
+import org.opensearch.action.admin.indices.stats.CommonStatsFlags;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.cache.request.RequestCacheStats;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+import org.opensearch.search.aggregations.metrics.Max;
+import org.opensearch.test.OpenSearchIntegTestCase;
+
+import static org.opensearch.cluster.metadata.IndexMetadata.SETTING_NUMBER_OF_REPLICAS;
+import static org.opensearch.cluster.metadata.IndexMetadata.SETTING_NUMBER_OF_SHARDS;
+import static org.opensearch.search.SearchService.CLUSTER_CONCURRENT_SEGMENT_SEARCH_MODE;
+import static org.opensearch.search.SearchService.CONCURRENT_SEGMENT_SEARCH_MODE_NONE;
+import static org.opensearch.search.aggregations.AggregationBuilders.max;
+import static org.opensearch.search.aggregations.AggregationBuilders.terms;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertSearchResponse;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+@OpenSearchIntegTestCase.ClusterScope(scope = OpenSearchIntegTestCase.Scope.TEST, numDataNodes = 1)
+public class SegmentAggregationResultCacheIT extends OpenSearchIntegTestCase {
+
+    private static final String INDEX = "index";
+
+    @Override
+    protected Settings nodeSettings(int nodeOrdinal) {
+        // the aggregation results of single segments are only cached for non concurrent searches
+        return Settings.builder()
+            .put(super.nodeSettings(nodeOrdinal))
+            .put(CLUSTER_CONCURRENT_SEGMENT_SEARCH_MODE.getKey(), CONCURRENT_SEGMENT_SEARCH_MODE_NONE)
+            .build();
+    }
+
+    public void testCachedResultsEqualUncachedResults() throws Exception {
+        assertAcked(
+            client().admin()
+                .indices()
+                .prepareCreate(INDEX)
+                .setMapping("s", "type=keyword", "n", "type=long")
+                .setSettings(
+                    Settings.builder()
+                        .put(IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING.getKey(), true)
+                        .put(SegmentAggregationResultCache.INDEX_CACHE_SEGMENT_AGGREGATIONS_ENABLED_SETTING.getKey(), true)
+                        .put(SETTING_NUMBER_OF_SHARDS, 1)
+                        .put(SETTING_NUMBER_OF_REPLICAS, 0)
+                        .put(IndexSettings.INDEX_REFRESH_INTERVAL_SETTING.getKey(), TimeValue.timeValueMillis(-1))
+                )
+                .get()
+        );
+        ensureGreen(INDEX);
+
+        // the counts of "a" and "b" are split across segments, so none of the segments alone reaches the shard min doc count
+        indexSegment("a", 1, "b", 2);
+        indexSegment("a", 3, "c", 4);
+        indexSegment("b", 5, "d", 6);
+        assertCachedEqualsUncached();
+        assertThat(segmentAggregationStats().getMissCount(), greaterThan(0L));
+
+        // the new segment is the only one which is aggregated, the results of the other ones come from the cache
+        final long hits = segmentAggregationStats().getHitCount();
+        indexSegment("a", 7, "d", 8);
+        assertCachedEqualsUncached();
+        assertThat(segmentAggregationStats().getHitCount(), equalTo(hits + 3));
+        assertThat(segmentAggregationStats().getMemorySizeInBytes(), greaterThan(0L));
+
+        client().admin().indices().prepareClearCache(INDEX).setRequestCache(true).get();
+        assertThat(segmentAggregationStats().getMemorySizeInBytes(), equalTo(0L));
+        assertCachedEqualsUncached();
+    }
+
+    private void indexSegment(String firstTerm, long firstValue, String secondTerm, long secondValue) {
+        client().prepareIndex(INDEX).setSource("s", firstTerm, "n", firstValue).get();
+        client().prepareIndex(INDEX).setSource("s", secondTerm, "n", secondValue).get();
+        refresh(INDEX);
+    }
+
+    private void assertCachedEqualsUncached() {
+        final Terms cached = search(true);
+        final Terms uncached = search(false);
+        assertThat(cached.getBuckets().size(), greaterThan(0));
+        assertThat(cached.getBuckets().size(), equalTo(uncached.getBuckets().size()));
+        for (int i = 0; i < uncached.getBuckets().size(); i++) {
+            final Terms.Bucket expected = uncached.getBuckets().get(i);
+            final Terms.Bucket actual = cached.getBuckets().get(i);
+            assertThat(actual.getKeyAsString(), equalTo(expected.getKeyAsString()));
+            assertThat(actual.getDocCount(), equalTo(expected.getDocCount()));
+            final Max expectedMax = expected.getAggregations().get("max");
+            final Max actualMax = actual.getAggregations().get("max");
+            assertThat(actualMax.getValue(), equalTo(expectedMax.getValue()));
+        }
+    }
+
+    private Terms search(boolean requestCache) {
+        final SearchResponse response = client().prepareSearch(INDEX)
+            .setSize(0)
+            .setRequestCache(requestCache)
+            .addAggregation(terms("terms").field("s").shardMinDocCount(2).minDocCount(2).subAggregation(max("max").field("n")))
+            .get();
+        assertSearchResponse(response);
+        return response.getAggregations().get("terms");
+    }
+
+    private RequestCacheStats segmentAggregationStats() {
+        final NodesStatsResponse response = client().admin()
+            .cluster()
+            .prepareNodesStats()
+            .clear()
+            .setIndices(new CommonStatsFlags(CommonStatsFlags.Flag.RequestCache))
+            .get();
+        long memorySize = 0;
+        long evictions = 0;
+        long hitCount = 0;
+        long missCount = 0;
+        for (NodeStats nodeStats : response.getNodes()) {
+            final RequestCacheStats stats = nodeStats.getIndices().getRequestCache().getSegmentAggregationStats();
+            memorySize += stats.getMemorySizeInBytes();
+            evictions += stats.getEvictions();
+            hitCount += stats.getHitCount();
+            missCount += stats.getMissCount();
+        }
+        return new RequestCacheStats(memorySize, evictions, hitCount, missCount);
+    }
+}
@@ -38,6 +38,8 @@ import org.opensearch.action.OriginalIndices;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.util.concurrent.AtomicArray;
 import org.opensearch.search.RescoreDocIds;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.dfs.AggregatedDfs;
@@ -49,6 +51,7 @@ import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.transport.Transport;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.BiFunction;
 
@@ -153,8 +156,11 @@ final class FetchSearchPhase extends SearchPhase {
             final List<Integer>[] docIdsToLoad = searchPhaseController.fillDocIdsToLoad(numShards, scoreDocs);
             // no docs to fetch -- sidestep everything and return
             if (scoreDocs.length == 0) {
-                // we have to release contexts here to free up resources
-                phaseResults.stream().map(SearchPhaseResult::queryResult).forEach(this::releaseIrrelevantSearchContext);
+                // we have to release contexts here to free up resources, shards which fetched while querying released theirs already
+                phaseResults.stream()
+                    .filter(result -> result.fetchResult() == null)
+                    .map(SearchPhaseResult::queryResult)
+                    .forEach(this::releaseIrrelevantSearchContext);
                 finishPhase.run();
             } else {
                 final ScoreDoc[] lastEmittedDocPerShard = isScrollSearch
@@ -174,11 +180,17 @@ final class FetchSearchPhase extends SearchPhase {
                             // if we got some hits from this shard we have to release the context there
                             // we do this as we go since it will free up resources and passing on the request on the
                             // transport layer is cheap.
-                            releaseIrrelevantSearchContext(queryResult.queryResult());
+                            if (queryResult.fetchResult() == null) {
+                                releaseIrrelevantSearchContext(queryResult.queryResult());
+                            }
                             progressListener.notifyFetchResult(i);
                         }
                         // in any case we count down this result since we don't talk to this shard anymore
                         counter.countDown();
+                    } else if (queryResult.fetchResult() != null) {
+                        // the shard fetched its top hits while querying, the ones which made it to the global top hits come first
+                        progressListener.notifyFetchResult(i);
+                        counter.onResult(prefetchedResult(queryResult, i, entry.size()));
                     } else {
                         SearchShardTarget searchShardTarget = queryResult.getSearchShardTarget();
                         Transport.Connection connection = context.getConnection(
@@ -201,6 +213,27 @@ final class FetchSearchPhase extends SearchPhase {
         }
     }
 
+    /**
+     * Builds the fetch result of a shard which fetched its top hits while querying, out of the first {@code numHits} of them.
+     */
+    static FetchSearchResult prefetchedResult(SearchPhaseResult queryResult, int shardIndex, int numHits) {
+        final SearchHits prefetched = queryResult.fetchResult().hits();
+        final SearchHit[] hits = Arrays.copyOf(prefetched.getHits(), Math.min(numHits, prefetched.getHits().length));
+        final FetchSearchResult result = new FetchSearchResult(queryResult.getContextId(), queryResult.getSearchShardTarget());
+        result.hits(
+            new SearchHits(
+                hits,
+                prefetched.getTotalHits(),
+                prefetched.getMaxScore(),
+                prefetched.getSortFields(),
+                prefetched.getCollapseField(),
+                prefetched.getCollapseValues()
+            )
+        );
+        result.setShardIndex(shardIndex);
+        return result;
+    }
+
     protected ShardFetchSearchRequest createFetchRequest(
         ShardSearchContextId contextId,
         int index,
@@ -66,6 +66,11 @@ import java.util.function.Consumer;
  * in the {@link CircuitBreaker#REQUEST} circuit breaker. Before any partial or final reduce, the memory
  * needed to reduce the aggregations is estimated and a {@link CircuitBreakingException} is thrown if it
  * exceeds the maximum memory allowed in this breaker.
+ * <p>
+ * In incremental mode, each shard result is merged into the partially reduced result as soon as no other merge is running,
+ * rather than once a batch of results is buffered, and the results which arrive while a merge runs are merged together by
+ * the next one. The shard results are released as soon as they are merged, so the memory held on the coordinator is bounded
+ * by the partially reduced result and the results of the shard requests in flight.
  *
  * @opensearch.internal
  */
@@ -83,6 +88,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
     private final boolean hasTopDocs;
     private final boolean hasAggs;
     private final boolean performFinalReduce;
+    private final boolean incrementalReduce;
 
     final PendingMerges pendingMerges;
     private final Consumer<Exception> onPartialMergeFailure;
@@ -100,6 +106,34 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         NamedWriteableRegistry namedWriteableRegistry,
         int expectedResultSize,
         Consumer<Exception> onPartialMergeFailure
+    ) {
+        this(
+            request,
+            executor,
+            circuitBreaker,
+            controller,
+            progressListener,
+            namedWriteableRegistry,
+            expectedResultSize,
+            onPartialMergeFailure,
+            false
+        );
+    }
+
+    /**
+     * Creates a {@link QueryPhaseResultConsumer} that reduces aggregation results as shard results are consumed, either by
+     * batches of results or, if {@code incrementalReduce} is set, by merging each result as soon as possible.
+     */
+    public QueryPhaseResultConsumer(
+        SearchRequest request,
+        Executor executor,
+        CircuitBreaker circuitBreaker,
+        SearchPhaseController controller,
+        SearchProgressListener progressListener,
+        NamedWriteableRegistry namedWriteableRegistry,
+        int expectedResultSize,
+        Consumer<Exception> onPartialMergeFailure,
+        boolean incrementalReduce
     ) {
         super(expectedResultSize);
         this.executor = executor;
@@ -115,6 +149,8 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         SearchSourceBuilder source = request.source();
         this.hasTopDocs = source == null || source.size() != 0;
         this.hasAggs = source != null && source.aggregations() != null;
+        // without top docs or aggregations there is nothing to merge
+        this.incrementalReduce = incrementalReduce && (hasAggs || hasTopDocs);
         int batchReduceSize = getBatchReduceSize(request.getBatchedReduceSize(), expectedResultSize);
         this.pendingMerges = new PendingMerges(batchReduceSize, request.resolveTrackTotalHitsUpTo());
     }
@@ -255,6 +291,8 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         private final int batchReduceSize;
         private final List<QuerySearchResult> buffer = new ArrayList<>();
         private final List<SearchShard> emptyResults = new ArrayList<>();
+        // in incremental mode, the listeners of the buffered results, which are notified once the results are merged
+        private final List<Runnable> bufferedListeners = new ArrayList<>();
         // the memory that is accounted in the circuit breaker for this consumer
         private volatile long circuitBreakerBytes;
         // the memory that is currently used in the buffer
@@ -351,6 +389,16 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                         SearchShardTarget target = result.getSearchShardTarget();
                         emptyResults.add(new SearchShard(target.getClusterAlias(), target.getShardId()));
                     }
+                } else if (incrementalReduce) {
+                    executeNextImmediately = false;
+                    if (hasAggs) {
+                        long aggsSize = ramBytesUsedQueryResult(result);
+                        addWithoutBreaking(aggsSize);
+                        aggsCurrentBufferSize += aggsSize;
+                    }
+                    buffer.add(result);
+                    bufferedListeners.add(next);
+                    maybeMergeBuffer();
                 } else {
                     // add one if a partial merge is pending
                     int size = buffer.size() + (hasPartialReduce ? 1 : 0);
@@ -378,6 +426,30 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             }
         }
 
+        /**
+         * Merges the buffered results in incremental mode, unless a merge is already running, in which case the buffered
+         * results are merged once it completes.
+         */
+        private synchronized void maybeMergeBuffer() {
+            if (hasFailure() || buffer.isEmpty() || hasPendingMerges()) {
+                return;
+            }
+            hasPartialReduce = true;
+            final List<Runnable> listeners = new ArrayList<>(bufferedListeners);
+            QuerySearchResult[] clone = buffer.stream().toArray(QuerySearchResult[]::new);
+            MergeTask task = new MergeTask(clone, aggsCurrentBufferSize, new ArrayList<>(emptyResults), () -> {
+                for (Runnable listener : listeners) {
+                    listener.run();
+                }
+            });
+            aggsCurrentBufferSize = 0;
+            buffer.clear();
+            emptyResults.clear();
+            bufferedListeners.clear();
+            queue.add(task);
+            tryExecuteNext();
+        }
+
         private synchronized void onMergeFailure(Exception exc) {
             if (hasFailure()) {
                 assert circuitBreakerBytes == 0;
@@ -403,6 +475,11 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             for (MergeTask toCancel : toCancels) {
                 toCancel.cancel();
             }
+            final List<Runnable> listeners = new ArrayList<>(bufferedListeners);
+            bufferedListeners.clear();
+            for (Runnable listener : listeners) {
+                listener.run();
+            }
         }
 
         private void onAfterMerge(MergeTask task, MergeResult newResult, long estimatedSize) {
@@ -424,6 +501,10 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                         maxAggsCurrentBufferSize
                     );
                 }
+                if (incrementalReduce) {
+                    // merge the results which arrived while this merge was running
+                    maybeMergeBuffer();
+                }
                 task.consumeListener();
             }
         }
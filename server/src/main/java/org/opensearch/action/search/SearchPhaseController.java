@@ -778,6 +778,22 @@ public final class SearchPhaseController {
         SearchRequest request,
         int numShards,
         Consumer<Exception> onPartialMergeFailure
+    ) {
+        return newSearchPhaseResults(executor, circuitBreaker, listener, request, numShards, onPartialMergeFailure, false);
+    }
+
+    /**
+     * Returns a new {@link QueryPhaseResultConsumer} instance that reduces search responses incrementally, merging each shard
+     * result as soon as possible if {@code incrementalReduce} is set.
+     */
+    QueryPhaseResultConsumer newSearchPhaseResults(
+        Executor executor,
+        CircuitBreaker circuitBreaker,
+        SearchProgressListener listener,
+        SearchRequest request,
+        int numShards,
+        Consumer<Exception> onPartialMergeFailure,
+        boolean incrementalReduce
     ) {
         return new QueryPhaseResultConsumer(
             request,
@@ -787,7 +803,8 @@ public final class SearchPhaseController {
             listener,
             namedWriteableRegistry,
             numShards,
-            onPartialMergeFailure
+            onPartialMergeFailure,
+            incrementalReduce
         );
     }
 
@@ -34,11 +34,14 @@ package org.opensearch.action.search;
 
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.search.TopFieldDocs;
+import org.opensearch.Version;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.routing.GroupShardsIterator;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.search.SearchPhaseResult;
+import org.opensearch.search.SearchService;
 import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.internal.AliasFilter;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.internal.ShardSearchRequest;
@@ -65,6 +68,8 @@ class SearchQueryThenFetchAsyncAction extends AbstractSearchAsyncAction<SearchPh
     private final int topDocsSize;
     private final int trackTotalHitsUpTo;
     private volatile BottomSortValuesCollector bottomSortCollector;
+    // whether the shards fetch their top hits along with the query
+    private final boolean fetchWhileQuerying;
 
     SearchQueryThenFetchAsyncAction(
         final Logger logger,
@@ -85,6 +90,50 @@ class SearchQueryThenFetchAsyncAction extends AbstractSearchAsyncAction<SearchPh
         SearchResponse.Clusters clusters,
         SearchRequestContext searchRequestContext,
         final Tracer tracer
+    ) {
+        this(
+            logger,
+            searchTransportService,
+            nodeIdToConnection,
+            aliasFilter,
+            concreteIndexBoosts,
+            indexRoutings,
+            searchPhaseController,
+            executor,
+            resultConsumer,
+            request,
+            listener,
+            shardsIts,
+            timeProvider,
+            clusterState,
+            task,
+            clusters,
+            searchRequestContext,
+            tracer,
+            false
+        );
+    }
+
+    SearchQueryThenFetchAsyncAction(
+        final Logger logger,
+        final SearchTransportService searchTransportService,
+        final BiFunction<String, String, Transport.Connection> nodeIdToConnection,
+        final Map<String, AliasFilter> aliasFilter,
+        final Map<String, Float> concreteIndexBoosts,
+        final Map<String, Set<String>> indexRoutings,
+        final SearchPhaseController searchPhaseController,
+        final Executor executor,
+        final QueryPhaseResultConsumer resultConsumer,
+        final SearchRequest request,
+        final ActionListener<SearchResponse> listener,
+        final GroupShardsIterator<SearchShardIterator> shardsIts,
+        final TransportSearchAction.SearchTimeProvider timeProvider,
+        ClusterState clusterState,
+        SearchTask task,
+        SearchResponse.Clusters clusters,
+        SearchRequestContext searchRequestContext,
+        final Tracer tracer,
+        boolean fetchWhileQuerying
     ) {
         super(
             SearchPhaseName.QUERY.getName(),
@@ -111,6 +160,7 @@ class SearchQueryThenFetchAsyncAction extends AbstractSearchAsyncAction<SearchPh
         this.trackTotalHitsUpTo = request.resolveTrackTotalHitsUpTo();
         this.searchPhaseController = searchPhaseController;
         this.progressListener = task.getProgressListener();
+        this.fetchWhileQuerying = fetchWhileQuerying;
 
         // register the release of the query consumer to free up the circuit breaker memory
         // at the end of the search
@@ -131,11 +181,44 @@ class SearchQueryThenFetchAsyncAction extends AbstractSearchAsyncAction<SearchPh
         final SearchActionListener<SearchPhaseResult> listener
     ) {
         ShardSearchRequest request = rewriteShardSearchRequest(super.buildShardSearchRequest(shardIt));
+        final Transport.Connection connection = getConnection(shard.getClusterAlias(), shard.getNodeId());
         // update inbound network time with current time before sending request over n/w to data node
         if (request != null) {
             request.setInboundNetworkTime(System.currentTimeMillis());
+            if (fetchWhileQuerying && supportsFetchWhileQuerying(connection)) {
+                request.fetchWhileQuerying(true);
+                // the shard has to return its hits, which a null response can't hold
+                request.canReturnNullResponseIfMatchNoDocs(false);
+            }
+        }
+        getSearchTransport().sendExecuteQuery(connection, request, getTask(), listener);
+    }
+
+    /**
+     * Returns true if the node behind the given connection can fetch its top hits along with the query. A connection proxied
+     * through a remote cluster gateway reports the version of the gateway, which re-serializes the request for the target node,
+     * so both of them have to support it.
+     */
+    static boolean supportsFetchWhileQuerying(Transport.Connection connection) {
+        return connection.getVersion().onOrAfter(Version.V_3_2_0) && connection.getNode().getVersion().onOrAfter(Version.V_3_2_0);
+    }
+
+    /**
+     * Returns true if the shards of the given search can fetch their top hits along with the query. The hits of a shard which
+     * make it to the global top hits are then its first hits, so the coordinator can pick them from what the shard fetched,
+     * which requires that the search has no offset and does not collapse hits across shards.
+     */
+    static boolean canFetchWhileQuerying(SearchRequest request, int numShards, int maxHits) {
+        if (maxHits == 0 || numShards <= 1 || request.searchType() != SearchType.QUERY_THEN_FETCH || request.scroll() != null) {
+            return false;
+        }
+        final SearchSourceBuilder source = request.source();
+        if (source == null) {
+            return SearchService.DEFAULT_SIZE <= maxHits;
         }
-        getSearchTransport().sendExecuteQuery(getConnection(shard.getClusterAlias(), shard.getNodeId()), request, getTask(), listener);
+        final int from = source.from() == -1 ? SearchService.DEFAULT_FROM : source.from();
+        final int size = source.size() == -1 ? SearchService.DEFAULT_SIZE : source.size();
+        return from == 0 && size > 0 && size <= maxHits && source.collapse() == null && source.suggest() == null;
     }
 
     @Override
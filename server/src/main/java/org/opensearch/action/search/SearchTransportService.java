@@ -240,7 +240,8 @@ public class SearchTransportService {
     ) {
         // we optimize this and expect a QueryFetchSearchResult if we only have a single shard in the search request
         // this used to be the QUERY_AND_FETCH which doesn't exist anymore.
-        final boolean fetchDocuments = request.numberOfShards() == 1;
+        // shards which fetch their top hits while querying return a QueryFetchSearchResult as well
+        final boolean fetchDocuments = request.numberOfShards() == 1 || request.fetchWhileQuerying();
         Writeable.Reader<SearchPhaseResult> reader = fetchDocuments ? QueryFetchSearchResult::new : QuerySearchResult::new;
 
         final ActionListener handler = responseWrapper.apply(connection, listener);
@@ -576,7 +577,9 @@ public class SearchTransportService {
         TransportActionProxy.registerProxyActionWithDynamicResponseType(
             transportService,
             QUERY_ACTION_NAME,
-            (request) -> ((ShardSearchRequest) request).numberOfShards() == 1 ? QueryFetchSearchResult::new : QuerySearchResult::new
+            (request) -> ((ShardSearchRequest) request).numberOfShards() == 1 || ((ShardSearchRequest) request).fetchWhileQuerying()
+                ? QueryFetchSearchResult::new
+                : QuerySearchResult::new
         );
 
         transportService.registerRequestHandler(
@@ -164,6 +164,27 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         Setting.Property.NodeScope
     );
 
+    // merges each shard result into the partially reduced result on the coordinator as soon as possible, rather than by batches of
+    // batched_reduce_size results, to bound the memory held by searches over many shards
+    public static final Setting<Boolean> SEARCH_INCREMENTAL_REDUCE_ENABLED = Setting.boolSetting(
+        "search.incremental_reduce.enabled",
+        false,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    // maximum number of hits of a query_then_fetch search over several shards for which each shard fetches its top hits along with
+    // the query, saving the round trip of the fetch phase. value == 0 means shards never fetch while querying. The coordinator holds
+    // the fetched hits of all the shards until the search completes, so the setting is capped to bound their memory
+    public static final Setting<Integer> SEARCH_FETCH_WHILE_QUERYING_MAX_HITS = Setting.intSetting(
+        "search.fetch_while_querying.max_hits",
+        0,
+        0,
+        100,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
     final NodeClient client;
     private final ThreadPool threadPool;
     final ClusterService clusterService;
@@ -1270,7 +1291,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                 task.getProgressListener(),
                 searchRequest,
                 shardIterators.size(),
-                exc -> cancelTask(task, exc)
+                exc -> cancelTask(task, exc),
+                clusterService.getClusterSettings().get(SEARCH_INCREMENTAL_REDUCE_ENABLED)
             );
             AbstractSearchAsyncAction<? extends SearchPhaseResult> searchAsyncAction;
             switch (searchRequest.searchType()) {
@@ -1315,7 +1337,12 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                         task,
                         clusters,
                         searchRequestContext,
-                        tracer
+                        tracer,
+                        SearchQueryThenFetchAsyncAction.canFetchWhileQuerying(
+                            searchRequest,
+                            shardIterators.size(),
+                            clusterService.getClusterSettings().get(SEARCH_FETCH_WHILE_QUERYING_MAX_HITS)
+                        )
                     );
                     break;
                 default:
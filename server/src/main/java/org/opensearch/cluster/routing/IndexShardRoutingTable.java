@@ -518,12 +518,26 @@ public class IndexShardRoutingTable extends AbstractDiffable<IndexShardRoutingTa
                     final int updatedQueue = (minStats.queueSize + stats.queueSize) / 2;
                     final long updatedResponse = (long) (minStats.responseTime + stats.responseTime) / 2;
                     final long updatedService = (long) (minStats.serviceTime + stats.serviceTime) / 2;
-                    collector.addNodeStatistics(nodeId, updatedQueue, updatedResponse, updatedService);
+                    final double updatedSearcherUtilization = averageIfKnown(minStats.searcherUtilization, stats.searcherUtilization);
+                    final double updatedCacheHitRatio = averageIfKnown(minStats.cacheHitRatio, stats.cacheHitRatio);
+                    collector.addNodeStatistics(
+                        nodeId,
+                        updatedQueue,
+                        updatedResponse,
+                        updatedService,
+                        updatedSearcherUtilization,
+                        updatedCacheHitRatio
+                    );
                 }
             }
         }
     }
 
+    private static double averageIfKnown(double winner, double other) {
+        // a negative statistic is unknown, which leaves the statistic of the node as it is
+        return winner >= 0 && other >= 0 ? (winner + other) / 2 : -1;
+    }
+
     private static List<ShardRouting> rankShardsAndUpdateStats(
         List<ShardRouting> shards,
         final ResponseCollectorService collector,
@@ -287,7 +287,13 @@ public class RemoteTransferContainer implements Closeable {
      * @return final computed checksum of entire indexInput
      */
     public static long checksumOfChecksum(IndexInput indexInput, int checksumBytesLength) throws IOException {
-        long storedChecksum = CodecUtil.retrieveChecksum(indexInput);
+        return checksumOfChecksum(CodecUtil.retrieveChecksum(indexInput), checksumBytesLength);
+    }
+
+    /**
+     * Same as {@link #checksumOfChecksum(IndexInput, int)}, for a file whose stored checksum is already known.
+     */
+    public static long checksumOfChecksum(long storedChecksum, int checksumBytesLength) {
         CRC32 checksumOfChecksum = new CRC32();
         checksumOfChecksum.update(ByteUtils.toByteArrayBE(storedChecksum));
         return JZlib.crc32_combine(storedChecksum, checksumOfChecksum.getValue(), checksumBytesLength);
@@ -79,6 +79,13 @@ import java.util.function.ToLongBiFunction;
  * <p>
  * Evictions only occur after a mutation to the cache (meaning an entry promotion, a cache insertion, or a manual
  * invalidation) or an explicit call to {@link #refresh()}.
+ * <p>
+ * By default, the least recently used entries are evicted first. With the {@link EvictionPolicy#W_TINY_LFU} policy, the
+ * entries are instead split across three LRU lists: a small admission window taking 1% of the maximum weight, and the
+ * probation and protected segments of the main region. New entries enter the window; once it overflows, its least
+ * recently used entry is only admitted to the main region if its key was accessed more often recently, as estimated by
+ * a {@link FrequencySketch}, than the key of the entry it would displace. Entries in probation which are accessed again
+ * move to the protected segment, which takes up to 80% of the main region.
  *
  * @param <K> The type of the keys
  * @param <V> The type of the values
@@ -115,9 +122,21 @@ public class Cache<K, V> {
     // the removal callback
     private RemovalListener<K, V> removalListener = notification -> {};
 
+    // the policy choosing the entries to evict
+    private EvictionPolicy evictionPolicy = EvictionPolicy.LRU;
+
+    // estimates how often keys were accessed recently; only used with the W-TinyLFU policy
+    private FrequencySketch sketch;
+
+    // the number of entries rejected from the main region by the W-TinyLFU policy
+    private final LongAdder admissionRejections = new LongAdder();
+
     private final int numberOfSegments;
     public static final int NUMBER_OF_SEGMENTS = 256;
 
+    static final int WINDOW_PERCENTAGE = 1;
+    static final int PROTECTED_PERCENTAGE = 80;
+
     Cache(final int numberOfSegments) {
         if (numberOfSegments != -1) {
             this.numberOfSegments = numberOfSegments;
@@ -173,6 +192,21 @@ public class Cache<K, V> {
         this.removalListener = removalListener;
     }
 
+    void setEvictionPolicy(EvictionPolicy evictionPolicy) {
+        Objects.requireNonNull(evictionPolicy);
+        this.evictionPolicy = evictionPolicy;
+        this.sketch = evictionPolicy == EvictionPolicy.W_TINY_LFU ? new FrequencySketch(FrequencySketch.DEFAULT_WIDTH) : null;
+    }
+
+    /**
+     * The policy this cache uses to choose the entries to evict.
+     *
+     * @return the eviction policy
+     */
+    public EvictionPolicy getEvictionPolicy() {
+        return evictionPolicy;
+    }
+
     /**
      * The relative time used to track time-based evictions.
      *
@@ -201,6 +235,8 @@ public class Cache<K, V> {
         final V value;
         long writeTime;
         volatile long accessTime;
+        long weight;
+        AccessOrderList<K, V> list;
         Entry<K, V> before;
         Entry<K, V> after;
         State state = State.NEW;
@@ -212,6 +248,18 @@ public class Cache<K, V> {
         }
     }
 
+    /**
+     * A doubly-linked list of entries, from the most to the least recently used.
+     *
+     * @opensearch.internal
+     */
+    static class AccessOrderList<K, V> {
+        Entry<K, V> head;
+        Entry<K, V> tail;
+        // the weight of the entries in this list
+        long weight;
+    }
+
     /**
      * A cache segment.
      * <p>
@@ -381,10 +429,14 @@ public class Cache<K, V> {
     @SuppressWarnings("unchecked")
     private final CacheSegment<K, V>[] segments;
 
-    Entry<K, V> head;
-    Entry<K, V> tail;
+    // all the entries with the LRU policy; the admission window with the W-TinyLFU policy
+    final AccessOrderList<K, V> window = new AccessOrderList<>();
+
+    // the main region with the W-TinyLFU policy, split into entries accessed once since their admission and the others
+    final AccessOrderList<K, V> probation = new AccessOrderList<>();
+    final AccessOrderList<K, V> protectedSegment = new AccessOrderList<>();
 
-    // lock protecting mutations to the LRU list
+    // lock protecting mutations to the LRU lists
     private final ReleasableLock lruLock = new ReleasableLock(new ReentrantLock());
 
     int getNumberOfSegments() {
@@ -402,6 +454,7 @@ public class Cache<K, V> {
     }
 
     private V get(K key, long now, Consumer<Entry<K, V>> onExpiration) {
+        recordAccess(key);
         CacheSegment<K, V> segment = getCacheSegment(key);
         Entry<K, V> entry = segment.get(key, now, e -> isExpired(e, now), onExpiration);
         if (entry == null) {
@@ -531,6 +584,7 @@ public class Cache<K, V> {
     }
 
     private void put(K key, V value, long now) {
+        recordAccess(key);
         CacheSegment<K, V> segment = getCacheSegment(key);
         Tuple<Entry<K, V>, Entry<K, V>> tuple = segment.put(key, value, now);
         boolean replaced = false;
@@ -619,7 +673,7 @@ public class Cache<K, V> {
      * {@link RemovalReason} INVALIDATED.
      */
     public void invalidateAll() {
-        Entry<K, V> h;
+        List<Entry<K, V>> heads = new ArrayList<>();
 
         boolean[] haveSegmentLock = new boolean[this.numberOfSegments];
         try {
@@ -628,14 +682,18 @@ public class Cache<K, V> {
                 haveSegmentLock[i] = true;
             }
             try (ReleasableLock ignored = lruLock.acquire()) {
-                h = head;
                 Arrays.stream(segments).forEach(segment -> segment.map = new HashMap<>());
-                Entry<K, V> current = head;
-                while (current != null) {
-                    current.state = State.DELETED;
-                    current = current.after;
+                for (AccessOrderList<K, V> list : lists()) {
+                    heads.add(list.head);
+                    Entry<K, V> current = list.head;
+                    while (current != null) {
+                        current.state = State.DELETED;
+                        current.list = null;
+                        current = current.after;
+                    }
+                    list.head = list.tail = null;
+                    list.weight = 0;
                 }
-                head = tail = null;
                 count = 0;
                 weight = 0;
             }
@@ -646,9 +704,11 @@ public class Cache<K, V> {
                 }
             }
         }
-        while (h != null) {
-            removalListener.onRemoval(new RemovalNotification<>(h.key, h.value, RemovalReason.INVALIDATED));
-            h = h.after;
+        for (Entry<K, V> h : heads) {
+            while (h != null) {
+                removalListener.onRemoval(new RemovalNotification<>(h.key, h.value, RemovalReason.INVALIDATED));
+                h = h.after;
+            }
         }
     }
 
@@ -683,13 +743,14 @@ public class Cache<K, V> {
     /**
      * An LRU sequencing of the keys in the cache that supports removal. This sequence is not protected from mutations
      * to the cache (except for {@link Iterator#remove()}. The result of iteration under any other mutation is
-     * undefined.
+     * undefined. With the W-TinyLFU policy, the keys of the admission window come first, followed by the keys of the
+     * protected and probation segments.
      *
      * @return an LRU-ordered {@link Iterable} over the keys in the cache
      */
     public Iterable<K> keys() {
         return () -> new Iterator<K>() {
-            private CacheIterator iterator = new CacheIterator(head);
+            private CacheIterator iterator = new CacheIterator();
 
             @Override
             public boolean hasNext() {
@@ -711,13 +772,13 @@ public class Cache<K, V> {
     /**
      * An LRU sequencing of the values in the cache. This sequence is not protected from mutations
      * to the cache (except for {@link Iterator#remove()}. The result of iteration under any other mutation is
-     * undefined.
+     * undefined. With the W-TinyLFU policy, the values are ordered as in {@link #keys()}.
      *
      * @return an LRU-ordered {@link Iterable} over the values in the cache
      */
     public Iterable<V> values() {
         return () -> new Iterator<V>() {
-            private CacheIterator iterator = new CacheIterator(head);
+            private CacheIterator iterator = new CacheIterator();
 
             @Override
             public boolean hasNext() {
@@ -737,12 +798,15 @@ public class Cache<K, V> {
     }
 
     private class CacheIterator implements Iterator<Entry<K, V>> {
+        private final List<AccessOrderList<K, V>> lists = lists();
+        private int listIndex = 0;
         private Entry<K, V> current;
         private Entry<K, V> next;
 
-        CacheIterator(Entry<K, V> head) {
+        CacheIterator() {
             current = null;
-            next = head;
+            next = lists.get(0).head;
+            skipExhaustedLists();
         }
 
         @Override
@@ -754,9 +818,16 @@ public class Cache<K, V> {
         public Entry<K, V> next() {
             current = next;
             next = next.after;
+            skipExhaustedLists();
             return current;
         }
 
+        private void skipExhaustedLists() {
+            while (next == null && listIndex < lists.size() - 1) {
+                next = lists.get(++listIndex).head;
+            }
+        }
+
         @Override
         public void remove() {
             Entry<K, V> entry = current;
@@ -786,7 +857,7 @@ public class Cache<K, V> {
             misses += segments[i].segmentStats.misses.longValue();
             evictions += segments[i].segmentStats.evictions.longValue();
         }
-        return new CacheStats(hits, misses, evictions);
+        return new CacheStats(evictionPolicy, hits, misses, evictions, admissionRejections.longValue());
     }
 
     /**
@@ -796,14 +867,29 @@ public class Cache<K, V> {
      */
     @PublicApi(since = "1.0.0")
     public static class CacheStats {
+        private EvictionPolicy evictionPolicy;
         private long hits;
         private long misses;
         private long evictions;
+        private long admissionRejections;
 
         public CacheStats(long hits, long misses, long evictions) {
+            this(EvictionPolicy.LRU, hits, misses, evictions, 0);
+        }
+
+        public CacheStats(EvictionPolicy evictionPolicy, long hits, long misses, long evictions, long admissionRejections) {
+            this.evictionPolicy = evictionPolicy;
             this.hits = hits;
             this.misses = misses;
             this.evictions = evictions;
+            this.admissionRejections = admissionRejections;
+        }
+
+        /**
+         * The eviction policy of the cache these statistics were taken from
+         */
+        public EvictionPolicy getEvictionPolicy() {
+            return evictionPolicy;
         }
 
         public long getHits() {
@@ -817,6 +903,22 @@ public class Cache<K, V> {
         public long getEvictions() {
             return evictions;
         }
+
+        /**
+         * The number of entries which left the admission window of a W-TinyLFU cache without being admitted to its
+         * main region, because their key was accessed less often than the key of the entry they would have displaced
+         */
+        public long getAdmissionRejections() {
+            return admissionRejections;
+        }
+
+        /**
+         * The ratio of lookups which were hits, or 0 if there were no lookups
+         */
+        public double getHitRatio() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
     }
 
     /**
@@ -836,15 +938,15 @@ public class Cache<K, V> {
                     promoted = false;
                     break;
                 case EXISTING:
-                    relinkAtHead(entry);
+                    onHit(entry);
                     break;
                 case NEW:
-                    linkAtHead(entry);
+                    linkAtHead(entry, window);
                     break;
             }
             if (promoted) {
-                while (tail != null && shouldPrune(tail, now)) {
-                    Entry<K, V> entryToBeRemoved = tail;
+                Entry<K, V> entryToBeRemoved;
+                while ((entryToBeRemoved = nextEntryToPrune(now)) != null) {
                     CacheSegment<K, V> segment = getCacheSegment(entryToBeRemoved.key);
                     if (segment != null) {
                         segment.remove(entryToBeRemoved.key, entryToBeRemoved.value, f -> {});
@@ -855,6 +957,7 @@ public class Cache<K, V> {
                         );
                     }
                 }
+                drainWindow();
             }
         }
         return new Tuple<>(promoted, removalNotifications);
@@ -863,9 +966,11 @@ public class Cache<K, V> {
     private void evict(long now) {
         assert lruLock.isHeldByCurrentThread();
 
-        while (tail != null && shouldPrune(tail, now)) {
-            evictEntry(tail);
+        Entry<K, V> entry;
+        while ((entry = nextEntryToPrune(now)) != null) {
+            evictEntry(entry);
         }
+        drainWindow();
     }
 
     private void evictEntry(Entry<K, V> entry) {
@@ -886,6 +991,102 @@ public class Cache<K, V> {
         }
     }
 
+    private void recordAccess(K key) {
+        if (sketch != null) {
+            sketch.increment(key.hashCode());
+        }
+    }
+
+    private void onHit(Entry<K, V> entry) {
+        assert lruLock.isHeldByCurrentThread();
+
+        if (entry.list == probation) {
+            // an entry accessed again after its admission is protected from the next evictions
+            moveToHead(entry, protectedSegment);
+            long maximumProtectedWeight = maximumProtectedWeight();
+            while (protectedSegment.weight > maximumProtectedWeight) {
+                moveToHead(protectedSegment.tail, probation);
+            }
+        } else {
+            relinkAtHead(entry);
+        }
+    }
+
+    /**
+     * Returns the next entry to evict because it expired or because the cache exceeds its maximum weight, or null if
+     * there is no entry to evict.
+     */
+    private Entry<K, V> nextEntryToPrune(long now) {
+        assert lruLock.isHeldByCurrentThread();
+
+        if (evictionPolicy == EvictionPolicy.LRU) {
+            return window.tail != null && shouldPrune(window.tail, now) ? window.tail : null;
+        }
+        for (AccessOrderList<K, V> list : lists()) {
+            if (list.tail != null && isExpired(list.tail, now)) {
+                return list.tail;
+            }
+        }
+        return exceedsWeight() ? selectTinyLfuVictim() : null;
+    }
+
+    /**
+     * With the W-TinyLFU policy, the least recently used entry of an overflowing admission window competes with the
+     * least recently used entry of the main region, and the entry whose key was accessed less often recently is evicted.
+     * Ties are resolved in favor of the main region, so that one-off accesses cannot displace its entries.
+     */
+    private Entry<K, V> selectTinyLfuVictim() {
+        Entry<K, V> candidate = window.weight > maximumWindowWeight() ? window.tail : null;
+        Entry<K, V> victim = probation.tail != null ? probation.tail : protectedSegment.tail;
+        if (candidate == null) {
+            return victim != null ? victim : window.tail;
+        } else if (victim == null) {
+            return candidate;
+        } else if (sketch.frequency(candidate.key.hashCode()) > sketch.frequency(victim.key.hashCode())) {
+            return victim;
+        } else {
+            admissionRejections.increment();
+            return candidate;
+        }
+    }
+
+    /**
+     * Admits the least recently used entries of an overflowing admission window to the probation segment. This only
+     * happens once the cache is back under its maximum weight, so that these entries were either admitted by
+     * {@link #selectTinyLfuVictim()} or did not have to compete for space.
+     */
+    private void drainWindow() {
+        assert lruLock.isHeldByCurrentThread();
+
+        long maximumWindowWeight = maximumWindowWeight();
+        while (window.weight > maximumWindowWeight) {
+            moveToHead(window.tail, probation);
+        }
+    }
+
+    private long maximumWindowWeight() {
+        if (evictionPolicy == EvictionPolicy.LRU || maximumWeight == -1) {
+            return Long.MAX_VALUE;
+        }
+        return percentageOf(maximumWeight, WINDOW_PERCENTAGE);
+    }
+
+    private long maximumProtectedWeight() {
+        if (maximumWeight == -1) {
+            return Long.MAX_VALUE;
+        }
+        return percentageOf(maximumWeight - maximumWindowWeight(), PROTECTED_PERCENTAGE);
+    }
+
+    private static long percentageOf(long weight, int percentage) {
+        // avoids overflowing for very large weights
+        return weight / 100 * percentage + weight % 100 * percentage / 100;
+    }
+
+    private List<AccessOrderList<K, V>> lists() {
+        return List.of(window, protectedSegment, probation);
+    }
+
     private boolean shouldPrune(Entry<K, V> entry, long now) {
         return exceedsWeight() || isExpired(entry, now);
     }
@@ -903,37 +1104,9 @@ public class Cache<K, V> {
         assert lruLock.isHeldByCurrentThread();
 
         if (entry.state == State.EXISTING) {
-            final Entry<K, V> before = entry.before;
-            final Entry<K, V> after = entry.after;
-
-            if (before == null) {
-                // removing the head
-                assert head == entry;
-                head = after;
-                if (head != null) {
-                    head.before = null;
-                }
-            } else {
-                // removing inner element
-                before.after = after;
-                entry.before = null;
-            }
-
-            if (after == null) {
-                // removing tail
-                assert tail == entry;
-                tail = before;
-                if (tail != null) {
-                    tail.after = null;
-                }
-            } else {
-                // removing inner element
-                after.before = before;
-                entry.after = null;
-            }
-
+            detach(entry);
             count--;
-            weight -= weigher.applyAsLong(entry.key, entry.value);
+            weight -= entry.weight;
             entry.state = State.DELETED;
             return true;
         } else {
@@ -941,33 +1114,82 @@ public class Cache<K, V> {
         }
     }
 
-    private void linkAtHead(Entry<K, V> entry) {
+    private void linkAtHead(Entry<K, V> entry, AccessOrderList<K, V> list) {
         assert lruLock.isHeldByCurrentThread();
 
-        Entry<K, V> h = head;
-        entry.before = null;
-        entry.after = head;
-        head = entry;
-        if (h == null) {
-            tail = entry;
-        } else {
-            h.before = entry;
-        }
-
+        entry.weight = weigher.applyAsLong(entry.key, entry.value);
+        attachAtHead(entry, list);
         count++;
-        weight += weigher.applyAsLong(entry.key, entry.value);
+        weight += entry.weight;
         entry.state = State.EXISTING;
     }
 
     private void relinkAtHead(Entry<K, V> entry) {
         assert lruLock.isHeldByCurrentThread();
 
-        if (head != entry) {
-            unlink(entry);
-            linkAtHead(entry);
+        if (entry.list.head != entry) {
+            moveToHead(entry, entry.list);
         }
     }
 
+    private void moveToHead(Entry<K, V> entry, AccessOrderList<K, V> list) {
+        assert lruLock.isHeldByCurrentThread();
+        assert entry.state == State.EXISTING;
+
+        detach(entry);
+        attachAtHead(entry, list);
+    }
+
+    private void detach(Entry<K, V> entry) {
+        final AccessOrderList<K, V> list = entry.list;
+        final Entry<K, V> before = entry.before;
+        final Entry<K, V> after = entry.after;
+
+        if (before == null) {
+            // removing the head
+            assert list.head == entry;
+            list.head = after;
+            if (list.head != null) {
+                list.head.before = null;
+            }
+        } else {
+            // removing inner element
+            before.after = after;
+            entry.before = null;
+        }
+
+        if (after == null) {
+            // removing tail
+            assert list.tail == entry;
+            list.tail = before;
+            if (list.tail != null) {
+                list.tail.after = null;
+            }
+        } else {
+            // removing inner element
+            after.before = before;
+            entry.after = null;
+        }
+
+        list.weight -= entry.weight;
+        entry.list = null;
+    }
+
+    private void attachAtHead(Entry<K, V> entry, AccessOrderList<K, V> list) {
+        Entry<K, V> h = list.head;
+        entry.before = null;
+        entry.after = h;
+        list.head = entry;
+        if (h == null) {
+            list.tail = entry;
+        } else {
+            h.before = entry;
+        }
+
+        list.weight += entry.weight;
+        entry.list = list;
+    }
+
     public ToLongBiFunction<K, V> getWeigher() {
         return weigher;
     }
@@ -53,6 +53,7 @@ public class CacheBuilder<K, V> {
     private ToLongBiFunction<K, V> weigher;
     private RemovalListener<K, V> removalListener;
     private int numberOfSegments = -1;
+    private EvictionPolicy evictionPolicy = EvictionPolicy.LRU;
 
     public static <K, V> CacheBuilder<K, V> builder() {
         return new CacheBuilder<>();
@@ -120,6 +121,18 @@ public class CacheBuilder<K, V> {
         return this;
     }
 
+    /**
+     * Sets the policy choosing the entries to evict once the cache exceeds its maximum weight. Defaults to
+     * {@link EvictionPolicy#LRU}.
+     *
+     * @param evictionPolicy The eviction policy. Must not be {@code null}.
+     */
+    public CacheBuilder<K, V> setEvictionPolicy(EvictionPolicy evictionPolicy) {
+        Objects.requireNonNull(evictionPolicy);
+        this.evictionPolicy = evictionPolicy;
+        return this;
+    }
+
     public Cache<K, V> build() {
         Cache<K, V> cache = new Cache<>(numberOfSegments);
         if (maximumWeight != -1) {
@@ -137,6 +150,9 @@ public class CacheBuilder<K, V> {
         if (removalListener != null) {
             cache.setRemovalListener(removalListener);
         }
+        if (evictionPolicy != EvictionPolicy.LRU) {
+            cache.setEvictionPolicy(evictionPolicy);
+        }
         return cache;
     }
 }
@@ -0,0 +1,50 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache;
+
+import org.opensearch.common.annotation.ExperimentalApi;
+
+import java.util.Locale;
+
+/**
+ * The policy a {@link Cache} uses to choose which entries to evict once it exceeds its maximum weight.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public enum EvictionPolicy {
+    /**
+     * Evicts the least recently used entry.
+     */
+    LRU,
+    /**
+     * Window TinyLFU: new entries enter a small LRU admission window, and an entry leaving the window is only
+     * admitted to the main, segmented LRU region if its key was accessed more often recently than the key of the
+     * entry it would displace. This keeps one-off accesses, such as scans, from flushing frequently used entries.
+     */
+    W_TINY_LFU;
+
+    /**
+     * Returns the eviction policy with the given name, ignoring case.
+     * @param name the name of the policy
+     * @return the eviction policy
+     */
+    public static EvictionPolicy fromString(String name) {
+        try {
+            return EvictionPolicy.valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown cache eviction policy [" + name + "]");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
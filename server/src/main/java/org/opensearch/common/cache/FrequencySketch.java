@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Estimates how often keys have recently been accessed, in the manner of TinyLFU.
+ * <p>
+ * Frequencies are tracked in a count-min sketch of small saturating counters, indexed by the hash code of the key.
+ * All the counters are halved once enough accesses have been recorded, so that the estimates reflect recent
+ * popularity rather than all-time popularity. The sketch is thread-safe and does not require external locking.
+ *
+ * @opensearch.internal
+ */
+public class FrequencySketch {
+
+    /**
+     * The maximum frequency tracked for a key. Counters saturate at this value.
+     */
+    public static final int MAX_FREQUENCY = 15;
+
+    /**
+     * The default number of counters per row of the sketch.
+     */
+    public static final int DEFAULT_WIDTH = 1 << 14;
+
+    static final int DEPTH = 4;
+
+    private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+
+    private final int width;
+    private final AtomicIntegerArray counters;
+
+    /**
+     * Number of recorded accesses after which all the counters are halved.
+     */
+    private final int sampleSize;
+    private final AtomicInteger additions = new AtomicInteger();
+
+    /**
+     * Constructs a frequency sketch.
+     * @param width the number of counters per row, which must be a power of two
+     */
+    public FrequencySketch(int width) {
+        if (width <= 0 || Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("Width of the frequency sketch must be a power of two but was " + width);
+        }
+        this.width = width;
+        this.counters = new AtomicIntegerArray(DEPTH * width);
+        this.sampleSize = 10 * width;
+    }
+
+    /**
+     * Records an access of the key with the given hash code.
+     * @param hash the hash code of the key
+     */
+    public void increment(int hash) {
+        boolean added = false;
+        for (int row = 0; row < DEPTH; row++) {
+            int index = indexOf(hash, row);
+            if (counters.get(index) < MAX_FREQUENCY) {
+                counters.getAndUpdate(index, count -> Math.min(count + 1, MAX_FREQUENCY));
+                added = true;
+            }
+        }
+        if (added && additions.incrementAndGet() >= sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * Returns the estimated number of recent accesses of the key with the given hash code.
+     * @param hash the hash code of the key
+     * @return the estimated frequency, at most {@link #MAX_FREQUENCY}
+     */
+    public int frequency(int hash) {
+        int frequency = MAX_FREQUENCY;
+        for (int row = 0; row < DEPTH; row++) {
+            frequency = Math.min(frequency, counters.get(indexOf(hash, row)));
+        }
+        return frequency;
+    }
+
+    private int indexOf(int hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        h += (h >>> 32);
+        return row * width + ((int) h & (width - 1));
+    }
+
+    /**
+     * Halves all the counters, so that keys which are no longer accessed eventually lose their popularity.
+     */
+    private synchronized void reset() {
+        if (additions.get() < sampleSize) {
+            // Another thread already halved the counters
+            return;
+        }
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, counters.get(i) >>> 1);
+        }
+        additions.set(sampleSize / 2);
+    }
+}
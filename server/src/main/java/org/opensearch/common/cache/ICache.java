@@ -9,6 +9,7 @@
 package org.opensearch.common.cache;
 
 import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.cache.stats.EvictionPolicyStats;
 import org.opensearch.common.cache.stats.ImmutableCacheStatsHolder;
 import org.opensearch.common.cache.store.config.CacheConfig;
 
@@ -53,6 +54,14 @@ public interface ICache<K, V> extends Closeable {
     // Return stats aggregated by the provided levels. If levels is null or an empty array, return total stats only.
     ImmutableCacheStatsHolder stats(String[] levels);
 
+    /**
+     * Returns the stats of the eviction policy of the cache, or of its heap tier for tiered caches, or {@code null} if the
+     * cache does not track them.
+     */
+    default EvictionPolicyStats evictionPolicyStats() {
+        return null;
+    }
+
     /**
      * Factory to create objects.
      */
@@ -13,6 +13,7 @@ import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.common.cache.CacheType;
 import org.opensearch.common.cache.ICache;
 import org.opensearch.common.cache.settings.CacheSettings;
+import org.opensearch.common.cache.stats.EvictionPolicyStats;
 import org.opensearch.common.cache.stats.ImmutableCacheStatsHolder;
 import org.opensearch.common.cache.store.OpenSearchOnHeapCache;
 import org.opensearch.common.cache.store.config.CacheConfig;
@@ -64,10 +65,15 @@ public class CacheService {
 
     public NodeCacheStats stats(CommonStatsFlags flags) {
         final SortedMap<CacheType, ImmutableCacheStatsHolder> statsMap = new TreeMap<>();
+        final SortedMap<CacheType, EvictionPolicyStats> evictionPolicyStatsMap = new TreeMap<>();
         for (CacheType type : cacheTypeMap.keySet()) {
             statsMap.put(type, cacheTypeMap.get(type).stats(flags.getLevels()));
+            EvictionPolicyStats evictionPolicyStats = cacheTypeMap.get(type).evictionPolicyStats();
+            if (evictionPolicyStats != null) {
+                evictionPolicyStatsMap.put(type, evictionPolicyStats);
+            }
         }
-        return new NodeCacheStats(statsMap, flags);
+        return new NodeCacheStats(statsMap, evictionPolicyStatsMap, flags);
     }
 
     /**
@@ -8,10 +8,12 @@
 
 package org.opensearch.common.cache.service;
 
+import org.opensearch.Version;
 import org.opensearch.action.admin.cluster.node.stats.NodesStatsRequest;
 import org.opensearch.action.admin.indices.stats.CommonStatsFlags;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.stats.EvictionPolicyStats;
 import org.opensearch.common.cache.stats.ImmutableCacheStatsHolder;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -22,6 +24,7 @@ import org.opensearch.core.xcontent.XContentBuilder;
 import java.io.IOException;
 import java.util.Objects;
 import java.util.SortedMap;
+import java.util.TreeMap;
 
 /**
  * A class creating XContent responses to cache stats API requests.
@@ -32,22 +35,41 @@ import java.util.SortedMap;
 public class NodeCacheStats implements ToXContentFragment, Writeable {
     // Use SortedMap to force consistent ordering of caches in API responses
     private final SortedMap<CacheType, ImmutableCacheStatsHolder> statsByCache;
+    // the stats of the eviction policies of the caches which track them
+    private final SortedMap<CacheType, EvictionPolicyStats> evictionPolicyStatsByCache;
     private final CommonStatsFlags flags;
 
     public NodeCacheStats(SortedMap<CacheType, ImmutableCacheStatsHolder> statsByCache, CommonStatsFlags flags) {
+        this(statsByCache, new TreeMap<>(), flags);
+    }
+
+    public NodeCacheStats(
+        SortedMap<CacheType, ImmutableCacheStatsHolder> statsByCache,
+        SortedMap<CacheType, EvictionPolicyStats> evictionPolicyStatsByCache,
+        CommonStatsFlags flags
+    ) {
         this.statsByCache = statsByCache;
+        this.evictionPolicyStatsByCache = evictionPolicyStatsByCache;
         this.flags = flags;
     }
 
     public NodeCacheStats(StreamInput in) throws IOException {
         this.flags = new CommonStatsFlags(in);
         this.statsByCache = in.readOrderedMap(i -> i.readEnum(CacheType.class), ImmutableCacheStatsHolder::new);
+        if (in.getVersion().onOrAfter(Version.V_3_2_0)) {
+            this.evictionPolicyStatsByCache = in.readOrderedMap(i -> i.readEnum(CacheType.class), EvictionPolicyStats::new);
+        } else {
+            this.evictionPolicyStatsByCache = new TreeMap<>();
+        }
     }
 
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         flags.writeTo(out);
         out.writeMap(statsByCache, StreamOutput::writeEnum, (o, immutableCacheStatsHolder) -> immutableCacheStatsHolder.writeTo(o));
+        if (out.getVersion().onOrAfter(Version.V_3_2_0)) {
+            out.writeMap(evictionPolicyStatsByCache, StreamOutput::writeEnum, (o, evictionPolicyStats) -> evictionPolicyStats.writeTo(o));
+        }
     }
 
     @Override
@@ -57,6 +79,10 @@ public class NodeCacheStats implements ToXContentFragment, Writeable {
             if (flags.getIncludeCaches().contains(type)) {
                 builder.startObject(type.getValue());
                 statsByCache.get(type).toXContent(builder, params);
+                EvictionPolicyStats evictionPolicyStats = evictionPolicyStatsByCache.get(type);
+                if (evictionPolicyStats != null) {
+                    evictionPolicyStats.toXContent(builder, params);
+                }
                 builder.endObject();
             }
         }
@@ -73,12 +99,14 @@ public class NodeCacheStats implements ToXContentFragment, Writeable {
             return false;
         }
         NodeCacheStats other = (NodeCacheStats) o;
-        return statsByCache.equals(other.statsByCache) && flags.getIncludeCaches().equals(other.flags.getIncludeCaches());
+        return statsByCache.equals(other.statsByCache)
+            && evictionPolicyStatsByCache.equals(other.evictionPolicyStatsByCache)
+            && flags.getIncludeCaches().equals(other.flags.getIncludeCaches());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(statsByCache, flags);
+        return Objects.hash(statsByCache, evictionPolicyStatsByCache, flags);
     }
 
     // Get the immutable cache stats for a given cache, used to avoid having to process XContent in tests.
@@ -86,4 +114,12 @@ public class NodeCacheStats implements ToXContentFragment, Writeable {
     public ImmutableCacheStatsHolder getStatsByCache(CacheType cacheType) {
         return statsByCache.get(cacheType);
     }
+
+    /**
+     * Returns the stats of the eviction policy of the given cache, or of its heap tier for tiered caches, or {@code null} if
+     * the cache does not track them.
+     */
+    public EvictionPolicyStats getEvictionPolicyStatsByCache(CacheType cacheType) {
+        return evictionPolicyStatsByCache.get(cacheType);
+    }
 }
@@ -0,0 +1,168 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache.stats;
+
+import org.opensearch.common.Nullable;
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.EvictionPolicy;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * An immutable snapshot of the statistics of the eviction policy of a {@link Cache}: its hit ratio and how many entries
+ * it refused to admit.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public class EvictionPolicyStats implements Writeable, ToXContentFragment {
+    // null when the stats of caches with different eviction policies were added up
+    @Nullable
+    private final EvictionPolicy evictionPolicy;
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long admissionRejections;
+
+    public EvictionPolicyStats(
+        @Nullable EvictionPolicy evictionPolicy,
+        long hits,
+        long misses,
+        long evictions,
+        long admissionRejections
+    ) {
+        this.evictionPolicy = evictionPolicy;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.admissionRejections = admissionRejections;
+    }
+
+    public EvictionPolicyStats(Cache.CacheStats stats) {
+        this(stats.getEvictionPolicy(), stats.getHits(), stats.getMisses(), stats.getEvictions(), stats.getAdmissionRejections());
+    }
+
+    public EvictionPolicyStats(StreamInput in) throws IOException {
+        this(in.readBoolean() ? in.readEnum(EvictionPolicy.class) : null, in.readVLong(), in.readVLong(), in.readVLong(), in.readVLong());
+    }
+
+    public static EvictionPolicyStats add(EvictionPolicyStats s1, EvictionPolicyStats s2) {
+        return new EvictionPolicyStats(
+            s1.evictionPolicy == s2.evictionPolicy ? s1.evictionPolicy : null,
+            s1.hits + s2.hits,
+            s1.misses + s2.misses,
+            s1.evictions + s2.evictions,
+            s1.admissionRejections + s2.admissionRejections
+        );
+    }
+
+    /**
+     * Returns a copy of these stats with the given number of additional admission rejections, made by admission policies in
+     * front of the cache.
+     */
+    public EvictionPolicyStats withAdditionalAdmissionRejections(long rejections) {
+        return new EvictionPolicyStats(evictionPolicy, hits, misses, evictions, admissionRejections + rejections);
+    }
+
+    /**
+     * The eviction policy of the cache, or {@code null} if these stats add up caches with different eviction policies
+     */
+    @Nullable
+    public EvictionPolicy getEvictionPolicy() {
+        return evictionPolicy;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public long getAdmissionRejections() {
+        return admissionRejections;
+    }
+
+    /**
+     * The ratio of lookups which were hits, or 0 if there were no lookups
+     */
+    public double getHitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeBoolean(evictionPolicy != null);
+        if (evictionPolicy != null) {
+            out.writeEnum(evictionPolicy);
+        }
+        out.writeVLong(hits);
+        out.writeVLong(misses);
+        out.writeVLong(evictions);
+        out.writeVLong(admissionRejections);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(Fields.EVICTION_POLICY);
+        if (evictionPolicy != null) {
+            builder.field(Fields.NAME, evictionPolicy.toString());
+        }
+        builder.field(Fields.HIT_RATIO, getHitRatio());
+        builder.field(Fields.ADMISSION_REJECTIONS, admissionRejections);
+        builder.endObject();
+        return builder;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null) {
+            return false;
+        }
+        if (o.getClass() != EvictionPolicyStats.class) {
+            return false;
+        }
+        EvictionPolicyStats other = (EvictionPolicyStats) o;
+        return evictionPolicy == other.evictionPolicy
+            && hits == other.hits
+            && misses == other.misses
+            && evictions == other.evictions
+            && admissionRejections == other.admissionRejections;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(evictionPolicy, hits, misses, evictions, admissionRejections);
+    }
+
+    /**
+     * Fields used in toXContent
+     *
+     * @opensearch.internal
+     */
+    public static final class Fields {
+        public static final String EVICTION_POLICY = "eviction_policy";
+        public static final String NAME = "name";
+        public static final String HIT_RATIO = "hit_ratio";
+        public static final String ADMISSION_REJECTIONS = "admission_rejections";
+    }
+}
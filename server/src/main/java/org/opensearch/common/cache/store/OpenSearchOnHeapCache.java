@@ -11,6 +11,7 @@ package org.opensearch.common.cache.store;
 import org.opensearch.common.cache.Cache;
 import org.opensearch.common.cache.CacheBuilder;
 import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.EvictionPolicy;
 import org.opensearch.common.cache.ICache;
 import org.opensearch.common.cache.ICacheKey;
 import org.opensearch.common.cache.LoadAwareCacheLoader;
@@ -21,6 +22,7 @@ import org.opensearch.common.cache.service.CacheService;
 import org.opensearch.common.cache.settings.CacheSettings;
 import org.opensearch.common.cache.stats.CacheStatsHolder;
 import org.opensearch.common.cache.stats.DefaultCacheStatsHolder;
+import org.opensearch.common.cache.stats.EvictionPolicyStats;
 import org.opensearch.common.cache.stats.ImmutableCacheStatsHolder;
 import org.opensearch.common.cache.stats.NoopCacheStatsHolder;
 import org.opensearch.common.cache.store.builders.ICacheBuilder;
@@ -36,6 +38,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.function.ToLongBiFunction;
 
+import static org.opensearch.common.cache.store.settings.OpenSearchOnHeapCacheSettings.EVICTION_POLICY_KEY;
 import static org.opensearch.common.cache.store.settings.OpenSearchOnHeapCacheSettings.EXPIRE_AFTER_ACCESS_KEY;
 import static org.opensearch.common.cache.store.settings.OpenSearchOnHeapCacheSettings.MAXIMUM_SIZE_IN_BYTES_KEY;
 
@@ -61,7 +64,8 @@ public class OpenSearchOnHeapCache<K, V> implements ICache<K, V>, RemovalListene
         CacheBuilder<ICacheKey<K>, V> cacheBuilder = CacheBuilder.<ICacheKey<K>, V>builder()
             .setMaximumWeight(builder.getMaxWeightInBytes())
             .weigher(builder.getWeigher())
-            .removalListener(this);
+            .removalListener(this)
+            .setEvictionPolicy(builder.evictionPolicy);
         if (builder.getExpireAfterAcess() != null) {
             cacheBuilder.setExpireAfterAccess(builder.getExpireAfterAcess());
         }
@@ -85,6 +89,11 @@ public class OpenSearchOnHeapCache<K, V> implements ICache<K, V>, RemovalListene
         return this.maximumWeight;
     }
 
+    @Override
+    public EvictionPolicyStats evictionPolicyStats() {
+        return new EvictionPolicyStats(cache.stats());
+    }
+
     @Override
     public V get(ICacheKey<K> key) {
         V value = cache.get(key);
@@ -183,6 +192,7 @@ public class OpenSearchOnHeapCache<K, V> implements ICache<K, V>, RemovalListene
             Settings settings = config.getSettings();
             boolean statsTrackingEnabled = config.getStatsTrackingEnabled();
             ICacheBuilder<K, V> builder = new Builder<K, V>().setDimensionNames(config.getDimensionNames())
+                .setEvictionPolicy((EvictionPolicy) settingList.get(EVICTION_POLICY_KEY).get(settings))
                 .setStatsTrackingEnabled(statsTrackingEnabled)
                 .setExpireAfterAccess(((TimeValue) settingList.get(EXPIRE_AFTER_ACCESS_KEY).get(settings)))
                 .setWeigher(config.getWeigher())
@@ -231,12 +241,18 @@ public class OpenSearchOnHeapCache<K, V> implements ICache<K, V>, RemovalListene
      */
     public static class Builder<K, V> extends ICacheBuilder<K, V> {
         private List<String> dimensionNames;
+        private EvictionPolicy evictionPolicy = EvictionPolicy.LRU;
 
         public Builder<K, V> setDimensionNames(List<String> dimensionNames) {
             this.dimensionNames = dimensionNames;
             return this;
         }
 
+        public Builder<K, V> setEvictionPolicy(EvictionPolicy evictionPolicy) {
+            this.evictionPolicy = evictionPolicy;
+            return this;
+        }
+
         @Override
         public ICache<K, V> build() {
             return new OpenSearchOnHeapCache<K, V>(this);
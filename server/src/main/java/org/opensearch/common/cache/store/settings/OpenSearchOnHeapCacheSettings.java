@@ -9,6 +9,7 @@
 package org.opensearch.common.cache.store.settings;
 
 import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.EvictionPolicy;
 import org.opensearch.common.cache.store.OpenSearchOnHeapCache;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.unit.TimeValue;
@@ -45,14 +46,28 @@ public class OpenSearchOnHeapCacheSettings {
         (key) -> Setting.positiveTimeSetting(key, TimeValue.MAX_VALUE, Setting.Property.NodeScope)
     );
 
+    /**
+     * Setting to define the policy choosing the entries to evict, either lru or w_tiny_lfu.
+     * This setting also applies when this cache is used as a tier in a TieredSpilloverCache.
+     *
+     * Setting pattern: {cache_type}.opensearch_onheap.eviction_policy
+     */
+    public static final Setting.AffixSetting<EvictionPolicy> EVICTION_POLICY_SETTING = Setting.suffixKeySetting(
+        OpenSearchOnHeapCache.OpenSearchOnHeapCacheFactory.NAME + ".eviction_policy",
+        (key) -> new Setting<>(key, EvictionPolicy.LRU.toString(), EvictionPolicy::fromString, NodeScope)
+    );
+
     public static final String MAXIMUM_SIZE_IN_BYTES_KEY = "maximum_size_in_bytes";
     public static final String EXPIRE_AFTER_ACCESS_KEY = "expire_after_access";
+    public static final String EVICTION_POLICY_KEY = "eviction_policy";
 
     private static final Map<String, Setting.AffixSetting<?>> KEY_SETTING_MAP = Map.of(
         MAXIMUM_SIZE_IN_BYTES_KEY,
         MAXIMUM_SIZE_IN_BYTES,
         EXPIRE_AFTER_ACCESS_KEY,
-        EXPIRE_AFTER_ACCESS_SETTING
+        EXPIRE_AFTER_ACCESS_SETTING,
+        EVICTION_POLICY_KEY,
+        EVICTION_POLICY_SETTING
     );
 
     public static final Map<CacheType, Map<String, Setting<?>>> CACHE_TYPE_MAP = getCacheTypeMap();
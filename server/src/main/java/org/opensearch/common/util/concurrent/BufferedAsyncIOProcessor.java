@@ -11,6 +11,7 @@ package org.opensearch.common.util.concurrent;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.threadpool.Scheduler;
 import org.opensearch.threadpool.ThreadPool;
 
 import java.util.ArrayList;
@@ -34,6 +35,9 @@ public abstract class BufferedAsyncIOProcessor<Item> extends AsyncIOProcessor<It
 
     private final ThreadPool threadpool;
     private final Supplier<TimeValue> bufferIntervalSupplier;
+    private final Object scheduleMutex = new Object();
+    // the pending scheduled processing, guarded by scheduleMutex
+    private Scheduler.ScheduledCancellable scheduledProcess;
 
     protected BufferedAsyncIOProcessor(
         Logger logger,
@@ -58,7 +62,9 @@ public abstract class BufferedAsyncIOProcessor<Item> extends AsyncIOProcessor<It
     private void scheduleProcess() {
         if (getQueue().isEmpty() == false && getPromiseSemaphore().tryAcquire()) {
             try {
-                threadpool.schedule(this::process, getBufferInterval(), getBufferProcessThreadPoolName());
+                synchronized (scheduleMutex) {
+                    scheduledProcess = threadpool.schedule(this::process, getBufferInterval(), getBufferProcessThreadPoolName());
+                }
             } catch (Exception e) {
                 getLogger().error("failed to schedule process");
                 processSchedulingFailure(e);
@@ -70,6 +76,28 @@ public abstract class BufferedAsyncIOProcessor<Item> extends AsyncIOProcessor<It
         }
     }
 
+    /**
+     * Processes the buffered items right away instead of at the end of the current buffer interval. This is a no-op if no
+     * processing is pending or if it already started.
+     */
+    public void flush() {
+        synchronized (scheduleMutex) {
+            if (scheduledProcess == null || scheduledProcess.cancel() == false) {
+                return;
+            }
+            scheduledProcess = null;
+            // the cancelled processing had acquired the promise, which we take over
+            try {
+                threadpool.executor(getBufferProcessThreadPoolName()).execute(this::process);
+            } catch (Exception e) {
+                getLogger().error("failed to flush buffered items");
+                processSchedulingFailure(e);
+                getPromiseSemaphore().release();
+                scheduleProcess();
+            }
+        }
+    }
+
     private void processSchedulingFailure(Exception e) {
         List<Tuple<Item, Consumer<Exception>>> candidates = new ArrayList<>();
         getQueue().drainTo(candidates);
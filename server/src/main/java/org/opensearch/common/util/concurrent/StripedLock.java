@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util.concurrent;
+
+import org.opensearch.common.lease.Releasable;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Manages locks which are accessed with an identifier, like {@link KeyedLock}, but maps the identifiers onto a fixed
+ * number of lock stripes by their hash code. Unlike {@link KeyedLock}, acquiring a lock neither allocates nor updates a
+ * shared map, which keeps many threads contending on a few hot keys from spinning on the map. The price is that
+ * different keys which fall into the same stripe exclude each other, so callers must never block on the locks of two
+ * different keys at once.
+ * Note: this lock is reentrant
+ *
+ * @opensearch.internal
+ */
+public final class StripedLock<T> {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    /**
+     * Creates a new lock
+     * @param stripes the number of lock stripes, which is rounded up to a power of two
+     */
+    public StripedLock(int stripes) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("the number of stripes must be positive but was [" + stripes + "]");
+        }
+        final int size = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Acquires the lock for the given key. The key is compared by its hash code, not by object identity. The lock can be
+     * acquired by the same thread multiple times. The lock is released by closing the returned {@link Releasable}.
+     */
+    public Releasable acquire(T key) {
+        final ReentrantLock lock = stripeFor(key);
+        lock.lock();
+        return lock::unlock;
+    }
+
+    /**
+     * Tries to acquire the lock for the given key and returns it. If the lock can't be acquired null is returned.
+     */
+    public Releasable tryAcquire(T key) {
+        final ReentrantLock lock = stripeFor(key);
+        if (lock.tryLock()) {
+            return lock::unlock;
+        }
+        return null;
+    }
+
+    /**
+     * Returns <code>true</code> iff the caller thread holds the lock of the stripe of the given key
+     */
+    public boolean isHeldByCurrentThread(T key) {
+        return stripeFor(key).isHeldByCurrentThread();
+    }
+
+    /**
+     * Returns the number of lock stripes
+     */
+    public int stripes() {
+        return stripes.length;
+    }
+
+    private ReentrantLock stripeFor(T key) {
+        final int hash = key.hashCode();
+        // spread the high bits of the hash, since hash codes of similar keys often only differ in their high bits
+        return stripes[(hash ^ (hash >>> 16)) & mask];
+    }
+}
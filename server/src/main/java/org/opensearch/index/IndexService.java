@@ -61,6 +61,7 @@ import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.core.Assertions;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.indices.breaker.CircuitBreakerService;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
@@ -84,6 +85,7 @@ import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.query.SearchIndexNameMatcher;
 import org.opensearch.index.remote.RemoteStoreStatsTrackerFactory;
+import org.opensearch.index.remote.RemoteTranslogUploadBatcher;
 import org.opensearch.index.seqno.RetentionLeaseSyncer;
 import org.opensearch.index.shard.IndexEventListener;
 import org.opensearch.index.shard.IndexShard;
@@ -631,7 +633,9 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
             discoveryNodes,
             mergedSegmentWarmerFactory,
             null,
-            null
+            null,
+            // not bounded by the translog bytes buffered by the other shards of the node
+            new RemoteTranslogUploadBatcher(() -> ByteSizeValue.ZERO)
         );
     }
 
@@ -647,7 +651,8 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
         DiscoveryNodes discoveryNodes,
         MergedSegmentWarmerFactory mergedSegmentWarmerFactory,
         MergedSegmentPublisher mergedSegmentPublisher,
-        ReferencedSegmentsPublisher referencedSegmentsPublisher
+        ReferencedSegmentsPublisher referencedSegmentsPublisher,
+        RemoteTranslogUploadBatcher translogUploadBatcher
     ) throws IOException {
         Objects.requireNonNull(retentionLeaseSyncer);
         /*
@@ -789,7 +794,8 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
                 refreshMutex,
                 clusterService.getClusterApplierService(),
                 this.indexSettings.isSegRepEnabledOrRemoteNode() ? mergedSegmentPublisher : null,
-                this.indexSettings.isSegRepEnabledOrRemoteNode() ? referencedSegmentsPublisher : null
+                this.indexSettings.isSegRepEnabledOrRemoteNode() ? referencedSegmentsPublisher : null,
+                translogUploadBatcher
             );
             eventListener.indexShardStateChanged(indexShard, null, indexShard.state(), "shard created");
             eventListener.afterIndexShardCreated(indexShard);
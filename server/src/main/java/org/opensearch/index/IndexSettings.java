@@ -171,6 +171,22 @@ public final class IndexSettings {
         Property.IndexScope
     );
 
+    /**
+     * The longest time locations waiting for a translog sync are buffered, so that a single fsync makes the writes of many
+     * requests durable. The actual window adapts to the observed fsync latency. {@code 0} disables the group commit, in
+     * which case the write thread which requests a sync runs it for all pending locations.
+     * <p>
+     * This setting has no effect on shards assigned to remote store nodes: their syncs upload the translog, which is
+     * always buffered for {@link #INDEX_REMOTE_TRANSLOG_BUFFER_INTERVAL_SETTING} instead.
+     */
+    public static final Setting<TimeValue> INDEX_TRANSLOG_GROUP_COMMIT_MAX_WINDOW_SETTING = Setting.timeSetting(
+        "index.translog.group_commit.max_window",
+        TimeValue.ZERO,
+        TimeValue.ZERO,
+        TimeValue.timeValueSeconds(1),
+        Property.IndexScope
+    );
+
     public static final Setting<TimeValue> INDEX_PUBLISH_REFERENCED_SEGMENTS_INTERVAL_SETTING = Setting.timeSetting(
         "index.segment_replication.publish_referenced_segments_interval",
         TimeValue.timeValueMinutes(10),
@@ -739,6 +755,14 @@ public final class IndexSettings {
         Property.IndexScope
     );
 
+    public static final Setting<Integer> INDEX_CONCURRENT_INTRA_SEGMENT_SEARCH_MIN_PARTITION_SIZE = Setting.intSetting(
+        "index.search.concurrent.intra_segment_search.min_partition_size",
+        0,
+        0,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
     public static final Setting<Boolean> INDEX_DOC_ID_FUZZY_SET_ENABLED_SETTING = Setting.boolSetting(
         "index.optimize_doc_id_lookup.fuzzy_set.enabled",
         false,
@@ -837,6 +861,7 @@ public final class IndexSettings {
     private final boolean defaultAllowUnmappedFields;
     private volatile Translog.Durability durability;
     private volatile TimeValue syncInterval;
+    private final TimeValue translogGroupCommitMaxWindow;
     private volatile TimeValue publishReferencedSegmentsInterval;
     private volatile TimeValue refreshInterval;
     private volatile ByteSizeValue flushThresholdSize;
@@ -1055,6 +1080,7 @@ public final class IndexSettings {
         this.durability = scopedSettings.get(INDEX_TRANSLOG_DURABILITY_SETTING);
         defaultFields = scopedSettings.get(DEFAULT_FIELD_SETTING);
         syncInterval = INDEX_TRANSLOG_SYNC_INTERVAL_SETTING.get(settings);
+        translogGroupCommitMaxWindow = INDEX_TRANSLOG_GROUP_COMMIT_MAX_WINDOW_SETTING.get(settings);
         publishReferencedSegmentsInterval = INDEX_PUBLISH_REFERENCED_SEGMENTS_INTERVAL_SETTING.get(settings);
         refreshInterval = scopedSettings.get(INDEX_REFRESH_INTERVAL_SETTING);
         flushThresholdSize = scopedSettings.get(INDEX_TRANSLOG_FLUSH_THRESHOLD_SIZE_SETTING);
@@ -1567,6 +1593,14 @@ public final class IndexSettings {
         this.syncInterval = translogSyncInterval;
     }
 
+    /**
+     * Returns the longest time locations waiting for a translog sync are buffered before being synced together, or
+     * {@link TimeValue#ZERO} if the translog is not synced in group commits.
+     */
+    public TimeValue getTranslogGroupCommitMaxWindow() {
+        return translogGroupCommitMaxWindow;
+    }
+
     public TimeValue getPublishReferencedSegmentsInterval() {
         return publishReferencedSegmentsInterval;
     }
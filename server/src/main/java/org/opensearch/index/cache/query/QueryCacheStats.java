@@ -34,6 +34,8 @@ package org.opensearch.index.cache.query;
 
 import org.apache.lucene.search.DocIdSet;
 import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.cache.EvictionPolicy;
+import org.opensearch.common.cache.stats.EvictionPolicyStats;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -116,6 +118,14 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         return missCount;
     }
 
+    /**
+     * The ratio of lookups which were hits, or 0 if there were no lookups.
+     */
+    public double getHitRatio() {
+        long totalCount = getTotalCount();
+        return totalCount == 0 ? 0 : (double) hitCount / totalCount;
+    }
+
     /**
      * The number of {@link DocIdSet}s that have been cached.
      */
@@ -156,6 +166,11 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         builder.field(Fields.CACHE_SIZE, getCacheSize());
         builder.field(Fields.CACHE_COUNT, getCacheCount());
         builder.field(Fields.EVICTIONS, getEvictions());
+        // the query cache is a Lucene LRUQueryCache, which admits whatever the caching policy of the shard chooses to cache
+        builder.startObject(EvictionPolicyStats.Fields.EVICTION_POLICY);
+        builder.field(EvictionPolicyStats.Fields.NAME, EvictionPolicy.LRU.toString());
+        builder.field(EvictionPolicyStats.Fields.HIT_RATIO, getHitRatio());
+        builder.endObject();
         builder.endObject();
         return builder;
     }
@@ -32,7 +32,10 @@
 
 package org.opensearch.index.cache.request;
 
+import org.opensearch.Version;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.cache.stats.EvictionPolicyStats;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -54,6 +57,12 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
     private long evictions;
     private long hitCount;
     private long missCount;
+    // node level stats of the cache of the aggregation results of single segments, only set on node stats
+    @Nullable
+    private RequestCacheStats segmentAggregationStats;
+    // node level stats of the eviction policy of the request cache, only set on node stats
+    @Nullable
+    private EvictionPolicyStats evictionPolicyStats;
 
     public RequestCacheStats() {}
 
@@ -62,6 +71,10 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         evictions = in.readVLong();
         hitCount = in.readVLong();
         missCount = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_3_2_0)) {
+            segmentAggregationStats = in.readOptionalWriteable(RequestCacheStats::new);
+            evictionPolicyStats = in.readOptionalWriteable(EvictionPolicyStats::new);
+        }
     }
 
     public RequestCacheStats(long memorySize, long evictions, long hitCount, long missCount) {
@@ -76,6 +89,43 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         this.evictions += stats.evictions;
         this.hitCount += stats.hitCount;
         this.missCount += stats.missCount;
+        if (stats.segmentAggregationStats != null) {
+            if (segmentAggregationStats == null) {
+                segmentAggregationStats = new RequestCacheStats();
+            }
+            segmentAggregationStats.add(stats.segmentAggregationStats);
+        }
+        if (stats.evictionPolicyStats != null) {
+            evictionPolicyStats = evictionPolicyStats == null
+                ? stats.evictionPolicyStats
+                : EvictionPolicyStats.add(evictionPolicyStats, stats.evictionPolicyStats);
+        }
+    }
+
+    public void setSegmentAggregationStats(RequestCacheStats segmentAggregationStats) {
+        this.segmentAggregationStats = segmentAggregationStats;
+    }
+
+    /**
+     * The stats of the node level cache of the aggregation results of single segments, or {@code null} if these stats are not
+     * node stats.
+     */
+    @Nullable
+    public RequestCacheStats getSegmentAggregationStats() {
+        return segmentAggregationStats;
+    }
+
+    public void setEvictionPolicyStats(@Nullable EvictionPolicyStats evictionPolicyStats) {
+        this.evictionPolicyStats = evictionPolicyStats;
+    }
+
+    /**
+     * The stats of the eviction policy of the node level request cache, or {@code null} if these stats are not node stats or
+     * the cache does not track them.
+     */
+    @Nullable
+    public EvictionPolicyStats getEvictionPolicyStats() {
+        return evictionPolicyStats;
     }
 
     public long getMemorySizeInBytes() {
@@ -104,17 +154,33 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         out.writeVLong(evictions);
         out.writeVLong(hitCount);
         out.writeVLong(missCount);
+        if (out.getVersion().onOrAfter(Version.V_3_2_0)) {
+            out.writeOptionalWriteable(segmentAggregationStats);
+            out.writeOptionalWriteable(evictionPolicyStats);
+        }
     }
 
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject(Fields.REQUEST_CACHE_STATS);
+        toXContentFields(builder);
+        if (segmentAggregationStats != null) {
+            builder.startObject(Fields.SEGMENT_AGGREGATIONS);
+            segmentAggregationStats.toXContentFields(builder);
+            builder.endObject();
+        }
+        if (evictionPolicyStats != null) {
+            evictionPolicyStats.toXContent(builder, params);
+        }
+        builder.endObject();
+        return builder;
+    }
+
+    private void toXContentFields(XContentBuilder builder) throws IOException {
         builder.humanReadableField(Fields.MEMORY_SIZE_IN_BYTES, Fields.MEMORY_SIZE, getMemorySize());
         builder.field(Fields.EVICTIONS, getEvictions());
         builder.field(Fields.HIT_COUNT, getHitCount());
         builder.field(Fields.MISS_COUNT, getMissCount());
-        builder.endObject();
-        return builder;
     }
 
     /**
@@ -129,5 +195,6 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         static final String EVICTIONS = "evictions";
         static final String HIT_COUNT = "hit_count";
         static final String MISS_COUNT = "miss_count";
+        static final String SEGMENT_AGGREGATIONS = "segment_aggregations";
     }
 }
@@ -38,6 +38,7 @@ import org.opensearch.index.compositeindex.datacube.Metric;
 import org.opensearch.index.compositeindex.datacube.MetricStat;
 import org.opensearch.index.compositeindex.datacube.startree.fileformats.meta.DimensionConfig;
 import org.opensearch.index.compositeindex.datacube.startree.fileformats.meta.StarTreeMetadata;
+import org.opensearch.index.compositeindex.datacube.startree.fileformats.node.StarTreeNodeCache;
 import org.opensearch.index.compositeindex.datacube.startree.index.CompositeIndexValues;
 import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
 import org.opensearch.index.mapper.CompositeMappedFieldType;
@@ -48,6 +49,7 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.opensearch.index.compositeindex.CompositeIndexConstants.COMPOSITE_FIELD_MARKER;
 import static org.opensearch.index.compositeindex.datacube.startree.fileformats.StarTreeWriter.VERSION_CURRENT;
@@ -72,6 +74,7 @@ public class Composite912DocValuesReader extends DocValuesProducer implements Co
     private DocValuesProducer compositeDocValuesProducer;
     private final List<CompositeIndexFieldInfo> compositeFieldInfos = new ArrayList<>();
     private SegmentReadState readState;
+    private final Map<String, StarTreeNodeCache> starTreeNodeCacheMap = new ConcurrentHashMap<>();
 
     public Composite912DocValuesReader(DocValuesProducer producer, SegmentReadState readState) throws IOException {
         this.delegate = producer;
@@ -92,8 +95,8 @@ public class Composite912DocValuesReader extends DocValuesProducer implements Co
         boolean success = false;
         try (ChecksumIndexInput metaIn = readState.directory.openChecksumInput(metaFileName)) {
 
-            // initialize data input
-            dataIn = readState.directory.openInput(dataFileName, readState.context.withReadAdvice(ReadAdvice.NORMAL));
+            // initialize data input, star-tree nodes are accessed randomly while traversing the tree
+            dataIn = readState.directory.openInput(dataFileName, readState.context.withReadAdvice(ReadAdvice.RANDOM));
             CodecUtil.checkIndexHeader(
                 dataIn,
                 Composite912DocValuesFormat.DATA_CODEC_NAME,
@@ -268,6 +271,7 @@ public class Composite912DocValuesReader extends DocValuesProducer implements Co
             }
             compositeIndexInputMap.clear();
             compositeIndexMetadataMap.clear();
+            starTreeNodeCacheMap.clear();
             fields.clear();
             dataIn = null;
         }
@@ -287,7 +291,8 @@ public class Composite912DocValuesReader extends DocValuesProducer implements Co
                     compositeIndexMetadataMap.get(compositeIndexFieldInfo.getField()),
                     compositeIndexInputMap.get(compositeIndexFieldInfo.getField()),
                     compositeDocValuesProducer,
-                    this.readState
+                    this.readState,
+                    getStarTreeNodeCache(compositeIndexFieldInfo.getField())
                 );
 
             default:
@@ -296,6 +301,28 @@ public class Composite912DocValuesReader extends DocValuesProducer implements Co
 
     }
 
+    /**
+     * Returns the decoded upper levels of the star-tree of the given field, which are built once per segment
+     * on first access and shared by all the subsequent traversals.
+     */
+    private StarTreeNodeCache getStarTreeNodeCache(String field) throws IOException {
+        StarTreeNodeCache starTreeNodeCache = starTreeNodeCacheMap.get(field);
+        if (starTreeNodeCache == null) {
+            StarTreeMetadata starTreeMetadata = (StarTreeMetadata) compositeIndexMetadataMap.get(field);
+            IndexInput starTreeDataIn = compositeIndexInputMap.get(field);
+            starTreeNodeCache = StarTreeNodeCache.build(
+                starTreeDataIn.randomAccessSlice(0, starTreeMetadata.getDataLength()),
+                starTreeMetadata.getDataLength(),
+                StarTreeNodeCache.DEFAULT_MAX_CACHED_NODES
+            );
+            StarTreeNodeCache existing = starTreeNodeCacheMap.putIfAbsent(field, starTreeNodeCache);
+            if (existing != null) {
+                starTreeNodeCache = existing;
+            }
+        }
+        return starTreeNodeCache;
+    }
+
     /**
      * Returns the sorted numeric doc values for the given sorted numeric field.
      * If the sorted numeric field is null, it returns an empty doc id set iterator.
@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.opensearch.index.compositeindex.datacube.startree.utils.HyperLogLogSketchType;
+import org.opensearch.index.mapper.FieldValueConverter;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.metrics.HyperLogLogSketch;
+
+/**
+ * Cardinality value aggregator for star tree
+ *
+ * <p>Each star-tree document holds a {@link HyperLogLogSketch} of the hashed metric field values, so that the
+ * cardinality of any combination of dimensions can be estimated by merging the sketches of the matching documents.
+ * The values are hashed the same way as the cardinality aggregation hashes them, which keeps the sketches mergeable
+ * with the ones computed on the fly.
+ *
+ * @opensearch.experimental
+ */
+class CardinalityValueAggregator implements ValueAggregator<HyperLogLogSketch> {
+
+    private static final int PRECISION = HyperLogLogSketchType.STAR_TREE_PRECISION;
+    private static final HyperLogLogSketchType VALUE_AGGREGATOR_TYPE = new HyperLogLogSketchType(PRECISION);
+
+    private final FieldValueConverter fieldValueConverter;
+    private final boolean isIntegral;
+
+    public CardinalityValueAggregator(FieldValueConverter fieldValueConverter) {
+        this.fieldValueConverter = fieldValueConverter;
+        // unsigned longs are collected as doubles by the cardinality aggregation, see ValuesSource.Numeric#isBigInteger
+        this.isIntegral = fieldValueConverter instanceof NumberFieldMapper.NumberType numberType
+            && numberType != NumberFieldMapper.NumberType.UNSIGNED_LONG
+            && numberType.numericType().isFloatingPoint() == false;
+    }
+
+    @Override
+    public FieldValueConverter getAggregatedValueType() {
+        return VALUE_AGGREGATOR_TYPE;
+    }
+
+    @Override
+    public HyperLogLogSketch getInitialAggregatedValueForSegmentDocValue(Long segmentDocValue) {
+        if (segmentDocValue == null) {
+            return getIdentityMetricValue();
+        }
+        HyperLogLogSketch sketch = new HyperLogLogSketch(PRECISION);
+        sketch.collect(hash(segmentDocValue));
+        return sketch;
+    }
+
+    // overridden to collect into the aggregated sketch instead of allocating a sketch per segment doc value
+    @Override
+    public HyperLogLogSketch mergeAggregatedValueAndSegmentValue(HyperLogLogSketch value, Long segmentDocValue) {
+        if (value == null) {
+            return getInitialAggregatedValueForSegmentDocValue(segmentDocValue);
+        }
+        if (segmentDocValue != null) {
+            value.collect(hash(segmentDocValue));
+        }
+        return value;
+    }
+
+    /**
+     * Merges the sketch into the aggregated sketch, which is owned by the caller and updated in place.
+     */
+    @Override
+    public HyperLogLogSketch mergeAggregatedValues(HyperLogLogSketch value, HyperLogLogSketch aggregatedValue) {
+        if (aggregatedValue == null) {
+            return getInitialAggregatedValue(value);
+        }
+        if (value != null) {
+            aggregatedValue.merge(value);
+        }
+        return aggregatedValue;
+    }
+
+    /**
+     * Sketches are mutable, hence the value is copied so that merges never modify a star-tree document in place.
+     */
+    @Override
+    public HyperLogLogSketch getInitialAggregatedValue(HyperLogLogSketch value) {
+        if (value == null) {
+            return getIdentityMetricValue();
+        }
+        return value.copy();
+    }
+
+    @Override
+    public HyperLogLogSketch toAggregatedValueType(Long rawValue) {
+        if (rawValue == null) {
+            return getIdentityMetricValue();
+        }
+        return toAggregatedValueType(new long[] { rawValue });
+    }
+
+    @Override
+    public HyperLogLogSketch toAggregatedValueType(long[] rawValues) {
+        if (rawValues == null || rawValues.length == 0) {
+            return getIdentityMetricValue();
+        }
+        HyperLogLogSketch sketch = new HyperLogLogSketch(PRECISION);
+        try {
+            for (long rawValue : rawValues) {
+                sketch.collectEncoded(rawValue);
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("Cannot convert star-tree doc values to a sketch of precision [" + PRECISION + "]", e);
+        }
+        return sketch;
+    }
+
+    /**
+     * An empty sketch does not alter the result of merges, so null is used to avoid allocating the registers.
+     */
+    @Override
+    public HyperLogLogSketch getIdentityMetricValue() {
+        return null;
+    }
+
+    private long hash(long segmentDocValue) {
+        if (isIntegral) {
+            return HyperLogLogSketch.hash(segmentDocValue);
+        }
+        return HyperLogLogSketch.hash(fieldValueConverter.toDoubleValue(segmentDocValue));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.opensearch.index.compositeindex.datacube.startree.utils.TDigestSketchType;
+import org.opensearch.index.mapper.FieldValueConverter;
+import org.opensearch.search.aggregations.metrics.TDigestState;
+
+/**
+ * Percentiles value aggregator for star tree
+ *
+ * <p>Each star-tree document holds a {@link TDigestState} of the metric field values, so that percentiles and percentile
+ * ranks of any combination of dimensions can be estimated by merging the digests of the matching documents.
+ *
+ * @opensearch.experimental
+ */
+class PercentilesValueAggregator implements ValueAggregator<TDigestState> {
+
+    private static final double COMPRESSION = TDigestSketchType.STAR_TREE_COMPRESSION;
+    private static final TDigestSketchType VALUE_AGGREGATOR_TYPE = new TDigestSketchType(COMPRESSION);
+
+    private final FieldValueConverter fieldValueConverter;
+
+    public PercentilesValueAggregator(FieldValueConverter fieldValueConverter) {
+        this.fieldValueConverter = fieldValueConverter;
+    }
+
+    @Override
+    public FieldValueConverter getAggregatedValueType() {
+        return VALUE_AGGREGATOR_TYPE;
+    }
+
+    @Override
+    public TDigestState getInitialAggregatedValueForSegmentDocValue(Long segmentDocValue) {
+        if (segmentDocValue == null) {
+            return getIdentityMetricValue();
+        }
+        TDigestState digest = new TDigestState(COMPRESSION);
+        digest.add(fieldValueConverter.toDoubleValue(segmentDocValue));
+        return digest;
+    }
+
+    // overridden to add to the aggregated digest instead of allocating a digest per segment doc value
+    @Override
+    public TDigestState mergeAggregatedValueAndSegmentValue(TDigestState value, Long segmentDocValue) {
+        if (value == null) {
+            return getInitialAggregatedValueForSegmentDocValue(segmentDocValue);
+        }
+        if (segmentDocValue != null) {
+            value.add(fieldValueConverter.toDoubleValue(segmentDocValue));
+        }
+        return value;
+    }
+
+    /**
+     * Merges the digest into the aggregated digest, which is owned by the caller and updated in place.
+     */
+    @Override
+    public TDigestState mergeAggregatedValues(TDigestState value, TDigestState aggregatedValue) {
+        if (aggregatedValue == null) {
+            return getInitialAggregatedValue(value);
+        }
+        if (value != null) {
+            aggregatedValue.add(value);
+        }
+        return aggregatedValue;
+    }
+
+    /**
+     * Digests are mutable, hence the value is copied so that merges never modify a star-tree document in place.
+     */
+    @Override
+    public TDigestState getInitialAggregatedValue(TDigestState value) {
+        if (value == null) {
+            return getIdentityMetricValue();
+        }
+        TDigestState digest = new TDigestState(COMPRESSION);
+        digest.add(value);
+        return digest;
+    }
+
+    @Override
+    public TDigestState toAggregatedValueType(Long rawValue) {
+        if (rawValue == null) {
+            return getIdentityMetricValue();
+        }
+        return toAggregatedValueType(new long[] { rawValue });
+    }
+
+    @Override
+    public TDigestState toAggregatedValueType(long[] rawValues) {
+        if (rawValues == null || rawValues.length == 0) {
+            return getIdentityMetricValue();
+        }
+        TDigestState digest = new TDigestState(COMPRESSION);
+        TDigestSketchType.CentroidReader centroidReader = new TDigestSketchType.CentroidReader();
+        for (long rawValue : rawValues) {
+            centroidReader.accept(digest, rawValue);
+        }
+        return digest;
+    }
+
+    /**
+     * An empty digest does not alter the result of merges, so null is used to avoid allocating it.
+     */
+    @Override
+    public TDigestState getIdentityMetricValue() {
+        return null;
+    }
+}
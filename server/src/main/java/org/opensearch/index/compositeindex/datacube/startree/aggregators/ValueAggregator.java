@@ -54,6 +54,17 @@ public interface ValueAggregator<A> {
      */
     A toAggregatedValueType(Long rawValue);
 
+    /**
+     * Converts all the long values of a star-tree entry to an aggregated value.
+     * Only aggregated values which are persisted as multiple doc values per star-tree entry need to override this.
+     */
+    default A toAggregatedValueType(long[] rawValues) {
+        if (rawValues == null || rawValues.length == 0) {
+            return toAggregatedValueType((Long) null);
+        }
+        return toAggregatedValueType(rawValues[0]);
+    }
+
     /**
      * Fetches a value that does not alter the result of aggregations
      */
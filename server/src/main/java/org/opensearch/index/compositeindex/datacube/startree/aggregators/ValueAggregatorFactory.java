@@ -38,6 +38,10 @@ public class ValueAggregatorFactory {
                 return new MaxValueAggregator(fieldValueConverter);
             case DOC_COUNT:
                 return new DocCountAggregator();
+            case CARDINALITY:
+                return new CardinalityValueAggregator(fieldValueConverter);
+            case PERCENTILES:
+                return new PercentilesValueAggregator(fieldValueConverter);
             default:
                 throw new IllegalStateException("Unsupported aggregation type: " + aggregationType);
         }
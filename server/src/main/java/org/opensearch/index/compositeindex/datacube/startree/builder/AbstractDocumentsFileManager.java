@@ -23,6 +23,7 @@ import org.opensearch.index.compositeindex.datacube.startree.StarTreeField;
 import org.opensearch.index.compositeindex.datacube.startree.aggregators.MetricAggregatorInfo;
 import org.opensearch.index.compositeindex.datacube.startree.utils.CompensatedSumType;
 import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeDocumentBitSetUtil;
+import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeSketchType;
 import org.opensearch.index.mapper.FieldValueConverter;
 import org.opensearch.search.aggregations.metrics.CompensatedSum;
 
@@ -136,6 +137,14 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
                 } else {
                     buffer.putLong(starTreeDocument.metrics[i] == null ? 0L : (Long) starTreeDocument.metrics[i]);
                 }
+            } else if (aggregatedValueType instanceof StarTreeSketchType) {
+                // sketches are written with a fixed size to keep the document size constant
+                StarTreeSketchType sketchType = (StarTreeSketchType) aggregatedValueType;
+                if (starTreeDocument.metrics[i] == null) {
+                    buffer.position(buffer.position() + sketchType.getSizeInBytes());
+                } else {
+                    sketchType.write(starTreeDocument.metrics[i], buffer);
+                }
             } else {
                 throw new IllegalStateException("Unsupported metric type");
             }
@@ -151,13 +160,26 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
         size += getLength(starTreeDocument.dimensions);
 
         for (int i = 0; i < starTreeDocument.metrics.length; i++) {
-            size += Long.BYTES;
+            size += getMetricSizeInBytes(i, isAggregatedDoc);
         }
         size += getLength(starTreeDocument.metrics);
 
         return size;
     }
 
+    /**
+     * Returns the number of bytes the metric occupies in a serialized StarTreeDocument
+     */
+    private int getMetricSizeInBytes(int metricIndex, boolean isAggregatedDoc) {
+        if (isAggregatedDoc) {
+            FieldValueConverter aggregatedValueType = metricAggregatorInfos.get(metricIndex).getValueAggregators().getAggregatedValueType();
+            if (aggregatedValueType instanceof StarTreeSketchType) {
+                return ((StarTreeSketchType<?>) aggregatedValueType).getSizeInBytes();
+            }
+        }
+        return Long.BYTES;
+    }
+
     private static int getLength(Object[] array) {
         return (array.length / 8) + (array.length % 8 == 0 ? 0 : 1);
     }
@@ -251,6 +273,10 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
                     metrics[i] = val;
                 }
                 offset += Long.BYTES;
+            } else if (aggregatedValueType instanceof StarTreeSketchType) {
+                StarTreeSketchType<?> sketchType = (StarTreeSketchType<?>) aggregatedValueType;
+                metrics[i] = sketchType.read(input, offset);
+                offset += sketchType.getSizeInBytes();
             } else {
                 throw new IllegalStateException("Unsupported metric type");
             }
@@ -44,6 +44,7 @@ import org.opensearch.index.compositeindex.datacube.startree.node.InMemoryTreeNo
 import org.opensearch.index.compositeindex.datacube.startree.node.StarTreeNodeType;
 import org.opensearch.index.compositeindex.datacube.startree.utils.CompensatedSumType;
 import org.opensearch.index.compositeindex.datacube.startree.utils.SequentialDocValuesIterator;
+import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeSketchType;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedSetStarTreeValuesIterator;
 import org.opensearch.index.mapper.DocCountFieldMapper;
@@ -499,6 +500,17 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
                                 NumericUtils.doubleToSortableLong(((CompensatedSum) starTreeDocument.metrics[i]).value())
                             );
                         }
+                    } else if (aggregatedValueType instanceof StarTreeSketchType) {
+                        if (starTreeDocument.metrics[i] != null) {
+                            final int starTreeDocId = docId;
+                            final SortedNumericDocValuesWriterWrapper metricWriter = (SortedNumericDocValuesWriterWrapper) (metricWriters
+                                .get(i));
+                            // sketches are persisted as multiple values per star-tree document
+                            ((StarTreeSketchType) aggregatedValueType).forEachDocValue(
+                                starTreeDocument.metrics[i],
+                                value -> metricWriter.addValue(starTreeDocId, value)
+                            );
+                        }
                     } else {
                         throw new IllegalStateException("Unknown metric doc value type");
                     }
@@ -596,7 +608,13 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
             // As part of merge, we traverse the star tree doc values
             // The type of data stored in metric fields is different from the
             // actual indexing field they're based on
-            metrics[i] = metricAggregatorInfos.get(i).getValueAggregators().toAggregatedValueType(metricValuesIterator.value(currentDocId));
+            ValueAggregator valueAggregator = metricAggregatorInfos.get(i).getValueAggregators();
+            if (valueAggregator.getAggregatedValueType() instanceof StarTreeSketchType) {
+                // sketches are persisted as multiple values per star-tree document
+                metrics[i] = valueAggregator.toAggregatedValueType(metricValuesIterator.values(currentDocId));
+            } else {
+                metrics[i] = valueAggregator.toAggregatedValueType(metricValuesIterator.value(currentDocId));
+            }
             i++;
         }
         return new StarTreeDocument(dims, metrics);
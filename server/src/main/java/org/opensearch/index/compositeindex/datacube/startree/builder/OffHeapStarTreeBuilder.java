@@ -21,6 +21,7 @@ import org.opensearch.index.compositeindex.datacube.startree.StarTreeDocument;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeField;
 import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
 import org.opensearch.index.compositeindex.datacube.startree.utils.SequentialDocValuesIterator;
+import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeDocumentsMerger;
 import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeDocumentsSorter;
 import org.opensearch.index.mapper.MapperService;
 
@@ -172,51 +173,54 @@ public class OffHeapStarTreeBuilder extends BaseStarTreeBuilder {
     }
 
     /**
-     * Sorts and aggregates the star-tree documents from multiple segments and builds star tree based on the newly
-     * aggregated star-tree documents
+     * Merges the star-tree documents from multiple segments and builds star tree based on the newly
+     * aggregated star-tree documents.
+     * <p>
+     * The segment star-tree documents of every segment are already sorted on the dimensions, so they are k-way merged
+     * as a stream and only the documents with colliding dimension values across segments are re-aggregated.
      *
      * @param starTreeValuesSubs StarTreeValues from multiple segments
      * @return iterator of star tree documents
      */
     Iterator<StarTreeDocument> mergeStarTrees(List<StarTreeValues> starTreeValuesSubs) throws IOException {
-        int numDocs = 0;
-        int[] docIds;
         this.isMerge = true;
         Map<String, OrdinalMap> ordinalMaps = getOrdinalMaps(starTreeValuesSubs);
-        try {
-            int seg = 0;
-            for (StarTreeValues starTreeValues : starTreeValuesSubs) {
-                SequentialDocValuesIterator[] dimensionReaders = new SequentialDocValuesIterator[numDimensions];
-                List<SequentialDocValuesIterator> metricReaders = new ArrayList<>();
-                AtomicInteger numSegmentDocs = new AtomicInteger();
-                setReadersAndNumSegmentDocsDuringMerge(dimensionReaders, metricReaders, numSegmentDocs, starTreeValues);
+        List<Iterator<StarTreeDocument>> sortedSegmentDocuments = new ArrayList<>(starTreeValuesSubs.size());
+        int seg = 0;
+        for (StarTreeValues starTreeValues : starTreeValuesSubs) {
+            SequentialDocValuesIterator[] dimensionReaders = new SequentialDocValuesIterator[numDimensions];
+            List<SequentialDocValuesIterator> metricReaders = new ArrayList<>();
+            AtomicInteger numSegmentDocs = new AtomicInteger();
+            setReadersAndNumSegmentDocsDuringMerge(dimensionReaders, metricReaders, numSegmentDocs, starTreeValues);
+            Map<String, LongValues> longValuesMap = new LinkedHashMap<>();
+            for (Map.Entry<String, OrdinalMap> entry : ordinalMaps.entrySet()) {
+                longValuesMap.put(entry.getKey(), entry.getValue().getGlobalOrds(seg));
+            }
+            sortedSegmentDocuments.add(new Iterator<>() {
+                final int numDocs = numSegmentDocs.get();
                 int currentDocId = 0;
-                Map<String, LongValues> longValuesMap = new LinkedHashMap<>();
-                for (Map.Entry<String, OrdinalMap> entry : ordinalMaps.entrySet()) {
-                    longValuesMap.put(entry.getKey(), entry.getValue().getGlobalOrds(seg));
-                }
-                while (currentDocId < numSegmentDocs.get()) {
-                    StarTreeDocument starTreeDocument = getStarTreeDocument(currentDocId, dimensionReaders, metricReaders, longValuesMap);
-                    segmentDocumentFileManager.writeStarTreeDocument(starTreeDocument, true);
-                    numDocs++;
-                    currentDocId++;
+
+                @Override
+                public boolean hasNext() {
+                    return currentDocId < numDocs;
                 }
-                seg++;
-            }
-            docIds = new int[numDocs];
-            for (int i = 0; i < numDocs; i++) {
-                docIds[i] = i;
-            }
-        } catch (IOException ex) {
-            segmentDocumentFileManager.close();
-            throw ex;
-        }
 
-        if (numDocs == 0) {
-            return Collections.emptyIterator();
+                @Override
+                public StarTreeDocument next() {
+                    try {
+                        return getStarTreeDocument(currentDocId++, dimensionReaders, metricReaders, longValuesMap);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Reading segment star-tree documents failed", e);
+                    }
+                }
+            });
+            seg++;
         }
-
-        return sortAndReduceDocuments(docIds, numDocs, true);
+        return StarTreeDocumentsMerger.merge(
+            sortedSegmentDocuments,
+            dimensionComparators,
+            (aggregatedDocument, segmentDocument) -> reduceSegmentStarTreeDocuments(aggregatedDocument, segmentDocument, true)
+        );
     }
 
     /**
@@ -91,6 +91,21 @@ public class FixedLengthStarTreeNode implements StarTreeNode {
      */
     RandomAccessInput in;
 
+    /**
+     * Decoded upper levels of the star-tree, null if node caching is disabled
+     */
+    private final StarTreeNodeCache cache;
+
+    /**
+     * Node cache hit / miss counters, null if node caching is disabled
+     */
+    private final StarTreeNodeCacheStats cacheStats;
+
+    /**
+     * Whether this node is served from the node cache
+     */
+    private final boolean cached;
+
     /**
      * Constructs a FixedLengthStarTreeNode.
      *
@@ -99,11 +114,42 @@ public class FixedLengthStarTreeNode implements StarTreeNode {
      * @throws IOException If there's an error reading from the input
      */
     public FixedLengthStarTreeNode(RandomAccessInput in, int nodeId) throws IOException {
+        this(in, nodeId, null, null);
+    }
+
+    /**
+     * Constructs a FixedLengthStarTreeNode which reads the nodes of the upper levels of the tree from the node cache.
+     *
+     * @param in         The RandomAccessInput to read node data from
+     * @param nodeId     The ID of this node
+     * @param cache      The decoded upper levels of the star-tree
+     * @param cacheStats The node cache hit / miss counters
+     * @throws IOException If there's an error reading from the input
+     */
+    public FixedLengthStarTreeNode(RandomAccessInput in, int nodeId, StarTreeNodeCache cache, StarTreeNodeCacheStats cacheStats)
+        throws IOException {
         this.in = in;
         this.nodeId = nodeId;
+        this.cache = cache;
+        this.cacheStats = cacheStats;
+        this.cached = cache != null && cache.contains(nodeId);
+        if (cacheStats != null) {
+            if (cached) {
+                cacheStats.onHit();
+            } else {
+                cacheStats.onMiss();
+            }
+        }
         firstChildId = getInt(FIRST_CHILD_ID_OFFSET);
     }
 
+    /**
+     * Creates the node with the given id sharing the input and the node cache of this node.
+     */
+    private FixedLengthStarTreeNode newNode(int id) throws IOException {
+        return new FixedLengthStarTreeNode(in, id, cache, cacheStats);
+    }
+
     /**
      * Reads an integer value from the specified offset in the node's data.
      *
@@ -112,6 +158,9 @@ public class FixedLengthStarTreeNode implements StarTreeNode {
      * @throws IOException If there's an error reading from the input
      */
     private int getInt(int fieldOffset) throws IOException {
+        if (cached) {
+            return cache.getInt(nodeId, fieldOffset);
+        }
         return in.readInt(nodeId * SERIALIZABLE_DATA_SIZE_IN_BYTES + fieldOffset);
     }
 
@@ -123,6 +172,9 @@ public class FixedLengthStarTreeNode implements StarTreeNode {
      * @throws IOException If there's an error reading from the input
      */
     private long getLong(int fieldOffset) throws IOException {
+        if (cached) {
+            return cache.getLong(nodeId, fieldOffset);
+        }
         return in.readLong(nodeId * SERIALIZABLE_DATA_SIZE_IN_BYTES + fieldOffset);
     }
 
@@ -134,6 +186,9 @@ public class FixedLengthStarTreeNode implements StarTreeNode {
      * @throws IOException If there's an error reading from the input
      */
     private byte getByte(int fieldOffset) throws IOException {
+        if (cached) {
+            return cache.getByte(nodeId, fieldOffset);
+        }
         return in.readByte(nodeId * SERIALIZABLE_DATA_SIZE_IN_BYTES + fieldOffset);
     }
 
@@ -151,6 +206,8 @@ public class FixedLengthStarTreeNode implements StarTreeNode {
     public int getChildDimensionId() throws IOException {
         if (firstChildId == INVALID_ID) {
             return INVALID_ID;
+        } else if (cache != null && cache.contains(firstChildId)) {
+            return cache.getInt(firstChildId, DIMENSION_ID_OFFSET);
         } else {
             return in.readInt(firstChildId * SERIALIZABLE_DATA_SIZE_IN_BYTES);
         }
@@ -224,7 +281,7 @@ public class FixedLengthStarTreeNode implements StarTreeNode {
      * @throws IOException If there's an error reading from the input
      */
     private FixedLengthStarTreeNode handleStarNode() throws IOException {
-        FixedLengthStarTreeNode firstNode = new FixedLengthStarTreeNode(in, firstChildId);
+        FixedLengthStarTreeNode firstNode = newNode(firstChildId);
         return matchStarTreeNodeTypeOrNull(firstNode, StarTreeNodeType.STAR);
     }
 
@@ -260,7 +317,7 @@ public class FixedLengthStarTreeNode implements StarTreeNode {
 
         int high = getInt(LAST_CHILD_ID_OFFSET);
         // if the current node is null node, decrement the high to reduce the search space
-        if (matchStarTreeNodeTypeOrNull(new FixedLengthStarTreeNode(in, high), StarTreeNodeType.NULL) != null) {
+        if (matchStarTreeNodeTypeOrNull(newNode(high), StarTreeNodeType.NULL) != null) {
             high--;
         }
 
@@ -272,14 +329,14 @@ public class FixedLengthStarTreeNode implements StarTreeNode {
             } else {
                 return null;
             }
-        } else if (matchStarTreeNodeTypeOrNull(new FixedLengthStarTreeNode(in, low), StarTreeNodeType.STAR) != null) {
+        } else if (matchStarTreeNodeTypeOrNull(newNode(low), StarTreeNodeType.STAR) != null) {
             // if the current node is star node, increment the low to reduce the search space
             low++;
         }
 
         while (low <= high) {
             int mid = low + (high - low) / 2;
-            FixedLengthStarTreeNode midNode = new FixedLengthStarTreeNode(in, mid);
+            FixedLengthStarTreeNode midNode = newNode(mid);
             long midDimensionValue = midNode.getDimensionValue();
             int compare = comparator.compare(midDimensionValue, dimensionValue);
             if (compare == 0) {
@@ -303,7 +360,7 @@ public class FixedLengthStarTreeNode implements StarTreeNode {
                 FixedLengthStarTreeNode highStarTreeNode = binarySearchChild(high, false, lowStarTreeNode, comparator);
                 if (highStarTreeNode != null) {
                     for (int lowNodeId = lowStarTreeNode.nodeId(); lowNodeId <= highStarTreeNode.nodeId(); ++lowNodeId) {
-                        collector.collectStarTreeNode(new FixedLengthStarTreeNode(in, lowNodeId));
+                        collector.collectStarTreeNode(newNode(lowNodeId));
                     }
                 } else if (comparator.compare(lowStarTreeNode.getDimensionValue(), high) <= 0) { // Low StarTreeNode is the last default//
                                                                                                  // node for that dimension.
@@ -335,7 +392,7 @@ public class FixedLengthStarTreeNode implements StarTreeNode {
         starNodeId = nullNodeId = Integer.MIN_VALUE;
 
         // if the current node is star node, increment the tempLow to reduce the search space
-        if (matchStarTreeNodeTypeOrNull(new FixedLengthStarTreeNode(in, tempLow), StarTreeNodeType.STAR) != null) {
+        if (matchStarTreeNodeTypeOrNull(newNode(tempLow), StarTreeNodeType.STAR) != null) {
             starNodeId = tempLow;
             tempLow++;
         }
@@ -343,7 +400,7 @@ public class FixedLengthStarTreeNode implements StarTreeNode {
         int high = getInt(LAST_CHILD_ID_OFFSET);
         int tempHigh = high;
         // if the current node is null node, decrement the tempHigh to reduce the search space
-        if (matchStarTreeNodeTypeOrNull(new FixedLengthStarTreeNode(in, tempHigh), StarTreeNodeType.NULL) != null) {
+        if (matchStarTreeNodeTypeOrNull(newNode(tempHigh), StarTreeNodeType.NULL) != null) {
             nullNodeId = tempHigh;
             tempHigh--;
         }
@@ -360,7 +417,7 @@ public class FixedLengthStarTreeNode implements StarTreeNode {
 
         while (tempLow <= tempHigh) {
             int mid = tempLow + (tempHigh - tempLow) / 2;
-            FixedLengthStarTreeNode midNode = new FixedLengthStarTreeNode(in, mid);
+            FixedLengthStarTreeNode midNode = newNode(mid);
             long midDimensionValue = midNode.getDimensionValue();
 
             int compare = comparator.compare(midDimensionValue, dimensionValue);
@@ -373,7 +430,7 @@ public class FixedLengthStarTreeNode implements StarTreeNode {
                     if (tempLow > high || tempLow == nullNodeId) {
                         return matchNextHighest ? null : midNode;
                     } else {
-                        FixedLengthStarTreeNode nodeGreaterThanMid = new FixedLengthStarTreeNode(in, tempLow);
+                        FixedLengthStarTreeNode nodeGreaterThanMid = newNode(tempLow);
                         if (comparator.compare(nodeGreaterThanMid.getDimensionValue(), dimensionValue) > 0) {
                             return matchNextHighest ? nodeGreaterThanMid : midNode;
                         }
@@ -384,7 +441,7 @@ public class FixedLengthStarTreeNode implements StarTreeNode {
                     if (tempHigh < low || tempHigh == starNodeId) {
                         return matchNextHighest ? midNode : null;
                     } else {
-                        FixedLengthStarTreeNode nodeLessThanMid = new FixedLengthStarTreeNode(in, tempHigh);
+                        FixedLengthStarTreeNode nodeLessThanMid = newNode(tempHigh);
                         if (comparator.compare(nodeLessThanMid.getDimensionValue(), dimensionValue) < 0) {
                             return matchNextHighest ? midNode : nodeLessThanMid;
                         }
@@ -410,7 +467,7 @@ public class FixedLengthStarTreeNode implements StarTreeNode {
             @Override
             public FixedLengthStarTreeNode next() {
                 try {
-                    return new FixedLengthStarTreeNode(in, currentChildId++);
+                    return newNode(currentChildId++);
                 } catch (IOException e) {
                     throw new UncheckedIOException(e);
                 }
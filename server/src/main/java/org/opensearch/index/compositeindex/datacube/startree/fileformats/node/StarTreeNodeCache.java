@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.index.compositeindex.datacube.startree.fileformats.node;
+
+import org.apache.lucene.store.RandomAccessInput;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.annotation.ExperimentalApi;
+
+import java.io.IOException;
+
+import static org.opensearch.index.compositeindex.datacube.startree.fileformats.node.FixedLengthStarTreeNode.AGGREGATE_DOC_ID_OFFSET;
+import static org.opensearch.index.compositeindex.datacube.startree.fileformats.node.FixedLengthStarTreeNode.DIMENSION_ID_OFFSET;
+import static org.opensearch.index.compositeindex.datacube.startree.fileformats.node.FixedLengthStarTreeNode.DIMENSION_VALUE_OFFSET;
+import static org.opensearch.index.compositeindex.datacube.startree.fileformats.node.FixedLengthStarTreeNode.END_DOC_ID_OFFSET;
+import static org.opensearch.index.compositeindex.datacube.startree.fileformats.node.FixedLengthStarTreeNode.FIRST_CHILD_ID_OFFSET;
+import static org.opensearch.index.compositeindex.datacube.startree.fileformats.node.FixedLengthStarTreeNode.LAST_CHILD_ID_OFFSET;
+import static org.opensearch.index.compositeindex.datacube.startree.fileformats.node.FixedLengthStarTreeNode.SERIALIZABLE_DATA_SIZE_IN_BYTES;
+import static org.opensearch.index.compositeindex.datacube.startree.fileformats.node.FixedLengthStarTreeNode.STAR_NODE_TYPE_OFFSET;
+import static org.opensearch.index.compositeindex.datacube.startree.fileformats.node.FixedLengthStarTreeNode.START_DOC_ID_OFFSET;
+
+/**
+ * Decoded, on-heap copy of the upper levels of a star-tree.
+ * <p>
+ * Star-tree nodes are serialized in breadth-first order, so the first {@code n} node ids always cover the top levels
+ * of the tree, which are visited by every traversal. These nodes are decoded once per segment into primitive arrays,
+ * so that {@link FixedLengthStarTreeNode} only reads the (memory-mapped) star-tree data for the deeper levels.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public class StarTreeNodeCache implements Accountable {
+
+    /**
+     * Default maximum number of nodes decoded per star-tree
+     */
+    public static final int DEFAULT_MAX_CACHED_NODES = 1024;
+
+    private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(StarTreeNodeCache.class);
+
+    private final int numCachedNodes;
+    private final int[] dimensionIds;
+    private final long[] dimensionValues;
+    private final int[] startDocIds;
+    private final int[] endDocIds;
+    private final int[] aggregatedDocIds;
+    private final byte[] nodeTypes;
+    private final int[] firstChildIds;
+    private final int[] lastChildIds;
+
+    private StarTreeNodeCache(int numCachedNodes) {
+        this.numCachedNodes = numCachedNodes;
+        this.dimensionIds = new int[numCachedNodes];
+        this.dimensionValues = new long[numCachedNodes];
+        this.startDocIds = new int[numCachedNodes];
+        this.endDocIds = new int[numCachedNodes];
+        this.aggregatedDocIds = new int[numCachedNodes];
+        this.nodeTypes = new byte[numCachedNodes];
+        this.firstChildIds = new int[numCachedNodes];
+        this.lastChildIds = new int[numCachedNodes];
+    }
+
+    /**
+     * Decodes the first {@code maxCachedNodes} nodes of the star-tree.
+     *
+     * @param in             the star-tree data
+     * @param dataLength     length of the star-tree data in bytes
+     * @param maxCachedNodes maximum number of nodes to decode
+     * @return the node cache
+     * @throws IOException if an I/O error occurs while reading the star-tree data
+     */
+    public static StarTreeNodeCache build(RandomAccessInput in, long dataLength, int maxCachedNodes) throws IOException {
+        int numCachedNodes = (int) Math.min(maxCachedNodes, dataLength / SERIALIZABLE_DATA_SIZE_IN_BYTES);
+        StarTreeNodeCache cache = new StarTreeNodeCache(Math.max(0, numCachedNodes));
+        for (int nodeId = 0; nodeId < cache.numCachedNodes; nodeId++) {
+            long offset = nodeId * SERIALIZABLE_DATA_SIZE_IN_BYTES;
+            cache.dimensionIds[nodeId] = in.readInt(offset + DIMENSION_ID_OFFSET);
+            cache.dimensionValues[nodeId] = in.readLong(offset + DIMENSION_VALUE_OFFSET);
+            cache.startDocIds[nodeId] = in.readInt(offset + START_DOC_ID_OFFSET);
+            cache.endDocIds[nodeId] = in.readInt(offset + END_DOC_ID_OFFSET);
+            cache.aggregatedDocIds[nodeId] = in.readInt(offset + AGGREGATE_DOC_ID_OFFSET);
+            cache.nodeTypes[nodeId] = in.readByte(offset + STAR_NODE_TYPE_OFFSET);
+            cache.firstChildIds[nodeId] = in.readInt(offset + FIRST_CHILD_ID_OFFSET);
+            cache.lastChildIds[nodeId] = in.readInt(offset + LAST_CHILD_ID_OFFSET);
+        }
+        return cache;
+    }
+
+    /**
+     * Returns the number of cached nodes
+     */
+    public int size() {
+        return numCachedNodes;
+    }
+
+    /**
+     * Returns whether the node with the given id is cached
+     */
+    public boolean contains(int nodeId) {
+        return nodeId >= 0 && nodeId < numCachedNodes;
+    }
+
+    int getInt(int nodeId, int fieldOffset) {
+        return switch (fieldOffset) {
+            case DIMENSION_ID_OFFSET -> dimensionIds[nodeId];
+            case START_DOC_ID_OFFSET -> startDocIds[nodeId];
+            case END_DOC_ID_OFFSET -> endDocIds[nodeId];
+            case AGGREGATE_DOC_ID_OFFSET -> aggregatedDocIds[nodeId];
+            case FIRST_CHILD_ID_OFFSET -> firstChildIds[nodeId];
+            case LAST_CHILD_ID_OFFSET -> lastChildIds[nodeId];
+            default -> throw new IllegalArgumentException("Unknown int field offset [" + fieldOffset + "]");
+        };
+    }
+
+    long getLong(int nodeId, int fieldOffset) {
+        if (fieldOffset != DIMENSION_VALUE_OFFSET) {
+            throw new IllegalArgumentException("Unknown long field offset [" + fieldOffset + "]");
+        }
+        return dimensionValues[nodeId];
+    }
+
+    byte getByte(int nodeId, int fieldOffset) {
+        if (fieldOffset != STAR_NODE_TYPE_OFFSET) {
+            throw new IllegalArgumentException("Unknown byte field offset [" + fieldOffset + "]");
+        }
+        return nodeTypes[nodeId];
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        return BASE_RAM_BYTES_USED + RamUsageEstimator.sizeOf(dimensionIds) + RamUsageEstimator.sizeOf(dimensionValues)
+            + RamUsageEstimator.sizeOf(startDocIds) + RamUsageEstimator.sizeOf(endDocIds) + RamUsageEstimator.sizeOf(aggregatedDocIds)
+            + RamUsageEstimator.sizeOf(nodeTypes) + RamUsageEstimator.sizeOf(firstChildIds) + RamUsageEstimator.sizeOf(lastChildIds);
+    }
+}
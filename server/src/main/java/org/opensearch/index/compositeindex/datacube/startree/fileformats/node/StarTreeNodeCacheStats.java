@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.index.compositeindex.datacube.startree.fileformats.node;
+
+import org.opensearch.common.annotation.ExperimentalApi;
+
+/**
+ * Counts the star-tree node lookups served by the {@link StarTreeNodeCache} and the ones read from the star-tree data.
+ * <p>
+ * An instance is tied to a single {@link org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues},
+ * which is only accessed by one search thread at a time.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public class StarTreeNodeCacheStats {
+
+    private long hits;
+    private long misses;
+
+    void onHit() {
+        hits++;
+    }
+
+    void onMiss() {
+        misses++;
+    }
+
+    /**
+     * Returns the number of node lookups served from the node cache
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of node lookups read from the star-tree data
+     */
+    public long getMisses() {
+        return misses;
+    }
+}
@@ -26,6 +26,8 @@ import org.opensearch.index.compositeindex.datacube.startree.StarTreeField;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeFieldConfiguration;
 import org.opensearch.index.compositeindex.datacube.startree.fileformats.meta.DimensionConfig;
 import org.opensearch.index.compositeindex.datacube.startree.fileformats.meta.StarTreeMetadata;
+import org.opensearch.index.compositeindex.datacube.startree.fileformats.node.StarTreeNodeCache;
+import org.opensearch.index.compositeindex.datacube.startree.fileformats.node.StarTreeNodeCacheStats;
 import org.opensearch.index.compositeindex.datacube.startree.node.StarTreeFactory;
 import org.opensearch.index.compositeindex.datacube.startree.node.StarTreeNode;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
@@ -83,6 +85,11 @@ public class StarTreeValues implements CompositeIndexValues {
      */
     private final StarTreeMetadata starTreeMetadata;
 
+    /**
+     * Counters of the star-tree node lookups served from the node cache
+     */
+    private final StarTreeNodeCacheStats nodeCacheStats = new StarTreeNodeCacheStats();
+
     /**
      * Constructs a new StarTreeValues object with the provided parameters.
      * Used for testing.
@@ -124,6 +131,26 @@ public class StarTreeValues implements CompositeIndexValues {
         DocValuesProducer compositeDocValuesProducer,
         SegmentReadState readState
     ) throws IOException {
+        this(compositeIndexMetadata, compositeIndexDataIn, compositeDocValuesProducer, readState, null);
+    }
+
+    /**
+     * Constructs a new StarTreeValues object by reading the data from the segment
+     *
+     * @param compositeIndexMetadata     The CompositeIndexMetadata object containing metadata for the composite index.
+     * @param compositeIndexDataIn       The IndexInput object for reading the composite index data.
+     * @param compositeDocValuesProducer The DocValuesProducer object for producing doc values.
+     * @param readState                  The SegmentReadState object representing the state of the segment being read.
+     * @param nodeCache                  The decoded upper levels of the star-tree of the segment, may be null.
+     * @throws IOException If an I/O error occurs while reading the data.
+     */
+    public StarTreeValues(
+        CompositeIndexMetadata compositeIndexMetadata,
+        IndexInput compositeIndexDataIn,
+        DocValuesProducer compositeDocValuesProducer,
+        SegmentReadState readState,
+        StarTreeNodeCache nodeCache
+    ) throws IOException {
 
         starTreeMetadata = (StarTreeMetadata) compositeIndexMetadata;
 
@@ -157,7 +184,7 @@ public class StarTreeValues implements CompositeIndexValues {
             )
         );
 
-        this.root = StarTreeFactory.createStarTree(compositeIndexDataIn, starTreeMetadata);
+        this.root = StarTreeFactory.createStarTree(compositeIndexDataIn, starTreeMetadata, nodeCache, nodeCacheStats);
 
         // get doc id set iterators for metrics and dimensions
         dimensionValuesIteratorMap = new LinkedHashMap<>();
@@ -249,6 +276,13 @@ public class StarTreeValues implements CompositeIndexValues {
         return root;
     }
 
+    /**
+     * Returns the counters of the star-tree node lookups served from the node cache.
+     */
+    public StarTreeNodeCacheStats getNodeCacheStats() {
+        return nodeCacheStats;
+    }
+
     /**
      * Returns the map containing attributes associated with the star tree values.
      *
@@ -11,6 +11,8 @@ import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.store.RandomAccessInput;
 import org.opensearch.index.compositeindex.datacube.startree.fileformats.meta.StarTreeMetadata;
 import org.opensearch.index.compositeindex.datacube.startree.fileformats.node.FixedLengthStarTreeNode;
+import org.opensearch.index.compositeindex.datacube.startree.fileformats.node.StarTreeNodeCache;
+import org.opensearch.index.compositeindex.datacube.startree.fileformats.node.StarTreeNodeCacheStats;
 
 import java.io.IOException;
 
@@ -35,8 +37,28 @@ public class StarTreeFactory {
      * @throws IOException If an error occurs while reading the star-tree data.
      */
     public static StarTreeNode createStarTree(IndexInput data, StarTreeMetadata starTreeMetadata) throws IOException {
+        return createStarTree(data, starTreeMetadata, null, null);
+    }
+
+    /**
+     * Creates a new instance of {@link StarTreeNode} from the provided {@link IndexInput} and
+     * {@link StarTreeMetadata}, which serves the nodes of the upper levels of the tree from the given node cache.
+     *
+     * @param data The {@link IndexInput} containing the star-tree data.
+     * @param starTreeMetadata The {@link StarTreeMetadata} containing metadata about the star-tree.
+     * @param nodeCache The decoded upper levels of the star-tree, or null to read all the nodes from the data.
+     * @param nodeCacheStats The counters of node cache hits and misses, or null.
+     * @return A new instance of {@link StarTreeNode} representing the root of the star-tree.
+     * @throws IOException If an error occurs while reading the star-tree data.
+     */
+    public static StarTreeNode createStarTree(
+        IndexInput data,
+        StarTreeMetadata starTreeMetadata,
+        StarTreeNodeCache nodeCache,
+        StarTreeNodeCacheStats nodeCacheStats
+    ) throws IOException {
         RandomAccessInput in = data.randomAccessSlice(0, starTreeMetadata.getDataLength());
-        return new FixedLengthStarTreeNode(in, 0);
+        return new FixedLengthStarTreeNode(in, 0, nodeCache, nodeCacheStats);
     }
 
 }
@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.datacube.startree.utils;
+
+import org.apache.lucene.store.RandomAccessInput;
+import org.opensearch.search.aggregations.metrics.HyperLogLogPlusPlus;
+import org.opensearch.search.aggregations.metrics.HyperLogLogSketch;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.LongConsumer;
+
+/**
+ * Aggregated value type for HyperLogLogSketch - a sketch is stored as a fixed size array of registers
+ * in the temporary star-tree documents and as one doc value per non-empty register in the star-tree index.
+ *
+ * @opensearch.internal
+ */
+public class HyperLogLogSketchType extends StarTreeSketchType<HyperLogLogSketch> {
+
+    /**
+     * Precision of the sketches stored in the star-tree, which is aligned with the default precision of the cardinality
+     * aggregation. Requests with a higher precision cannot be served from the star-tree.
+     */
+    public static final int STAR_TREE_PRECISION = HyperLogLogPlusPlus.DEFAULT_PRECISION;
+
+    private final int precision;
+
+    public HyperLogLogSketchType(int precision) {
+        this.precision = precision;
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    @Override
+    public int getSizeInBytes() {
+        return HyperLogLogSketch.sizeInBytes(precision);
+    }
+
+    @Override
+    public void write(HyperLogLogSketch sketch, ByteBuffer buffer) {
+        buffer.put(sketch.runLens());
+    }
+
+    @Override
+    public HyperLogLogSketch read(RandomAccessInput input, long offset) throws IOException {
+        byte[] runLens = new byte[getSizeInBytes()];
+        input.readBytes(offset, runLens, 0, runLens.length);
+        return new HyperLogLogSketch(precision, runLens);
+    }
+
+    @Override
+    public void forEachDocValue(HyperLogLogSketch sketch, LongConsumer consumer) {
+        sketch.forEachEncoded(consumer);
+    }
+}
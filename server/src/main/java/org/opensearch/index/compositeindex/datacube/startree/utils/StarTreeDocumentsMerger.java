@@ -0,0 +1,126 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.datacube.startree.utils;
+
+import org.apache.lucene.util.PriorityQueue;
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.index.compositeindex.datacube.startree.StarTreeDocument;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+
+/**
+ * K-way merges star-tree documents coming from several sources which are already sorted on their dimensions.
+ * <p>
+ * The segment star-tree documents of every star-tree are persisted in sorted dimension order (and global ordinals
+ * preserve the order of segment ordinals), so merging segments does not require re-sorting all the documents. The
+ * merged stream is produced lazily, keeping a single document per source in memory, and only documents with
+ * colliding dimension values across sources are re-aggregated.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public class StarTreeDocumentsMerger {
+
+    private StarTreeDocumentsMerger() {}
+
+    /**
+     * Returns an iterator over the aggregated star-tree documents of all the given sorted sources.
+     *
+     * @param sortedSources        iterators of star-tree documents, each sorted on the dimensions
+     * @param dimensionComparators comparators of the dimension values
+     * @param reducer              reduces a source document into the aggregated document, which is {@code null} for the
+     *                             first document of a dimension tuple. Must copy the dimensions of the first document.
+     * @return iterator of merged star-tree documents in sorted dimension order
+     */
+    public static Iterator<StarTreeDocument> merge(
+        List<Iterator<StarTreeDocument>> sortedSources,
+        List<Comparator<Long>> dimensionComparators,
+        BiFunction<StarTreeDocument, StarTreeDocument, StarTreeDocument> reducer
+    ) {
+        final PriorityQueue<SourceHead> queue = new PriorityQueue<>(Math.max(1, sortedSources.size())) {
+            @Override
+            protected boolean lessThan(SourceHead a, SourceHead b) {
+                int cmp = compareDimensions(a.current.dimensions, b.current.dimensions, dimensionComparators);
+                return cmp < 0 || (cmp == 0 && a.source < b.source);
+            }
+        };
+        for (int i = 0; i < sortedSources.size(); i++) {
+            Iterator<StarTreeDocument> iterator = sortedSources.get(i);
+            if (iterator.hasNext()) {
+                queue.add(new SourceHead(i, iterator, iterator.next()));
+            }
+        }
+
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return queue.size() > 0;
+            }
+
+            @Override
+            public StarTreeDocument next() {
+                if (queue.size() == 0) {
+                    throw new NoSuchElementException();
+                }
+                StarTreeDocument next = reducer.apply(null, queue.top().current);
+                advance();
+                while (queue.size() > 0 && compareDimensions(queue.top().current.dimensions, next.dimensions, dimensionComparators) == 0) {
+                    next = reducer.apply(next, queue.top().current);
+                    advance();
+                }
+                return next;
+            }
+
+            private void advance() {
+                SourceHead top = queue.top();
+                if (top.iterator.hasNext()) {
+                    StarTreeDocument previous = top.current;
+                    top.current = top.iterator.next();
+                    assert compareDimensions(previous.dimensions, top.current.dimensions, dimensionComparators) <= 0
+                        : "star-tree documents of source [" + top.source + "] are not sorted";
+                    queue.updateTop();
+                } else {
+                    queue.pop();
+                }
+            }
+        };
+    }
+
+    /**
+     * Compares the dimensions of two star-tree documents using the given comparators
+     */
+    public static int compareDimensions(Long[] dimensions1, Long[] dimensions2, List<Comparator<Long>> dimensionComparators) {
+        for (int i = 0; i < dimensions1.length; i++) {
+            int cmp = dimensionComparators.get(i).compare(dimensions1[i], dimensions2[i]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Current document of a sorted source
+     */
+    private static final class SourceHead {
+        final int source;
+        final Iterator<StarTreeDocument> iterator;
+        StarTreeDocument current;
+
+        SourceHead(int source, Iterator<StarTreeDocument> iterator, StarTreeDocument current) {
+            this.source = source;
+            this.iterator = iterator;
+            this.current = current;
+        }
+    }
+}
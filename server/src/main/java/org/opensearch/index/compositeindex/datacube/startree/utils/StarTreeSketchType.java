@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.datacube.startree.utils;
+
+import org.apache.lucene.store.RandomAccessInput;
+import org.opensearch.index.mapper.FieldValueConverter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.LongConsumer;
+
+/**
+ * Aggregated value type for sketches, i.e. aggregated values which cannot be represented by a single long.
+ * <p>
+ * A sketch is written with a fixed size to the temporary star-tree documents, which are randomly accessed by document id,
+ * and is persisted as multiple sorted numeric doc values per star-tree document.
+ *
+ * @param <T> the type of the sketch
+ * @opensearch.internal
+ */
+public abstract class StarTreeSketchType<T> implements FieldValueConverter {
+
+    /**
+     * Returns the number of bytes a sketch occupies in a temporary star-tree document.
+     */
+    public abstract int getSizeInBytes();
+
+    /**
+     * Writes exactly {@link #getSizeInBytes()} bytes of the non-null sketch to the buffer.
+     */
+    public abstract void write(T sketch, ByteBuffer buffer);
+
+    /**
+     * Reads a sketch that was written with {@link #write(Object, ByteBuffer)} at the given offset.
+     */
+    public abstract T read(RandomAccessInput input, long offset) throws IOException;
+
+    /**
+     * Provides the doc values the sketch is persisted as.
+     */
+    public abstract void forEachDocValue(T sketch, LongConsumer consumer);
+
+    /**
+     * Never called: the doc values of a sketch are not numbers of their own, so the star-tree builders check for sketch types
+     * before converting aggregated values and use {@link #read} and {@link #forEachDocValue} instead.
+     */
+    @Override
+    public final double toDoubleValue(long value) {
+        assert false : "sketch doc values cannot be converted to a double value";
+        return Double.NaN;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.datacube.startree.utils;
+
+import org.apache.lucene.store.RandomAccessInput;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.search.aggregations.metrics.TDigestState;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.LongConsumer;
+
+import com.tdunning.math.stats.Centroid;
+
+/**
+ * Aggregated value type for TDigestState - a digest is stored as its centroid count followed by a fixed number of centroid
+ * slots in the temporary star-tree documents and as two doc values per centroid in the star-tree index.
+ * <p>
+ * The mean of a centroid is stored as its sortable double bits and its count as a tagged long which also carries the index of
+ * the centroid. The tag sorts after the bits of every mean, so the sorted doc values of a digest are all of its means in
+ * ascending order followed by the counts in the same order, and {@link CentroidReader} pairs them up again. The means keep
+ * their full double precision, so digests read from the star-tree match the ones built from the same values at query time.
+ *
+ * @opensearch.internal
+ */
+public class TDigestSketchType extends StarTreeSketchType<TDigestState> {
+
+    /**
+     * Compression of the digests stored in the star-tree, which is aligned with the default compression of the percentiles
+     * aggregations. Requests with a higher compression cannot be served from the star-tree.
+     */
+    public static final double STAR_TREE_COMPRESSION = 100.0;
+
+    /**
+     * Tag of the count doc values, which is above the sortable bits of any mean including positive infinity
+     */
+    private static final long COUNT_TAG = 0x7FF8_0000_0000_0000L;
+    private static final long COUNT_MASK = 0xFFFFFFFFL;
+    private static final int MAX_CENTROID_INDEX = 1 << 19;
+
+    private final double compression;
+    private final int maxCentroids;
+
+    public TDigestSketchType(double compression) {
+        this.compression = compression;
+        // a digest compresses itself as soon as it holds more than 20 * compression centroids
+        this.maxCentroids = (int) Math.ceil(20 * compression) + 1;
+        assert maxCentroids <= MAX_CENTROID_INDEX : "centroid index does not fit the count doc value";
+    }
+
+    public double getCompression() {
+        return compression;
+    }
+
+    @Override
+    public int getSizeInBytes() {
+        return Integer.BYTES + maxCentroids * (Double.BYTES + Integer.BYTES);
+    }
+
+    @Override
+    public void write(TDigestState digest, ByteBuffer buffer) {
+        digest.compress();
+        final int centroidCount = digest.centroidCount();
+        if (centroidCount > maxCentroids) {
+            throw new IllegalStateException("digest has [" + centroidCount + "] centroids, at most [" + maxCentroids + "] are supported");
+        }
+        buffer.putInt(centroidCount);
+        for (Centroid centroid : digest.centroids()) {
+            buffer.putDouble(centroid.mean());
+            buffer.putInt(centroid.count());
+        }
+        buffer.position(buffer.position() + (maxCentroids - centroidCount) * (Double.BYTES + Integer.BYTES));
+    }
+
+    @Override
+    public TDigestState read(RandomAccessInput input, long offset) throws IOException {
+        final int centroidCount = input.readInt(offset);
+        offset += Integer.BYTES;
+        TDigestState digest = new TDigestState(compression);
+        for (int i = 0; i < centroidCount; i++) {
+            final double mean = Double.longBitsToDouble(input.readLong(offset));
+            digest.add(mean, input.readInt(offset + Double.BYTES));
+            offset += Double.BYTES + Integer.BYTES;
+        }
+        return digest;
+    }
+
+    @Override
+    public void forEachDocValue(TDigestState digest, LongConsumer consumer) {
+        for (Centroid centroid : digest.centroids()) {
+            consumer.accept(encodeMean(centroid.mean()));
+        }
+        int index = 0;
+        for (Centroid centroid : digest.centroids()) {
+            consumer.accept(encodeCount(index++, centroid.count()));
+        }
+    }
+
+    /**
+     * Encodes the mean of a centroid as a doc value which sorts by the mean.
+     */
+    public static long encodeMean(double mean) {
+        return NumericUtils.doubleToSortableLong(mean);
+    }
+
+    /**
+     * Encodes the count of the centroid with the given index as a doc value which sorts after all means and by the index.
+     */
+    public static long encodeCount(int index, int count) {
+        assert index >= 0 && index < MAX_CENTROID_INDEX;
+        assert count > 0;
+        return COUNT_TAG | ((long) index << Integer.SIZE) | (count & COUNT_MASK);
+    }
+
+    /**
+     * Rebuilds the centroids of the digests from their sorted doc values, which have to be passed one star-tree document after
+     * the other. The means of a document are buffered until its counts arrive.
+     *
+     * @opensearch.internal
+     */
+    public static class CentroidReader {
+        private double[] means = new double[16];
+        private int numMeans;
+        private boolean readingCounts;
+
+        public void accept(TDigestState digest, long docValue) {
+            if (docValue >= COUNT_TAG) {
+                final int index = (int) ((docValue & ~COUNT_TAG) >>> Integer.SIZE);
+                assert index < numMeans : "count of centroid [" + index + "] without mean";
+                digest.add(means[index], (int) (docValue & COUNT_MASK));
+                readingCounts = true;
+            } else {
+                if (readingCounts) {
+                    // the first mean after counts starts the next star-tree document
+                    numMeans = 0;
+                    readingCounts = false;
+                }
+                means = ArrayUtil.grow(means, numMeans + 1);
+                means[numMeans++] = NumericUtils.sortableLongToDouble(docValue);
+            }
+        }
+    }
+}
@@ -241,6 +241,20 @@ public final class EngineConfig {
         Property.Dynamic
     );
 
+    /**
+     * The number of stripes of the lock which serializes the operations on the same document id in the engine. The default of
+     * <code>0</code> creates a lock per document id on demand. A power of two of stripes avoids the allocations of these locks,
+     * which helps when many threads update the same few documents, at the cost of operations on different ids contending for
+     * the same stripe.
+     */
+    public static final Setting<Integer> INDEX_VERSION_MAP_LOCK_STRIPES_SETTING = Setting.intSetting(
+        "index.version_map.lock_stripes",
+        0,
+        0,
+        1 << 16,
+        Property.IndexScope
+    );
+
     public static final Setting<Boolean> INDEX_USE_COMPOUND_FILE = Setting.boolSetting(
         "index.use_compound_file",
         true,
@@ -478,6 +492,13 @@ public final class EngineConfig {
         return indexSettings.getValue(INDEX_OPTIMIZE_AUTO_GENERATED_IDS);
     }
 
+    /**
+     * Returns the number of stripes of the lock of the document ids, or <code>0</code> if each id is locked separately
+     */
+    public int getVersionMapLockStripes() {
+        return indexSettings.getValue(INDEX_VERSION_MAP_LOCK_STRIPES_SETTING);
+    }
+
     /**
      * Return the sort order of this index, or null if the index has no sort.
      */
@@ -172,7 +172,7 @@ public class InternalEngine extends Engine {
 
     // A uid (in the form of BytesRef) to the version map
     // we use the hashed variant since we iterate over it and check removal and additions on existing keys
-    protected final LiveVersionMap versionMap = new LiveVersionMap();
+    protected final LiveVersionMap versionMap;
 
     @Nullable
     protected final String historyUUID;
@@ -245,6 +245,7 @@ public class InternalEngine extends Engine {
     ) {
         super(engineConfig);
         this.maxDocs = maxDocs;
+        this.versionMap = new LiveVersionMap(engineConfig.getVersionMapLockStripes());
         if (engineConfig.isAutoGeneratedIDsOptimizationEnabled() == false) {
             updateAutoIdTimestamp(Long.MAX_VALUE, true);
         }
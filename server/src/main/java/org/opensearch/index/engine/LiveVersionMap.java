@@ -39,6 +39,7 @@ import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.KeyedLock;
+import org.opensearch.common.util.concurrent.StripedLock;
 
 import java.io.IOException;
 import java.util.Collection;
@@ -53,7 +54,85 @@ import java.util.concurrent.atomic.AtomicLong;
  */
 final class LiveVersionMap implements ReferenceManager.RefreshListener, Accountable {
 
-    private final KeyedLock<BytesRef> keyedLock = new KeyedLock<>();
+    private final UidLock uidLock;
+
+    LiveVersionMap() {
+        this(0);
+    }
+
+    /**
+     * @param lockStripes the number of stripes of the lock of the uids, or {@code 0} to lock each uid separately
+     */
+    LiveVersionMap(int lockStripes) {
+        this.uidLock = lockStripes > 0 ? new StripedUidLock(lockStripes) : new KeyedUidLock();
+    }
+
+    /**
+     * Locks of the uids of the map
+     *
+     * @opensearch.internal
+     */
+    private interface UidLock {
+        Releasable acquire(BytesRef uid);
+
+        Releasable tryAcquire(BytesRef uid);
+
+        boolean isHeldByCurrentThread(BytesRef uid);
+    }
+
+    /**
+     * Lock per uid, which is created on acquisition and removed once released
+     *
+     * @opensearch.internal
+     */
+    private static final class KeyedUidLock implements UidLock {
+        private final KeyedLock<BytesRef> keyedLock = new KeyedLock<>();
+
+        @Override
+        public Releasable acquire(BytesRef uid) {
+            return keyedLock.acquire(uid);
+        }
+
+        @Override
+        public Releasable tryAcquire(BytesRef uid) {
+            return keyedLock.tryAcquire(uid);
+        }
+
+        @Override
+        public boolean isHeldByCurrentThread(BytesRef uid) {
+            return keyedLock.isHeldByCurrentThread(uid);
+        }
+    }
+
+    /**
+     * Fixed set of locks shared by the uids with the same hash, which avoids the allocations and map updates of the
+     * {@link KeyedUidLock} when many threads update a small set of hot uids. The engine never blocks on the locks of two
+     * uids at once, which would deadlock on shared stripes.
+     *
+     * @opensearch.internal
+     */
+    private static final class StripedUidLock implements UidLock {
+        private final StripedLock<BytesRef> stripedLock;
+
+        StripedUidLock(int stripes) {
+            this.stripedLock = new StripedLock<>(stripes);
+        }
+
+        @Override
+        public Releasable acquire(BytesRef uid) {
+            return stripedLock.acquire(uid);
+        }
+
+        @Override
+        public Releasable tryAcquire(BytesRef uid) {
+            return stripedLock.tryAcquire(uid);
+        }
+
+        @Override
+        public boolean isHeldByCurrentThread(BytesRef uid) {
+            return stripedLock.isHeldByCurrentThread(uid);
+        }
+    }
 
     /**
      * Looks up document version
@@ -421,7 +500,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             // we won't collect the tombstone below since it must be newer than this one.
             if (canRemoveTombstone(maxTimestampToPrune, maxSeqNoToPrune, entry.getValue())) {
                 final BytesRef uid = entry.getKey();
-                try (Releasable lock = keyedLock.tryAcquire(uid)) {
+                try (Releasable lock = uidLock.tryAcquire(uid)) {
                     // we use tryAcquire here since this is a best effort and we try to be least disruptive
                     // this method is also called under lock in the engine under certain situations such that this can lead to deadlocks
                     // if we do use a blocking acquire. see #28714
@@ -496,13 +575,14 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * this lock to be hold by the caller otherwise the visibility guarantees of this version
      * map are broken. We assert on this lock to be hold when calling these methods.
      * @see KeyedLock
+     * @see StripedLock
      */
     Releasable acquireLock(BytesRef uid) {
-        return keyedLock.acquire(uid);
+        return uidLock.acquire(uid);
     }
 
     boolean assertKeyedLockHeldByCurrentThread(BytesRef uid) {
-        assert keyedLock.isHeldByCurrentThread(uid) : "Thread [" + Thread.currentThread().getName() + "], uid [" + uid.utf8ToString() + "]";
+        assert uidLock.isHeldByCurrentThread(uid) : "Thread [" + Thread.currentThread().getName() + "], uid [" + uid.utf8ToString() + "]";
         return true;
     }
 }
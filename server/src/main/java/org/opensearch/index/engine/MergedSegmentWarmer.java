@@ -16,6 +16,7 @@ import org.apache.lucene.index.SegmentCommitInfo;
 import org.apache.lucene.index.SegmentReader;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.logging.Loggers;
+import org.opensearch.index.merge.MergedSegmentTransferTracker;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.indices.recovery.RecoverySettings;
 import org.opensearch.transport.TransportService;
@@ -55,21 +56,38 @@ public class MergedSegmentWarmer implements IndexWriter.IndexReaderWarmer {
         assert leafReader instanceof SegmentReader;
         assert indexShard.indexSettings().isSegRepLocalEnabled() || indexShard.indexSettings().isRemoteStoreEnabled();
 
-        long startTime = System.currentTimeMillis();
         SegmentCommitInfo segmentCommitInfo = ((SegmentReader) leafReader).getSegmentInfo();
+        final MergedSegmentTransferTracker tracker = indexShard.mergedSegmentTransferTracker();
+        final long segmentSize = segmentCommitInfo.sizeInBytes();
+        if (segmentSize < recoverySettings.getMergedSegmentReplicationMinSegmentSize().getBytes()) {
+            // small enough to be copied along with the next replication checkpoint
+            tracker.incrementTotalWarmSkippedCount();
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
         logger.trace(() -> new ParameterizedMessage("Warming segment: {}", segmentCommitInfo));
-        indexShard.publishMergedSegment(segmentCommitInfo);
-        logger.trace(() -> {
-            long segmentSize = -1;
-            try {
-                segmentSize = segmentCommitInfo.sizeInBytes();
-            } catch (IOException ignored) {}
-            return new ParameterizedMessage(
+        tracker.incrementTotalWarmInvocationsCount();
+        tracker.incrementOngoingWarms();
+        try {
+            indexShard.publishMergedSegment(segmentCommitInfo);
+            tracker.addTotalBytesPublished(segmentSize);
+        } catch (Exception e) {
+            // the replicas copy the segment along with the next replication checkpoint instead, so this must not fail the merge
+            tracker.incrementTotalWarmFailureCount();
+            logger.warn(() -> new ParameterizedMessage("Failed to warm segment {}", segmentCommitInfo.info.name), e);
+            return;
+        } finally {
+            tracker.decrementOngoingWarms();
+            tracker.addTotalWarmTimeMillis(System.currentTimeMillis() - startTime);
+        }
+        logger.trace(
+            () -> new ParameterizedMessage(
                 "Completed segment warming for {}. Size: {}B, Timing: {}ms",
                 segmentCommitInfo.info.name,
                 segmentSize,
                 (System.currentTimeMillis() - startTime)
-            );
-        });
+            )
+        );
     }
 }
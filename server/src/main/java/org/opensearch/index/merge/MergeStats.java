@@ -70,6 +70,15 @@ public class MergeStats implements Writeable, ToXContentFragment {
 
     private long unreferencedFileCleanUpsPerformed;
 
+    // merged segments copied to the replicas before the merge completes
+    private long totalWarmInvocationsCount;
+    private long totalWarmTimeMillis;
+    private long totalWarmFailureCount;
+    private long totalWarmSkippedCount;
+    private long ongoingWarms;
+    private long totalBytesPublished;
+    private long totalBytesReceived;
+
     public MergeStats() {}
 
     public MergeStats(StreamInput in) throws IOException {
@@ -87,6 +96,15 @@ public class MergeStats implements Writeable, ToXContentFragment {
         if (in.getVersion().onOrAfter(Version.V_2_11_0)) {
             unreferencedFileCleanUpsPerformed = in.readOptionalVLong();
         }
+        if (in.getVersion().onOrAfter(Version.V_3_2_0)) {
+            totalWarmInvocationsCount = in.readVLong();
+            totalWarmTimeMillis = in.readVLong();
+            totalWarmFailureCount = in.readVLong();
+            totalWarmSkippedCount = in.readVLong();
+            ongoingWarms = in.readVLong();
+            totalBytesPublished = in.readVLong();
+            totalBytesReceived = in.readVLong();
+        }
     }
 
     public void add(
@@ -125,6 +143,7 @@ public class MergeStats implements Writeable, ToXContentFragment {
         this.current += mergeStats.current;
         this.currentNumDocs += mergeStats.currentNumDocs;
         this.currentSizeInBytes += mergeStats.currentSizeInBytes;
+        this.ongoingWarms += mergeStats.ongoingWarms;
 
         addTotals(mergeStats);
     }
@@ -140,6 +159,12 @@ public class MergeStats implements Writeable, ToXContentFragment {
         this.totalStoppedTimeInMillis += mergeStats.totalStoppedTimeInMillis;
         this.totalThrottledTimeInMillis += mergeStats.totalThrottledTimeInMillis;
         addUnreferencedFileCleanUpStats(mergeStats.unreferencedFileCleanUpsPerformed);
+        this.totalWarmInvocationsCount += mergeStats.totalWarmInvocationsCount;
+        this.totalWarmTimeMillis += mergeStats.totalWarmTimeMillis;
+        this.totalWarmFailureCount += mergeStats.totalWarmFailureCount;
+        this.totalWarmSkippedCount += mergeStats.totalWarmSkippedCount;
+        this.totalBytesPublished += mergeStats.totalBytesPublished;
+        this.totalBytesReceived += mergeStats.totalBytesReceived;
         if (this.totalBytesPerSecAutoThrottle == Long.MAX_VALUE || mergeStats.totalBytesPerSecAutoThrottle == Long.MAX_VALUE) {
             this.totalBytesPerSecAutoThrottle = Long.MAX_VALUE;
         } else {
@@ -155,6 +180,68 @@ public class MergeStats implements Writeable, ToXContentFragment {
         return this.unreferencedFileCleanUpsPerformed;
     }
 
+    public void addWarmerStats(
+        long totalWarmInvocationsCount,
+        long totalWarmTimeMillis,
+        long totalWarmFailureCount,
+        long totalWarmSkippedCount,
+        long ongoingWarms,
+        long totalBytesPublished,
+        long totalBytesReceived
+    ) {
+        this.totalWarmInvocationsCount += totalWarmInvocationsCount;
+        this.totalWarmTimeMillis += totalWarmTimeMillis;
+        this.totalWarmFailureCount += totalWarmFailureCount;
+        this.totalWarmSkippedCount += totalWarmSkippedCount;
+        this.ongoingWarms += ongoingWarms;
+        this.totalBytesPublished += totalBytesPublished;
+        this.totalBytesReceived += totalBytesReceived;
+    }
+
+    /**
+     * The total number of merged segments which were copied to the replicas before the merge completed.
+     */
+    public long getTotalWarmInvocationsCount() {
+        return this.totalWarmInvocationsCount;
+    }
+
+    /**
+     * The total time spent copying merged segments to the replicas before the merges completed.
+     */
+    public TimeValue getTotalWarmTime() {
+        return new TimeValue(totalWarmTimeMillis);
+    }
+
+    public long getTotalWarmFailureCount() {
+        return this.totalWarmFailureCount;
+    }
+
+    /**
+     * The total number of merged segments which were too small to be copied to the replicas before the merge completed.
+     */
+    public long getTotalWarmSkippedCount() {
+        return this.totalWarmSkippedCount;
+    }
+
+    public long getOngoingWarms() {
+        return this.ongoingWarms;
+    }
+
+    /**
+     * The total size of the merged segments this shard published to its replicas as a primary. Each segment counts once, however
+     * many replicas copied it.
+     */
+    public ByteSizeValue getTotalBytesPublished() {
+        return new ByteSizeValue(totalBytesPublished);
+    }
+
+    /**
+     * The total size of the merged segments this shard copied from its primary as a replica.
+     */
+    public ByteSizeValue getTotalBytesReceived() {
+        return new ByteSizeValue(totalBytesReceived);
+    }
+
     /**
      * The total number of merges executed.
      */
@@ -256,6 +343,15 @@ public class MergeStats implements Writeable, ToXContentFragment {
         }
         builder.field(Fields.TOTAL_THROTTLE_BYTES_PER_SEC_IN_BYTES, totalBytesPerSecAutoThrottle);
         builder.field(Fields.UNREFERENCED_FILE_CLEANUPS_PERFORMED, unreferencedFileCleanUpsPerformed);
+        builder.startObject(Fields.WARMER);
+        builder.field(Fields.TOTAL_INVOCATIONS_COUNT, totalWarmInvocationsCount);
+        builder.humanReadableField(Fields.TOTAL_TIME_IN_MILLIS, Fields.TOTAL_TIME, getTotalWarmTime());
+        builder.field(Fields.TOTAL_FAILURE_COUNT, totalWarmFailureCount);
+        builder.field(Fields.TOTAL_SKIPPED_COUNT, totalWarmSkippedCount);
+        builder.field(Fields.ONGOING_COUNT, ongoingWarms);
+        builder.humanReadableField(Fields.TOTAL_BYTES_PUBLISHED_IN_BYTES, Fields.TOTAL_BYTES_PUBLISHED, getTotalBytesPublished());
+        builder.humanReadableField(Fields.TOTAL_BYTES_RECEIVED_IN_BYTES, Fields.TOTAL_BYTES_RECEIVED, getTotalBytesReceived());
+        builder.endObject();
         builder.endObject();
         return builder;
     }
@@ -284,6 +380,15 @@ public class MergeStats implements Writeable, ToXContentFragment {
         static final String TOTAL_THROTTLE_BYTES_PER_SEC_IN_BYTES = "total_auto_throttle_in_bytes";
         static final String TOTAL_THROTTLE_BYTES_PER_SEC = "total_auto_throttle";
         static final String UNREFERENCED_FILE_CLEANUPS_PERFORMED = "unreferenced_file_cleanups_performed";
+        static final String WARMER = "warmer";
+        static final String TOTAL_INVOCATIONS_COUNT = "total_invocations_count";
+        static final String TOTAL_FAILURE_COUNT = "total_failure_count";
+        static final String TOTAL_SKIPPED_COUNT = "total_skipped_count";
+        static final String ONGOING_COUNT = "ongoing_count";
+        static final String TOTAL_BYTES_PUBLISHED = "total_bytes_published";
+        static final String TOTAL_BYTES_PUBLISHED_IN_BYTES = "total_bytes_published_in_bytes";
+        static final String TOTAL_BYTES_RECEIVED = "total_bytes_received";
+        static final String TOTAL_BYTES_RECEIVED_IN_BYTES = "total_bytes_received_in_bytes";
     }
 
     @Override
@@ -302,5 +407,14 @@ public class MergeStats implements Writeable, ToXContentFragment {
         if (out.getVersion().onOrAfter(Version.V_2_11_0)) {
             out.writeOptionalVLong(unreferencedFileCleanUpsPerformed);
         }
+        if (out.getVersion().onOrAfter(Version.V_3_2_0)) {
+            out.writeVLong(totalWarmInvocationsCount);
+            out.writeVLong(totalWarmTimeMillis);
+            out.writeVLong(totalWarmFailureCount);
+            out.writeVLong(totalWarmSkippedCount);
+            out.writeVLong(ongoingWarms);
+            out.writeVLong(totalBytesPublished);
+            out.writeVLong(totalBytesReceived);
+        }
     }
 }
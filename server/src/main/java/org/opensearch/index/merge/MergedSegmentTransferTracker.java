@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.merge;
+
+import org.opensearch.common.metrics.CounterMetric;
+
+/**
+ * Tracks the merged segments which a shard copies to its replicas before the merge completes, when it is a primary, and
+ * the ones it receives, when it is a replica.
+ *
+ * @opensearch.internal
+ */
+public class MergedSegmentTransferTracker {
+
+    private final CounterMetric totalWarmInvocationsCount = new CounterMetric();
+    private final CounterMetric totalWarmTimeMillis = new CounterMetric();
+    private final CounterMetric totalWarmFailureCount = new CounterMetric();
+    private final CounterMetric totalWarmSkippedCount = new CounterMetric();
+    private final CounterMetric totalBytesPublished = new CounterMetric();
+    private final CounterMetric totalBytesReceived = new CounterMetric();
+    private final CounterMetric ongoingWarms = new CounterMetric();
+
+    public void incrementTotalWarmInvocationsCount() {
+        totalWarmInvocationsCount.inc();
+    }
+
+    public void incrementOngoingWarms() {
+        ongoingWarms.inc();
+    }
+
+    public void decrementOngoingWarms() {
+        ongoingWarms.dec();
+    }
+
+    public void addTotalWarmTimeMillis(long time) {
+        totalWarmTimeMillis.inc(time);
+    }
+
+    public void incrementTotalWarmFailureCount() {
+        totalWarmFailureCount.inc();
+    }
+
+    public void incrementTotalWarmSkippedCount() {
+        totalWarmSkippedCount.inc();
+    }
+
+    /**
+     * Records the size of a merged segment published to the replicas, once whatever the number of replicas.
+     */
+    public void addTotalBytesPublished(long bytes) {
+        totalBytesPublished.inc(bytes);
+    }
+
+    public void addTotalBytesReceived(long bytes) {
+        totalBytesReceived.inc(bytes);
+    }
+
+    /**
+     * Adds the stats of this tracker to the given merge stats.
+     */
+    public void addTo(MergeStats mergeStats) {
+        mergeStats.addWarmerStats(
+            totalWarmInvocationsCount.count(),
+            totalWarmTimeMillis.count(),
+            totalWarmFailureCount.count(),
+            totalWarmSkippedCount.count(),
+            ongoingWarms.count(),
+            totalBytesPublished.count(),
+            totalBytesReceived.count()
+        );
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.remote;
+
+import org.opensearch.common.util.concurrent.BufferedAsyncIOProcessor;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.core.common.unit.ByteSizeValue;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounds the translog bytes which the shards of a node buffer before uploading them to the remote translog. Each shard
+ * buffers its translog syncs for up to the remote translog buffer interval so that a single upload covers many requests.
+ * On nodes with many shards this adds up, so once the bytes buffered by all shards of the node reach the configured limit,
+ * all shards upload what they buffered in one cycle instead of waiting for the end of their buffer interval.
+ * <p>
+ * A single instance is created by the node and shared by all its shards.
+ *
+ * @opensearch.internal
+ */
+public class RemoteTranslogUploadBatcher {
+
+    private final Supplier<ByteSizeValue> maxBufferedBytesSupplier;
+
+    private final Set<BufferedAsyncIOProcessor<?>> processors = ConcurrentCollections.newConcurrentSet();
+
+    private final AtomicLong bufferedBytes = new AtomicLong();
+
+    private final AtomicLong flushCount = new AtomicLong();
+
+    // whether the shards were flushed and none of their uploads completed since, so that writes don't flush them again
+    private final AtomicBoolean flushing = new AtomicBoolean();
+
+    public RemoteTranslogUploadBatcher(Supplier<ByteSizeValue> maxBufferedBytesSupplier) {
+        this.maxBufferedBytesSupplier = maxBufferedBytesSupplier;
+    }
+
+    /**
+     * Registers the translog sync processor of a shard, which is flushed along with the other shards of the node.
+     */
+    public void register(BufferedAsyncIOProcessor<?> processor) {
+        processors.add(processor);
+    }
+
+    public void unregister(BufferedAsyncIOProcessor<?> processor) {
+        processors.remove(processor);
+    }
+
+    /**
+     * Records that a shard buffers the given translog bytes for upload. Called before the shard enqueues them, so that their
+     * upload can't be recorded first.
+     */
+    public void onBuffered(long bytes) {
+        bufferedBytes.addAndGet(bytes);
+    }
+
+    /**
+     * Flushes all shards if the node reached the limit of buffered bytes. Called once a shard enqueued the bytes it buffered, so
+     * that they are part of the flush.
+     */
+    public void maybeFlush() {
+        final long maxBufferedBytes = maxBufferedBytesSupplier.get().getBytes();
+        // flush as long as the node is at the limit, but only once until an upload completes
+        if (maxBufferedBytes > 0 && bufferedBytes.get() >= maxBufferedBytes && flushing.compareAndSet(false, true)) {
+            flushCount.incrementAndGet();
+            for (BufferedAsyncIOProcessor<?> processor : processors) {
+                processor.flush();
+            }
+        }
+    }
+
+    /**
+     * Records that a shard uploaded the given translog bytes, which it previously buffered.
+     */
+    public void onUploaded(long bytes) {
+        bufferedBytes.addAndGet(-bytes);
+        flushing.set(false);
+    }
+
+    public long getBufferedBytes() {
+        return bufferedBytes.get();
+    }
+
+    /**
+     * Returns the number of times the shards were flushed because the node reached the limit of buffered bytes.
+     */
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+}
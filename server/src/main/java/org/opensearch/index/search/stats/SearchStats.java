@@ -169,6 +169,8 @@ public class SearchStats implements Writeable, ToXContentFragment {
         private long starTreeQueryCount;
         private long starTreeQueryTimeInMillis;
         private long starTreeQueryCurrent;
+        private long starTreeNodeCacheHitCount;
+        private long starTreeNodeCacheMissCount;
 
         @Nullable
         private RequestStatsLongHolder requestStatsLongHolder;
@@ -218,6 +220,8 @@ public class SearchStats implements Writeable, ToXContentFragment {
             this.starTreeQueryCount = builder.starTreeQueryCount;
             this.starTreeQueryTimeInMillis = builder.starTreeQueryTimeInMillis;
             this.starTreeQueryCurrent = builder.starTreeQueryCurrent;
+            this.starTreeNodeCacheHitCount = builder.starTreeNodeCacheHitCount;
+            this.starTreeNodeCacheMissCount = builder.starTreeNodeCacheMissCount;
         }
 
         /**
@@ -318,6 +322,8 @@ public class SearchStats implements Writeable, ToXContentFragment {
                 starTreeQueryCount = in.readVLong();
                 starTreeQueryTimeInMillis = in.readVLong();
                 starTreeQueryCurrent = in.readVLong();
+                starTreeNodeCacheHitCount = in.readVLong();
+                starTreeNodeCacheMissCount = in.readVLong();
             }
         }
 
@@ -352,6 +358,8 @@ public class SearchStats implements Writeable, ToXContentFragment {
             starTreeQueryCount += stats.starTreeQueryCount;
             starTreeQueryTimeInMillis += stats.starTreeQueryTimeInMillis;
             starTreeQueryCurrent += stats.starTreeQueryCurrent;
+            starTreeNodeCacheHitCount += stats.starTreeNodeCacheHitCount;
+            starTreeNodeCacheMissCount += stats.starTreeNodeCacheMissCount;
         }
 
         public void addForClosingShard(Stats stats) {
@@ -381,6 +389,8 @@ public class SearchStats implements Writeable, ToXContentFragment {
 
             starTreeQueryCount += stats.starTreeQueryCount;
             starTreeQueryTimeInMillis += stats.starTreeQueryTimeInMillis;
+            starTreeNodeCacheHitCount += stats.starTreeNodeCacheHitCount;
+            starTreeNodeCacheMissCount += stats.starTreeNodeCacheMissCount;
         }
 
         public long getQueryCount() {
@@ -507,6 +517,14 @@ public class SearchStats implements Writeable, ToXContentFragment {
             return starTreeQueryCurrent;
         }
 
+        public long getStarTreeNodeCacheHitCount() {
+            return starTreeNodeCacheHitCount;
+        }
+
+        public long getStarTreeNodeCacheMissCount() {
+            return starTreeNodeCacheMissCount;
+        }
+
         public static Stats readStats(StreamInput in) throws IOException {
             return new Stats(in);
         }
@@ -561,6 +579,8 @@ public class SearchStats implements Writeable, ToXContentFragment {
                 out.writeVLong(starTreeQueryCount);
                 out.writeVLong(starTreeQueryTimeInMillis);
                 out.writeVLong(starTreeQueryCurrent);
+                out.writeVLong(starTreeNodeCacheHitCount);
+                out.writeVLong(starTreeNodeCacheMissCount);
             }
         }
 
@@ -578,6 +598,8 @@ public class SearchStats implements Writeable, ToXContentFragment {
             builder.field(Fields.STARTREE_QUERY_TOTAL, starTreeQueryCount);
             builder.humanReadableField(Fields.STARTREE_QUERY_TIME_IN_MILLIS, Fields.STARTREE_QUERY_TIME, getStarTreeQueryTime());
             builder.field(Fields.STARTREE_QUERY_CURRENT, getStarTreeQueryCurrent());
+            builder.field(Fields.STARTREE_NODE_CACHE_HIT_COUNT, starTreeNodeCacheHitCount);
+            builder.field(Fields.STARTREE_NODE_CACHE_MISS_COUNT, starTreeNodeCacheMissCount);
 
             builder.field(Fields.FETCH_TOTAL, fetchCount);
             builder.humanReadableField(Fields.FETCH_TIME_IN_MILLIS, Fields.FETCH_TIME, getFetchTime());
@@ -653,6 +675,8 @@ public class SearchStats implements Writeable, ToXContentFragment {
             private long starTreeQueryCount = 0;
             private long starTreeQueryTimeInMillis = 0;
             private long starTreeQueryCurrent = 0;
+            private long starTreeNodeCacheHitCount = 0;
+            private long starTreeNodeCacheMissCount = 0;
             @Nullable
             private RequestStatsLongHolder requestStatsLongHolder = null;
 
@@ -773,6 +797,16 @@ public class SearchStats implements Writeable, ToXContentFragment {
                 return this;
             }
 
+            public Builder starTreeNodeCacheHitCount(long count) {
+                this.starTreeNodeCacheHitCount = count;
+                return this;
+            }
+
+            public Builder starTreeNodeCacheMissCount(long count) {
+                this.starTreeNodeCacheMissCount = count;
+                return this;
+            }
+
             /**
              * Creates a {@link Stats} object from the builder's current state.
              * @return A new Stats instance.
@@ -925,6 +959,8 @@ public class SearchStats implements Writeable, ToXContentFragment {
         static final String STARTREE_QUERY_TIME = "startree_query_time";
         static final String STARTREE_QUERY_TIME_IN_MILLIS = "startree_query_time_in_millis";
         static final String STARTREE_QUERY_CURRENT = "startree_query_current";
+        static final String STARTREE_NODE_CACHE_HIT_COUNT = "startree_node_cache_hit_count";
+        static final String STARTREE_NODE_CACHE_MISS_COUNT = "startree_node_cache_miss_count";
         static final String FETCH_TOTAL = "fetch_total";
         static final String FETCH_TIME = "fetch_time";
         static final String FETCH_TIME_IN_MILLIS = "fetch_time_in_millis";
@@ -40,6 +40,7 @@ import org.opensearch.core.common.util.CollectionUtils;
 import org.opensearch.index.shard.SearchOperationListener;
 import org.opensearch.search.internal.ReaderContext;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.startree.StarTreeQueryContext;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -142,6 +143,9 @@ public final class ShardSearchStats implements SearchOperationListener {
                 }
                 if (searchContext.getQueryShardContext().getStarTreeQueryContext() != null) {
                     statsHolder.starTreeQueryMetric.inc(tookInNanos);
+                    StarTreeQueryContext starTreeQueryContext = searchContext.getQueryShardContext().getStarTreeQueryContext();
+                    statsHolder.starTreeNodeCacheHits.inc(starTreeQueryContext.getNodeCacheHits());
+                    statsHolder.starTreeNodeCacheMisses.inc(starTreeQueryContext.getNodeCacheMisses());
                     statsHolder.starTreeCurrent.dec();
                     assert statsHolder.starTreeCurrent.count() >= 0;
                 }
@@ -259,6 +263,8 @@ public final class ShardSearchStats implements SearchOperationListener {
         final CounterMetric searchIdleMetric = new CounterMetric();
         final MeanMetric starTreeQueryMetric = new MeanMetric();
         final CounterMetric starTreeCurrent = new CounterMetric();
+        final CounterMetric starTreeNodeCacheHits = new CounterMetric();
+        final CounterMetric starTreeNodeCacheMisses = new CounterMetric();
 
         SearchStats.Stats stats() {
             return new SearchStats.Stats.Builder().queryCount(queryMetric.count())
@@ -284,6 +290,8 @@ public final class ShardSearchStats implements SearchOperationListener {
                 .starTreeQueryCount(starTreeQueryMetric.count())
                 .starTreeQueryTimeInMillis(TimeUnit.NANOSECONDS.toMillis(starTreeQueryMetric.sum()))
                 .starTreeQueryCurrent(starTreeCurrent.count())
+                .starTreeNodeCacheHitCount(starTreeNodeCacheHits.count())
+                .starTreeNodeCacheMissCount(starTreeNodeCacheMisses.count())
                 .build();
         }
     }
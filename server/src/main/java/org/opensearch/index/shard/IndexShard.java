@@ -158,11 +158,13 @@ import org.opensearch.index.mapper.RootObjectMapper;
 import org.opensearch.index.mapper.SourceToParse;
 import org.opensearch.index.mapper.Uid;
 import org.opensearch.index.merge.MergeStats;
+import org.opensearch.index.merge.MergedSegmentTransferTracker;
 import org.opensearch.index.recovery.RecoveryStats;
 import org.opensearch.index.refresh.RefreshStats;
 import org.opensearch.index.remote.RemoteSegmentStats;
 import org.opensearch.index.remote.RemoteStorePathStrategy;
 import org.opensearch.index.remote.RemoteStoreStatsTrackerFactory;
+import org.opensearch.index.remote.RemoteTranslogUploadBatcher;
 import org.opensearch.index.search.stats.SearchStats;
 import org.opensearch.index.search.stats.ShardSearchStats;
 import org.opensearch.index.seqno.ReplicationTracker;
@@ -189,6 +191,7 @@ import org.opensearch.index.translog.TranslogConfig;
 import org.opensearch.index.translog.TranslogFactory;
 import org.opensearch.index.translog.TranslogRecoveryRunner;
 import org.opensearch.index.translog.TranslogStats;
+import org.opensearch.index.translog.TranslogSyncTracker;
 import org.opensearch.index.warmer.ShardIndexWarmerService;
 import org.opensearch.index.warmer.WarmerStats;
 import org.opensearch.indices.IndexingMemoryController;
@@ -429,7 +432,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         final Object refreshMutex,
         final ClusterApplierService clusterApplierService,
         @Nullable final MergedSegmentPublisher mergedSegmentPublisher,
-        @Nullable final ReferencedSegmentsPublisher referencedSegmentsPublisher
+        @Nullable final ReferencedSegmentsPublisher referencedSegmentsPublisher,
+        final RemoteTranslogUploadBatcher translogUploadBatcher
     ) throws IOException {
         super(shardRouting.shardId(), indexSettings);
         assert shardRouting.initializing();
@@ -450,8 +454,12 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             threadPool,
             this::getEngine,
             indexSettings.isAssignedOnRemoteNode(),
-            () -> getRemoteTranslogUploadBufferInterval(remoteStoreSettings::getClusterRemoteTranslogBufferInterval)
+            () -> getRemoteTranslogUploadBufferInterval(remoteStoreSettings::getClusterRemoteTranslogBufferInterval),
+            translogSyncTracker,
+            indexSettings.getTranslogGroupCommitMaxWindow(),
+            translogUploadBatcher
         );
+        this.translogUploadBatcher = translogUploadBatcher;
         this.mapperService = mapperService;
         this.indexCache = indexCache;
         this.internalIndexingStats = new InternalIndexingStats(threadPool);
@@ -1561,9 +1569,14 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         }
         final MergeStats mergeStats = engine.getMergeStats();
         mergeStats.addUnreferencedFileCleanUpStats(engine.unreferencedFileCleanUpsPerformed());
+        mergedSegmentTransferTracker.addTo(mergeStats);
         return mergeStats;
     }
 
+    public MergedSegmentTransferTracker mergedSegmentTransferTracker() {
+        return mergedSegmentTransferTracker;
+    }
+
     public SegmentsStats segmentStats(boolean includeSegmentFileSizes, boolean includeUnloadedSegments) {
         SegmentsStats segmentsStats = getEngine().segmentsStats(includeSegmentFileSizes, includeUnloadedSegments);
         segmentsStats.addBitsetMemoryInBytes(shardBitsetFilterCache.getMemorySizeInBytes());
@@ -1589,6 +1602,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
 
     public TranslogStats translogStats() {
         TranslogStats translogStats = getEngine().translogManager().getTranslogStats();
+        translogStats.addSyncStats(translogSyncTracker.stats());
         // Populate remote_store stats only if the index is remote store backed
         if (indexSettings.isAssignedOnRemoteNode()) {
             translogStats.addRemoteTranslogStats(
@@ -2321,6 +2335,9 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                     }
 
                     indexShardOperationPermits.close();
+                    if (translogSyncProcessor instanceof BufferedAsyncIOProcessor) {
+                        translogUploadBatcher.unregister((BufferedAsyncIOProcessor<?>) translogSyncProcessor);
+                    }
                 }
             }
         }
@@ -4705,20 +4722,29 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     }
 
     private final AsyncIOProcessor<Translog.Location> translogSyncProcessor;
+    // node level bound of the translog bytes buffered for upload by the shards of the node
+    private final RemoteTranslogUploadBatcher translogUploadBatcher;
+    private final TranslogSyncTracker translogSyncTracker = new TranslogSyncTracker();
+    private final MergedSegmentTransferTracker mergedSegmentTransferTracker = new MergedSegmentTransferTracker();
 
     private static AsyncIOProcessor<Translog.Location> createTranslogSyncProcessor(
         Logger logger,
         ThreadPool threadPool,
         Supplier<Engine> engineSupplier,
         boolean bufferAsyncIoProcessor,
-        Supplier<TimeValue> bufferIntervalSupplier
+        Supplier<TimeValue> bufferIntervalSupplier,
+        TranslogSyncTracker syncTracker,
+        TimeValue groupCommitMaxWindow,
+        RemoteTranslogUploadBatcher uploadBatcher
     ) {
         assert bufferAsyncIoProcessor == false || Objects.nonNull(bufferIntervalSupplier)
             : "If bufferAsyncIoProcessor is true, then the bufferIntervalSupplier needs to be non null";
         ThreadContext threadContext = threadPool.getThreadContext();
         CheckedConsumer<List<Tuple<Translog.Location, Consumer<Exception>>>, IOException> writeConsumer = candidates -> {
             try {
+                final long startTimeNanos = System.nanoTime();
                 engineSupplier.get().translogManager().ensureTranslogSynced(candidates.stream().map(Tuple::v1));
+                syncTracker.onSync(candidates.size(), System.nanoTime() - startTimeNanos);
             } catch (AlreadyClosedException ex) {
                 // that's fine since we already synced everything on engine close - this also is conform with the methods
                 // documentation
@@ -4728,7 +4754,83 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             }
         };
         if (bufferAsyncIoProcessor) {
-            return new BufferedAsyncIOProcessor<>(logger, 102400, threadContext, threadPool, bufferIntervalSupplier) {
+            final BufferedAsyncIOProcessor<Translog.Location> processor = new BufferedAsyncIOProcessor<>(
+                logger,
+                102400,
+                threadContext,
+                threadPool,
+                bufferIntervalSupplier
+            ) {
+                // the end of the last location buffered, as a sync only carries the largest location of the operations of a request
+                private long bufferedGeneration = -1;
+                private long bufferedOffset;
+
+                @Override
+                public void put(Translog.Location location, Consumer<Exception> listener) {
+                    final long bytes = bufferedBytes(location);
+                    // recorded before the location is enqueued, so that its upload can't be recorded first
+                    uploadBatcher.onBuffered(bytes);
+                    // the bytes of the location stay buffered until its listener is notified, whether the upload succeeded or not
+                    super.put(location, e -> {
+                        uploadBatcher.onUploaded(bytes);
+                        listener.accept(e);
+                    });
+                    uploadBatcher.maybeFlush();
+                }
+
+                /**
+                 * Returns the translog bytes written since the last buffered location, which the given location makes durable.
+                 */
+                private synchronized long bufferedBytes(Translog.Location location) {
+                    final long endOffset = location.translogLocation + location.size;
+                    final long bytes;
+                    if (bufferedGeneration == -1) {
+                        bytes = location.size;
+                    } else if (location.generation > bufferedGeneration) {
+                        // the operations written to the new generation since it was rolled
+                        bytes = endOffset;
+                    } else if (location.generation == bufferedGeneration) {
+                        bytes = Math.max(0, endOffset - bufferedOffset);
+                    } else {
+                        // already covered by a later location
+                        return 0;
+                    }
+                    if (location.generation > bufferedGeneration || endOffset > bufferedOffset) {
+                        bufferedGeneration = location.generation;
+                        bufferedOffset = endOffset;
+                    }
+                    return bytes;
+                }
+
+                @Override
+                protected void write(List<Tuple<Translog.Location, Consumer<Exception>>> candidates) throws IOException {
+                    writeConsumer.accept(candidates);
+                }
+
+                @Override
+                protected String getBufferProcessThreadPoolName() {
+                    return ThreadPool.Names.TRANSLOG_SYNC;
+                }
+            };
+            uploadBatcher.register(processor);
+            if (groupCommitMaxWindow.nanos() > 0) {
+                logger.warn(
+                    "[{}] is ignored as the translog syncs of shards on remote store nodes are buffered for the remote translog upload",
+                    IndexSettings.INDEX_TRANSLOG_GROUP_COMMIT_MAX_WINDOW_SETTING.getKey()
+                );
+            }
+            return processor;
+        }
+
+        if (groupCommitMaxWindow.nanos() > 0) {
+            // group commit: write threads only enqueue their locations, which a translog_sync thread syncs in batches
+            return new BufferedAsyncIOProcessor<>(
+                logger,
+                102400,
+                threadContext,
+                threadPool,
+                () -> syncTracker.groupCommitWindow(groupCommitMaxWindow)
+            ) {
                 @Override
                 protected void write(List<Tuple<Translog.Location, Consumer<Exception>>> candidates) throws IOException {
                     writeConsumer.accept(candidates);
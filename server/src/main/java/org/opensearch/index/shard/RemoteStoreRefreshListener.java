@@ -474,6 +474,12 @@ public final class RemoteStoreRefreshListener extends ReleasableRetryableRefresh
 
     private String getChecksumOfLocalFile(String file) throws IOException {
         if (!localSegmentChecksumMap.containsKey(file)) {
+            // known without reading the file if it was written on this node
+            final String writtenFileChecksum = indexShard.store().getWrittenFileChecksum(file);
+            if (writtenFileChecksum != null) {
+                localSegmentChecksumMap.put(file, writtenFileChecksum);
+                return writtenFileChecksum;
+            }
             try (IndexInput indexInput = storeDirectory.openInput(file, IOContext.READONCE)) {
                 String checksum = Long.toString(CodecUtil.retrieveChecksum(indexInput));
                 localSegmentChecksumMap.put(file, checksum);
@@ -0,0 +1,127 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.store.IndexOutput;
+import org.opensearch.common.lucene.store.FilterIndexOutput;
+
+import java.io.IOException;
+
+/**
+ * An {@link IndexOutput} which keeps the last bytes written to the file, so that the checksum stored in the codec footer
+ * of the file is known once the file is written, without opening the file again to read it.
+ *
+ * @opensearch.internal
+ */
+final class FooterChecksumIndexOutput extends FilterIndexOutput {
+
+    /**
+     * Notified with the name of the file and the checksum stored in its footer once the file was written
+     */
+    @FunctionalInterface
+    interface Listener {
+        void onFooterChecksum(String name, long checksum);
+    }
+
+    private static final int FOOTER_LENGTH = CodecUtil.footerLength();
+
+    private final String name;
+    private final Listener listener;
+    // the last bytes written, in a ring buffer which starts at tailStart
+    private final byte[] tail = new byte[FOOTER_LENGTH];
+    private int tailStart;
+    private long length;
+    private boolean closed;
+
+    FooterChecksumIndexOutput(IndexOutput out, String name, Listener listener) {
+        super("FooterChecksumIndexOutput(" + name + ")", out);
+        this.name = name;
+        this.listener = listener;
+    }
+
+    @Override
+    public void writeByte(byte b) throws IOException {
+        out.writeByte(b);
+        tail[tailStart] = b;
+        tailStart = (tailStart + 1) % FOOTER_LENGTH;
+        length++;
+    }
+
+    // the fixed size writes are delegated, so that the output keeps its own optimized implementations of them
+
+    @Override
+    public void writeShort(short i) throws IOException {
+        out.writeShort(i);
+        addToTail(i, Short.BYTES);
+    }
+
+    @Override
+    public void writeInt(int i) throws IOException {
+        out.writeInt(i);
+        addToTail(i, Integer.BYTES);
+    }
+
+    @Override
+    public void writeLong(long i) throws IOException {
+        out.writeLong(i);
+        addToTail(i, Long.BYTES);
+    }
+
+    // adds the given number of bytes of the value to the tail, in the little endian order of DataOutput
+    private void addToTail(long value, int numBytes) {
+        for (int i = 0; i < numBytes; i++) {
+            tail[tailStart] = (byte) (value >>> (8 * i));
+            tailStart = (tailStart + 1) % FOOTER_LENGTH;
+        }
+        length += numBytes;
+    }
+
+    @Override
+    public void writeBytes(byte[] b, int offset, int length) throws IOException {
+        out.writeBytes(b, offset, length);
+        if (length >= FOOTER_LENGTH) {
+            System.arraycopy(b, offset + length - FOOTER_LENGTH, tail, 0, FOOTER_LENGTH);
+            tailStart = 0;
+        } else {
+            for (int i = 0; i < length; i++) {
+                tail[tailStart] = b[offset + i];
+                tailStart = (tailStart + 1) % FOOTER_LENGTH;
+            }
+        }
+        this.length += length;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        out.close();
+        if (length < FOOTER_LENGTH) {
+            return;
+        }
+        // the footer is the magic, the id of the checksum algorithm and the checksum, all big endian
+        if (readInt(0) != CodecUtil.FOOTER_MAGIC || readInt(Integer.BYTES) != 0) {
+            // not a file with a codec footer, its checksum is read from the file if needed
+            return;
+        }
+        final long checksum = ((long) readInt(2 * Integer.BYTES) << 32) | (readInt(3 * Integer.BYTES) & 0xFFFFFFFFL);
+        listener.onFooterChecksum(name, checksum);
+    }
+
+    private int readInt(int offset) {
+        int value = 0;
+        for (int i = 0; i < Integer.BYTES; i++) {
+            value = (value << 8) | (tail[(tailStart + offset + i) % FOOTER_LENGTH] & 0xFF);
+        }
+        return value;
+    }
+}
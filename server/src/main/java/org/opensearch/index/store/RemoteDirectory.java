@@ -396,10 +396,7 @@ public class RemoteDirectory extends Directory {
     ) throws Exception {
         assert ioContext != IOContext.READONCE : "Remote upload will fail with IoContext.READONCE";
         long expectedChecksum = calculateChecksumOfChecksum(from, src);
-        long contentLength;
-        try (IndexInput indexInput = from.openInput(src, ioContext)) {
-            contentLength = indexInput.length();
-        }
+        long contentLength = from.fileLength(src);
         boolean remoteIntegrityEnabled = false;
         if (getBlobContainer() instanceof AsyncMultiStreamBlobContainer) {
             remoteIntegrityEnabled = ((AsyncMultiStreamBlobContainer) getBlobContainer()).remoteIntegrityCheckSupported();
@@ -462,6 +459,13 @@ public class RemoteDirectory extends Directory {
     }
 
     private long calculateChecksumOfChecksum(Directory directory, String file) throws IOException {
+        if (directory instanceof Store.StoreDirectory) {
+            // the stored checksum is known without reading the footer if the file was written on this node
+            final String checksum = ((Store.StoreDirectory) directory).getWrittenFileChecksum(file);
+            if (checksum != null) {
+                return checksumOfChecksum(Long.parseLong(checksum), SEGMENT_CHECKSUM_BYTES);
+            }
+        }
         try (IndexInput indexInput = directory.openInput(file, IOContext.READONCE)) {
             try {
                 return checksumOfChecksum(indexInput, SEGMENT_CHECKSUM_BYTES);
@@ -836,6 +836,13 @@ public final class RemoteSegmentStoreDirectory extends FilterDirectory implement
     }
 
     private String getChecksumOfLocalFile(Directory directory, String file) throws IOException {
+        if (directory instanceof Store.StoreDirectory) {
+            // known without reading the file if it was written on this node
+            final String checksum = ((Store.StoreDirectory) directory).getWrittenFileChecksum(file);
+            if (checksum != null) {
+                return checksum;
+            }
+        }
         try (IndexInput indexInput = directory.openInput(file, IOContext.READONCE)) {
             return Long.toString(CodecUtil.retrieveChecksum(indexInput));
         }
@@ -65,6 +65,7 @@ import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.BytesRefBuilder;
 import org.apache.lucene.util.Version;
 import org.opensearch.ExceptionsHelper;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.io.stream.BytesStreamOutput;
@@ -76,6 +77,7 @@ import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRefCounted;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.RefCounted;
 import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.common.util.iterable.Iterables;
@@ -207,7 +209,12 @@ public class Store extends AbstractIndexShardComponent implements Closeable, Ref
         final TimeValue refreshInterval = indexSettings.getValue(INDEX_STORE_STATS_REFRESH_INTERVAL_SETTING);
         logger.debug("store stats are refreshed with refresh_interval [{}]", refreshInterval);
         ByteSizeCachingDirectory sizeCachingDir = new ByteSizeCachingDirectory(directory, refreshInterval);
-        this.directory = new StoreDirectory(sizeCachingDir, Loggers.getLogger("index.store.deletes", shardId));
+        this.directory = new StoreDirectory(
+            sizeCachingDir,
+            Loggers.getLogger("index.store.deletes", shardId),
+            // only the files of remote backed shards are uploaded with their checksums
+            indexSettings.isRemoteStoreEnabled() || indexSettings.isAssignedOnRemoteNode()
+        );
         this.shardLock = shardLock;
         this.onClose = onClose;
         this.shardPath = shardPath;
@@ -223,6 +230,15 @@ public class Store extends AbstractIndexShardComponent implements Closeable, Ref
         return directory;
     }
 
+    /**
+     * Returns the checksum stored in the footer of the given file, if the file was written through this store, or
+     * {@code null} otherwise, in which case the checksum has to be read from the file.
+     */
+    @Nullable
+    public String getWrittenFileChecksum(String name) {
+        return directory.getWrittenFileChecksum(name);
+    }
+
     public ShardPath shardPath() {
         return shardPath;
     }
@@ -895,10 +911,44 @@ public class Store extends AbstractIndexShardComponent implements Closeable, Ref
 
         public final DirectoryFileTransferTracker directoryFileTransferTracker;
 
-        StoreDirectory(ByteSizeCachingDirectory delegateDirectory, Logger deletesLogger) {
+        // the checksums stored in the footers of the files written through this directory, by file name
+        private final Map<String, String> writtenFileChecksums = ConcurrentCollections.newConcurrentMap();
+        private final boolean captureWrittenFileChecksums;
+
+        StoreDirectory(ByteSizeCachingDirectory delegateDirectory, Logger deletesLogger, boolean captureWrittenFileChecksums) {
             super(delegateDirectory);
             this.deletesLogger = deletesLogger;
             this.directoryFileTransferTracker = new DirectoryFileTransferTracker();
+            this.captureWrittenFileChecksums = captureWrittenFileChecksums;
+        }
+
+        @Override
+        public IndexOutput createOutput(String name, IOContext context) throws IOException {
+            writtenFileChecksums.remove(name);
+            if (captureWrittenFileChecksums == false) {
+                return super.createOutput(name, context);
+            }
+            return new FooterChecksumIndexOutput(
+                super.createOutput(name, context),
+                name,
+                (fileName, checksum) -> writtenFileChecksums.put(fileName, Long.toString(checksum))
+            );
+        }
+
+        @Override
+        public void rename(String source, String dest) throws IOException {
+            super.rename(source, dest);
+            final String checksum = writtenFileChecksums.remove(source);
+            if (checksum != null) {
+                writtenFileChecksums.put(dest, checksum);
+            } else {
+                writtenFileChecksums.remove(dest);
+            }
+        }
+
+        @Nullable
+        String getWrittenFileChecksum(String name) {
+            return writtenFileChecksums.get(name);
         }
 
         /** Estimate the cumulative size of all files in this directory in bytes. */
@@ -913,6 +963,7 @@ public class Store extends AbstractIndexShardComponent implements Closeable, Ref
 
         public void deleteFile(String msg, String name) throws IOException {
             deletesLogger.trace("{}: delete file {}", msg, name);
+            writtenFileChecksums.remove(name);
             super.deleteFile(name);
         }
 
@@ -948,6 +999,7 @@ public class Store extends AbstractIndexShardComponent implements Closeable, Ref
             boolean success = false;
             long startTime = System.currentTimeMillis();
             try {
+                writtenFileChecksums.remove(dest);
                 super.copyFrom(from, src, dest, context);
                 success = true;
                 afterDownload(fileSize, startTime);
@@ -26,7 +26,8 @@ import java.util.Objects;
  * logic of how and when to fetch specific block of the main file. Each block is identified by {@link OnDemandBlockIndexInput#currentBlockId}.
  * <br>
  * This class delegate the responsibility of actually fetching the block when demanded to its subclasses using
- * {@link OnDemandBlockIndexInput#fetchBlock(int)}.
+ * {@link OnDemandBlockIndexInput#fetchBlock(int)}. When blocks are read sequentially, the following blocks are prefetched in
+ * the background using {@link OnDemandBlockIndexInput#prefetchBlocks(int, int)}.
  * <p>
  * Like {@link IndexInput}, this class may only be used from one thread as it is not thread safe.
  * However, a cleaning action may run from another thread triggered by the {@link Cleaner}, but
@@ -72,11 +73,22 @@ public abstract class OnDemandBlockIndexInput extends IndexInput implements Rand
     protected final int blockSize;
     protected final int blockMask;
 
+    /**
+     * Maximum number of blocks following the current one which are prefetched when blocks are read sequentially
+     */
+    protected final int maxReadAheadBlocks;
+
     /**
      * ID of the current block
      */
     private int currentBlockId;
 
+    /**
+     * Number of blocks read in a row, each following the previous one, and the last block which was prefetched
+     */
+    private int sequentialBlockReads;
+    private int readAheadBlockId = -1;
+
     private final BlockHolder blockHolder = new BlockHolder();
 
     OnDemandBlockIndexInput(Builder builder) {
@@ -87,6 +99,7 @@ public abstract class OnDemandBlockIndexInput extends IndexInput implements Rand
         this.blockSizeShift = builder.blockSizeShift;
         this.blockSize = builder.blockSize;
         this.blockMask = builder.blockMask;
+        this.maxReadAheadBlocks = builder.maxReadAheadBlocks;
         CLEANER.register(this, blockHolder);
     }
 
@@ -102,6 +115,14 @@ public abstract class OnDemandBlockIndexInput extends IndexInput implements Rand
      */
     protected abstract IndexInput fetchBlock(int blockId) throws IOException;
 
+    /**
+     * Starts fetching the given blocks in the background, so that reading them later does not block on the remote store.
+     * Does nothing by default.
+     * @param fromBlockId the first block to prefetch
+     * @param toBlockId the last block to prefetch, inclusive
+     */
+    protected void prefetchBlocks(int fromBlockId, int toBlockId) {}
+
     @Override
     public abstract OnDemandBlockIndexInput clone();
 
@@ -333,12 +354,43 @@ public abstract class OnDemandBlockIndexInput extends IndexInput implements Rand
 
     private void demandBlock(int blockId) throws IOException {
         if (blockHolder.block != null && currentBlockId == blockId) return;
+        final boolean sequential = blockHolder.block != null && blockId == currentBlockId + 1;
 
         // close the current block before jumping to the new block
         blockHolder.close();
 
         blockHolder.set(fetchBlock(blockId));
         currentBlockId = blockId;
+        if (maxReadAheadBlocks > 0) {
+            readAhead(blockId, sequential);
+        }
+    }
+
+    /**
+     * Prefetches the blocks following the given one once blocks are read sequentially. Like the read-ahead of the OS page
+     * cache, the number of prefetched blocks doubles with each sequential block read, up to {@link #maxReadAheadBlocks},
+     * and random access stops it.
+     */
+    private void readAhead(int blockId, boolean sequential) {
+        if (sequential == false) {
+            sequentialBlockReads = 0;
+            return;
+        }
+        sequentialBlockReads++;
+        final int window = Math.min(maxReadAheadBlocks, 1 << Math.min(sequentialBlockReads - 1, 30));
+        final int from = Math.max(blockId + 1, readAheadBlockId + 1);
+        final int to = Math.min(blockId + window, lastBlockId());
+        if (from <= to) {
+            prefetchBlocks(from, to);
+            readAheadBlockId = to;
+        }
+    }
+
+    /**
+     * ID of the last block of this virtual file
+     */
+    protected int lastBlockId() {
+        return length == 0 ? getBlock(offset) : getBlock(offset + length - 1);
     }
 
     protected void cloneBlock(OnDemandBlockIndexInput other) {
@@ -380,6 +432,8 @@ public abstract class OnDemandBlockIndexInput extends IndexInput implements Rand
         // Block size shift (default value is 23 == 2^23 == 8MiB)
         public static final int DEFAULT_BLOCK_SIZE_SHIFT = 23;
         public static final int DEFAULT_BLOCK_SIZE = 1 << DEFAULT_BLOCK_SIZE_SHIFT;;
+        // Maximum number of blocks prefetched ahead of sequential reads (default value is 4 == 32MiB with the default block size)
+        public static final int DEFAULT_MAX_READ_AHEAD_BLOCKS = 4;
 
         private String resourceDescription;
         private boolean isClone;
@@ -388,6 +442,7 @@ public abstract class OnDemandBlockIndexInput extends IndexInput implements Rand
         private int blockSizeShift = DEFAULT_BLOCK_SIZE_SHIFT;
         private int blockSize = 1 << blockSizeShift;
         private int blockMask = blockSize - 1;
+        private int maxReadAheadBlocks = DEFAULT_MAX_READ_AHEAD_BLOCKS;
 
         private Builder() {}
 
@@ -418,6 +473,12 @@ public abstract class OnDemandBlockIndexInput extends IndexInput implements Rand
             this.blockMask = blockSize - 1;
             return this;
         }
+
+        public Builder maxReadAheadBlocks(int maxReadAheadBlocks) {
+            assert maxReadAheadBlocks >= 0 : "maxReadAheadBlocks must be >= 0";
+            this.maxReadAheadBlocks = maxReadAheadBlocks;
+            return this;
+        }
     }
 
     /**
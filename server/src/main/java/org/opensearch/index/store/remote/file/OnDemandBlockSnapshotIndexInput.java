@@ -14,6 +14,7 @@ import org.apache.lucene.store.FSDirectory;
 import org.apache.lucene.store.IndexInput;
 import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot.FileInfo;
 import org.opensearch.index.store.remote.utils.BlobFetchRequest;
+import org.opensearch.index.store.remote.utils.FileTypeUtils;
 import org.opensearch.index.store.remote.utils.TransferManager;
 
 import java.io.IOException;
@@ -77,6 +78,10 @@ public class OnDemandBlockSnapshotIndexInput extends OnDemandBlockIndexInput {
             directory,
             transferManager
         );
+        if (maxReadAheadBlocks > 0 && originalFileSize > 0 && FileTypeUtils.isMetadataFile(fileName)) {
+            // metadata files are read in full when a segment is opened, so fetch them before they are first read
+            prefetchBlocks(0, Math.min(lastBlockId(), maxReadAheadBlocks - 1));
+        }
     }
 
     public OnDemandBlockSnapshotIndexInput(
@@ -124,6 +129,7 @@ public class OnDemandBlockSnapshotIndexInput extends OnDemandBlockIndexInput {
         return new OnDemandBlockSnapshotIndexInput(
             OnDemandBlockIndexInput.builder()
                 .blockSizeShift(blockSizeShift)
+                .maxReadAheadBlocks(maxReadAheadBlocks)
                 .isClone(true)
                 .offset(this.offset + offset)
                 .length(length)
@@ -150,14 +156,30 @@ public class OnDemandBlockSnapshotIndexInput extends OnDemandBlockIndexInput {
             originalFileSize
         );
 
+        return transferManager.fetchBlob(blobFetchRequest(blockFileName, blockStart, blockEnd));
+    }
+
+    @Override
+    protected void prefetchBlocks(int fromBlockId, int toBlockId) {
+        logger.trace("prefetchBlocks called with blockIds -> [{}, {}]", fromBlockId, toBlockId);
+        final List<BlobFetchRequest> blobFetchRequests = new ArrayList<>(toBlockId - fromBlockId + 1);
+        for (int blockId = fromBlockId; blockId <= toBlockId; blockId++) {
+            final long blockStart = getBlockStart(blockId);
+            final long blockEnd = blockStart + getActualBlockSize(blockId);
+            blobFetchRequests.add(blobFetchRequest(fileName + "_block_" + blockId, blockStart, blockEnd));
+        }
+        // adjacent blocks are downloaded with a single ranged read
+        transferManager.prefetchBlobs(blobFetchRequests);
+    }
+
+    private BlobFetchRequest blobFetchRequest(String blockFileName, long blockStart, long blockEnd) {
         // Block may be present on multiple chunks of a file, so we need
         // to fetch each chunk/blob part separately to fetch an entire block.
-        BlobFetchRequest blobFetchRequest = BlobFetchRequest.builder()
+        return BlobFetchRequest.builder()
             .blobParts(getBlobParts(blockStart, blockEnd))
             .directory(directory)
             .fileName(blockFileName)
             .build();
-        return transferManager.fetchBlob(blobFetchRequest);
     }
 
     /**
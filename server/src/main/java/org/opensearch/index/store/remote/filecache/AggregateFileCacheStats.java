@@ -8,6 +8,7 @@
 
 package org.opensearch.index.store.remote.filecache;
 
+import org.opensearch.Version;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -27,6 +28,7 @@ import java.util.EnumSet;
  * - Memory usage (total, active, used)
  * - Cache performance (hits, misses, evictions)
  * - Utilization percentages
+ * - Read-ahead effectiveness (blobs prefetched into the cache and then read)
  * The statistics are exposed via {@link org.opensearch.action.admin.cluster.node.stats.NodeStats}
  * to provide visibility into cache behavior and performance.
  *
@@ -40,6 +42,9 @@ public class AggregateFileCacheStats implements Writeable, ToXContentFragment {
     private final FileCacheStats fullFileCacheStats;
     private final FileCacheStats blockFileCacheStats;
     private final FileCacheStats pinnedFileCacheStats;
+    private final FileCacheStats priorityFileCacheStats;
+    private final long prefetchedBlobs;
+    private final long prefetchHits;
 
     public AggregateFileCacheStats(
         final long timestamp,
@@ -47,12 +52,46 @@ public class AggregateFileCacheStats implements Writeable, ToXContentFragment {
         final FileCacheStats fullFileCacheStats,
         final FileCacheStats blockFileCacheStats,
         FileCacheStats pinnedFileCacheStats
+    ) {
+        this(
+            timestamp,
+            overallFileCacheStats,
+            fullFileCacheStats,
+            blockFileCacheStats,
+            pinnedFileCacheStats,
+            emptyStats(overallFileCacheStats.getTotal(), FileCacheStatsType.PRIORITY_FILE_STATS)
+        );
+    }
+
+    public AggregateFileCacheStats(
+        final long timestamp,
+        final FileCacheStats overallFileCacheStats,
+        final FileCacheStats fullFileCacheStats,
+        final FileCacheStats blockFileCacheStats,
+        FileCacheStats pinnedFileCacheStats,
+        FileCacheStats priorityFileCacheStats
+    ) {
+        this(timestamp, overallFileCacheStats, fullFileCacheStats, blockFileCacheStats, pinnedFileCacheStats, priorityFileCacheStats, 0, 0);
+    }
+
+    public AggregateFileCacheStats(
+        final long timestamp,
+        final FileCacheStats overallFileCacheStats,
+        final FileCacheStats fullFileCacheStats,
+        final FileCacheStats blockFileCacheStats,
+        FileCacheStats pinnedFileCacheStats,
+        FileCacheStats priorityFileCacheStats,
+        long prefetchedBlobs,
+        long prefetchHits
     ) {
         this.timestamp = timestamp;
         this.overallFileCacheStats = overallFileCacheStats;
         this.fullFileCacheStats = fullFileCacheStats;
         this.blockFileCacheStats = blockFileCacheStats;
         this.pinnedFileCacheStats = pinnedFileCacheStats;
+        this.priorityFileCacheStats = priorityFileCacheStats;
+        this.prefetchedBlobs = prefetchedBlobs;
+        this.prefetchHits = prefetchHits;
     }
 
     public AggregateFileCacheStats(final StreamInput in) throws IOException {
@@ -61,6 +100,19 @@ public class AggregateFileCacheStats implements Writeable, ToXContentFragment {
         this.fullFileCacheStats = new FileCacheStats(in);
         this.blockFileCacheStats = new FileCacheStats(in);
         this.pinnedFileCacheStats = new FileCacheStats(in);
+        if (in.getVersion().onOrAfter(Version.V_3_2_0)) {
+            this.priorityFileCacheStats = new FileCacheStats(in);
+            this.prefetchedBlobs = in.readVLong();
+            this.prefetchHits = in.readVLong();
+        } else {
+            this.priorityFileCacheStats = emptyStats(overallFileCacheStats.getTotal(), FileCacheStatsType.PRIORITY_FILE_STATS);
+            this.prefetchedBlobs = 0;
+            this.prefetchHits = 0;
+        }
+    }
+
+    private static FileCacheStats emptyStats(long total, FileCacheStatsType statsType) {
+        return new FileCacheStats(0, total, 0, 0, 0, 0, 0, statsType);
     }
 
     public static short calculatePercentage(long used, long max) {
@@ -74,6 +126,11 @@ public class AggregateFileCacheStats implements Writeable, ToXContentFragment {
         fullFileCacheStats.writeTo(out);
         blockFileCacheStats.writeTo(out);
         pinnedFileCacheStats.writeTo(out);
+        if (out.getVersion().onOrAfter(Version.V_3_2_0)) {
+            priorityFileCacheStats.writeTo(out);
+            out.writeVLong(prefetchedBlobs);
+            out.writeVLong(prefetchHits);
+        }
     }
 
     public long getTimestamp() {
@@ -116,11 +173,30 @@ public class AggregateFileCacheStats implements Writeable, ToXContentFragment {
         return overallFileCacheStats.getCacheMisses();
     }
 
+    /**
+     * Returns the number of blobs which were read ahead into the cache
+     */
+    public long getPrefetchedBlobs() {
+        return prefetchedBlobs;
+    }
+
+    /**
+     * Returns the number of blobs read ahead into the cache which were then read
+     */
+    public long getPrefetchHits() {
+        return prefetchHits;
+    }
+
     // visible for testing.
     public FileCacheStats getBlockFileCacheStats() {
         return blockFileCacheStats;
     }
 
+    // visible for testing.
+    public FileCacheStats getPriorityFileCacheStats() {
+        return priorityFileCacheStats;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject(Fields.AGGREGATE_FILE_CACHE);
@@ -134,10 +210,13 @@ public class AggregateFileCacheStats implements Writeable, ToXContentFragment {
         builder.field(Fields.USED_PERCENT, getUsedPercent());
         builder.field(Fields.HIT_COUNT, getCacheHits());
         builder.field(Fields.MISS_COUNT, getCacheMisses());
+        builder.field(Fields.PREFETCHED_BLOB_COUNT, getPrefetchedBlobs());
+        builder.field(Fields.PREFETCH_HIT_COUNT, getPrefetchHits());
         overallFileCacheStats.toXContent(builder, params);
         fullFileCacheStats.toXContent(builder, params);
         blockFileCacheStats.toXContent(builder, params);
         pinnedFileCacheStats.toXContent(builder, params);
+        priorityFileCacheStats.toXContent(builder, params);
         builder.endObject();
         return builder;
     }
@@ -161,6 +240,9 @@ public class AggregateFileCacheStats implements Writeable, ToXContentFragment {
 
         static final String HIT_COUNT = "hit_count";
         static final String MISS_COUNT = "miss_count";
+
+        static final String PREFETCHED_BLOB_COUNT = "prefetched_blob_count";
+        static final String PREFETCH_HIT_COUNT = "prefetch_hit_count";
     }
 
     /**
@@ -171,7 +253,8 @@ public class AggregateFileCacheStats implements Writeable, ToXContentFragment {
         FULL_FILE_STATS("full_file_stats"),
         BLOCK_FILE_STATS("block_file_stats"),
         OVER_ALL_STATS("over_all_stats"),
-        PINNED_FILE_STATS("pinned_file_stats");
+        PINNED_FILE_STATS("pinned_file_stats"),
+        PRIORITY_FILE_STATS("priority_file_stats");
 
         private final String fileCacheStatsType;
 
@@ -13,6 +13,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.lucene.store.IndexInput;
 import org.opensearch.common.SetOnce;
 import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.breaker.CircuitBreakingException;
 import org.opensearch.index.store.remote.filecache.AggregateFileCacheStats.FileCacheStatsType;
@@ -30,6 +31,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -59,10 +61,26 @@ import static org.opensearch.index.store.remote.utils.FileTypeUtils.INDICES_FOLD
 @PublicApi(since = "2.7.0")
 public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
     private static final Logger logger = LogManager.getLogger(FileCache.class);
+    /**
+     * The name of the journal, in the file cache directory, in which the access order of the cache is kept across restarts
+     */
+    public static final String JOURNAL_FILE_NAME = "file_cache.journal";
+
     private final SegmentedCache<Path, CachedIndexInput> theCache;
 
     private final CircuitBreaker circuitBreaker;
 
+    static final long HIT_RATIO_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+    // the lookups of the cache when the current hit ratio window started, and the hit ratio of the last window with lookups.
+    // windows are only closed by calls to recentHitRatio, so they last at least, not exactly, HIT_RATIO_WINDOW_NANOS
+    private long hitRatioWindowStartNanos = System.nanoTime();
+    private long hitRatioWindowStartHits;
+    private long hitRatioWindowStartMisses;
+    private double recentHitRatio = -1;
+    // read-ahead effectiveness of the transfer managers which download into this cache
+    private final CounterMetric prefetchedBlobs = new CounterMetric();
+    private final CounterMetric prefetchHits = new CounterMetric();
+
     public FileCache(SegmentedCache<Path, CachedIndexInput> cache, CircuitBreaker circuitBreaker) {
         this.theCache = cache;
         this.circuitBreaker = circuitBreaker;
@@ -251,6 +269,84 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
         });
     }
 
+    /**
+     * Persists the files of this cache and their sizes to the given journal, ordered from the least to the most recently
+     * used, so that {@link #restoreAccessOrder(Path)} can restore the order in which they are evicted after a node restart.
+     *
+     * @param journalFile the journal file, which is atomically replaced
+     */
+    public void writeJournal(Path journalFile) throws IOException {
+        final List<FileCacheJournal.Entry> entries = new ArrayList<>(Math.toIntExact(size()));
+        theCache.forEachInAccessOrder((path, length) -> entries.add(new FileCacheJournal.Entry(path.toAbsolutePath(), length)));
+        FileCacheJournal.write(journalFile, entries);
+        logger.debug("wrote [{}] file cache entries to journal [{}]", entries.size(), journalFile);
+    }
+
+    /**
+     * Replays the given journal, written by {@link #writeJournal(Path)}, to restore the access order of the entries of
+     * this cache which were restored from disk, see {@link #restoreFromDirectory(List)}. The entries of the journal are
+     * touched from the least to the most recently used, so that the files which were recently used before the restart are
+     * evicted last. Entries which are not in the journal, e.g. because the node did not stop cleanly, are evicted first.
+     * <p>
+     * The journal is deleted once it has been replayed, so that a later restart without a clean shutdown, which does not
+     * write a new journal, does not replay a stale access order.
+     *
+     * @param journalFile the journal file, which may not exist
+     * @return the number of entries whose access order was restored
+     * @throws IOException if the journal cannot be read or is corrupted
+     */
+    public int restoreAccessOrder(Path journalFile) throws IOException {
+        int restored = 0;
+        long restoredBytes = 0;
+        for (FileCacheJournal.Entry entry : FileCacheJournal.read(journalFile)) {
+            final Path key = entry.path();
+            final Integer refCount = getRef(key);
+            // only touch entries which are not in use, as entries in use are not eligible for eviction anyway
+            if (refCount != null && refCount == 0) {
+                incRef(key);
+                decRef(key);
+                restored++;
+                restoredBytes += entry.length();
+            }
+        }
+        Files.deleteIfExists(journalFile);
+        logger.debug(
+            "restored the access order of [{}] file cache entries ([{}] bytes) from journal [{}]",
+            restored,
+            restoredBytes,
+            journalFile
+        );
+        return restored;
+    }
+
+    /**
+     * Returns the ratio of the lookups of this cache which hit it since the previous window ended, or -1 if there were none so
+     * far. Unlike the totals since the node started, it tells how warm the cache currently is.
+     * <p>
+     * A window closes on the first call at least a second after it started, so it spans the time between two such calls. On a
+     * node which is searched often this is about a second, but on a node which was idle it covers the whole idle period, and
+     * the ratio reflects the lookups made then.
+     */
+    public double recentHitRatio() {
+        return recentHitRatio(System.nanoTime());
+    }
+
+    // package-private for testing
+    synchronized double recentHitRatio(long now) {
+        if (now - hitRatioWindowStartNanos >= HIT_RATIO_WINDOW_NANOS) {
+            final IRefCountedCacheStats stats = stats();
+            final long hits = stats.hitCount() - hitRatioWindowStartHits;
+            final long misses = stats.missCount() - hitRatioWindowStartMisses;
+            if (hits + misses > 0) {
+                recentHitRatio = (double) hits / (hits + misses);
+            }
+            hitRatioWindowStartNanos = now;
+            hitRatioWindowStartHits = stats.hitCount();
+            hitRatioWindowStartMisses = stats.missCount();
+        }
+        return recentHitRatio;
+    }
+
     /**
      * Returns the current {@link AggregateFileCacheStats}
      */
@@ -261,6 +357,7 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
         final RefCountedCacheStats fullFileCacheStats = stats.getFullFileCacheStats();
         final RefCountedCacheStats blockFileCacheStats = stats.getBlockFileCacheStats();
         final RefCountedCacheStats pinnedFileCacheStats = stats.getPinnedFileCacheStats();
+        final RefCountedCacheStats priorityFileCacheStats = stats.getPriorityFileCacheStats();
         return new AggregateFileCacheStats(
             System.currentTimeMillis(),
             new FileCacheStats(
@@ -302,10 +399,37 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
                 pinnedFileCacheStats.hitCount(),
                 pinnedFileCacheStats.missCount(),
                 FileCacheStatsType.PINNED_FILE_STATS
-            )
+            ),
+            new FileCacheStats(
+                priorityFileCacheStats.activeUsage(),
+                capacity(),
+                priorityFileCacheStats.usage(),
+                priorityFileCacheStats.pinnedUsage(),
+                priorityFileCacheStats.evictionWeight(),
+                priorityFileCacheStats.hitCount(),
+                priorityFileCacheStats.missCount(),
+                FileCacheStatsType.PRIORITY_FILE_STATS
+            ),
+            prefetchedBlobs.count(),
+            prefetchHits.count()
         );
     }
 
+    /**
+     * Records that the given number of blobs were read ahead into this cache, see
+     * {@link org.opensearch.index.store.remote.utils.TransferManager#prefetchBlobs(List)}
+     */
+    public void onBlobsPrefetched(int count) {
+        prefetchedBlobs.inc(count);
+    }
+
+    /**
+     * Records that a blob which was read ahead into this cache was then read
+     */
+    public void onPrefetchHit() {
+        prefetchHits.inc();
+    }
+
     /**
      * Placeholder for the existing file blocks that are in the disk-based
      * local cache at node startup time. We can't open a file handle to these
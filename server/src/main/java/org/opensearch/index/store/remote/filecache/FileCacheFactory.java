@@ -10,6 +10,7 @@ package org.opensearch.index.store.remote.filecache;
 
 import org.opensearch.common.cache.RemovalReason;
 import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.index.store.remote.utils.FileTypeUtils;
 import org.opensearch.index.store.remote.utils.cache.SegmentedCache;
 
 import java.nio.file.Files;
@@ -45,10 +46,19 @@ public class FileCacheFactory {
         return new FileCache(createDefaultBuilder().capacity(capacity).concurrencyLevel(concurrencyLevel).build(), circuitBreaker);
     }
 
+    /**
+     * Creates a file cache which evicts by segmented LRU, see {@link SegmentedCache.Builder#segmented(boolean)}. Metadata,
+     * terms and points files are protected from being evicted by a single pass over many other files.
+     */
+    public static FileCache createConcurrentSegmentedLRUFileCache(long capacity, CircuitBreaker circuitBreaker) {
+        return new FileCache(createDefaultBuilder().capacity(capacity).segmented(true).build(), circuitBreaker);
+    }
+
     private static SegmentedCache.Builder<Path, CachedIndexInput> createDefaultBuilder() {
         return SegmentedCache.<Path, CachedIndexInput>builder()
             // use length in bytes as the weight of the file item
             .weigher(CachedIndexInput::length)
+            .priority(path -> FileTypeUtils.isPriorityFile(path.getFileName().toString()))
             .listener((removalNotification) -> {
                 RemovalReason removalReason = removalNotification.getRemovalReason();
                 CachedIndexInput value = removalNotification.getValue();
@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.filecache;
+
+import org.opensearch.common.io.PathUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * A compact on-disk record of the files of the {@link FileCache} and of their sizes, ordered from the least to the most
+ * recently used. The files themselves survive a node restart, but the order in which they were used does not, so the
+ * journal is written when the node stops and replayed at startup to restore the order in which files are evicted.
+ *
+ * @opensearch.internal
+ */
+final class FileCacheJournal {
+
+    private static final int MAGIC = 0x46434a4c; // "FCJL"
+    private static final int VERSION = 1;
+
+    private FileCacheJournal() {}
+
+    /**
+     * A file of the cache and its size in bytes
+     */
+    static final class Entry {
+        private final Path path;
+        private final long length;
+
+        Entry(Path path, long length) {
+            this.path = path;
+            this.length = length;
+        }
+
+        Path path() {
+            return path;
+        }
+
+        long length() {
+            return length;
+        }
+    }
+
+    /**
+     * Atomically replaces the journal at the given path with the given entries.
+     */
+    static void write(Path journalFile, List<Entry> entries) throws IOException {
+        final Path tempFile = journalFile.resolveSibling(journalFile.getFileName() + ".tmp");
+        final CRC32 checksum = new CRC32();
+        try (
+            CheckedOutputStream checkedOutputStream = new CheckedOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(tempFile)),
+                checksum
+            );
+            DataOutputStream out = new DataOutputStream(checkedOutputStream)
+        ) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(entries.size());
+            for (Entry entry : entries) {
+                out.writeUTF(entry.path().toString());
+                out.writeLong(entry.length());
+            }
+            out.flush();
+            // the checksum covers everything before it
+            out.writeLong(checksum.getValue());
+        }
+        Files.move(tempFile, journalFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads the entries of the journal at the given path, or returns an empty list if there is no journal.
+     *
+     * @throws IOException if the journal cannot be read or is corrupted
+     */
+    static List<Entry> read(Path journalFile) throws IOException {
+        final byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(journalFile);
+        } catch (NoSuchFileException e) {
+            return Collections.emptyList();
+        }
+        // verify the checksum, which covers everything before it, before parsing anything
+        if (bytes.length < Long.BYTES) {
+            throw new IOException("file cache journal [" + journalFile + "] is truncated");
+        }
+        final int checksumOffset = bytes.length - Long.BYTES;
+        final CRC32 checksum = new CRC32();
+        checksum.update(bytes, 0, checksumOffset);
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            in.skipNBytes(checksumOffset);
+            if (in.readLong() != checksum.getValue()) {
+                throw new IOException("file cache journal [" + journalFile + "] is corrupted, checksum mismatch");
+            }
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 0, checksumOffset))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("file cache journal [" + journalFile + "] has an invalid header");
+            }
+            final int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("file cache journal [" + journalFile + "] has an unsupported version [" + version + "]");
+            }
+            final int size = in.readInt();
+            final List<Entry> entries = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                entries.add(new Entry(PathUtils.get(in.readUTF()), in.readLong()));
+            }
+            return entries;
+        }
+    }
+}
@@ -12,6 +12,8 @@ import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 
+import java.util.Locale;
+
 /**
  * Settings relate to file cache
  *
@@ -32,6 +34,41 @@ public class FileCacheSettings {
         Setting.Property.Dynamic
     );
 
+    /**
+     * The eviction policy of the file cache of the node: {@code lru}, or {@code slru} which protects files that are used
+     * over and over again, as well as the metadata and the terms and points of segments, from being evicted by a single
+     * pass over many files, like a scroll or a reindex.
+     */
+    public static final Setting<EvictionPolicy> EVICTION_POLICY_SETTING = new Setting<>(
+        "node.search.cache.eviction_policy",
+        EvictionPolicy.LRU.toString(),
+        EvictionPolicy::fromString,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Eviction policies of the file cache
+     *
+     * @opensearch.internal
+     */
+    public enum EvictionPolicy {
+        LRU,
+        SLRU;
+
+        public static EvictionPolicy fromString(String policy) {
+            try {
+                return valueOf(policy.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("unknown file cache eviction policy [" + policy + "], must be one of [lru, slru]", e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
     private volatile double remoteDataRatio;
 
     public FileCacheSettings(Settings settings, ClusterSettings clusterSettings) {
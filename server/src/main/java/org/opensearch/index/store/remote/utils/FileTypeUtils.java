@@ -10,6 +10,8 @@ package org.opensearch.index.store.remote.utils;
 
 import org.opensearch.common.annotation.ExperimentalApi;
 
+import java.util.Set;
+
 /**
  * Utility class for checking file types
  *
@@ -21,6 +23,24 @@ public class FileTypeUtils {
     public static String BLOCK_FILE_IDENTIFIER = "_block_";
     public static String INDICES_FOLDER_IDENTIFIER = "index";
 
+    private static final Set<String> METADATA_FILE_EXTENSIONS = Set.of(
+        "si",
+        "fnm",
+        "cfe",
+        "tmd",
+        "tip",
+        "dvm",
+        "nvm",
+        "fdm",
+        "fdx",
+        "kdm",
+        "kdi",
+        "vem"
+    );
+
+    // the terms dictionary and the points, which are used by most queries, in addition to the metadata files
+    private static final Set<String> PRIORITY_FILE_EXTENSIONS = Set.of("tim", "kdd");
+
     public static boolean isTempFile(String name) {
         return name.endsWith(".tmp");
     }
@@ -40,4 +60,31 @@ public class FileTypeUtils {
     public static boolean isSegmentsFile(String name) {
         return name.startsWith("segments_");
     }
+
+    /**
+     * Whether the file is a Lucene metadata or index file which is read in full when a segment is opened, like the field
+     * infos or the terms, doc values, norms, stored fields and points metadata
+     */
+    public static boolean isMetadataFile(String name) {
+        final int extensionStart = name.lastIndexOf('.');
+        if (extensionStart == -1) {
+            return false;
+        }
+        return METADATA_FILE_EXTENSIONS.contains(name.substring(extensionStart + 1));
+    }
+
+    /**
+     * Whether the file, or the block of a file, is a metadata file or an index structure used by most queries, like the terms
+     * dictionary and the points, as opposed to e.g. stored fields which are only read for the top hits
+     */
+    public static boolean isPriorityFile(String name) {
+        final int blockStart = name.lastIndexOf(BLOCK_FILE_IDENTIFIER);
+        final String fileName = blockStart == -1 ? name : name.substring(0, blockStart);
+        final int extensionStart = fileName.lastIndexOf('.');
+        if (extensionStart == -1) {
+            return false;
+        }
+        final String extension = fileName.substring(extensionStart + 1);
+        return METADATA_FILE_EXTENSIONS.contains(extension) || PRIORITY_FILE_EXTENSIONS.contains(extension);
+    }
 }
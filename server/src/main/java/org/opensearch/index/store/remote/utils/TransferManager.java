@@ -10,28 +10,40 @@ package org.opensearch.index.store.remote.utils;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexInput;
 import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.io.Streams;
 import org.opensearch.index.store.remote.filecache.CachedIndexInput;
 import org.opensearch.index.store.remote.filecache.FileCache;
 import org.opensearch.index.store.remote.filecache.FileCachedIndexInput;
 import org.opensearch.threadpool.ThreadPool;
 
 import java.io.BufferedOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * This acts as entry point to fetch {@link BlobFetchRequest} and return actual {@link IndexInput}. Utilizes the BlobContainer interface to
@@ -50,6 +62,21 @@ public class TransferManager {
         InputStream read(String name, long position, long length) throws IOException;
     }
 
+    /**
+     * Blobs of at least twice this size are downloaded with parallel ranged reads of this size
+     */
+    static final long PARALLEL_DOWNLOAD_PART_SIZE = 8 * 1024 * 1024;
+
+    /**
+     * The maximum number of ranged reads to download a single blob with in parallel
+     */
+    static final int MAX_PARALLEL_DOWNLOADS = 4;
+
+    /**
+     * The maximum number of bytes of adjacent blobs which are prefetched with a single ranged read
+     */
+    static final long MAX_COALESCED_DOWNLOAD_SIZE = 64 * 1024 * 1024;
+
     private final StreamReader streamReader;
     private final FileCache fileCache;
     private final ThreadPool threadPool;
@@ -83,7 +110,7 @@ public class TransferManager {
                     if (cachedIndexInput == null || cachedIndexInput.isClosed()) {
                         logger.trace("Transfer Manager - IndexInput closed or not in cache");
                         // Doesn't exist or is closed, either way create a new one
-                        return new DelayedCreationCachedIndexInput(fileCache, streamReader, blobFetchRequest);
+                        return new DelayedCreationCachedIndexInput(fileCache, streamReader, blobFetchRequest, downloadExecutor());
                     } else {
                         logger.trace("Transfer Manager - Already in cache");
                         // already in the cache and ready to be used (open)
@@ -91,6 +118,11 @@ public class TransferManager {
                     }
                 });
 
+                if (cacheEntry instanceof DelayedCreationCachedIndexInput
+                    && ((DelayedCreationCachedIndexInput) cacheEntry).prefetched.compareAndSet(true, false)) {
+                    fileCache.onPrefetchHit();
+                }
+
                 // Cache entry was either retrieved from the cache or newly added, either
                 // way the reference count has been incremented by one. We can only
                 // decrement this reference _after_ creating the clone to be returned.
@@ -121,7 +153,7 @@ public class TransferManager {
                 if (cachedIndexInput == null || cachedIndexInput.isClosed()) {
                     logger.trace("Transfer Manager - IndexInput closed or not in cache");
                     // Doesn't exist or is closed, either way create a new one
-                    return new DelayedCreationCachedIndexInput(fileCache, streamReader, blobFetchRequest);
+                    return new DelayedCreationCachedIndexInput(fileCache, streamReader, blobFetchRequest, downloadExecutor());
                 } else {
                     logger.trace("Transfer Manager - Required blob Already in cache: {}", blobFetchRequest.toString());
                     // already in the cache and ready to be used (open)
@@ -144,47 +176,355 @@ public class TransferManager {
         }
     }
 
-    private static FileCachedIndexInput createIndexInput(FileCache fileCache, StreamReader streamReader, BlobFetchRequest request) {
-        try {
-            // This local file cache is ref counted and may not strictly enforce configured capacity.
-            // If we find available capacity is exceeded, deny further BlobFetchRequests.
-            if (fileCache.capacity() < fileCache.usage()) {
-                fileCache.prune();
-                throw new IOException(
-                    "Local file cache capacity ("
-                        + fileCache.capacity()
-                        + ") exceeded ("
-                        + fileCache.usage()
-                        + ") - BlobFetchRequest failed: "
-                        + request.getFilePath()
-                );
+    /**
+     * Starts downloading the given blob into the file cache in the background, unless it is already cached or being
+     * downloaded, so that a later {@link #fetchBlob(BlobFetchRequest)} of the same blob does not block on the remote store.
+     * A failed download removes the blob from the cache, so that it is downloaded again when it is actually read.
+     *
+     * @param blobFetchRequest to prefetch
+     */
+    public void prefetchBlob(BlobFetchRequest blobFetchRequest) {
+        prefetchBlobs(List.of(blobFetchRequest));
+    }
+
+    /**
+     * Like {@link #prefetchBlob(BlobFetchRequest)} for each of the given blobs, but blobs which are adjacent ranges of the
+     * same remote blob, like consecutive blocks of a file, are downloaded with a single ranged read rather than with one
+     * read each.
+     *
+     * @param blobFetchRequests to prefetch, in the order of their position in the remote blob
+     */
+    @SuppressWarnings("removal")
+    public void prefetchBlobs(List<BlobFetchRequest> blobFetchRequests) {
+        final List<DelayedCreationCachedIndexInput> started = new ArrayList<>(blobFetchRequests.size());
+        for (BlobFetchRequest blobFetchRequest : blobFetchRequests) {
+            final Path key = blobFetchRequest.getFilePath();
+            logger.trace("prefetchBlob called for {}", key);
+            try {
+                AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
+                    CachedIndexInput cacheEntry = fileCache.compute(key, (path, cachedIndexInput) -> {
+                        if (cachedIndexInput == null || cachedIndexInput.isClosed()) {
+                            return new DelayedCreationCachedIndexInput(fileCache, streamReader, blobFetchRequest, downloadExecutor());
+                        }
+                        return cachedIndexInput;
+                    });
+                    if (cacheEntry instanceof DelayedCreationCachedIndexInput
+                        && ((DelayedCreationCachedIndexInput) cacheEntry).tryStartPrefetch()) {
+                        // the background download releases the reference once it completes
+                        started.add((DelayedCreationCachedIndexInput) cacheEntry);
+                    } else {
+                        fileCache.decRef(key);
+                    }
+                    return null;
+                });
+            } catch (Exception e) {
+                logger.debug(() -> new ParameterizedMessage("failed to prefetch blob {}", key), e);
             }
-            if (Files.exists(request.getFilePath()) == false) {
-                logger.trace("Fetching from Remote in createIndexInput of Transfer Manager");
-                try (
-                    OutputStream fileOutputStream = Files.newOutputStream(request.getFilePath());
-                    OutputStream localFileOutputStream = new BufferedOutputStream(fileOutputStream)
-                ) {
-                    for (BlobFetchRequest.BlobPart blobPart : request.blobParts()) {
-                        try (
-                            InputStream snapshotFileInputStream = streamReader.read(
-                                blobPart.getBlobName(),
-                                blobPart.getPosition(),
-                                blobPart.getLength()
-                            );
-                        ) {
-                            snapshotFileInputStream.transferTo(localFileOutputStream);
+        }
+        for (List<DelayedCreationCachedIndexInput> adjacent : groupAdjacent(started)) {
+            fileCache.onBlobsPrefetched(adjacent.size());
+            try {
+                threadPool.executor(ThreadPool.Names.REMOTE_RECOVERY).execute(() -> prefetch(adjacent));
+            } catch (Exception e) {
+                // e.g. the executor rejected the download, fail the entries so that they are downloaded again when read
+                for (DelayedCreationCachedIndexInput entry : adjacent) {
+                    entry.onPrefetchFailure(e);
+                }
+            }
+        }
+    }
+
+    private Executor downloadExecutor() {
+        return threadPool == null ? null : threadPool.executor(ThreadPool.Names.REMOTE_RECOVERY);
+    }
+
+    /**
+     * Downloads the given adjacent blobs with a single ranged read, or a single blob with parallel ranged reads if it is
+     * large enough, and completes their cache entries.
+     */
+    private void prefetch(List<DelayedCreationCachedIndexInput> adjacent) {
+        if (adjacent.size() == 1) {
+            final DelayedCreationCachedIndexInput entry = adjacent.get(0);
+            try {
+                ensureCapacity(fileCache, entry.request);
+                if (Files.exists(entry.request.getFilePath()) == false) {
+                    download(streamReader, entry.request, entry.downloadExecutor);
+                }
+            } catch (Exception e) {
+                entry.onPrefetchFailure(e);
+                return;
+            }
+            entry.onPrefetched();
+            return;
+        }
+        int completed = 0;
+        try {
+            final BlobFetchRequest.BlobPart first = coalesce(adjacent.get(0).request.blobParts()).get(0);
+            final long length = adjacent.stream().mapToLong(entry -> entry.request.getBlobLength()).sum();
+            try (InputStream inputStream = streamReader.read(first.getBlobName(), first.getPosition(), length)) {
+                for (DelayedCreationCachedIndexInput entry : adjacent) {
+                    final BlobFetchRequest request = entry.request;
+                    ensureCapacity(fileCache, request);
+                    if (Files.exists(request.getFilePath())) {
+                        inputStream.skipNBytes(request.getBlobLength());
+                    } else {
+                        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(request.getFilePath()))) {
+                            final long copied = Streams.limitStream(inputStream, request.getBlobLength()).transferTo(outputStream);
+                            if (copied != request.getBlobLength()) {
+                                throw new EOFException(
+                                    "expected [" + request.getBlobLength() + "] bytes but got [" + copied + "] for " + request.getFileName()
+                                );
+                            }
                         }
                     }
+                    completed++;
+                    entry.onPrefetched();
+                }
+            }
+        } catch (Exception e) {
+            for (int i = completed; i < adjacent.size(); i++) {
+                adjacent.get(i).onPrefetchFailure(e);
+            }
+        }
+    }
+
+    /**
+     * Groups the given cache entries into runs of blobs which are adjacent ranges of the same remote blob, so that each run
+     * can be downloaded with a single ranged read.
+     */
+    private static List<List<DelayedCreationCachedIndexInput>> groupAdjacent(List<DelayedCreationCachedIndexInput> entries) {
+        final List<List<DelayedCreationCachedIndexInput>> groups = new ArrayList<>();
+        List<DelayedCreationCachedIndexInput> group = null;
+        BlobFetchRequest.BlobPart last = null;
+        long groupLength = 0;
+        for (DelayedCreationCachedIndexInput entry : entries) {
+            final List<BlobFetchRequest.BlobPart> parts = coalesce(entry.request.blobParts());
+            // blobs which span several remote blobs are downloaded on their own
+            final BlobFetchRequest.BlobPart part = parts.size() == 1 ? parts.get(0) : null;
+            if (group != null
+                && last != null
+                && part != null
+                && last.getBlobName().equals(part.getBlobName())
+                && last.getPosition() + last.getLength() == part.getPosition()
+                && groupLength + part.getLength() <= MAX_COALESCED_DOWNLOAD_SIZE) {
+                group.add(entry);
+                groupLength += part.getLength();
+            } else {
+                group = new ArrayList<>();
+                group.add(entry);
+                groups.add(group);
+                groupLength = entry.request.getBlobLength();
+            }
+            last = part;
+        }
+        return groups;
+    }
+
+    /**
+     * Merges blob parts which are adjacent ranges of the same remote blob.
+     */
+    static List<BlobFetchRequest.BlobPart> coalesce(List<BlobFetchRequest.BlobPart> blobParts) {
+        final List<BlobFetchRequest.BlobPart> coalesced = new ArrayList<>(blobParts.size());
+        BlobFetchRequest.BlobPart last = null;
+        for (BlobFetchRequest.BlobPart blobPart : blobParts) {
+            if (last != null
+                && last.getBlobName().equals(blobPart.getBlobName())
+                && last.getPosition() + last.getLength() == blobPart.getPosition()) {
+                last = new BlobFetchRequest.BlobPart(last.getBlobName(), last.getPosition(), last.getLength() + blobPart.getLength());
+                coalesced.set(coalesced.size() - 1, last);
+            } else {
+                last = blobPart;
+                coalesced.add(blobPart);
+            }
+        }
+        return coalesced;
+    }
+
+    private static void ensureCapacity(FileCache fileCache, BlobFetchRequest request) throws IOException {
+        // This local file cache is ref counted and may not strictly enforce configured capacity.
+        // If we find available capacity is exceeded, deny further BlobFetchRequests.
+        if (fileCache.capacity() < fileCache.usage()) {
+            fileCache.prune();
+            throw new IOException(
+                "Local file cache capacity ("
+                    + fileCache.capacity()
+                    + ") exceeded ("
+                    + fileCache.usage()
+                    + ") - BlobFetchRequest failed: "
+                    + request.getFilePath()
+            );
+        }
+    }
+
+    /**
+     * Downloads the given blob into its file. Blobs of at least twice {@link #PARALLEL_DOWNLOAD_PART_SIZE} are split into
+     * ranged reads which are downloaded in parallel on the given executor, if any.
+     */
+    private static void download(StreamReader streamReader, BlobFetchRequest request, Executor executor) throws IOException {
+        final List<BlobFetchRequest.BlobPart> blobParts = coalesce(request.blobParts());
+        if (executor == null || request.getBlobLength() < 2 * PARALLEL_DOWNLOAD_PART_SIZE) {
+            try (
+                OutputStream fileOutputStream = Files.newOutputStream(request.getFilePath());
+                OutputStream localFileOutputStream = new BufferedOutputStream(fileOutputStream)
+            ) {
+                for (BlobFetchRequest.BlobPart blobPart : blobParts) {
+                    try (
+                        InputStream snapshotFileInputStream = streamReader.read(
+                            blobPart.getBlobName(),
+                            blobPart.getPosition(),
+                            blobPart.getLength()
+                        );
+                    ) {
+                        snapshotFileInputStream.transferTo(localFileOutputStream);
+                    }
                 }
             }
-            final IndexInput luceneIndexInput = request.getDirectory().openInput(request.getFileName(), IOContext.DEFAULT);
-            return new FileCachedIndexInput(fileCache, request.getFilePath(), luceneIndexInput);
+            return;
+        }
+        final List<RangedRead> rangedReads = new ArrayList<>();
+        long fileOffset = 0;
+        for (BlobFetchRequest.BlobPart blobPart : blobParts) {
+            for (long offset = 0; offset < blobPart.getLength(); offset += PARALLEL_DOWNLOAD_PART_SIZE) {
+                final long length = Math.min(PARALLEL_DOWNLOAD_PART_SIZE, blobPart.getLength() - offset);
+                rangedReads.add(new RangedRead(blobPart.getBlobName(), blobPart.getPosition() + offset, length, fileOffset + offset));
+            }
+            fileOffset += blobPart.getLength();
+        }
+        try (
+            FileChannel channel = FileChannel.open(
+                request.getFilePath(),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE
+            )
+        ) {
+            new ParallelDownload(streamReader, channel, rangedReads).run(executor);
+        }
+    }
+
+    private static FileCachedIndexInput openIndexInput(FileCache fileCache, BlobFetchRequest request) throws IOException {
+        final IndexInput luceneIndexInput = request.getDirectory().openInput(request.getFileName(), IOContext.DEFAULT);
+        return new FileCachedIndexInput(fileCache, request.getFilePath(), luceneIndexInput);
+    }
+
+    private static FileCachedIndexInput createIndexInput(
+        FileCache fileCache,
+        StreamReader streamReader,
+        BlobFetchRequest request,
+        Executor executor
+    ) {
+        try {
+            ensureCapacity(fileCache, request);
+            if (Files.exists(request.getFilePath()) == false) {
+                logger.trace("Fetching from Remote in createIndexInput of Transfer Manager");
+                download(streamReader, request, executor);
+            }
+            return openIndexInput(fileCache, request);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
+    /**
+     * A range of a remote blob, and the offset in the local file to write it to
+     */
+    private static final class RangedRead {
+        private final String blobName;
+        private final long position;
+        private final long length;
+        private final long fileOffset;
+
+        private RangedRead(String blobName, long position, long length, long fileOffset) {
+            this.blobName = blobName;
+            this.position = position;
+            this.length = length;
+            this.fileOffset = fileOffset;
+        }
+    }
+
+    /**
+     * Downloads ranged reads into a file in parallel. The calling thread takes part in the download, and ranged reads are
+     * claimed one at a time, so that the download completes even if the executor never runs the helper tasks, e.g. because
+     * its threads are all busy with downloads themselves.
+     */
+    private static final class ParallelDownload {
+        private final StreamReader streamReader;
+        private final FileChannel channel;
+        private final List<RangedRead> rangedReads;
+        private final AtomicInteger nextRangedRead = new AtomicInteger();
+        private final CountDownLatch completed;
+        private final AtomicReference<Exception> failure = new AtomicReference<>();
+
+        private ParallelDownload(StreamReader streamReader, FileChannel channel, List<RangedRead> rangedReads) {
+            this.streamReader = streamReader;
+            this.channel = channel;
+            this.rangedReads = rangedReads;
+            this.completed = new CountDownLatch(rangedReads.size());
+        }
+
+        private void run(Executor executor) throws IOException {
+            final int helpers = Math.min(rangedReads.size(), MAX_PARALLEL_DOWNLOADS) - 1;
+            for (int i = 0; i < helpers; i++) {
+                try {
+                    executor.execute(this::downloadRangedReads);
+                } catch (Exception e) {
+                    // the calling thread downloads the remaining ranged reads
+                    break;
+                }
+            }
+            downloadRangedReads();
+            try {
+                // wait for the ranged reads which were claimed by the helper tasks
+                completed.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("interrupted while downloading ranged reads");
+            }
+            final Exception e = failure.get();
+            if (e instanceof IOException) {
+                throw (IOException) e;
+            } else if (e != null) {
+                throw new IOException(e);
+            }
+        }
+
+        private void downloadRangedReads() {
+            int index;
+            while ((index = nextRangedRead.getAndIncrement()) < rangedReads.size()) {
+                try {
+                    if (failure.get() == null) {
+                        download(rangedReads.get(index));
+                    }
+                } catch (Exception e) {
+                    if (failure.compareAndSet(null, e) == false) {
+                        failure.get().addSuppressed(e);
+                    }
+                } finally {
+                    completed.countDown();
+                }
+            }
+        }
+
+        private void download(RangedRead rangedRead) throws IOException {
+            final byte[] buffer = new byte[64 * 1024];
+            long fileOffset = rangedRead.fileOffset;
+            long remaining = rangedRead.length;
+            try (InputStream inputStream = streamReader.read(rangedRead.blobName, rangedRead.position, rangedRead.length)) {
+                while (remaining > 0) {
+                    final int read = inputStream.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                    if (read < 0) {
+                        throw new EOFException("unexpected end of blob [" + rangedRead.blobName + "] at position [" + fileOffset + "]");
+                    }
+                    final ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, read);
+                    while (byteBuffer.hasRemaining()) {
+                        fileOffset += channel.write(byteBuffer, fileOffset);
+                    }
+                    remaining -= read;
+                }
+            }
+        }
+    }
+
     /**
      * Implementation of CachedIndexInput the defers creation of the underlying
      * IndexInput until the first invocation of {@link #getIndexInput()}. This
@@ -196,14 +536,23 @@ public class TransferManager {
         private final FileCache fileCache;
         private final StreamReader streamReader;
         private final BlobFetchRequest request;
+        private final Executor downloadExecutor;
         private final CompletableFuture<IndexInput> result = new CompletableFuture<>();
         private final AtomicBoolean isStarted = new AtomicBoolean(false);
         private final AtomicBoolean isClosed = new AtomicBoolean(false);
+        // whether the blob was downloaded by a prefetch and was not read yet
+        private final AtomicBoolean prefetched = new AtomicBoolean(false);
 
-        private DelayedCreationCachedIndexInput(FileCache fileCache, StreamReader streamReader, BlobFetchRequest request) {
+        private DelayedCreationCachedIndexInput(
+            FileCache fileCache,
+            StreamReader streamReader,
+            BlobFetchRequest request,
+            Executor downloadExecutor
+        ) {
             this.fileCache = fileCache;
             this.streamReader = streamReader;
             this.request = request;
+            this.downloadExecutor = downloadExecutor;
         }
 
         @Override
@@ -214,7 +563,7 @@ public class TransferManager {
             if (isStarted.getAndSet(true) == false) {
                 // We're the first one here, need to download the block
                 try {
-                    result.complete(createIndexInput(fileCache, streamReader, request));
+                    result.complete(createIndexInput(fileCache, streamReader, request, downloadExecutor));
                 } catch (Exception e) {
                     result.completeExceptionally(e);
                     fileCache.remove(request.getFilePath());
@@ -241,7 +590,7 @@ public class TransferManager {
                 // Create new future and set it as the result
                 CompletableFuture.supplyAsync(() -> {
                     try {
-                        return createIndexInput(fileCache, streamReader, request);
+                        return createIndexInput(fileCache, streamReader, request, downloadExecutor);
                     } catch (Exception e) {
                         fileCache.remove(request.getFilePath());
                         throw new CompletionException(e);
@@ -259,6 +608,40 @@ public class TransferManager {
             return result;
         }
 
+        /**
+         * Marks the download as started by a prefetch unless it was already started, in which case the caller keeps its
+         * reference to the cache entry.
+         *
+         * @return whether the prefetch must download the blob, and then release the reference of the caller by calling
+         *         either {@link #onPrefetched()} or {@link #onPrefetchFailure(Exception)}
+         */
+        private boolean tryStartPrefetch() {
+            if (isClosed.get() || isStarted.getAndSet(true)) {
+                return false;
+            }
+            prefetched.set(true);
+            return true;
+        }
+
+        private void onPrefetched() {
+            final FileCachedIndexInput indexInput;
+            try {
+                indexInput = openIndexInput(fileCache, request);
+            } catch (Exception e) {
+                onPrefetchFailure(e);
+                return;
+            }
+            result.complete(indexInput);
+            fileCache.decRef(request.getFilePath());
+        }
+
+        private void onPrefetchFailure(Exception e) {
+            prefetched.set(false);
+            result.completeExceptionally(e);
+            fileCache.remove(request.getFilePath());
+            fileCache.decRef(request.getFilePath());
+        }
+
         @Override
         public long length() {
             return request.getBlobLength();
@@ -24,6 +24,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 
@@ -42,6 +43,8 @@ import java.util.function.Predicate;
  * <li>Supports RemovalListener</li>
  * <li>Supports Cache Pinning.</li>
  * <li>Cache maintains it's capacity using LRU Eviction while ignoring entries with {@link Node#refCount} greater than 0 from eviction</li>
+ * <li>Optionally segments the LRU list into a probationary and a protected segment, see
+ * {@link #LRUCache(long, RemovalListener, Weigher, boolean, Predicate)}</li>
  * </ul>
  * @see RefCountedCache
  *
@@ -49,13 +52,31 @@ import java.util.function.Predicate;
  */
 class LRUCache<K, V> implements RefCountedCache<K, V> {
     private static final Logger logger = LogManager.getLogger(LRUCache.class);
+
+    /**
+     * The share of the capacity of a segmented cache which holds protected entries
+     */
+    static final double PROTECTED_RATIO = 0.8;
+
     private final long capacity;
 
     private final HashMap<K, Node<K, V>> data;
 
-    /** the LRU list */
+    /** the LRU list, which holds the probationary entries if the cache is segmented */
     private final LinkedHashMap<K, Node<K, V>> lru;
 
+    /** the LRU list of the protected entries if the cache is segmented, which are only evicted after all probationary entries */
+    private final LinkedHashMap<K, Node<K, V>> protectedLru;
+
+    private final boolean segmented;
+
+    private final Predicate<K> isPriority;
+
+    private final long protectedCapacity;
+
+    /** the weight of the protected entries, including the ones in use */
+    private long protectedUsage;
+
     private final RemovalListener<K, V> listener;
 
     private final Weigher<V> weigher;
@@ -75,6 +96,8 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
         boolean pinned;
 
+        boolean protectedEntry;
+
         Node(K key, V value, long weight) {
             this.key = key;
             this.value = value;
@@ -89,13 +112,31 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
     }
 
     public LRUCache(long capacity, RemovalListener<K, V> listener, Weigher<V> weigher) {
+        this(capacity, listener, weigher, false, key -> false);
+    }
+
+    /**
+     * Creates a cache which is optionally segmented: entries are first admitted into a probationary segment and are only
+     * promoted to the protected segment, which holds up to {@link #PROTECTED_RATIO} of the capacity, once they are
+     * accessed again. Entries are evicted from the probationary segment first, so that a single pass over many files, like
+     * a scroll, does not evict the files which are used over and over again. Priority entries are admitted into the
+     * protected segment straight away.
+     *
+     * @param segmented whether the cache is segmented
+     * @param isPriority whether the entry of the given key is a priority entry, whose stats are also tracked separately
+     */
+    public LRUCache(long capacity, RemovalListener<K, V> listener, Weigher<V> weigher, boolean segmented, Predicate<K> isPriority) {
         this.capacity = capacity;
         this.listener = listener;
         this.weigher = weigher;
         this.data = new HashMap<>();
         this.lru = new LinkedHashMap<>();
+        this.protectedLru = new LinkedHashMap<>();
+        this.segmented = segmented;
+        this.isPriority = isPriority;
+        this.protectedCapacity = segmented ? (long) (capacity * PROTECTED_RATIO) : 0;
         this.lock = new ReentrantLock();
-        this.statsCounter = new FileStatsCounter<>();
+        this.statsCounter = new FileStatsCounter<>(isPriority);
 
     }
 
@@ -113,6 +154,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
             // hit
             incRef(key);
             statsCounter.recordHits(key, node.value, node.pinned, 1);
+            promote(node);
             return node.value;
         } finally {
             lock.unlock();
@@ -165,6 +207,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
                 } else {
                     statsCounter.recordHits(key, node.value, node.pinned, 1);
                     replaceNode(node, newValue);
+                    promote(node);
                     return newValue;
                 }
             }
@@ -207,11 +250,13 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         lock.lock();
         try {
             lru.clear();
+            protectedLru.clear();
+            protectedUsage = 0;
             final Iterator<Node<K, V>> iterator = data.values().iterator();
             while (iterator.hasNext()) {
                 Node<K, V> node = iterator.next();
                 iterator.remove();
-                statsCounter.recordRemoval(node.value, node.pinned, node.weight);
+                statsCounter.recordRemoval(node.key, node.value, node.pinned, node.weight);
                 listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.EXPLICIT));
             }
             statsCounter.resetUsage();
@@ -236,12 +281,12 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
             if (node != null) {
                 if (node.refCount == 0) {
                     // if it was inactive, we should add the weight to active usage from now
-                    statsCounter.recordActiveUsage(node.value, node.weight, node.pinned, false);
+                    statsCounter.recordActiveUsage(node.key, node.value, node.weight, node.pinned, false);
                 }
 
                 if (node.evictable()) {
                     // since it become active, we should remove it from eviction list
-                    lru.remove(node.key);
+                    evictionList(node).remove(node.key);
                 }
 
                 node.refCount++;
@@ -263,12 +308,12 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
                 if (node.evictable()) {
                     // if it becomes evictable, we should add it to eviction list
-                    lru.put(node.key, node);
+                    evictionList(node).put(node.key, node);
                 }
 
                 if (node.refCount == 0) {
                     // if it was active, we should remove its weight from active usage
-                    statsCounter.recordActiveUsage(node.value, node.weight, node.pinned, true);
+                    statsCounter.recordActiveUsage(node.key, node.value, node.weight, node.pinned, true);
                 }
             }
         } finally {
@@ -289,12 +334,12 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
             Node<K, V> node = data.get(key);
             if (node != null) {
                 if (node.pinned == false) {
-                    statsCounter.recordPinnedUsage(node.value, node.weight, false);
+                    statsCounter.recordPinnedUsage(node.key, node.value, node.weight, false);
                 }
 
                 if (node.evictable()) {
                     // since its pinned, we should remove it from eviction list
-                    lru.remove(node.key, node);
+                    evictionList(node).remove(node.key, node);
                 }
 
                 node.pinned = true;
@@ -322,10 +367,10 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
                 if (node.evictable()) {
                     // if it becomes evictable, we should add it to eviction list
-                    lru.put(node.key, node);
+                    evictionList(node).put(node.key, node);
                 }
 
-                statsCounter.recordPinnedUsage(node.value, node.weight, true);
+                statsCounter.recordPinnedUsage(node.key, node.value, node.weight, true);
             }
 
         } finally {
@@ -350,24 +395,31 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
     @Override
     public long prune(Predicate<K> keyPredicate) {
-        long sum = 0L;
         lock.lock();
         try {
-            final Iterator<Node<K, V>> iterator = lru.values().iterator();
-            while (iterator.hasNext()) {
-                final Node<K, V> node = iterator.next();
-                if (keyPredicate != null && !keyPredicate.test(node.key)) {
-                    continue;
-                }
-                iterator.remove();
-                data.remove(node.key, node);
-                sum += node.weight;
-                statsCounter.recordRemoval(node.value, node.pinned, node.weight);
-                listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.EXPLICIT));
-            }
+            return prune(lru, keyPredicate) + prune(protectedLru, keyPredicate);
         } finally {
             lock.unlock();
         }
+    }
+
+    private long prune(LinkedHashMap<K, Node<K, V>> evictionList, Predicate<K> keyPredicate) {
+        long sum = 0L;
+        final Iterator<Node<K, V>> iterator = evictionList.values().iterator();
+        while (iterator.hasNext()) {
+            final Node<K, V> node = iterator.next();
+            if (keyPredicate != null && !keyPredicate.test(node.key)) {
+                continue;
+            }
+            iterator.remove();
+            data.remove(node.key, node);
+            sum += node.weight;
+            if (node.protectedEntry) {
+                protectedUsage -= node.weight;
+            }
+            statsCounter.recordRemoval(node.key, node.value, node.pinned, node.weight);
+            listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.EXPLICIT));
+        }
         return sum;
     }
 
@@ -416,6 +468,29 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         }
     }
 
+    /**
+     * Visits the keys and weights of the entries of this cache from the least to the most recently used. Entries which are
+     * referenced or pinned are visited last, as they are in use.
+     */
+    public void forEachInAccessOrder(BiConsumer<K, Long> consumer) {
+        lock.lock();
+        try {
+            for (Node<K, V> node : lru.values()) {
+                consumer.accept(node.key, node.weight);
+            }
+            for (Node<K, V> node : protectedLru.values()) {
+                consumer.accept(node.key, node.weight);
+            }
+            for (Node<K, V> node : data.values()) {
+                if (node.evictable() == false) {
+                    consumer.accept(node.key, node.weight);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
     // To be used only for debugging purposes
     public void logCurrentState() {
         lock.lock();
@@ -443,8 +518,13 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         final long weight = weigher.weightOf(value);
         Node<K, V> newNode = new Node<>(key, value, weight);
         data.put(key, newNode);
-        statsCounter.recordUsage(value, weight, pinned, false);
+        statsCounter.recordUsage(key, value, weight, pinned, false);
         incRef(key);
+        if (segmented && isPriority.test(key)) {
+            newNode.protectedEntry = true;
+            protectedUsage += weight;
+            demoteProtected();
+        }
         evict();
     }
 
@@ -456,9 +536,12 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
             // update the value and weight
             node.value = newValue;
             node.weight = newWeight;
+            if (node.protectedEntry) {
+                protectedUsage += newWeight - oldWeight;
+            }
 
             // update stats
-            statsCounter.recordReplacement(oldValue, newValue, oldWeight, newWeight, node.refCount > 0, node.pinned);
+            statsCounter.recordReplacement(node.key, oldValue, newValue, oldWeight, newWeight, node.refCount > 0, node.pinned);
             listener.onRemoval(new RemovalNotification<>(node.key, oldValue, RemovalReason.REPLACED));
         }
         incRef(node.key);
@@ -469,17 +552,20 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         Node<K, V> node = data.remove(key);
         if (node != null) {
             if (node.refCount > 0) {
-                statsCounter.recordActiveUsage(node.value, node.weight, node.pinned, true);
+                statsCounter.recordActiveUsage(node.key, node.value, node.weight, node.pinned, true);
             }
             if (node.evictable()) {
-                lru.remove(node.key);
+                evictionList(node).remove(node.key);
+            }
+            if (node.protectedEntry) {
+                protectedUsage -= node.weight;
             }
 
             if (node.pinned) {
-                statsCounter.recordPinnedUsage(node.value, node.weight, true);
+                statsCounter.recordPinnedUsage(node.key, node.value, node.weight, true);
             }
 
-            statsCounter.recordRemoval(node.value, node.pinned, node.weight);
+            statsCounter.recordRemoval(node.key, node.value, node.pinned, node.weight);
             listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.EXPLICIT));
         }
     }
@@ -490,15 +576,55 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
     private void evict() {
         // Attempts to evict entries from the cache if it exceeds the maximum
-        // capacity.
-        final Iterator<Node<K, V>> iterator = lru.values().iterator();
+        // capacity, starting with the probationary entries of a segmented cache.
+        evict(lru);
+        evict(protectedLru);
+    }
+
+    private void evict(LinkedHashMap<K, Node<K, V>> evictionList) {
+        final Iterator<Node<K, V>> iterator = evictionList.values().iterator();
         while (hasOverflowed() && iterator.hasNext()) {
             final Node<K, V> node = iterator.next();
             iterator.remove();
             // Notify the listener only if the entry was evicted
             data.remove(node.key, node);
-            statsCounter.recordEviction(node.value, node.weight);
+            if (node.protectedEntry) {
+                protectedUsage -= node.weight;
+            }
+            statsCounter.recordEviction(node.key, node.value, node.weight);
             listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.CAPACITY));
         }
     }
+
+    private LinkedHashMap<K, Node<K, V>> evictionList(Node<K, V> node) {
+        return node.protectedEntry ? protectedLru : lru;
+    }
+
+    /**
+     * Promotes an entry of a segmented cache which was accessed again to the protected segment. The entry must be in use,
+     * so that it is in neither eviction list.
+     */
+    private void promote(Node<K, V> node) {
+        assert node.refCount > 0 : "only entries in use can be promoted";
+        if (segmented && node.protectedEntry == false) {
+            node.protectedEntry = true;
+            protectedUsage += node.weight;
+            demoteProtected();
+        }
+    }
+
+    /**
+     * Demotes the least recently used protected entries to the most recently used end of the probationary segment until
+     * the protected segment fits its capacity again, so that they are given another chance before being evicted.
+     */
+    private void demoteProtected() {
+        final Iterator<Node<K, V>> iterator = protectedLru.values().iterator();
+        while (protectedUsage > protectedCapacity && iterator.hasNext()) {
+            final Node<K, V> node = iterator.next();
+            iterator.remove();
+            node.protectedEntry = false;
+            protectedUsage -= node.weight;
+            lru.put(node.key, node);
+        }
+    }
 }
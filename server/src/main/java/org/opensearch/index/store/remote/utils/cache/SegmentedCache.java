@@ -18,6 +18,7 @@ import org.opensearch.index.store.remote.utils.cache.stats.IRefCountedCacheStats
 import org.opensearch.index.store.remote.utils.cache.stats.RefCountedCacheStats;
 
 import java.util.Objects;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 
@@ -60,7 +61,7 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
         this.perSegmentCapacity = (builder.capacity + (segments - 1)) / segments;
         this.weigher = builder.weigher;
         for (int i = 0; i < table.length; i++) {
-            table[i] = new LRUCache<>(perSegmentCapacity, builder.listener, builder.weigher);
+            table[i] = new LRUCache<>(perSegmentCapacity, builder.listener, builder.weigher, builder.segmented, builder.priority);
         }
         this.capacity = perSegmentCapacity * segments;
     }
@@ -214,6 +215,7 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
         final RefCountedCacheStats totalFullFileCacheStats = new RefCountedCacheStats(0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
         final RefCountedCacheStats totalBlockFileCacheStats = new RefCountedCacheStats(0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
         final RefCountedCacheStats totalPinnedFileCacheStats = new RefCountedCacheStats(0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+        final RefCountedCacheStats totalPriorityFileCacheStats = new RefCountedCacheStats(0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
         for (RefCountedCache<K, V> cache : table) {
             AggregateRefCountedCacheStats aggregateStats = (AggregateRefCountedCacheStats) cache.stats();
 
@@ -221,13 +223,15 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
             totalFullFileCacheStats.accumulate(aggregateStats.getFullFileCacheStats());
             totalBlockFileCacheStats.accumulate(aggregateStats.getBlockFileCacheStats());
             totalPinnedFileCacheStats.accumulate(aggregateStats.getPinnedFileCacheStats());
+            totalPriorityFileCacheStats.accumulate(aggregateStats.getPriorityFileCacheStats());
         }
 
         return new AggregateRefCountedCacheStats(
             totalOverallCacheStats,
             totalFullFileCacheStats,
             totalBlockFileCacheStats,
-            totalPinnedFileCacheStats
+            totalPinnedFileCacheStats,
+            totalPriorityFileCacheStats
         );
     }
 
@@ -244,6 +248,17 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
         }
     }
 
+    /**
+     * Visits the keys and weights of the entries of each segment from the least to the most recently used.
+     *
+     * @see LRUCache#forEachInAccessOrder(BiConsumer)
+     */
+    public void forEachInAccessOrder(BiConsumer<K, Long> consumer) {
+        for (RefCountedCache<K, V> cache : table) {
+            ((LRUCache<K, V>) cache).forEachInAccessOrder(consumer);
+        }
+    }
+
     // To be used only in testing framework.
     public void closeIndexInputReferences() {
         for (RefCountedCache<K, V> cache : table) {
@@ -302,9 +317,15 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
 
         long capacity;
 
+        boolean segmented;
+
+        Predicate<K> priority;
+
         @SuppressWarnings("unchecked")
         Builder() {
             capacity = -1;
+            segmented = false;
+            priority = key -> false;
             weigher = (Weigher<V>) SingletonWeigher.INSTANCE;
             concurrencyLevel = DEFAULT_CONCURRENCY_LEVEL;
             listener = (RemovalListener<K, V>) DiscardingListener.INSTANCE;
@@ -367,6 +388,31 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
             return this;
         }
 
+        /**
+         * Specifies whether the cache evicts by segmented LRU rather than by LRU: new entries are admitted into a
+         * probationary segment and are only promoted to the protected segment once they are accessed again, and
+         * probationary entries are evicted first.
+         *
+         * @param segmented whether the cache is segmented
+         */
+        public Builder<K, V> segmented(boolean segmented) {
+            this.segmented = segmented;
+            return this;
+        }
+
+        /**
+         * Specifies which entries are priority entries, which are admitted into the protected segment of a segmented
+         * cache straight away, and whose stats are tracked separately.
+         *
+         * @param priority whether the entry of the given key is a priority entry
+         * @throws NullPointerException if the priority is null
+         */
+        public Builder<K, V> priority(Predicate<K> priority) {
+            Objects.requireNonNull(priority);
+            this.priority = priority;
+            return this;
+        }
+
         /**
          * Ensures that the argument expression is true.
          */
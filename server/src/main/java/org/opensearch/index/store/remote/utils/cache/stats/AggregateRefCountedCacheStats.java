@@ -25,6 +25,7 @@ public final class AggregateRefCountedCacheStats implements IRefCountedCacheStat
     private final RefCountedCacheStats fullFileCacheStats;
     private final RefCountedCacheStats blockFileCacheStats;
     private final RefCountedCacheStats pinnedFileCacheStats;
+    private final RefCountedCacheStats priorityFileCacheStats;
 
     /**
      * Constructs a new {@code AggregateRefCountedCacheStats} instance.
@@ -38,11 +39,32 @@ public final class AggregateRefCountedCacheStats implements IRefCountedCacheStat
         RefCountedCacheStats fullFileCacheStats,
         RefCountedCacheStats blockFileCacheStats,
         RefCountedCacheStats pinnedFileCacheStats
+    ) {
+        this(
+            overallCacheStats,
+            fullFileCacheStats,
+            blockFileCacheStats,
+            pinnedFileCacheStats,
+            new RefCountedCacheStats(0, 0, 0, 0, 0, 0, 0, 0, 0, 0)
+        );
+    }
+
+    /**
+     * Constructs a new {@code AggregateRefCountedCacheStats} instance which also tracks the stats of priority files,
+     * see {@link #getPriorityFileCacheStats()}.
+     */
+    public AggregateRefCountedCacheStats(
+        RefCountedCacheStats overallCacheStats,
+        RefCountedCacheStats fullFileCacheStats,
+        RefCountedCacheStats blockFileCacheStats,
+        RefCountedCacheStats pinnedFileCacheStats,
+        RefCountedCacheStats priorityFileCacheStats
     ) {
         this.overallCacheStats = overallCacheStats;
         this.fullFileCacheStats = fullFileCacheStats;
         this.blockFileCacheStats = blockFileCacheStats;
         this.pinnedFileCacheStats = pinnedFileCacheStats;
+        this.priorityFileCacheStats = priorityFileCacheStats;
     }
 
     /**
@@ -69,6 +91,15 @@ public final class AggregateRefCountedCacheStats implements IRefCountedCacheStat
         return pinnedFileCacheStats;
     }
 
+    /**
+     * Getter for priorityFileCacheStats, the stats of the files which are kept in the cache longer than others, like the
+     * metadata and the index structures of Lucene segments.
+     * @return {@link RefCountedCacheStats} priorityFileCacheStats.
+     */
+    public RefCountedCacheStats getPriorityFileCacheStats() {
+        return priorityFileCacheStats;
+    }
+
     /**
      * Getter for fullFileCacheStats.
      * @return {@link RefCountedCacheStats} fullFileCacheStats.
@@ -231,6 +262,7 @@ public final class AggregateRefCountedCacheStats implements IRefCountedCacheStat
         this.fullFileCacheStats.accumulate(otherStats.fullFileCacheStats);
         this.blockFileCacheStats.accumulate(otherStats.blockFileCacheStats);
         this.pinnedFileCacheStats.accumulate(otherStats.pinnedFileCacheStats);
+        this.priorityFileCacheStats.accumulate(otherStats.priorityFileCacheStats);
 
         return this;
     }
@@ -251,7 +283,8 @@ public final class AggregateRefCountedCacheStats implements IRefCountedCacheStat
         return overallCacheStats.equals(other.overallCacheStats)
             && fullFileCacheStats.equals(other.fullFileCacheStats)
             && blockFileCacheStats.equals(other.blockFileCacheStats)
-            && pinnedFileCacheStats.equals(other.pinnedFileCacheStats);
+            && pinnedFileCacheStats.equals(other.pinnedFileCacheStats)
+            && priorityFileCacheStats.equals(other.priorityFileCacheStats);
     }
 
     @Override
@@ -269,6 +302,9 @@ public final class AggregateRefCountedCacheStats implements IRefCountedCacheStat
             + ", "
             + "pinnedRefCountedCacheStats="
             + pinnedFileCacheStats.toString()
+            + ", "
+            + "priorityRefCountedCacheStats="
+            + priorityFileCacheStats.toString()
             + '}';
     }
 }
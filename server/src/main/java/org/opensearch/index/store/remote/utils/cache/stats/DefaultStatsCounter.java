@@ -59,7 +59,7 @@ public class DefaultStatsCounter<K, V> implements StatsCounter<K, V> {
     }
 
     @Override
-    public void recordRemoval(V value, boolean pinned, long weight) {
+    public void recordRemoval(K key, V value, boolean pinned, long weight) {
         removeCount++;
         removeWeight += weight;
         usage -= weight;
@@ -67,6 +67,7 @@ public class DefaultStatsCounter<K, V> implements StatsCounter<K, V> {
 
     @Override
     public void recordReplacement(
+        K key,
         V oldValue,
         V newValue,
         long oldWeight,
@@ -82,20 +83,20 @@ public class DefaultStatsCounter<K, V> implements StatsCounter<K, V> {
     }
 
     @Override
-    public void recordEviction(V value, long weight) {
+    public void recordEviction(K key, V value, long weight) {
         evictionCount++;
         evictionWeight += weight;
         usage -= weight;
     }
 
     @Override
-    public void recordUsage(V value, long weight, boolean pinned, boolean shouldDecrease) {
+    public void recordUsage(K key, V value, long weight, boolean pinned, boolean shouldDecrease) {
         weight = shouldDecrease ? -1 * weight : weight;
         usage += weight;
     }
 
     @Override
-    public void recordActiveUsage(V value, long weight, boolean pinned, boolean shouldDecrease) {
+    public void recordActiveUsage(K key, V value, long weight, boolean pinned, boolean shouldDecrease) {
         weight = shouldDecrease ? -1 * weight : weight;
         activeUsage += weight;
     }
@@ -108,7 +109,7 @@ public class DefaultStatsCounter<K, V> implements StatsCounter<K, V> {
      * @param shouldDecrease Should the pinned usage of the cache be decreased or not.
      */
     @Override
-    public void recordPinnedUsage(V value, long weight, boolean shouldDecrease) {
+    public void recordPinnedUsage(K key, V value, long weight, boolean shouldDecrease) {
         weight = shouldDecrease ? -1 * weight : weight;
         pinnedUsage += weight;
     }
@@ -10,6 +10,8 @@ package org.opensearch.index.store.remote.utils.cache.stats;
 
 import org.opensearch.index.store.remote.filecache.CachedFullFileIndexInput;
 
+import java.util.function.Predicate;
+
 /**
  * A non thread-safe {@link StatsCounter} implementation which aggregates multiple {@link DefaultStatsCounter}.
  *
@@ -21,12 +23,23 @@ public class FileStatsCounter<K, V> implements StatsCounter<K, V> {
     private final DefaultStatsCounter<K, V> fullFileStatsCounter;
     private final DefaultStatsCounter<K, V> blockFileStatsCounter;
     private final DefaultStatsCounter<K, V> pinnedFileStatsCounter;
+    private final DefaultStatsCounter<K, V> priorityFileStatsCounter;
+    private final Predicate<K> isPriorityFile;
 
     public FileStatsCounter() {
+        this(key -> false);
+    }
+
+    /**
+     * @param isPriorityFile whether the file of the given key is a priority file, whose stats are tracked separately
+     */
+    public FileStatsCounter(Predicate<K> isPriorityFile) {
         overallStatsCounter = new DefaultStatsCounter<>();
         fullFileStatsCounter = new DefaultStatsCounter<>();
         blockFileStatsCounter = new DefaultStatsCounter<>();
         pinnedFileStatsCounter = new DefaultStatsCounter<>();
+        priorityFileStatsCounter = new DefaultStatsCounter<>();
+        this.isPriorityFile = isPriorityFile;
     }
 
     @Override
@@ -35,6 +48,7 @@ public class FileStatsCounter<K, V> implements StatsCounter<K, V> {
         if (isFullFile(value)) fullFileStatsCounter.recordHits(key, value, pinned, count);
         else blockFileStatsCounter.recordHits(key, value, pinned, count);
         if (pinned) pinnedFileStatsCounter.recordHits(key, value, pinned, count);
+        if (isPriorityFile.test(key)) priorityFileStatsCounter.recordHits(key, value, pinned, count);
     }
 
     @Override
@@ -42,20 +56,23 @@ public class FileStatsCounter<K, V> implements StatsCounter<K, V> {
         overallStatsCounter.recordMisses(key, count);
         // we haven't added a check for full file here because we don't expect full file to ever have misses.
         blockFileStatsCounter.recordMisses(key, count);
+        if (isPriorityFile.test(key)) priorityFileStatsCounter.recordMisses(key, count);
     }
 
     @Override
-    public void recordRemoval(V value, boolean pinned, long weight) {
+    public void recordRemoval(K key, V value, boolean pinned, long weight) {
 
-        overallStatsCounter.recordRemoval(value, pinned, weight);
-        if (isFullFile(value)) fullFileStatsCounter.recordRemoval(value, pinned, weight);
-        else blockFileStatsCounter.recordRemoval(value, pinned, weight);
-        if (pinned) pinnedFileStatsCounter.recordRemoval(value, pinned, weight);
+        overallStatsCounter.recordRemoval(key, value, pinned, weight);
+        if (isFullFile(value)) fullFileStatsCounter.recordRemoval(key, value, pinned, weight);
+        else blockFileStatsCounter.recordRemoval(key, value, pinned, weight);
+        if (pinned) pinnedFileStatsCounter.recordRemoval(key, value, pinned, weight);
+        if (isPriorityFile.test(key)) priorityFileStatsCounter.recordRemoval(key, value, pinned, weight);
 
     }
 
     @Override
     public void recordReplacement(
+        K key,
         V oldValue,
         V newValue,
         long oldWeight,
@@ -67,8 +84,9 @@ public class FileStatsCounter<K, V> implements StatsCounter<K, V> {
         boolean isOldFullFile = isFullFile(oldValue);
         boolean isNewFullFile = isFullFile(newValue);
 
-        overallStatsCounter.recordReplacement(oldValue, newValue, oldWeight, newWeight, shouldUpdateActiveUsage, isPinned);
+        overallStatsCounter.recordReplacement(key, oldValue, newValue, oldWeight, newWeight, shouldUpdateActiveUsage, isPinned);
         fullFileStatsCounter.recordReplacement(
+            key,
             oldValue,
             newValue,
             isOldFullFile ? oldWeight : 0,
@@ -77,6 +95,7 @@ public class FileStatsCounter<K, V> implements StatsCounter<K, V> {
             isPinned
         );
         blockFileStatsCounter.recordReplacement(
+            key,
             oldValue,
             newValue,
             isOldFullFile ? 0 : oldWeight,
@@ -84,32 +103,38 @@ public class FileStatsCounter<K, V> implements StatsCounter<K, V> {
             shouldUpdateActiveUsage,
             isPinned
         );
+        if (isPriorityFile.test(key)) {
+            priorityFileStatsCounter.recordReplacement(key, oldValue, newValue, oldWeight, newWeight, shouldUpdateActiveUsage, isPinned);
+        }
     }
 
     @Override
-    public void recordEviction(V value, long weight) {
+    public void recordEviction(K key, V value, long weight) {
 
-        overallStatsCounter.recordEviction(value, weight);
-        if (isFullFile(value)) fullFileStatsCounter.recordEviction(value, weight);
-        else blockFileStatsCounter.recordEviction(value, weight);
+        overallStatsCounter.recordEviction(key, value, weight);
+        if (isFullFile(value)) fullFileStatsCounter.recordEviction(key, value, weight);
+        else blockFileStatsCounter.recordEviction(key, value, weight);
+        if (isPriorityFile.test(key)) priorityFileStatsCounter.recordEviction(key, value, weight);
     }
 
     @Override
-    public void recordUsage(V value, long weight, boolean pinned, boolean shouldDecrease) {
+    public void recordUsage(K key, V value, long weight, boolean pinned, boolean shouldDecrease) {
 
-        overallStatsCounter.recordUsage(value, weight, pinned, shouldDecrease);
-        if (isFullFile(value)) fullFileStatsCounter.recordUsage(value, weight, pinned, shouldDecrease);
-        else blockFileStatsCounter.recordUsage(value, weight, pinned, shouldDecrease);
-        if (pinned) pinnedFileStatsCounter.recordUsage(value, weight, pinned, shouldDecrease);
+        overallStatsCounter.recordUsage(key, value, weight, pinned, shouldDecrease);
+        if (isFullFile(value)) fullFileStatsCounter.recordUsage(key, value, weight, pinned, shouldDecrease);
+        else blockFileStatsCounter.recordUsage(key, value, weight, pinned, shouldDecrease);
+        if (pinned) pinnedFileStatsCounter.recordUsage(key, value, weight, pinned, shouldDecrease);
+        if (isPriorityFile.test(key)) priorityFileStatsCounter.recordUsage(key, value, weight, pinned, shouldDecrease);
     }
 
     @Override
-    public void recordActiveUsage(V value, long weight, boolean pinned, boolean shouldDecrease) {
+    public void recordActiveUsage(K key, V value, long weight, boolean pinned, boolean shouldDecrease) {
 
-        overallStatsCounter.recordActiveUsage(value, weight, pinned, shouldDecrease);
-        if (isFullFile(value)) fullFileStatsCounter.recordActiveUsage(value, weight, pinned, shouldDecrease);
-        else blockFileStatsCounter.recordActiveUsage(value, weight, pinned, shouldDecrease);
-        if (pinned) pinnedFileStatsCounter.recordActiveUsage(value, weight, pinned, shouldDecrease);
+        overallStatsCounter.recordActiveUsage(key, value, weight, pinned, shouldDecrease);
+        if (isFullFile(value)) fullFileStatsCounter.recordActiveUsage(key, value, weight, pinned, shouldDecrease);
+        else blockFileStatsCounter.recordActiveUsage(key, value, weight, pinned, shouldDecrease);
+        if (pinned) pinnedFileStatsCounter.recordActiveUsage(key, value, weight, pinned, shouldDecrease);
+        if (isPriorityFile.test(key)) priorityFileStatsCounter.recordActiveUsage(key, value, weight, pinned, shouldDecrease);
     }
 
     /**
@@ -120,11 +145,12 @@ public class FileStatsCounter<K, V> implements StatsCounter<K, V> {
      * @param shouldDecrease Should the pinned usage of the cache be decreased or not.
      */
     @Override
-    public void recordPinnedUsage(V value, long weight, boolean shouldDecrease) {
-        overallStatsCounter.recordPinnedUsage(value, weight, shouldDecrease);
-        if (isFullFile(value)) fullFileStatsCounter.recordPinnedUsage(value, weight, shouldDecrease);
-        else blockFileStatsCounter.recordPinnedUsage(value, weight, shouldDecrease);
-        pinnedFileStatsCounter.recordPinnedUsage(value, weight, shouldDecrease);
+    public void recordPinnedUsage(K key, V value, long weight, boolean shouldDecrease) {
+        overallStatsCounter.recordPinnedUsage(key, value, weight, shouldDecrease);
+        if (isFullFile(value)) fullFileStatsCounter.recordPinnedUsage(key, value, weight, shouldDecrease);
+        else blockFileStatsCounter.recordPinnedUsage(key, value, weight, shouldDecrease);
+        pinnedFileStatsCounter.recordPinnedUsage(key, value, weight, shouldDecrease);
+        if (isPriorityFile.test(key)) priorityFileStatsCounter.recordPinnedUsage(key, value, weight, shouldDecrease);
     }
 
     @Override
@@ -133,6 +159,7 @@ public class FileStatsCounter<K, V> implements StatsCounter<K, V> {
         fullFileStatsCounter.resetActiveUsage();
         blockFileStatsCounter.resetActiveUsage();
         pinnedFileStatsCounter.resetActiveUsage();
+        priorityFileStatsCounter.resetActiveUsage();
     }
 
     /**
@@ -145,6 +172,7 @@ public class FileStatsCounter<K, V> implements StatsCounter<K, V> {
         fullFileStatsCounter.resetPinnedUsage();
         blockFileStatsCounter.resetPinnedUsage();
         pinnedFileStatsCounter.resetPinnedUsage();
+        priorityFileStatsCounter.resetPinnedUsage();
     }
 
     @Override
@@ -153,6 +181,7 @@ public class FileStatsCounter<K, V> implements StatsCounter<K, V> {
         fullFileStatsCounter.resetUsage();
         blockFileStatsCounter.resetUsage();
         pinnedFileStatsCounter.resetUsage();
+        priorityFileStatsCounter.resetUsage();
     }
 
     @Override
@@ -181,7 +210,8 @@ public class FileStatsCounter<K, V> implements StatsCounter<K, V> {
             (RefCountedCacheStats) overallStatsCounter.snapshot(),
             (RefCountedCacheStats) fullFileStatsCounter.snapshot(),
             (RefCountedCacheStats) blockFileStatsCounter.snapshot(),
-            (RefCountedCacheStats) pinnedFileStatsCounter.snapshot()
+            (RefCountedCacheStats) pinnedFileStatsCounter.snapshot(),
+            (RefCountedCacheStats) priorityFileStatsCounter.snapshot()
         );
     }
 
@@ -47,7 +47,7 @@ public interface StatsCounter<K, V> {
      *
      * @param weight the weight of the removed entry
      */
-    void recordRemoval(V value, boolean pinned, long weight);
+    void recordRemoval(K key, V value, boolean pinned, long weight);
 
     /**
      * Records the replacement of an entry from the cache. This should only been called when an entry is
@@ -55,7 +55,15 @@ public interface StatsCounter<K, V> {
      * {@link RefCountedCache#put(Object, Object)}
      * {@link RefCountedCache#compute(Object, BiFunction)}
      */
-    void recordReplacement(V oldValue, V newValue, long oldWeight, long newWeight, boolean shouldUpdateActiveUsage, boolean isPinned);
+    void recordReplacement(
+        K key,
+        V oldValue,
+        V newValue,
+        long oldWeight,
+        long newWeight,
+        boolean shouldUpdateActiveUsage,
+        boolean isPinned
+    );
 
     /**
      * Records the eviction of an entry from the cache. This should only been called when an entry is
@@ -64,7 +72,7 @@ public interface StatsCounter<K, V> {
      *
      * @param weight the weight of the evicted entry
      */
-    void recordEviction(V value, long weight);
+    void recordEviction(K key, V value, long weight);
 
     /**
      * Records the usage of the cache. This should be called when an entry is created/removed/replaced in the cache.
@@ -74,7 +82,7 @@ public interface StatsCounter<K, V> {
      * @param pinned
      * @param shouldDecrease Should the usage of the cache be decreased or not.
      */
-    void recordUsage(V value, long weight, boolean pinned, boolean shouldDecrease);
+    void recordUsage(K key, V value, long weight, boolean pinned, boolean shouldDecrease);
 
     /**
      * Records the cache usage by entries which are active (being referenced).
@@ -85,7 +93,7 @@ public interface StatsCounter<K, V> {
      * @param pinned
      * @param shouldDecrease Should the active usage of the cache be decreased or not.
      */
-    void recordActiveUsage(V value, long weight, boolean pinned, boolean shouldDecrease);
+    void recordActiveUsage(K key, V value, long weight, boolean pinned, boolean shouldDecrease);
 
     /**
      * Records the cache usage by entries which are pinned.
@@ -93,7 +101,7 @@ public interface StatsCounter<K, V> {
      * @param weight Weight of the entry.
      * @param shouldDecrease Should the pinned usage of the cache be decreased or not.
      */
-    void recordPinnedUsage(V value, long weight, boolean shouldDecrease);
+    void recordPinnedUsage(K key, V value, long weight, boolean shouldDecrease);
 
     /**
      * Resets the cache usage by entries which are active (being referenced).
@@ -63,8 +63,14 @@ public class TranslogStats implements Writeable, ToXContentFragment {
      */
     private final RemoteTranslogStats remoteTranslogStats;
 
+    /**
+     * Stats related to the syncs of the translog requested by write operations
+     */
+    private final TranslogSyncStats syncStats;
+
     public TranslogStats() {
         remoteTranslogStats = new RemoteTranslogStats();
+        syncStats = new TranslogSyncStats();
     }
 
     public TranslogStats(StreamInput in) throws IOException {
@@ -76,6 +82,7 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         remoteTranslogStats = in.getVersion().onOrAfter(Version.V_2_10_0)
             ? in.readOptionalWriteable(RemoteTranslogStats::new)
             : new RemoteTranslogStats();
+        syncStats = in.getVersion().onOrAfter(Version.V_3_2_0) ? new TranslogSyncStats(in) : new TranslogSyncStats();
     }
 
     public TranslogStats(
@@ -107,6 +114,7 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         this.uncommittedOperations = uncommittedOperations;
         this.earliestLastModifiedAge = earliestLastModifiedAge;
         this.remoteTranslogStats = new RemoteTranslogStats();
+        this.syncStats = new TranslogSyncStats();
     }
 
     public void addRemoteTranslogStats(RemoteTranslogStats remoteTranslogStats) {
@@ -115,6 +123,10 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         }
     }
 
+    public void addSyncStats(TranslogSyncStats syncStats) {
+        this.syncStats.add(syncStats);
+    }
+
     public void add(TranslogStats other) {
         if (other == null) {
             return;
@@ -131,6 +143,7 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         }
 
         addRemoteTranslogStats(other.remoteTranslogStats);
+        addSyncStats(other.syncStats);
     }
 
     public long getTranslogSizeInBytes() {
@@ -159,10 +172,15 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         return remoteTranslogStats;
     }
 
+    public TranslogSyncStats getSyncStats() {
+        return syncStats;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject(TRANSLOG);
         addLocalTranslogStatsXContent(builder);
+        syncStats.toXContent(builder, params);
         if (remoteTranslogStats != null) {
             builder = remoteTranslogStats.toXContent(builder, params);
         }
@@ -187,6 +205,9 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         if (out.getVersion().onOrAfter(Version.V_2_10_0)) {
             out.writeOptionalWriteable(remoteTranslogStats);
         }
+        if (out.getVersion().onOrAfter(Version.V_3_2_0)) {
+            syncStats.writeTo(out);
+        }
     }
 
     private void addLocalTranslogStatsXContent(XContentBuilder builder) throws IOException {
@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Statistics of the syncs of the translog which were requested by write operations, each of which can batch the locations
+ * of several operations into a single fsync.
+ *
+ * @opensearch.api
+ */
+@PublicApi(since = "3.2.0")
+public class TranslogSyncStats implements ToXContentFragment, Writeable {
+
+    static final String SYNC = "sync";
+
+    /**
+     * Total number of syncs
+     */
+    private long total;
+
+    /**
+     * Total number of locations which were made durable by the syncs
+     */
+    private long totalLocations;
+
+    /**
+     * Largest number of locations made durable by a single sync
+     */
+    private long maxBatchSize;
+
+    /**
+     * Total time spent syncing
+     */
+    private long totalTimeInNanos;
+
+    /**
+     * Longest time a single sync took
+     */
+    private long maxTimeInNanos;
+
+    public TranslogSyncStats() {}
+
+    public TranslogSyncStats(long total, long totalLocations, long maxBatchSize, long totalTimeInNanos, long maxTimeInNanos) {
+        this.total = total;
+        this.totalLocations = totalLocations;
+        this.maxBatchSize = maxBatchSize;
+        this.totalTimeInNanos = totalTimeInNanos;
+        this.maxTimeInNanos = maxTimeInNanos;
+    }
+
+    public TranslogSyncStats(StreamInput in) throws IOException {
+        this.total = in.readVLong();
+        this.totalLocations = in.readVLong();
+        this.maxBatchSize = in.readVLong();
+        this.totalTimeInNanos = in.readVLong();
+        this.maxTimeInNanos = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(total);
+        out.writeVLong(totalLocations);
+        out.writeVLong(maxBatchSize);
+        out.writeVLong(totalTimeInNanos);
+        out.writeVLong(maxTimeInNanos);
+    }
+
+    public void add(TranslogSyncStats other) {
+        if (other == null) {
+            return;
+        }
+
+        this.total += other.total;
+        this.totalLocations += other.totalLocations;
+        this.maxBatchSize = Math.max(this.maxBatchSize, other.maxBatchSize);
+        this.totalTimeInNanos += other.totalTimeInNanos;
+        this.maxTimeInNanos = Math.max(this.maxTimeInNanos, other.maxTimeInNanos);
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getTotalLocations() {
+        return totalLocations;
+    }
+
+    public long getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public long getTotalTimeInNanos() {
+        return totalTimeInNanos;
+    }
+
+    public long getMaxTimeInNanos() {
+        return maxTimeInNanos;
+    }
+
+    /**
+     * The average number of locations made durable by a sync
+     */
+    public double getAverageBatchSize() {
+        return total == 0 ? 0 : (double) totalLocations / total;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(SYNC);
+        builder.field("total", total);
+        builder.field("total_locations", totalLocations);
+        builder.field("average_batch_size", getAverageBatchSize());
+        builder.field("max_batch_size", maxBatchSize);
+        builder.humanReadableField("total_time_in_millis", "total_time", new TimeValue(totalTimeInNanos / 1_000_000));
+        builder.humanReadableField("max_time_in_millis", "max_time", new TimeValue(maxTimeInNanos / 1_000_000));
+        builder.endObject();
+        return builder;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TranslogSyncStats other = (TranslogSyncStats) obj;
+
+        return this.total == other.total
+            && this.totalLocations == other.totalLocations
+            && this.maxBatchSize == other.maxBatchSize
+            && this.totalTimeInNanos == other.totalTimeInNanos
+            && this.maxTimeInNanos == other.maxTimeInNanos;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(total, totalLocations, maxBatchSize, totalTimeInNanos, maxTimeInNanos);
+    }
+}
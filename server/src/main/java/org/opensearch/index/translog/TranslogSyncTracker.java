@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.common.ExponentiallyWeightedMovingAverage;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.metrics.MaxMetric;
+import org.opensearch.common.unit.TimeValue;
+
+/**
+ * Tracks the syncs of the translog requested by write operations of a shard.
+ * <p>
+ * Besides the {@link TranslogSyncStats}, it keeps a moving average of the sync latency which is used as the window of the
+ * group commit: while a sync is in flight, new locations are buffered for about as long as a sync takes, so that the next
+ * sync makes all of them durable at once instead of every write thread paying for its own fsync.
+ *
+ * @opensearch.internal
+ */
+public final class TranslogSyncTracker {
+
+    private static final double LATENCY_EWMA_ALPHA = 0.3;
+
+    private final CounterMetric total = new CounterMetric();
+    private final CounterMetric totalLocations = new CounterMetric();
+    private final MaxMetric maxBatchSize = new MaxMetric();
+    private final CounterMetric totalTimeInNanos = new CounterMetric();
+    private final MaxMetric maxTimeInNanos = new MaxMetric();
+    private final ExponentiallyWeightedMovingAverage latencyInNanos = new ExponentiallyWeightedMovingAverage(LATENCY_EWMA_ALPHA, 0);
+
+    /**
+     * Records a sync.
+     *
+     * @param locations the number of locations the sync made durable
+     * @param tookInNanos how long the sync took
+     */
+    public void onSync(int locations, long tookInNanos) {
+        total.inc();
+        totalLocations.inc(locations);
+        maxBatchSize.collect(locations);
+        totalTimeInNanos.inc(tookInNanos);
+        maxTimeInNanos.collect(tookInNanos);
+        latencyInNanos.addValue(tookInNanos);
+    }
+
+    /**
+     * Returns how long to buffer locations before syncing them, which is the observed sync latency capped at the given
+     * maximum window.
+     */
+    public TimeValue groupCommitWindow(TimeValue maxWindow) {
+        return TimeValue.timeValueNanos(Math.min(maxWindow.nanos(), (long) latencyInNanos.getAverage()));
+    }
+
+    public TranslogSyncStats stats() {
+        // the maximums are Long.MIN_VALUE until the first sync
+        return new TranslogSyncStats(
+            total.count(),
+            totalLocations.count(),
+            Math.max(0, maxBatchSize.get()),
+            totalTimeInNanos.count(),
+            Math.max(0, maxTimeInNanos.get())
+        );
+    }
+}
@@ -51,6 +51,7 @@ import org.opensearch.common.cache.RemovalReason;
 import org.opensearch.common.cache.policy.CachedQueryResult;
 import org.opensearch.common.cache.serializer.BytesReferenceSerializer;
 import org.opensearch.common.cache.service.CacheService;
+import org.opensearch.common.cache.stats.EvictionPolicyStats;
 import org.opensearch.common.cache.stats.ImmutableCacheStatsHolder;
 import org.opensearch.common.cache.store.config.CacheConfig;
 import org.opensearch.common.collect.Tuple;
@@ -171,6 +172,21 @@ public final class IndicesRequestCache implements RemovalListener<ICacheKey<Indi
         Property.Dynamic
     );
 
+    /**
+     * Index level override of {@link #INDICES_REQUEST_CACHE_MAX_SIZE_ALLOWED_IN_CACHE_SETTING}, which allows caching the
+     * results of queries returning hits only on read-mostly indices, where they are not invalidated by every refresh.
+     * Like the cluster setting, it only applies to requests which do not set the request_cache parameter.
+     * Default value of -1 uses the cluster setting.
+     */
+    public static final Setting<Integer> INDEX_REQUEST_CACHE_MAX_SIZE_ALLOWED_IN_CACHE_SETTING = Setting.intSetting(
+        "index.requests.cache.maximum_cacheable_size",
+        -1,
+        -1,
+        10_000,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
     private final static long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(Key.class);
 
     private final ConcurrentMap<CleanupKey, Boolean> registeredClosedListeners = ConcurrentCollections.newConcurrentMap();
@@ -247,6 +263,13 @@ public final class IndicesRequestCache implements RemovalListener<ICacheKey<Indi
         cache.invalidateAll();
     }
 
+    /**
+     * Returns the stats of the eviction policy of the cache, or {@code null} if the cache does not track them.
+     */
+    EvictionPolicyStats evictionPolicyStats() {
+        return cache.evictionPolicyStats();
+    }
+
     @Override
     public void close() throws IOException {
         cache.invalidateAll();
@@ -131,6 +131,7 @@ import org.opensearch.index.query.QueryRewriteContext;
 import org.opensearch.index.recovery.RecoveryStats;
 import org.opensearch.index.refresh.RefreshStats;
 import org.opensearch.index.remote.RemoteStoreStatsTrackerFactory;
+import org.opensearch.index.remote.RemoteTranslogUploadBatcher;
 import org.opensearch.index.search.stats.SearchStats;
 import org.opensearch.index.seqno.RetentionLeaseStats;
 import org.opensearch.index.seqno.RetentionLeaseSyncer;
@@ -166,6 +167,9 @@ import org.opensearch.plugins.IndexStorePlugin;
 import org.opensearch.plugins.PluginsService;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.script.ScriptService;
+import org.opensearch.search.aggregations.AggregatorFactory;
+import org.opensearch.search.aggregations.bucket.terms.SignificantTermsAggregatorFactory;
+import org.opensearch.search.aggregations.bucket.terms.SignificantTextAggregatorFactory;
 import org.opensearch.search.aggregations.support.ValuesSourceRegistry;
 import org.opensearch.search.internal.AliasFilter;
 import org.opensearch.search.internal.SearchContext;
@@ -385,6 +389,7 @@ public class IndicesService extends AbstractLifecycleComponent
     private final IndexingMemoryController indexingMemoryController;
     private final TimeValue cleanInterval;
     final IndicesRequestCache indicesRequestCache; // pkg-private for testing
+    final SegmentAggregationResultCache segmentAggregationResultCache; // pkg-private for testing
     private final IndicesQueryCache indicesQueryCache;
     private final MetaStateService metaStateService;
     private final Collection<Function<IndexSettings, Optional<EngineFactory>>> engineFactoryProviders;
@@ -398,6 +403,7 @@ public class IndicesService extends AbstractLifecycleComponent
     private volatile boolean allowExpensiveQueries;
     private final RecoverySettings recoverySettings;
     private final RemoteStoreSettings remoteStoreSettings;
+    private final RemoteTranslogUploadBatcher translogUploadBatcher;
     @Nullable
     private final OpenSearchThreadPoolExecutor danglingIndicesThreadPoolExecutor;
     private final Set<Index> danglingIndicesToWrite = Sets.newConcurrentHashSet();
@@ -456,7 +462,8 @@ public class IndicesService extends AbstractLifecycleComponent
         FileCache fileCache,
         CompositeIndexSettings compositeIndexSettings,
         Consumer<IndexShard> replicator,
-        Function<ShardId, ReplicationStats> segmentReplicationStatsProvider
+        Function<ShardId, ReplicationStats> segmentReplicationStatsProvider,
+        RemoteTranslogUploadBatcher translogUploadBatcher
     ) {
         this.settings = settings;
         this.threadPool = threadPool;
@@ -477,6 +484,7 @@ public class IndicesService extends AbstractLifecycleComponent
         this.indicesQueryCache = new IndicesQueryCache(settings);
         this.mapperRegistry = mapperRegistry;
         this.namedWriteableRegistry = namedWriteableRegistry;
+        this.segmentAggregationResultCache = new SegmentAggregationResultCache(settings, namedWriteableRegistry);
         indexingMemoryController = new IndexingMemoryController(
             settings,
             threadPool,
@@ -525,6 +533,7 @@ public class IndicesService extends AbstractLifecycleComponent
                         indicesFieldDataCache,
                         cacheCleaner,
                         indicesRequestCache,
+                        segmentAggregationResultCache,
                         indicesQueryCache
                     );
                 } catch (IOException e) {
@@ -581,6 +590,7 @@ public class IndicesService extends AbstractLifecycleComponent
         this.fileCache = fileCache;
         this.replicator = replicator;
         this.segmentReplicationStatsProvider = segmentReplicationStatsProvider;
+        this.translogUploadBatcher = translogUploadBatcher;
         this.maxSizeInRequestCache = INDICES_REQUEST_CACHE_MAX_SIZE_ALLOWED_IN_CACHE_SETTING.get(clusterService.getSettings());
         clusterService.getClusterSettings()
             .addSettingsUpdateConsumer(INDICES_REQUEST_CACHE_MAX_SIZE_ALLOWED_IN_CACHE_SETTING, this::setMaxSizeInRequestCache);
@@ -654,7 +664,8 @@ public class IndicesService extends AbstractLifecycleComponent
             null,
             null,
             null,
-            null
+            null,
+            new RemoteTranslogUploadBatcher(remoteStoreSettings::getClusterRemoteTranslogBufferSize)
         );
     }
 
@@ -797,6 +808,10 @@ public class IndicesService extends AbstractLifecycleComponent
                 case Flush:
                     commonStats.flush.add(oldShardsStats.flushStats);
                     break;
+                case RequestCache:
+                    commonStats.requestCache.setSegmentAggregationStats(segmentAggregationResultCache.stats());
+                    commonStats.requestCache.setEvictionPolicyStats(indicesRequestCache.evictionPolicyStats());
+                    break;
             }
         }
         if (flags.getIncludeIndicesStatsByLevel()) {
@@ -1289,7 +1304,8 @@ public class IndicesService extends AbstractLifecycleComponent
             discoveryNodes,
             mergedSegmentWarmerFactory,
             mergedSegmentPublisher,
-            referencedSegmentsPublisher
+            referencedSegmentsPublisher,
+            translogUploadBatcher
         );
         indexShard.addShardFailureCallback(onShardFailure);
         indexShard.startRecovery(recoveryState, recoveryTargetService, recoveryListener, repositoriesService, mapping -> {
@@ -1351,6 +1367,18 @@ public class IndicesService extends AbstractLifecycleComponent
         return indicesQueryCache;
     }
 
+    public SegmentAggregationResultCache getSegmentAggregationResultCache() {
+        return segmentAggregationResultCache;
+    }
+
+    /**
+     * Returns the file cache of the node, or {@code null} if the node has none.
+     */
+    @Nullable
+    public FileCache getFileCache() {
+        return fileCache;
+    }
+
     /**
      * Accumulate stats from the passed Object
      *
@@ -1921,9 +1949,9 @@ public class IndicesService extends AbstractLifecycleComponent
         // if not explicitly set in the request, use the index setting, if not, use the request
         if (request.requestCache() == null) {
             if (settings.getValue(IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING) == false
-                || (context.size() > maxSizeInRequestCache)) {
+                || (context.size() > getMaxSizeInRequestCache(settings))) {
                 // If no request cache query parameter and shard request cache
-                // is enabled in settings, use cluster setting to check the maximum size allowed in the cache
+                // is enabled in settings, use index or cluster setting to check the maximum size allowed in the cache
                 return false;
             }
         } else if (request.requestCache() == false) {
@@ -1940,6 +1968,46 @@ public class IndicesService extends AbstractLifecycleComponent
         return context.searcher().getDirectoryReader().getReaderCacheHelper() instanceof DelegatingCacheHelper;
     }
 
+    /**
+     * Can the non-global aggregations of a cacheable shard request be cached per segment? Only applies to requests which
+     * don't return hits and whose aggregation results of a segment don't depend on the other segments.
+     */
+    public boolean canCacheSegmentAggregations(SearchContext context) {
+        IndexSettings settings = context.indexShard().indexSettings();
+        if (settings.getValue(SegmentAggregationResultCache.INDEX_CACHE_SEGMENT_AGGREGATIONS_ENABLED_SETTING) == false) {
+            return false;
+        }
+        if (context.aggregations() == null || context.aggregations().factories().hasNonGlobalAggregator() == false) {
+            return false;
+        }
+        // the results of the segments are reduced the way the results of concurrent segment search slices are
+        if (context.aggregations().factories().allFactoriesSupportConcurrentSearch() == false) {
+            return false;
+        }
+        // concurrent segment search already reduces the aggregations of its slices on the shard
+        if (context.shouldUseConcurrentSearch() || context.isStreamSearch()) {
+            return false;
+        }
+        // the significance of a term is scored against the statistics of the whole shard, which change as segments are added
+        if (hasSignificanceAggregation(context.aggregations().factories().getFactories())) {
+            return false;
+        }
+        return context.size() == 0
+            && context.terminateAfter() == SearchContext.DEFAULT_TERMINATE_AFTER
+            && context.minimumScore() == null;
+    }
+
+    private static boolean hasSignificanceAggregation(AggregatorFactory[] factories) {
+        for (AggregatorFactory factory : factories) {
+            if (factory instanceof SignificantTermsAggregatorFactory
+                || factory instanceof SignificantTextAggregatorFactory
+                || hasSignificanceAggregation(factory.getSubFactories().getFactories())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Loads the cache result, computing it if needed by executing the query phase and otherwise deserializing the cached
      * value into the {@link SearchContext#queryResult() context's query result}. The combination of load + compute allows
@@ -2119,6 +2187,7 @@ public class IndicesService extends AbstractLifecycleComponent
             final boolean clearedAtLeastOne = service.clearCaches(queryCache, fieldDataCache, fields);
             if ((requestCache || (clearedAtLeastOne == false && fields.length == 0)) && shard != null) {
                 indicesRequestCache.clear(new IndexShardCacheEntity(shard));
+                segmentAggregationResultCache.clear(shardId);
             }
         }
     }
@@ -2292,10 +2361,26 @@ public class IndicesService extends AbstractLifecycleComponent
         return this.remoteStoreSettings;
     }
 
+    /**
+     * Returns the node level batcher of the uploads of the remote translog of the shards of this node.
+     */
+    public RemoteTranslogUploadBatcher getTranslogUploadBatcher() {
+        return this.translogUploadBatcher;
+    }
+
     public CompositeIndexSettings getCompositeIndexSettings() {
         return this.compositeIndexSettings;
     }
 
+    /**
+     * The maximum size of a query which is allowed in the request cache for the given index: the index setting if set,
+     * otherwise the cluster setting.
+     */
+    private int getMaxSizeInRequestCache(IndexSettings settings) {
+        int indexMaxSizeInRequestCache = settings.getValue(IndicesRequestCache.INDEX_REQUEST_CACHE_MAX_SIZE_ALLOWED_IN_CACHE_SETTING);
+        return indexMaxSizeInRequestCache == -1 ? maxSizeInRequestCache : indexMaxSizeInRequestCache;
+    }
+
     // Package-private for testing
     void setMaxSizeInRequestCache(Integer maxSizeInRequestCache) {
         this.maxSizeInRequestCache = maxSizeInRequestCache;
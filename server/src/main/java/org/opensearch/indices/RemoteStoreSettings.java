@@ -15,8 +15,10 @@ import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.remote.RemoteStoreEnums;
+import org.opensearch.index.remote.RemoteTranslogUploadBatcher;
 
 /**
  * Settings for remote store
@@ -38,6 +40,18 @@ public class RemoteStoreSettings {
         Property.Dynamic
     );
 
+    /**
+     * Limits the translog bytes which the shards of a node buffer for upload to the remote translog, see
+     * {@link RemoteTranslogUploadBatcher}. Once reached, all shards upload what they buffered without waiting for the end of
+     * their buffer interval. {@code 0} disables the limit.
+     */
+    public static final Setting<ByteSizeValue> CLUSTER_REMOTE_TRANSLOG_BUFFER_SIZE_SETTING = Setting.byteSizeSetting(
+        "cluster.remote_store.translog.buffer_size",
+        ByteSizeValue.ZERO,
+        Property.NodeScope,
+        Property.Dynamic
+    );
+
     /**
      * Controls minimum number of metadata files to keep in remote segment store.
      * {@code value < 1} will disable deletion of stale segment metadata files.
@@ -185,6 +199,7 @@ public class RemoteStoreSettings {
     );
 
     private volatile TimeValue clusterRemoteTranslogBufferInterval;
+    private volatile ByteSizeValue clusterRemoteTranslogBufferSize;
     private volatile int minRemoteSegmentMetadataFiles;
     private volatile TimeValue clusterRemoteTranslogTransferTimeout;
     private volatile TimeValue clusterRemoteSegmentTransferTimeout;
@@ -205,6 +220,9 @@ public class RemoteStoreSettings {
             this::setClusterRemoteTranslogBufferInterval
         );
 
+        clusterRemoteTranslogBufferSize = CLUSTER_REMOTE_TRANSLOG_BUFFER_SIZE_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(CLUSTER_REMOTE_TRANSLOG_BUFFER_SIZE_SETTING, this::setClusterRemoteTranslogBufferSize);
+
         minRemoteSegmentMetadataFiles = CLUSTER_REMOTE_INDEX_SEGMENT_METADATA_RETENTION_MAX_COUNT_SETTING.get(settings);
         clusterSettings.addSettingsUpdateConsumer(
             CLUSTER_REMOTE_INDEX_SEGMENT_METADATA_RETENTION_MAX_COUNT_SETTING,
@@ -251,6 +269,14 @@ public class RemoteStoreSettings {
         this.clusterRemoteTranslogBufferInterval = clusterRemoteTranslogBufferInterval;
     }
 
+    public ByteSizeValue getClusterRemoteTranslogBufferSize() {
+        return clusterRemoteTranslogBufferSize;
+    }
+
+    private void setClusterRemoteTranslogBufferSize(ByteSizeValue clusterRemoteTranslogBufferSize) {
+        this.clusterRemoteTranslogBufferSize = clusterRemoteTranslogBufferSize;
+    }
+
     private void setMinRemoteSegmentMetadataFiles(int minRemoteSegmentMetadataFiles) {
         this.minRemoteSegmentMetadataFiles = minRemoteSegmentMetadataFiles;
     }
@@ -0,0 +1,220 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.cache.request.RequestCacheStats;
+import org.opensearch.search.aggregations.InternalAggregations;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Node level cache of the partial aggregation results of single segments.
+ * <p>
+ * The {@link IndicesRequestCache} keys its entries on the whole {@link org.apache.lucene.index.DirectoryReader}, so any
+ * refresh which adds a segment invalidates all the cached aggregation results of the shard. This cache instead keys the
+ * serialized {@link InternalAggregations} of a request on the reader cache key of each segment, which stays the same
+ * across refreshes as long as the segment is neither merged away nor gets new deletes. On a refresh, the
+ * {@link org.opensearch.search.aggregations.SegmentAggregationCollectorManager} only aggregates the new segments, and the
+ * partial results of all the segments are then reduced on the shard, the same way results of concurrent segment search
+ * slices are. This keeps a high hit rate for aggregations on append-only indices
+ * which are refreshed frequently.
+ * <p>
+ * Entries are removed once their segment reader is closed, when the request cache of their shard is cleared, or evicted in
+ * LRU order once the cache exceeds its size.
+ *
+ * @opensearch.internal
+ */
+public final class SegmentAggregationResultCache implements Closeable {
+
+    private static final Logger logger = LogManager.getLogger(SegmentAggregationResultCache.class);
+
+    /**
+     * Whether to cache the aggregation results of single segments for an index. Only applies to requests which can use the
+     * shard request cache.
+     */
+    public static final Setting<Boolean> INDEX_CACHE_SEGMENT_AGGREGATIONS_ENABLED_SETTING = Setting.boolSetting(
+        "index.requests.cache.segment_aggregations.enable",
+        false,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
+    public static final Setting<ByteSizeValue> INDICES_SEGMENT_AGGREGATIONS_CACHE_SIZE_SETTING = Setting.memorySizeSetting(
+        "indices.requests.cache.segment_aggregations.size",
+        "1%",
+        Property.NodeScope
+    );
+
+    private final Cache<Key, BytesReference> cache;
+    private final NamedWriteableRegistry namedWriteableRegistry;
+    // the keys of the cached results of each segment, so that closing a segment only invalidates its own results
+    private final Map<IndexReader.CacheKey, Set<Key>> segmentKeys = ConcurrentCollections.newConcurrentMap();
+
+    SegmentAggregationResultCache(Settings settings, NamedWriteableRegistry namedWriteableRegistry) {
+        this.namedWriteableRegistry = namedWriteableRegistry;
+        this.cache = CacheBuilder.<Key, BytesReference>builder()
+            .setMaximumWeight(INDICES_SEGMENT_AGGREGATIONS_CACHE_SIZE_SETTING.get(settings).getBytes())
+            .weigher((key, value) -> key.ramBytesUsed() + value.ramBytesUsed())
+            .removalListener(this::onRemoval)
+            .build();
+    }
+
+    /**
+     * Returns the cached aggregation results of the given request on a segment, or {@code null} if they are not cached.
+     */
+    public InternalAggregations get(ShardId shardId, LeafReaderContext leaf, BytesReference requestKey) throws IOException {
+        final IndexReader.CacheHelper cacheHelper = leaf.reader().getReaderCacheHelper();
+        if (cacheHelper == null) {
+            return null;
+        }
+        final BytesReference cached = cache.get(new Key(shardId, cacheHelper.getKey(), requestKey));
+        return cached == null ? null : read(cached);
+    }
+
+    /**
+     * Caches the aggregation results of the given request on a segment, until the segment reader is closed.
+     */
+    public void put(ShardId shardId, LeafReaderContext leaf, BytesReference requestKey, InternalAggregations aggregations)
+        throws IOException {
+        final IndexReader.CacheHelper cacheHelper = leaf.reader().getReaderCacheHelper();
+        if (cacheHelper == null) {
+            return;
+        }
+        final Key key = new Key(shardId, cacheHelper.getKey(), requestKey);
+        segmentKeys.computeIfAbsent(key.readerCacheKey, readerCacheKey -> {
+            cacheHelper.addClosedListener(this::onClose);
+            return ConcurrentCollections.newConcurrentSet();
+        }).add(key);
+        cache.put(key, write(aggregations));
+    }
+
+    /**
+     * Invalidates all the cached aggregation results of the given shard.
+     */
+    public void clear(ShardId shardId) {
+        for (Iterator<Key> iterator = cache.keys().iterator(); iterator.hasNext();) {
+            if (iterator.next().shardId.equals(shardId)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * The statistics of the cache, reported along with the ones of the shard request cache.
+     */
+    public RequestCacheStats stats() {
+        final Cache.CacheStats stats = cache.stats();
+        return new RequestCacheStats(cache.weight(), stats.getEvictions(), stats.getHits(), stats.getMisses());
+    }
+
+    // pkg-private for testing
+    int count() {
+        return cache.count();
+    }
+
+    private void onClose(IndexReader.CacheKey readerCacheKey) {
+        final Set<Key> keys = segmentKeys.remove(readerCacheKey);
+        if (keys == null) {
+            return;
+        }
+        for (Key key : keys) {
+            cache.invalidate(key);
+        }
+        logger.trace("invalidated [{}] segment aggregation results of a closed segment reader", keys.size());
+    }
+
+    private void onRemoval(RemovalNotification<Key, BytesReference> notification) {
+        final Set<Key> keys = segmentKeys.get(notification.getKey().readerCacheKey);
+        if (keys != null) {
+            keys.remove(notification.getKey());
+        }
+    }
+
+    private static BytesReference write(InternalAggregations aggregations) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            aggregations.writeTo(out);
+            return out.bytes();
+        }
+    }
+
+    private InternalAggregations read(BytesReference bytes) throws IOException {
+        try (StreamInput in = new NamedWriteableAwareStreamInput(bytes.streamInput(), namedWriteableRegistry)) {
+            return InternalAggregations.readFrom(in);
+        }
+    }
+
+    @Override
+    public void close() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Key of the aggregation results of a request on a segment.
+     *
+     * @opensearch.internal
+     */
+    static final class Key implements Accountable {
+        private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(Key.class);
+
+        final ShardId shardId;
+        final IndexReader.CacheKey readerCacheKey; // use as identity equality
+        final BytesReference requestKey;
+
+        Key(ShardId shardId, IndexReader.CacheKey readerCacheKey, BytesReference requestKey) {
+            this.shardId = Objects.requireNonNull(shardId);
+            this.readerCacheKey = Objects.requireNonNull(readerCacheKey);
+            this.requestKey = Objects.requireNonNull(requestKey);
+        }
+
+        @Override
+        public long ramBytesUsed() {
+            return BASE_RAM_BYTES_USED + requestKey.ramBytesUsed();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return readerCacheKey == key.readerCacheKey && shardId.equals(key.shardId) && requestKey.equals(key.requestKey);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = shardId.hashCode();
+            result = 31 * result + System.identityHashCode(readerCacheKey);
+            return 31 * result + requestKey.hashCode();
+        }
+    }
+}
@@ -34,6 +34,7 @@ package org.opensearch.indices.recovery;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.store.IndexOutput;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.BytesRefIterator;
@@ -48,14 +49,18 @@ import org.opensearch.indices.replication.common.ReplicationLuceneIndex;
 import org.opensearch.transport.Transports;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 /**
  * A multi file writer utility for recovery
@@ -85,13 +90,52 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
 
     final Map<String, String> tempFileNames = ConcurrentCollections.newConcurrentMap();
 
+    // metadata of the files being written, by file name, and whether they were fully written and verified
+    private final ConcurrentMap<String, StoreFileMetadata> fileMetadata = ConcurrentCollections.newConcurrentMap();
+    private final Set<String> verifiedFiles = ConcurrentCollections.newConcurrentSet();
+    // partially written files left by a previous writer which this writer continues, by file name
+    private final ConcurrentMap<String, RetainedFile> resumedFiles = ConcurrentCollections.newConcurrentMap();
+    private volatile Consumer<List<RetainedFile>> tempFileRetainer;
+
     public void writeFileChunk(StoreFileMetadata fileMetadata, long position, BytesReference content, boolean lastChunk)
         throws IOException {
         assert Transports.assertNotTransportThread("multi_file_writer");
-        final FileChunkWriter writer = fileChunkWriters.computeIfAbsent(fileMetadata.name(), name -> new FileChunkWriter());
+        final FileChunkWriter writer = fileChunkWriters.computeIfAbsent(
+            fileMetadata.name(),
+            name -> new FileChunkWriter(startPosition(name))
+        );
         writer.writeChunk(new FileChunk(fileMetadata, content, position, lastChunk));
     }
 
+    private long startPosition(String name) {
+        final RetainedFile resumed = resumedFiles.get(name);
+        return resumed == null ? 0 : resumed.length();
+    }
+
+    /**
+     * Takes over a temporary file which a previous writer retained. A complete file is renamed along with the files of this
+     * writer, and a partial file is continued by the chunks of the file starting at {@link RetainedFile#length()}.
+     */
+    public void resume(RetainedFile file) {
+        ensureOpen.run();
+        final String name = file.metadata().name();
+        fileMetadata.put(name, file.metadata());
+        if (file.isComplete()) {
+            verifiedFiles.add(name);
+            tempFileNames.put(file.tempFileName(), name);
+        } else {
+            resumedFiles.put(name, file);
+        }
+    }
+
+    /**
+     * Keeps the temporary files which were written, completely or partially, when this writer is closed, and passes them to
+     * the given consumer instead of deleting them, so that another writer can {@link #resume} them.
+     */
+    public void retainTempFilesOnClose(Consumer<List<RetainedFile>> retainer) {
+        this.tempFileRetainer = retainer;
+    }
+
     /** Get a temporary name for the provided file name. */
     String getTempNameForFile(String origFile) {
         return tempFilePrefix + origFile;
@@ -127,6 +171,7 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
         }
         // add first, before it's created
         tempFileNames.put(tempFileName, fileName);
+        fileMetadata.put(fileName, metadata);
         IndexOutput indexOutput = store.createVerifyingOutput(tempFileName, metadata, IOContext.DEFAULT);
         openIndexOutputs.put(fileName, indexOutput);
         return indexOutput;
@@ -136,8 +181,12 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
         throws IOException {
         final String name = fileMetadata.name();
         IndexOutput indexOutput;
-        if (position == 0) {
+        final RetainedFile resumed = resumedFiles.get(name);
+        if (position == (resumed == null ? 0 : resumed.length())) {
             indexOutput = openAndPutIndexOutput(name, fileMetadata, store);
+            if (resumed != null) {
+                copyResumedBytes(resumed, indexOutput);
+            }
         } else {
             indexOutput = getOpenIndexOutput(name);
         }
@@ -155,6 +204,7 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
                 // we are done
                 indexOutput.close();
             }
+            verifiedFiles.add(name);
             final String temporaryFileName = getTempNameForFile(name);
             assert Arrays.asList(store.directory().listAll()).contains(temporaryFileName) : "expected: ["
                 + temporaryFileName
@@ -169,6 +219,16 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
         }
     }
 
+    private void copyResumedBytes(RetainedFile resumed, IndexOutput indexOutput) throws IOException {
+        // the copied bytes go through the verifying output, so they are checked against the checksum of the whole file
+        try (IndexInput input = store.directory().openInput(resumed.tempFileName(), IOContext.READONCE)) {
+            indexOutput.copyBytes(input, resumed.length());
+        }
+        resumedFiles.remove(resumed.metadata().name());
+        store.deleteQuiet(resumed.tempFileName());
+        indexState.addRecoveredBytesToFile(resumed.metadata().name(), resumed.length());
+    }
+
     @Override
     public void close() {
         if (closed.compareAndSet(false, true)) {
@@ -192,14 +252,53 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
             iterator.remove();
         }
         if (Strings.hasText(tempFilePrefix)) {
+            final Consumer<List<RetainedFile>> retainer = tempFileRetainer;
+            final List<RetainedFile> retainedFiles = new ArrayList<>();
             // trash temporary files
-            for (String file : tempFileNames.keySet()) {
-                logger.trace("cleaning temporary file [{}]", file);
-                store.deleteQuiet(file);
+            for (Map.Entry<String, String> entry : tempFileNames.entrySet()) {
+                final String file = entry.getKey();
+                final RetainedFile retainedFile = retainer == null ? null : toRetainedFile(file, entry.getValue());
+                if (retainedFile != null) {
+                    logger.trace("retaining temporary file [{}] of length [{}]", file, retainedFile.length());
+                    retainedFiles.add(retainedFile);
+                } else {
+                    logger.trace("cleaning temporary file [{}]", file);
+                    store.deleteQuiet(file);
+                }
+            }
+            for (RetainedFile resumed : resumedFiles.values()) {
+                if (retainer != null) {
+                    retainedFiles.add(resumed);
+                } else {
+                    store.deleteQuiet(resumed.tempFileName());
+                }
+            }
+            resumedFiles.clear();
+            if (retainer != null) {
+                retainer.accept(retainedFiles);
             }
         }
     }
 
+    private RetainedFile toRetainedFile(String tempFileName, String name) {
+        final StoreFileMetadata metadata = fileMetadata.get(name);
+        if (metadata == null) {
+            return null;
+        }
+        try {
+            // the chunks of a file are written in order, so the temporary file holds the leading bytes of the file
+            final long length = store.directory().fileLength(tempFileName);
+            if (verifiedFiles.contains(name)) {
+                return length == metadata.length() ? new RetainedFile(metadata, tempFileName, length) : null;
+            }
+            // a file of the full length which is not verified failed the verification, so it is not kept
+            return length > 0 && length < metadata.length() ? new RetainedFile(metadata, tempFileName, length) : null;
+        } catch (IOException e) {
+            logger.debug(() -> new ParameterizedMessage("failed to read length of temporary file [{}]", tempFileName), e);
+            return null;
+        }
+    }
+
     /** renames all temporary files to their true name, potentially overriding existing files */
     public void renameAllTempFiles() throws IOException {
         ensureOpen.run();
@@ -225,10 +324,50 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
         }
     }
 
+    /**
+     * A temporary file which holds the leading bytes, or all the bytes, of a file
+     *
+     * @opensearch.internal
+     */
+    public static final class RetainedFile {
+        private final StoreFileMetadata metadata;
+        private final String tempFileName;
+        private final long length;
+
+        public RetainedFile(StoreFileMetadata metadata, String tempFileName, long length) {
+            this.metadata = metadata;
+            this.tempFileName = tempFileName;
+            this.length = length;
+        }
+
+        public StoreFileMetadata metadata() {
+            return metadata;
+        }
+
+        public String tempFileName() {
+            return tempFileName;
+        }
+
+        /**
+         * Returns the number of leading bytes of the file which the temporary file holds.
+         */
+        public long length() {
+            return length;
+        }
+
+        public boolean isComplete() {
+            return length == metadata.length();
+        }
+    }
+
     private final class FileChunkWriter {
         // chunks can be delivered out of order, we need to buffer chunks if there's a gap between them.
         final PriorityQueue<FileChunk> pendingChunks = new PriorityQueue<>(Comparator.comparing(fc -> fc.position));
-        long lastPosition = 0;
+        long lastPosition;
+
+        FileChunkWriter(long startPosition) {
+            this.lastPosition = startPosition;
+        }
 
         void writeChunk(FileChunk newChunk) throws IOException {
             synchronized (this) {
@@ -96,6 +96,17 @@ public class RecoverySettings {
         Property.NodeScope
     );
 
+    /**
+     * Merged segments smaller than this are not copied to the replicas before the merge completes, but along with the next
+     * replication checkpoint, as they add little to the replication lag.
+     */
+    public static final Setting<ByteSizeValue> INDICES_MERGED_SEGMENT_REPLICATION_MIN_SEGMENT_SIZE_SETTING = Setting.byteSizeSetting(
+        "indices.merged_segment_replication.min_segment_size",
+        ByteSizeValue.ZERO,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     /**
      * Controls the maximum number of file chunk requests that can be sent concurrently from the source node to the target node.
      */
@@ -228,6 +239,7 @@ public class RecoverySettings {
     private volatile ByteSizeValue chunkSize;
     private volatile TimeValue internalRemoteUploadTimeout;
     private volatile TimeValue mergedSegmentReplicationTimeout;
+    private volatile ByteSizeValue mergedSegmentReplicationMinSegmentSize;
 
     public RecoverySettings(Settings settings, ClusterSettings clusterSettings) {
         this.retryDelayStateSync = INDICES_RECOVERY_RETRY_DELAY_STATE_SYNC_SETTING.get(settings);
@@ -252,6 +264,7 @@ public class RecoverySettings {
         this.replicationMaxBytesPerSec = INDICES_REPLICATION_MAX_BYTES_PER_SEC_SETTING.get(settings);
         this.mergedSegmentReplicationMaxBytesPerSec = INDICES_MERGED_SEGMENT_REPLICATION_MAX_BYTES_PER_SEC_SETTING.get(settings);
         this.mergedSegmentReplicationTimeout = INDICES_MERGED_SEGMENT_REPLICATION_TIMEOUT_SETTING.get(settings);
+        this.mergedSegmentReplicationMinSegmentSize = INDICES_MERGED_SEGMENT_REPLICATION_MIN_SEGMENT_SIZE_SETTING.get(settings);
         replicationRateLimiter = getReplicationRateLimiter(replicationMaxBytesPerSec);
         mergedSegmentReplicationRateLimiter = getReplicationRateLimiter(mergedSegmentReplicationMaxBytesPerSec);
 
@@ -269,6 +282,10 @@ public class RecoverySettings {
             INDICES_MERGED_SEGMENT_REPLICATION_TIMEOUT_SETTING,
             this::setMergedSegmentReplicationTimeout
         );
+        clusterSettings.addSettingsUpdateConsumer(
+            INDICES_MERGED_SEGMENT_REPLICATION_MIN_SEGMENT_SIZE_SETTING,
+            this::setMergedSegmentReplicationMinSegmentSize
+        );
         clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_MAX_CONCURRENT_FILE_CHUNKS_SETTING, this::setMaxConcurrentFileChunks);
         clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_MAX_CONCURRENT_OPERATIONS_SETTING, this::setMaxConcurrentOperations);
         clusterSettings.addSettingsUpdateConsumer(
@@ -409,6 +426,14 @@ public class RecoverySettings {
         return mergedSegmentReplicationTimeout;
     }
 
+    public ByteSizeValue getMergedSegmentReplicationMinSegmentSize() {
+        return mergedSegmentReplicationMinSegmentSize;
+    }
+
+    private void setMergedSegmentReplicationMinSegmentSize(ByteSizeValue mergedSegmentReplicationMinSegmentSize) {
+        this.mergedSegmentReplicationMinSegmentSize = mergedSegmentReplicationMinSegmentSize;
+    }
+
     private void setMergedSegmentReplicationMaxBytesPerSec(ByteSizeValue mergedSegmentReplicationMaxBytesPerSec) {
         this.mergedSegmentReplicationMaxBytesPerSec = mergedSegmentReplicationMaxBytesPerSec;
         mergedSegmentReplicationRateLimiter = getReplicationRateLimiter(mergedSegmentReplicationMaxBytesPerSec);
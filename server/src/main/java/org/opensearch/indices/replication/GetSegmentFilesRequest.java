@@ -8,6 +8,7 @@
 
 package org.opensearch.indices.replication;
 
+import org.opensearch.Version;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -16,7 +17,9 @@ import org.opensearch.indices.replication.checkpoint.ReplicationCheckpoint;
 import org.opensearch.indices.replication.common.SegmentReplicationTransportRequest;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Request object for fetching a list of segment files metadata from a {@link SegmentReplicationSource}.
@@ -28,11 +31,18 @@ public class GetSegmentFilesRequest extends SegmentReplicationTransportRequest {
 
     private final List<StoreFileMetadata> filesToFetch;
     private final ReplicationCheckpoint checkpoint;
+    // offsets from which to send files which the target partially copied in a previous round of replication
+    private final Map<String, Long> fileOffsets;
 
     public GetSegmentFilesRequest(StreamInput in) throws IOException {
         super(in);
         this.filesToFetch = in.readList(StoreFileMetadata::new);
         this.checkpoint = new ReplicationCheckpoint(in);
+        if (in.getVersion().onOrAfter(Version.V_3_2_0)) {
+            this.fileOffsets = in.readMap(StreamInput::readString, StreamInput::readVLong);
+        } else {
+            this.fileOffsets = Collections.emptyMap();
+        }
     }
 
     public GetSegmentFilesRequest(
@@ -41,9 +51,21 @@ public class GetSegmentFilesRequest extends SegmentReplicationTransportRequest {
         DiscoveryNode targetNode,
         List<StoreFileMetadata> filesToFetch,
         ReplicationCheckpoint checkpoint
+    ) {
+        this(replicationId, targetAllocationId, targetNode, filesToFetch, Collections.emptyMap(), checkpoint);
+    }
+
+    public GetSegmentFilesRequest(
+        long replicationId,
+        String targetAllocationId,
+        DiscoveryNode targetNode,
+        List<StoreFileMetadata> filesToFetch,
+        Map<String, Long> fileOffsets,
+        ReplicationCheckpoint checkpoint
     ) {
         super(replicationId, targetAllocationId, targetNode);
         this.filesToFetch = filesToFetch;
+        this.fileOffsets = fileOffsets;
         this.checkpoint = checkpoint;
     }
 
@@ -52,6 +74,9 @@ public class GetSegmentFilesRequest extends SegmentReplicationTransportRequest {
         super.writeTo(out);
         out.writeList(filesToFetch);
         checkpoint.writeTo(out);
+        if (out.getVersion().onOrAfter(Version.V_3_2_0)) {
+            out.writeMap(fileOffsets, StreamOutput::writeString, StreamOutput::writeVLong);
+        }
     }
 
     public ReplicationCheckpoint getCheckpoint() {
@@ -61,4 +86,11 @@ public class GetSegmentFilesRequest extends SegmentReplicationTransportRequest {
     public List<StoreFileMetadata> getFilesToFetch() {
         return filesToFetch;
     }
+
+    /**
+     * Returns the offsets from which to send the files which the target already partially copied, by file name.
+     */
+    public Map<String, Long> getFileOffsets() {
+        return fileOffsets;
+    }
 }
@@ -63,6 +63,7 @@ public class MergedSegmentReplicationTarget extends AbstractSegmentReplicationTa
         assert checkpoint instanceof MergedSegmentCheckpoint;
         multiFileWriter.renameAllTempFiles();
         indexShard.addPendingMergeSegmentCheckpoint((MergedSegmentCheckpoint) checkpoint);
+        indexShard.mergedSegmentTransferTracker().addTotalBytesReceived(checkpoint.getLength());
     }
 
     @Override
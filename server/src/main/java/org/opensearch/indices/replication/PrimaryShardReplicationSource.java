@@ -8,6 +8,7 @@
 
 package org.opensearch.indices.replication;
 
+import org.opensearch.Version;
 import org.opensearch.action.ActionListenerResponseHandler;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.core.action.ActionListener;
@@ -19,7 +20,9 @@ import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportRequestOptions;
 import org.opensearch.transport.TransportService;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiConsumer;
 
 import static org.opensearch.indices.replication.SegmentReplicationSourceService.Actions.GET_CHECKPOINT_INFO;
@@ -81,6 +84,19 @@ public class PrimaryShardReplicationSource implements SegmentReplicationSource {
         IndexShard indexShard,
         BiConsumer<String, Long> fileProgressTracker,
         ActionListener<GetSegmentFilesResponse> listener
+    ) {
+        getSegmentFiles(replicationId, checkpoint, filesToFetch, Collections.emptyMap(), indexShard, fileProgressTracker, listener);
+    }
+
+    @Override
+    public void getSegmentFiles(
+        long replicationId,
+        ReplicationCheckpoint checkpoint,
+        List<StoreFileMetadata> filesToFetch,
+        Map<String, Long> fileOffsets,
+        IndexShard indexShard,
+        BiConsumer<String, Long> fileProgressTracker,
+        ActionListener<GetSegmentFilesResponse> listener
     ) {
         // fileProgressTracker is a no-op for node to node recovery
         // MultiFileWriter takes care of progress tracking for downloads in this scenario
@@ -91,6 +107,7 @@ public class PrimaryShardReplicationSource implements SegmentReplicationSource {
             targetAllocationId,
             targetNode,
             filesToFetch,
+            fileOffsets,
             checkpoint
         );
         transportService.sendRequest(
@@ -102,6 +119,12 @@ public class PrimaryShardReplicationSource implements SegmentReplicationSource {
         );
     }
 
+    @Override
+    public boolean supportsFileOffsets() {
+        // older primaries do not read the offsets and send the files whole
+        return sourceNode.getVersion().onOrAfter(Version.V_3_2_0);
+    }
+
     @Override
     public void getMergedSegmentFiles(
         long replicationId,
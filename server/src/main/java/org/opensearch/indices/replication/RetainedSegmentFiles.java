@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.opensearch.index.store.Store;
+import org.opensearch.indices.recovery.MultiFileWriter;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The segment files, complete or partially copied, which failed rounds of segment replication left on a replica. The next
+ * round of replication takes them over, so that it does not copy again what was already copied before the failure.
+ *
+ * @opensearch.internal
+ */
+final class RetainedSegmentFiles {
+
+    private final Store store;
+    private final Map<String, MultiFileWriter.RetainedFile> files = new HashMap<>();
+    private boolean closed;
+
+    RetainedSegmentFiles(Store store) {
+        this.store = store;
+    }
+
+    /**
+     * Keeps the given files for the next round of replication, replacing the files of the same name kept so far.
+     */
+    synchronized void retain(List<MultiFileWriter.RetainedFile> retainedFiles) {
+        for (MultiFileWriter.RetainedFile file : retainedFiles) {
+            if (closed) {
+                delete(file);
+                continue;
+            }
+            final MultiFileWriter.RetainedFile previous = files.put(file.metadata().name(), file);
+            if (previous != null && previous.tempFileName().equals(file.tempFileName()) == false) {
+                delete(previous);
+            }
+        }
+    }
+
+    /**
+     * Hands the kept files over to a new round of replication, which is responsible for deleting the ones it does not use.
+     */
+    synchronized Map<String, MultiFileWriter.RetainedFile> take() {
+        final Map<String, MultiFileWriter.RetainedFile> taken = new HashMap<>(files);
+        files.clear();
+        return taken;
+    }
+
+    synchronized int size() {
+        return files.size();
+    }
+
+    /**
+     * Deletes the kept files, as well as the files retained from now on.
+     */
+    synchronized void close() {
+        closed = true;
+        for (MultiFileWriter.RetainedFile file : files.values()) {
+            delete(file);
+        }
+        files.clear();
+    }
+
+    private void delete(MultiFileWriter.RetainedFile file) {
+        // once the store is closed, the files it left behind are cleaned up when the shard recovers
+        if (store.tryIncRef()) {
+            try {
+                store.deleteQuiet(file.tempFileName());
+            } finally {
+                store.decRef();
+            }
+        }
+    }
+}
@@ -35,8 +35,10 @@ import org.opensearch.transport.Transports;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Deque;
+import java.util.Map;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.function.IntSupplier;
 
@@ -93,6 +95,27 @@ public final class SegmentFileTransferHandler {
         StoreFileMetadata[] files,
         IntSupplier translogOps,
         ActionListener<Void> listener
+    ) {
+        return createTransfer(store, files, Collections.emptyMap(), translogOps, listener);
+    }
+
+    /**
+     * Returns a closeable {@link MultiChunkTransfer} to initiate sending a list of files, starting the files which the target
+     * already partially copied from the given offsets.
+     * Callers are responsible for starting the transfer and closing the resource.
+     * @param store {@link Store}
+     * @param files {@link StoreFileMetadata[]}
+     * @param fileOffsets {@link Map} of the offset from which to send each file, by file name, files missing from it are sent whole
+     * @param translogOps {@link IntSupplier}
+     * @param listener {@link ActionListener}
+     * @return {@link MultiChunkTransfer}
+     */
+    public MultiChunkTransfer<StoreFileMetadata, FileChunk> createTransfer(
+        Store store,
+        StoreFileMetadata[] files,
+        Map<String, Long> fileOffsets,
+        IntSupplier translogOps,
+        ActionListener<Void> listener
     ) {
         ArrayUtil.timSort(files, Comparator.comparingLong(StoreFileMetadata::length)); // send smallest first
         return new MultiChunkTransfer<>(logger, threadPool.getThreadContext(), listener, maxConcurrentFileChunks, Arrays.asList(files)) {
@@ -103,7 +126,10 @@ public final class SegmentFileTransferHandler {
 
             @Override
             protected void onNewResource(StoreFileMetadata md) throws IOException {
-                offset = 0;
+                offset = fileOffsets.getOrDefault(md.name(), 0L);
+                if (offset < 0 || (offset > 0 && offset >= md.length())) {
+                    throw new IllegalArgumentException("invalid offset [" + offset + "] for file [" + md.name() + "]");
+                }
                 IOUtils.close(currentInput, () -> currentInput = null);
                 // Open all files other than Segments* using IOContext.READ.
                 // With Lucene9_12 a READONCE context will confine the underlying IndexInput (MemorySegmentIndexInput) to a single thread.
@@ -111,7 +137,8 @@ public final class SegmentFileTransferHandler {
                 // https://github.com/apache/lucene/blob/b2d3a2b37e00f19a74949097736be8fd64745f61/lucene/test-framework/src/java/org/apache/lucene/tests/store/MockDirectoryWrapper.java#L817
                 if (md.name().startsWith(IndexFileNames.SEGMENTS) == false) {
                     final IndexInput indexInput = store.directory().openInput(md.name(), IOContext.DEFAULT);
-                    currentInput = new InputStreamIndexInput(indexInput, md.length()) {
+                    indexInput.seek(offset);
+                    currentInput = new InputStreamIndexInput(indexInput, md.length() - offset) {
                         @Override
                         public void close() throws IOException {
                             IOUtils.close(indexInput, super::close); // InputStreamIndexInput's close is a noop
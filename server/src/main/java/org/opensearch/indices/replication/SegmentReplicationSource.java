@@ -20,6 +20,7 @@ import org.opensearch.indices.replication.checkpoint.ReplicationCheckpoint;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiConsumer;
 
 /**
@@ -57,6 +58,38 @@ public interface SegmentReplicationSource {
         ActionListener<GetSegmentFilesResponse> listener
     );
 
+    /**
+     * Fetch the requested segment files, sending the files which the target partially copied in a previous round of replication
+     * from the given offsets. Passes a listener that completes when files are stored locally.
+     *
+     * @param replicationId long - ID of the replication event.
+     * @param checkpoint    {@link ReplicationCheckpoint} Checkpoint to fetch metadata for.
+     * @param filesToFetch  {@link List} List of files to fetch.
+     * @param fileOffsets   {@link Map} Offset from which to fetch each file, by file name. Only used if {@link #supportsFileOffsets()}.
+     * @param indexShard    {@link IndexShard} Reference to the IndexShard.
+     * @param fileProgressTracker {@link BiConsumer} A consumer that updates the replication progress for shard files.
+     * @param listener      {@link ActionListener} Listener that completes with the list of files copied.
+     */
+    default void getSegmentFiles(
+        long replicationId,
+        ReplicationCheckpoint checkpoint,
+        List<StoreFileMetadata> filesToFetch,
+        Map<String, Long> fileOffsets,
+        IndexShard indexShard,
+        BiConsumer<String, Long> fileProgressTracker,
+        ActionListener<GetSegmentFilesResponse> listener
+    ) {
+        assert fileOffsets.isEmpty() || supportsFileOffsets() : "source does not support file offsets";
+        getSegmentFiles(replicationId, checkpoint, filesToFetch, indexShard, fileProgressTracker, listener);
+    }
+
+    /**
+     * Whether this source can send files from an offset, so that the target resumes the files it partially copied.
+     */
+    default boolean supportsFileOffsets() {
+        return false;
+    }
+
     /**
      * Fetch the merged segment files.  Passes a listener that completes when files are stored locally.
      *
@@ -153,7 +153,7 @@ class SegmentReplicationSourceHandler {
                 .toArray(StoreFileMetadata[]::new);
 
             final MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk> transfer = segmentFileTransferHandler
-                .createTransfer(shard.store(), storeFileMetadata, () -> 0, sendFileStep);
+                .createTransfer(shard.store(), storeFileMetadata, request.getFileOffsets(), () -> 0, sendFileStep);
             resources.add(transfer);
             cancellableThreads.checkForCancel();
             transfer.start();
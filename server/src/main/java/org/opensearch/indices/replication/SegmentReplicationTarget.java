@@ -15,17 +15,23 @@ import org.apache.lucene.index.SegmentInfos;
 import org.apache.lucene.store.AlreadyClosedException;
 import org.opensearch.OpenSearchCorruptionException;
 import org.opensearch.action.StepListener;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.common.util.CancellableThreads;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.store.Store;
 import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.indices.recovery.MultiFileWriter;
 import org.opensearch.indices.replication.checkpoint.ReplicationCheckpoint;
 import org.opensearch.indices.replication.common.ReplicationFailedException;
 import org.opensearch.indices.replication.common.ReplicationListener;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiConsumer;
 
 /**
@@ -36,13 +42,27 @@ import java.util.function.BiConsumer;
 public class SegmentReplicationTarget extends AbstractSegmentReplicationTarget {
     public final static String REPLICATION_PREFIX = "replication.";
 
+    @Nullable
+    private final RetainedSegmentFiles retainedFiles;
+
     public SegmentReplicationTarget(
         IndexShard indexShard,
         ReplicationCheckpoint checkpoint,
         SegmentReplicationSource source,
         ReplicationListener listener
+    ) {
+        this(indexShard, checkpoint, source, listener, null);
+    }
+
+    SegmentReplicationTarget(
+        IndexShard indexShard,
+        ReplicationCheckpoint checkpoint,
+        SegmentReplicationSource source,
+        ReplicationListener listener,
+        @Nullable RetainedSegmentFiles retainedFiles
     ) {
         super("replication_target", indexShard, checkpoint, source, listener);
+        this.retainedFiles = retainedFiles;
     }
 
     @Override
@@ -66,16 +86,68 @@ public class SegmentReplicationTarget extends AbstractSegmentReplicationTarget {
         List<StoreFileMetadata> filesToFetch,
         StepListener<GetSegmentFilesResponse> getFilesListener
     ) {
+        final Map<String, MultiFileWriter.RetainedFile> retained = retainedFiles == null ? Collections.emptyMap() : retainedFiles.take();
+        if (retained.isEmpty()) {
+            source.getSegmentFiles(
+                getId(),
+                checkpointInfo.getCheckpoint(),
+                filesToFetch,
+                indexShard,
+                this::updateFileRecoveryBytes,
+                getFilesListener
+            );
+            return;
+        }
+        // resume from the files which failed rounds of replication already copied
+        final List<StoreFileMetadata> remainingFiles = new ArrayList<>();
+        final Map<String, Long> fileOffsets = new HashMap<>();
+        for (StoreFileMetadata file : filesToFetch) {
+            final MultiFileWriter.RetainedFile retainedFile = retained.remove(file.name());
+            if (retainedFile == null) {
+                remainingFiles.add(file);
+            } else if (retainedFile.metadata().isSame(file) && (retainedFile.isComplete() || source.supportsFileOffsets())) {
+                multiFileWriter.resume(retainedFile);
+                if (retainedFile.isComplete()) {
+                    stateIndex.addRecoveredBytesToFile(file.name(), file.length());
+                } else {
+                    fileOffsets.put(file.name(), retainedFile.length());
+                    remainingFiles.add(file);
+                }
+            } else {
+                store.deleteQuiet(retainedFile.tempFileName());
+                remainingFiles.add(file);
+            }
+        }
+        // files which are not part of this checkpoint anymore
+        for (MultiFileWriter.RetainedFile unused : retained.values()) {
+            store.deleteQuiet(unused.tempFileName());
+        }
+        logger.debug(
+            "resuming replication with [{}] of [{}] files left to fetch, [{}] of them partially copied",
+            remainingFiles.size(),
+            filesToFetch.size(),
+            fileOffsets.size()
+        );
         source.getSegmentFiles(
             getId(),
             checkpointInfo.getCheckpoint(),
-            filesToFetch,
+            remainingFiles,
+            fileOffsets,
             indexShard,
             this::updateFileRecoveryBytes,
             getFilesListener
         );
     }
 
+    @Override
+    public void notifyListener(ReplicationFailedException e, boolean sendShardFailure) {
+        if (retainedFiles != null && sendShardFailure == false) {
+            // keep what was copied so far for the next round of replication, unless the shard fails anyway
+            multiFileWriter.retainTempFilesOnClose(retainedFiles::retain);
+        }
+        super.notifyListener(e, sendShardFailure);
+    }
+
     @Override
     protected void finalizeReplication(CheckpointInfoResponse checkpointInfoResponse) throws Exception {
         // Handle empty SegmentInfos bytes for recovering replicas
@@ -128,6 +200,6 @@ public class SegmentReplicationTarget extends AbstractSegmentReplicationTarget {
 
     @Override
     public SegmentReplicationTarget retryCopy() {
-        return new SegmentReplicationTarget(indexShard, checkpoint, source, listener);
+        return new SegmentReplicationTarget(indexShard, checkpoint, source, listener, retainedFiles);
     }
 }
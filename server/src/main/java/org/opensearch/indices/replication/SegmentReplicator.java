@@ -59,6 +59,7 @@ public class SegmentReplicator {
     protected final ConcurrentMap<ShardId, ConcurrentNavigableMap<Long, ReplicationCheckpointStats>> replicationCheckpointStats =
         ConcurrentCollections.newConcurrentMap();
     private final ConcurrentMap<ShardId, ReplicationCheckpoint> primaryCheckpoint = ConcurrentCollections.newConcurrentMap();
+    private final ConcurrentMap<ShardId, RetainedSegmentFiles> retainedSegmentFiles = ConcurrentCollections.newConcurrentMap();
 
     private final ThreadPool threadPool;
     private final SetOnce<SegmentReplicationSourceFactory> sourceFactory;
@@ -114,7 +115,11 @@ public class SegmentReplicator {
         final SegmentReplicationSource source,
         final SegmentReplicationTargetService.SegmentReplicationListener listener
     ) {
-        final SegmentReplicationTarget target = new SegmentReplicationTarget(indexShard, checkpoint, source, listener);
+        final RetainedSegmentFiles retainedFiles = retainedSegmentFiles.computeIfAbsent(
+            indexShard.shardId(),
+            shardId -> new RetainedSegmentFiles(indexShard.store())
+        );
+        final SegmentReplicationTarget target = new SegmentReplicationTarget(indexShard, checkpoint, source, listener, retainedFiles);
         startReplication(target, indexShard.getRecoverySettings().activityTimeout());
         return target;
     }
@@ -399,6 +404,10 @@ public class SegmentReplicator {
         onGoingMergedSegmentReplications.cancelForShard(shardId, reason);
         replicationCheckpointStats.remove(shardId);
         primaryCheckpoint.remove(shardId);
+        final RetainedSegmentFiles retainedFiles = retainedSegmentFiles.remove(shardId);
+        if (retainedFiles != null) {
+            retainedFiles.close();
+        }
     }
 
     SegmentReplicationTarget get(ShardId shardId) {
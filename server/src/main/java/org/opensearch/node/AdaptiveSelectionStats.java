@@ -99,6 +99,12 @@ public class AdaptiveSelectionStats implements Writeable, ToXContentFragment {
                     builder.field("avg_response_time", new TimeValue((long) stats.responseTime, TimeUnit.NANOSECONDS).toString());
                 }
                 builder.field("avg_response_time_ns", (long) stats.responseTime);
+                if (stats.searcherUtilization >= 0) {
+                    builder.field("avg_searcher_utilization", String.format(Locale.ROOT, "%.2f", stats.searcherUtilization));
+                }
+                if (stats.cacheHitRatio >= 0) {
+                    builder.field("avg_file_cache_hit_ratio", String.format(Locale.ROOT, "%.2f", stats.cacheHitRatio));
+                }
                 builder.field("rank", String.format(Locale.ROOT, "%.1f", stats.rank(outgoingSearches)));
             }
             builder.endObject();
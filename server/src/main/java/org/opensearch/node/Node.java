@@ -168,6 +168,7 @@ import org.opensearch.index.mapper.MappingTransformerRegistry;
 import org.opensearch.index.recovery.RemoteStoreRestoreService;
 import org.opensearch.index.remote.RemoteIndexPathUploader;
 import org.opensearch.index.remote.RemoteStoreStatsTrackerFactory;
+import org.opensearch.index.remote.RemoteTranslogUploadBatcher;
 import org.opensearch.index.store.DefaultCompositeDirectoryFactory;
 import org.opensearch.index.store.IndexStoreListener;
 import org.opensearch.index.store.RemoteSegmentStoreDirectoryFactory;
@@ -1002,7 +1003,8 @@ public class Node implements Closeable {
                 fileCache,
                 compositeIndexSettings,
                 segmentReplicator::startReplication,
-                segmentReplicator::getSegmentReplicationStats
+                segmentReplicator::getSegmentReplicationStats,
+                new RemoteTranslogUploadBatcher(remoteStoreSettings::getClusterRemoteTranslogBufferSize)
             );
 
             final IngestService ingestService = new IngestService(
@@ -2094,6 +2096,11 @@ public class Node implements Closeable {
         toClose.add(() -> stopWatch.stop().start("gateway_meta_state"));
         toClose.add(injector.getInstance(GatewayMetaState.class));
 
+        if (fileCache != null) {
+            toClose.add(() -> stopWatch.stop().start("file_cache_journal"));
+            toClose.add(this::writeFileCacheJournal);
+        }
+
         toClose.add(() -> stopWatch.stop().start("node_environment"));
         toClose.add(injector.getInstance(NodeEnvironment.class));
         toClose.add(stopWatch::stop);
@@ -2371,7 +2378,11 @@ public class Node implements Closeable {
             throw new SettingsException("Cache size must be larger than zero and less than total capacity");
         }
 
-        this.fileCache = FileCacheFactory.createConcurrentLRUFileCache(capacity, circuitBreaker);
+        if (FileCacheSettings.EVICTION_POLICY_SETTING.get(settings) == FileCacheSettings.EvictionPolicy.SLRU) {
+            this.fileCache = FileCacheFactory.createConcurrentSegmentedLRUFileCache(capacity, circuitBreaker);
+        } else {
+            this.fileCache = FileCacheFactory.createConcurrentLRUFileCache(capacity, circuitBreaker);
+        }
         fileCacheNodePath.fileCacheReservedSize = new ByteSizeValue(this.fileCache.capacity(), ByteSizeUnit.BYTES);
         ForkJoinPool loadFileCacheThreadpool = new ForkJoinPool(
             Runtime.getRuntime().availableProcessors(),
@@ -2395,6 +2406,31 @@ public class Node implements Closeable {
             logger.error("File cache initialization failed.", exception.get());
             throw new OpenSearchException(exception.get());
         }
+        final Path journalFile = fileCacheNodePath.fileCachePath.resolve(FileCache.JOURNAL_FILE_NAME);
+        try {
+            final long startNanos = System.nanoTime();
+            final int restored = this.fileCache.restoreAccessOrder(journalFile);
+            logger.info(
+                "restored the access order of [{}] file cache entries in [{}]",
+                restored,
+                TimeValue.timeValueNanos(System.nanoTime() - startNanos)
+            );
+        } catch (IOException e) {
+            // the journal only orders the restored entries for eviction, the cache is usable without it
+            logger.warn("failed to restore the access order of the file cache from [{}]", journalFile, e);
+        }
+    }
+
+    /**
+     * Persists the access order of the file cache, so that the most recently used files are evicted last after a restart.
+     */
+    private void writeFileCacheJournal() {
+        final Path journalFile = nodeEnvironment.fileCacheNodePath().fileCachePath.resolve(FileCache.JOURNAL_FILE_NAME);
+        try {
+            fileCache.writeJournal(journalFile);
+        } catch (IOException e) {
+            logger.warn("failed to write the file cache journal [{}]", journalFile, e);
+        }
     }
 
     /**
@@ -32,12 +32,15 @@
 
 package org.opensearch.node;
 
+import org.opensearch.Version;
 import org.opensearch.cluster.ClusterChangedEvent;
 import org.opensearch.cluster.ClusterStateListener;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.ExponentiallyWeightedMovingAverage;
+import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.settings.Setting;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -53,7 +56,8 @@ import java.util.concurrent.ConcurrentMap;
 /**
  * Collects statistics about queue size, response time, and service time of
  * tasks executed on each node, making the EWMA of the values available to the
- * coordinating node.
+ * coordinating node. Nodes may also report how busy their index searcher pool
+ * is and how warm their file cache is, which the load aware ranking accounts for.
  *
  * @opensearch.api
  */
@@ -62,10 +66,29 @@ public final class ResponseCollectorService implements ClusterStateListener {
 
     private static final double ALPHA = 0.3;
 
+    /**
+     * The formula which adaptive replica selection ranks the nodes holding the copies of a shard with
+     */
+    public static final Setting<Ranking> ADAPTIVE_SELECTION_RANKING_SETTING = new Setting<>(
+        "cluster.routing.adaptive_replica_selection.ranking",
+        Ranking.C3.toString(),
+        Ranking::fromString,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
     private final ConcurrentMap<String, NodeStatistics> nodeIdToStats = ConcurrentCollections.newConcurrentMap();
 
+    private volatile Ranking ranking;
+
     public ResponseCollectorService(ClusterService clusterService) {
         clusterService.addListener(this);
+        this.ranking = clusterService.getClusterSettings().get(ADAPTIVE_SELECTION_RANKING_SETTING);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ADAPTIVE_SELECTION_RANKING_SETTING, this::setRanking);
+    }
+
+    private void setRanking(Ranking ranking) {
+        this.ranking = ranking;
     }
 
     @Override
@@ -82,25 +105,55 @@ public final class ResponseCollectorService implements ClusterStateListener {
     }
 
     public void addNodeStatistics(String nodeId, int queueSize, long responseTimeNanos, long avgServiceTimeNanos) {
+        addNodeStatistics(nodeId, queueSize, responseTimeNanos, avgServiceTimeNanos, -1, -1);
+    }
+
+    /**
+     * Adds the statistics of a task executed on the given node. The index searcher utilization and the file cache hit ratio
+     * are ignored if negative, that is if the node did not report them.
+     */
+    public void addNodeStatistics(
+        String nodeId,
+        int queueSize,
+        long responseTimeNanos,
+        long avgServiceTimeNanos,
+        double searcherUtilization,
+        double cacheHitRatio
+    ) {
         nodeIdToStats.compute(nodeId, (id, ns) -> {
             if (ns == null) {
                 ExponentiallyWeightedMovingAverage queueEWMA = new ExponentiallyWeightedMovingAverage(ALPHA, queueSize);
                 ExponentiallyWeightedMovingAverage responseEWMA = new ExponentiallyWeightedMovingAverage(ALPHA, responseTimeNanos);
-                return new NodeStatistics(nodeId, queueEWMA, responseEWMA, avgServiceTimeNanos);
+                ns = new NodeStatistics(nodeId, queueEWMA, responseEWMA, avgServiceTimeNanos);
             } else {
                 ns.queueSize.addValue((double) queueSize);
                 ns.responseTime.addValue((double) responseTimeNanos);
                 ns.serviceTime = avgServiceTimeNanos;
-                return ns;
             }
+            if (searcherUtilization >= 0) {
+                if (ns.searcherUtilization == null) {
+                    ns.searcherUtilization = new ExponentiallyWeightedMovingAverage(ALPHA, searcherUtilization);
+                } else {
+                    ns.searcherUtilization.addValue(searcherUtilization);
+                }
+            }
+            if (cacheHitRatio >= 0) {
+                if (ns.cacheHitRatio == null) {
+                    ns.cacheHitRatio = new ExponentiallyWeightedMovingAverage(ALPHA, cacheHitRatio);
+                } else {
+                    ns.cacheHitRatio.addValue(cacheHitRatio);
+                }
+            }
+            return ns;
         });
     }
 
     public Map<String, ComputedNodeStats> getAllNodeStatistics() {
         final int clientNum = nodeIdToStats.size();
+        final Ranking ranking = this.ranking;
         // Transform the mutable object internally used for accounting into the computed version
         Map<String, ComputedNodeStats> nodeStats = new HashMap<>(nodeIdToStats.size());
-        nodeIdToStats.forEach((k, v) -> { nodeStats.put(k, new ComputedNodeStats(clientNum, v)); });
+        nodeIdToStats.forEach((k, v) -> { nodeStats.put(k, new ComputedNodeStats(clientNum, v, ranking)); });
         return nodeStats;
     }
 
@@ -115,7 +168,58 @@ public final class ResponseCollectorService implements ClusterStateListener {
      */
     public Optional<ComputedNodeStats> getNodeStatistics(final String nodeId) {
         final int clientNum = nodeIdToStats.size();
-        return Optional.ofNullable(nodeIdToStats.get(nodeId)).map(ns -> new ComputedNodeStats(clientNum, ns));
+        final Ranking ranking = this.ranking;
+        return Optional.ofNullable(nodeIdToStats.get(nodeId)).map(ns -> new ComputedNodeStats(clientNum, ns, ranking));
+    }
+
+    /**
+     * The formulas which adaptive replica selection ranks nodes with, the node of the lowest rank being searched first.
+     *
+     * @opensearch.experimental
+     */
+    @ExperimentalApi
+    public enum Ranking {
+        /**
+         * The formula of the C3 paper, from the queue size, response time and service time of the node and the requests in flight
+         * to the node.
+         */
+        C3 {
+            @Override
+            double rank(ComputedNodeStats stats, long outstandingRequests) {
+                return stats.c3Rank(outstandingRequests, 0, 1);
+            }
+        },
+        /**
+         * The C3 formula, where the saturation of the index searcher pool of the node adds to its queue, and a cold file cache
+         * inflates its response time up to twice as much. The saturation is the number of concurrent segment search slices
+         * running or queued per thread of the pool beyond one, so a node whose searcher threads each have one more slice
+         * waiting ranks as if one more request was queued on it.
+         */
+        LOAD_AWARE {
+            @Override
+            double rank(ComputedNodeStats stats, long outstandingRequests) {
+                // slices per searcher thread, not a count of queued requests or slices
+                final double searcherQueue = Math.max(0, stats.searcherUtilization - 1);
+                final double responseTimeFactor = stats.cacheHitRatio >= 0 ? 2 - stats.cacheHitRatio : 1;
+                return stats.c3Rank(outstandingRequests, searcherQueue, responseTimeFactor);
+            }
+        };
+
+        abstract double rank(ComputedNodeStats stats, long outstandingRequests);
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        public static Ranking fromString(String ranking) {
+            for (Ranking value : values()) {
+                if (value.toString().equals(ranking)) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("unknown adaptive replica selection ranking [" + ranking + "]");
+        }
     }
 
     /**
@@ -139,22 +243,46 @@ public final class ResponseCollectorService implements ClusterStateListener {
         public final int queueSize;
         public final double responseTime;
         public final double serviceTime;
+        // EWMA of the slices running or queued per thread of the index searcher pool, or -1 if unknown
+        public final double searcherUtilization;
+        // EWMA of the recent file cache hit ratio, or -1 if the node did not search shards through its file cache
+        public final double cacheHitRatio;
+        private final Ranking ranking;
 
         public ComputedNodeStats(String nodeId, int clientNum, int queueSize, double responseTime, double serviceTime) {
+            this(nodeId, clientNum, queueSize, responseTime, serviceTime, -1, -1, Ranking.C3);
+        }
+
+        public ComputedNodeStats(
+            String nodeId,
+            int clientNum,
+            int queueSize,
+            double responseTime,
+            double serviceTime,
+            double searcherUtilization,
+            double cacheHitRatio,
+            Ranking ranking
+        ) {
             this.nodeId = nodeId;
             this.clientNum = clientNum;
             this.queueSize = queueSize;
             this.responseTime = responseTime;
             this.serviceTime = serviceTime;
+            this.searcherUtilization = searcherUtilization;
+            this.cacheHitRatio = cacheHitRatio;
+            this.ranking = ranking;
         }
 
-        ComputedNodeStats(int clientNum, NodeStatistics nodeStats) {
+        ComputedNodeStats(int clientNum, NodeStatistics nodeStats, Ranking ranking) {
             this(
                 nodeStats.nodeId,
                 clientNum,
                 (int) nodeStats.queueSize.getAverage(),
                 nodeStats.responseTime.getAverage(),
-                nodeStats.serviceTime
+                nodeStats.serviceTime,
+                nodeStats.searcherUtilization == null ? -1 : nodeStats.searcherUtilization.getAverage(),
+                nodeStats.cacheHitRatio == null ? -1 : nodeStats.cacheHitRatio.getAverage(),
+                ranking
             );
         }
 
@@ -164,6 +292,15 @@ public final class ResponseCollectorService implements ClusterStateListener {
             this.queueSize = in.readInt();
             this.responseTime = in.readDouble();
             this.serviceTime = in.readDouble();
+            if (in.getVersion().onOrAfter(Version.V_3_2_0)) {
+                this.searcherUtilization = in.readDouble();
+                this.cacheHitRatio = in.readDouble();
+                this.ranking = in.readEnum(Ranking.class);
+            } else {
+                this.searcherUtilization = -1;
+                this.cacheHitRatio = -1;
+                this.ranking = Ranking.C3;
+            }
         }
 
         @Override
@@ -173,13 +310,25 @@ public final class ResponseCollectorService implements ClusterStateListener {
             out.writeInt(this.queueSize);
             out.writeDouble(this.responseTime);
             out.writeDouble(this.serviceTime);
+            if (out.getVersion().onOrAfter(Version.V_3_2_0)) {
+                out.writeDouble(this.searcherUtilization);
+                out.writeDouble(this.cacheHitRatio);
+                out.writeEnum(this.ranking);
+            }
+        }
+
+        private double innerRank(long outstandingRequests) {
+            return ranking.rank(this, outstandingRequests);
         }
 
         /**
          * Rank this copy of the data, according to the adaptive replica selection formula from the C3 paper
          * https://www.usenix.org/system/files/conference/nsdi15/nsdi15-paper-suresh.pdf
+         *
+         * @param extraQueue the load of the node in addition to its search queue, in units of queued requests
+         * @param responseTimeFactor the factor to scale the response time of the node with
          */
-        private double innerRank(long outstandingRequests) {
+        private double c3Rank(long outstandingRequests, double extraQueue, double responseTimeFactor) {
             // the concurrency compensation is defined as the number of
             // outstanding requests from the client to the node times the number
             // of clients in the system
@@ -191,10 +340,10 @@ public final class ResponseCollectorService implements ClusterStateListener {
 
             // EWMA of queue size
             double qBar = queueSize;
-            double qHatS = 1 + concurrencyCompensation + qBar;
+            double qHatS = 1 + concurrencyCompensation + qBar + extraQueue;
 
             // EWMA of response time
-            double rS = responseTime / FACTOR;
+            double rS = responseTime * responseTimeFactor / FACTOR;
             // EWMA of service time
             double muBarS = serviceTime / FACTOR;
 
@@ -234,6 +383,8 @@ public final class ResponseCollectorService implements ClusterStateListener {
         final ExponentiallyWeightedMovingAverage queueSize;
         final ExponentiallyWeightedMovingAverage responseTime;
         double serviceTime;
+        ExponentiallyWeightedMovingAverage searcherUtilization;
+        ExponentiallyWeightedMovingAverage cacheHitRatio;
 
         NodeStatistics(
             String nodeId,
@@ -8,6 +8,7 @@
 
 package org.opensearch.node.remotestore;
 
+import org.opensearch.Version;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -25,39 +26,60 @@ public class RemoteStoreNodeStats implements Writeable, ToXContentFragment {
 
     public static final String STATS_NAME = "remote_store";
     public static final String LAST_SUCCESSFUL_FETCH_OF_PINNED_TIMESTAMPS = "last_successful_fetch_of_pinned_timestamps";
+    public static final String TRANSLOG_UPLOAD_FLUSH_COUNT = "translog_upload_flush_count";
 
     /**
      * Time stamp for the last successful fetch of pinned timestamps by the {@linkplain  RemoteStorePinnedTimestampService}
      */
     private final long lastSuccessfulFetchOfPinnedTimestamps;
 
-    public RemoteStoreNodeStats() {
+    /**
+     * Number of times the shards of the node uploaded their buffered translog because the node reached the limit of buffered
+     * translog bytes, see {@link org.opensearch.index.remote.RemoteTranslogUploadBatcher}
+     */
+    private final long translogUploadFlushCount;
+
+    public RemoteStoreNodeStats(long translogUploadFlushCount) {
         this.lastSuccessfulFetchOfPinnedTimestamps = RemoteStorePinnedTimestampService.getPinnedTimestamps().v1();
+        this.translogUploadFlushCount = translogUploadFlushCount;
     }
 
     public long getLastSuccessfulFetchOfPinnedTimestamps() {
         return this.lastSuccessfulFetchOfPinnedTimestamps;
     }
 
+    public long getTranslogUploadFlushCount() {
+        return this.translogUploadFlushCount;
+    }
+
     public RemoteStoreNodeStats(StreamInput in) throws IOException {
         this.lastSuccessfulFetchOfPinnedTimestamps = in.readLong();
+        this.translogUploadFlushCount = in.getVersion().onOrAfter(Version.V_3_2_0) ? in.readVLong() : 0;
     }
 
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeLong(this.lastSuccessfulFetchOfPinnedTimestamps);
+        if (out.getVersion().onOrAfter(Version.V_3_2_0)) {
+            out.writeVLong(this.translogUploadFlushCount);
+        }
     }
 
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject(STATS_NAME);
         builder.field(LAST_SUCCESSFUL_FETCH_OF_PINNED_TIMESTAMPS, this.lastSuccessfulFetchOfPinnedTimestamps);
+        builder.field(TRANSLOG_UPLOAD_FLUSH_COUNT, this.translogUploadFlushCount);
         return builder.endObject();
     }
 
     @Override
     public String toString() {
-        return "RemoteStoreNodeStats{ lastSuccessfulFetchOfPinnedTimestamps=" + lastSuccessfulFetchOfPinnedTimestamps + "}";
+        return "RemoteStoreNodeStats{ lastSuccessfulFetchOfPinnedTimestamps="
+            + lastSuccessfulFetchOfPinnedTimestamps
+            + ", translogUploadFlushCount="
+            + translogUploadFlushCount
+            + "}";
     }
 
     @Override
@@ -69,11 +91,12 @@ public class RemoteStoreNodeStats implements Writeable, ToXContentFragment {
             return false;
         }
         RemoteStoreNodeStats other = (RemoteStoreNodeStats) o;
-        return this.lastSuccessfulFetchOfPinnedTimestamps == other.lastSuccessfulFetchOfPinnedTimestamps;
+        return this.lastSuccessfulFetchOfPinnedTimestamps == other.lastSuccessfulFetchOfPinnedTimestamps
+            && this.translogUploadFlushCount == other.translogUploadFlushCount;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(lastSuccessfulFetchOfPinnedTimestamps);
+        return Objects.hash(lastSuccessfulFetchOfPinnedTimestamps, translogUploadFlushCount);
     }
 }
@@ -72,6 +72,7 @@ import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.search.NestedHelper;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.similarity.SimilarityService;
+import org.opensearch.indices.SegmentAggregationResultCache;
 import org.opensearch.search.aggregations.BucketCollectorProcessor;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.SearchContextAggregations;
@@ -206,6 +207,7 @@ final class DefaultSearchContext extends SearchContext {
     private List<RescoreContext> rescore;
     private Profilers profilers;
     private BucketCollectorProcessor bucketCollectorProcessor = NO_OP_BUCKET_COLLECTOR_PROCESSOR;
+    private SegmentAggregationResultCache segmentAggregationResultCache;
     private final Map<String, SearchExtBuilder> searchExtBuilders = new HashMap<>();
     private final Map<Class<?>, CollectorManager<? extends Collector, ReduceableSearchResult>> queryCollectorManagers = new HashMap<>();
     private final QueryShardContext queryShardContext;
@@ -1103,6 +1105,16 @@ final class DefaultSearchContext extends SearchContext {
         return bucketCollectorProcessor;
     }
 
+    @Override
+    public void setSegmentAggregationResultCache(SegmentAggregationResultCache segmentAggregationResultCache) {
+        this.segmentAggregationResultCache = segmentAggregationResultCache;
+    }
+
+    @Override
+    public SegmentAggregationResultCache segmentAggregationResultCache() {
+        return segmentAggregationResultCache;
+    }
+
     /**
      * Determines the appropriate concurrent segment search mode for the current search request.
      * <p>
@@ -1186,6 +1198,44 @@ final class DefaultSearchContext extends SearchContext {
 
     }
 
+    /**
+     * Returns the minimum number of documents of the partitions which concurrent segment search splits large segments into.
+     *
+     * Segments are only split for requests whose collectors do not rely on seeing whole segments: aggregations precompute
+     * their results from the index structures of entire segments, and profiling, field collapsing, scrolls and streaming
+     * keep per segment state.
+     *
+     * @return minimum size of the partitions of a segment; returns 0 if segments should not be split.
+     */
+    @Override
+    public int getIntraSegmentMinPartitionSize() {
+        if (shouldUseConcurrentSearch() == false
+            || aggregations() != null
+            || getProfilers() != null
+            || collapse() != null
+            || scrollContext() != null
+            || isStreamSearch()) {
+            return 0;
+        }
+        return indexService.getIndexSettings()
+            .getSettings()
+            .getAsInt(
+                IndexSettings.INDEX_CONCURRENT_INTRA_SEGMENT_SEARCH_MIN_PARTITION_SIZE.getKey(),
+                clusterService.getClusterSettings().get(SearchService.CONCURRENT_INTRA_SEGMENT_SEARCH_MIN_PARTITION_SIZE_SETTING)
+            );
+    }
+
+    /**
+     * Returns whether concurrent segment search balances its slices by the estimated cost of the query on each segment.
+     *
+     * @return true if cost based slicing is enabled and the search runs concurrently.
+     */
+    @Override
+    public boolean shouldUseCostBasedSlicing() {
+        return shouldUseConcurrentSearch()
+            && clusterService.getClusterSettings().get(SearchService.CONCURRENT_SEGMENT_SEARCH_COST_BASED_SLICING_SETTING);
+    }
+
     @Override
     public boolean shouldUseTimeSeriesDescSortOptimization() {
         return indexShard.isTimeSeriesDescSortOptimizationEnabled()
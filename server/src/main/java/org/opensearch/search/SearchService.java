@@ -55,6 +55,7 @@ import org.opensearch.action.support.TransportActions;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.common.lease.Releasable;
@@ -95,6 +96,7 @@ import org.opensearch.index.query.Rewriteable;
 import org.opensearch.index.shard.IndexEventListener;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.SearchOperationListener;
+import org.opensearch.index.store.remote.filecache.FileCache;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.cluster.IndicesClusterStateService.AllocatedIndices.IndexRemovalReason;
 import org.opensearch.node.ResponseCollectorService;
@@ -317,6 +319,25 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         Property.Dynamic,
         Property.NodeScope
     );
+    // minimum number of documents of the partitions which concurrent segment search splits large segments into, so that a shard
+    // with few large segments is still searched by several slices. value == 0 means segments are never split
+    public static final Setting<Integer> CONCURRENT_INTRA_SEGMENT_SEARCH_MIN_PARTITION_SIZE_SETTING = Setting.intSetting(
+        "search.concurrent.intra_segment_search.min_partition_size",
+        0,
+        0,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    // whether concurrent segment search balances its slices by the estimated cost of the query on each segment, rather than by
+    // the number of documents of the segments
+    public static final Setting<Boolean> CONCURRENT_SEGMENT_SEARCH_COST_BASED_SLICING_SETTING = Setting.boolSetting(
+        "search.concurrent.cost_based_slicing.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     // value 0 means rewrite filters optimization in aggregations will be disabled
     @ExperimentalApi
     public static final Setting<Integer> MAX_AGGREGATION_REWRITE_FILTERS = Setting.intSetting(
@@ -687,10 +708,25 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         final boolean canCache = indicesService.canCache(request, context);
         context.getQueryShardContext().freezeContext();
         if (canCache) {
+            if (indicesService.canCacheSegmentAggregations(context)) {
+                context.setSegmentAggregationResultCache(indicesService.getSegmentAggregationResultCache());
+            }
             indicesService.loadIntoContext(request, context, queryPhase);
         } else {
             queryPhase.execute(context);
         }
+        // lets adaptive replica selection prefer the copies of the shard whose cache is warm
+        context.queryResult().fileCacheHitRatio(fileCacheHitRatio(indicesService.getFileCache(), context.indexShard().indexSettings()));
+    }
+
+    /**
+     * Returns the recent hit ratio of the file cache if the shard of the given index reads through it, -1 otherwise.
+     */
+    static double fileCacheHitRatio(@Nullable FileCache fileCache, IndexSettings indexSettings) {
+        if (fileCache != null && (indexSettings.isWarmIndex() || indexSettings.isRemoteSnapshot())) {
+            return fileCache.recentHitRatio();
+        }
+        return -1;
     }
 
     public void executeQueryPhase(
@@ -793,7 +829,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                 }
                 afterQueryTime = executor.success();
             }
-            if (request.numberOfShards() == 1) {
+            if (request.numberOfShards() == 1 || request.fetchWhileQuerying()) {
                 return executeFetchPhase(readerContext, context, afterQueryTime);
             } else {
                 // Pass the rescoreDocIds to the queryResult to send them the coordinating node and receive them back in the fetch phase.
@@ -56,12 +56,15 @@ public abstract class AggregationCollectorManager implements CollectorManager<Co
 
     @Override
     public ReduceableSearchResult reduce(Collection<Collector> collectors) throws IOException {
+        return buildAggregationResult(toInternalAggregations(collectors));
+    }
+
+    protected InternalAggregations toInternalAggregations(Collection<Collector> collectors) throws IOException {
         final List<InternalAggregation> internals = context.bucketCollectorProcessor().toInternalAggregations(collectors);
         assert internals.stream().noneMatch(Objects::isNull);
         context.aggregations().resetBucketMultiConsumer();
 
-        final InternalAggregations internalAggregations = InternalAggregations.from(internals);
-        return buildAggregationResult(internalAggregations);
+        return InternalAggregations.from(internals);
     }
 
     protected AggregationReduceableSearchResult buildAggregationResult(InternalAggregations internalAggregations) {
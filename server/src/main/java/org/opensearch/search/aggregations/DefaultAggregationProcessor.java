@@ -10,6 +10,7 @@ package org.opensearch.search.aggregations;
 
 import org.apache.lucene.search.Query;
 import org.opensearch.common.lucene.search.Queries;
+import org.opensearch.indices.SegmentAggregationResultCache;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.profile.query.InternalProfileCollector;
 import org.opensearch.search.query.QueryPhaseExecutionException;
@@ -34,8 +35,7 @@ public class DefaultAggregationProcessor implements AggregationProcessor {
                 // update the bucket collector process as there is aggregation in the request
                 context.setBucketCollectorProcessor(bucketCollectorProcessor);
                 if (context.aggregations().factories().hasNonGlobalAggregator()) {
-                    context.queryCollectorManagers()
-                        .put(NonGlobalAggCollectorManager.class, new NonGlobalAggCollectorManagerWithSingleCollector(context));
+                    context.queryCollectorManagers().put(NonGlobalAggCollectorManager.class, createNonGlobalAggCollectorManager(context));
                 }
                 // initialize global aggregators as well, such that any failure to initialize can be caught before executing the request
                 if (context.aggregations().factories().hasGlobalAggregator()) {
@@ -48,6 +48,19 @@ public class DefaultAggregationProcessor implements AggregationProcessor {
         }
     }
 
+    private static AggregationCollectorManager createNonGlobalAggCollectorManager(SearchContext context) throws IOException {
+        final SegmentAggregationResultCache cache = context.segmentAggregationResultCache();
+        if (cache != null) {
+            final SegmentAggregationCollectorManager manager = new SegmentAggregationCollectorManager(context, cache);
+            if (manager.needsScores() == false) {
+                return manager;
+            }
+            // scores depend on the statistics of the whole shard, so the aggregations are collected on the shard as a whole
+            context.setSegmentAggregationResultCache(null);
+        }
+        return new NonGlobalAggCollectorManagerWithSingleCollector(context);
+    }
+
     @Override
     public void postProcess(SearchContext context) {
         if (context.aggregations() == null) {
@@ -0,0 +1,150 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Weight;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.indices.SegmentAggregationResultCache;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.profile.query.CollectorResult;
+import org.opensearch.search.query.ReduceableSearchResult;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@link AggregationCollectorManager} for non-global aggregation operators which collects each segment with its own
+ * aggregators, so that the partial results of a segment can be cached by the {@link SegmentAggregationResultCache} and
+ * reused until the segment is merged away or gets new deletes. Segments with cached results are skipped by the aggregators
+ * while the query collects them, so the query still runs once over all the segments.
+ * <p>
+ * The aggregators of a segment don't apply the shard min doc count, the same way the aggregators of a concurrent segment
+ * search slice don't, so that a segment result only depends on the segment. The shard level thresholds are applied once the
+ * results of all the segments are reduced on the shard.
+ *
+ * @opensearch.internal
+ */
+public class SegmentAggregationCollectorManager extends AggregationCollectorManager {
+
+    private final SegmentAggregationResultCache cache;
+    private final ShardId shardId;
+    private final BytesReference requestKey;
+    private final SegmentCollector collector;
+    private final String collectorName;
+
+    public SegmentAggregationCollectorManager(SearchContext context, SegmentAggregationResultCache cache) throws IOException {
+        super(context, context.aggregations().factories()::createTopLevelNonGlobalAggregators, CollectorResult.REASON_AGGREGATION);
+        this.cache = cache;
+        this.shardId = context.indexShard().shardId();
+        this.requestKey = context.request().cacheKey();
+        // all the aggregators of the request have the same score mode, so the first ones tell it for all the segments
+        final Collector first = super.newCollector();
+        this.collector = new SegmentCollector(first);
+        this.collectorName = first.toString();
+    }
+
+    @Override
+    public Collector newCollector() throws IOException {
+        return collector;
+    }
+
+    /**
+     * Whether the aggregators need the scores of the documents, which depend on the term statistics of the whole shard and
+     * so prevent caching the results of a segment.
+     */
+    public boolean needsScores() {
+        return collector.scoreMode().needsScores();
+    }
+
+    @Override
+    public ReduceableSearchResult reduce(Collection<Collector> collectors) throws IOException {
+        assert collectors.isEmpty() : "Reduce on SegmentAggregationCollectorManager called with non-empty collectors";
+        final List<InternalAggregations> segmentAggregations = new ArrayList<>(collector.cached);
+        // partial results of timed out searches must not be reused
+        final boolean cacheable = context.isSearchTimedOut() == false;
+        for (int i = 0; i < collector.leaves.size(); i++) {
+            final Collector leafCollector = collector.leafCollectors.get(i);
+            context.bucketCollectorProcessor().processPostCollection(leafCollector);
+            final InternalAggregations aggregations = toInternalAggregations(List.of(leafCollector));
+            if (cacheable) {
+                cache.put(shardId, collector.leaves.get(i), requestKey, aggregations);
+            }
+            segmentAggregations.add(aggregations);
+        }
+        if (segmentAggregations.isEmpty()) {
+            // no segment matched, build the empty results from the aggregators which were not used
+            context.bucketCollectorProcessor().processPostCollection(collector.first);
+            segmentAggregations.add(toInternalAggregations(List.of(collector.first)));
+        }
+        final InternalAggregation.ReduceContext reduceContext = context.partialOnShard();
+        // the results of the segments are reduced as the results of the slices of a concurrent segment search are, which applies
+        // the shard size and shard min doc count
+        reduceContext.setSliceLevel(true);
+        return buildAggregationResult(InternalAggregations.reduce(segmentAggregations, reduceContext));
+    }
+
+    @Override
+    public String getCollectorName() {
+        return collectorName;
+    }
+
+    /**
+     * Collects every segment without cached results with its own aggregators, and skips the segments with cached results.
+     */
+    private class SegmentCollector implements Collector {
+        private final Collector first;
+        private final List<InternalAggregations> cached = new ArrayList<>();
+        private final List<LeafReaderContext> leaves = new ArrayList<>();
+        private final List<Collector> leafCollectors = new ArrayList<>();
+        private Weight weight;
+
+        SegmentCollector(Collector first) {
+            this.first = first;
+        }
+
+        @Override
+        public void setWeight(Weight weight) {
+            this.weight = weight;
+        }
+
+        @Override
+        public LeafCollector getLeafCollector(LeafReaderContext leaf) throws IOException {
+            final InternalAggregations cachedAggregations = cache.get(shardId, leaf, requestKey);
+            if (cachedAggregations != null) {
+                cached.add(cachedAggregations);
+                throw new CollectionTerminatedException();
+            }
+            final Collector leafCollector = leafCollectors.isEmpty() ? first : SegmentAggregationCollectorManager.super.newCollector();
+            leaves.add(leaf);
+            leafCollectors.add(leafCollector);
+            if (weight != null) {
+                leafCollector.setWeight(weight);
+            }
+            return leafCollector.getLeafCollector(leaf);
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            return first.scoreMode();
+        }
+
+        @Override
+        public String toString() {
+            return collectorName;
+        }
+    }
+}
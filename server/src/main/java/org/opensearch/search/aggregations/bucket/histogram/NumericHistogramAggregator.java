@@ -34,20 +34,32 @@ package org.opensearch.search.aggregations.bucket.histogram;
 
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.ScoreMode;
+import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
+import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
+import org.opensearch.index.mapper.NumberFieldMapper;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
 import org.opensearch.search.aggregations.BucketOrder;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
+import org.opensearch.search.aggregations.StarTreeBucketCollector;
+import org.opensearch.search.aggregations.StarTreePreComputeCollector;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.startree.StarTreeQueryHelper;
+import org.opensearch.search.startree.filter.DimensionFilter;
+import org.opensearch.search.startree.filter.MatchAllFilter;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 
+import static org.opensearch.search.startree.StarTreeQueryHelper.getSupportedStarTree;
+
 /**
  * An aggregator for numeric values. For a given {@code interval},
  * {@code offset} and {@code value}, it returns the highest number that can be
@@ -56,8 +68,9 @@ import java.util.Map;
  *
  * @opensearch.internal
  */
-public class NumericHistogramAggregator extends AbstractHistogramAggregator {
+public class NumericHistogramAggregator extends AbstractHistogramAggregator implements StarTreePreComputeCollector {
     private final ValuesSource.Numeric valuesSource;
+    private final String fieldName;
 
     public NumericHistogramAggregator(
         String name,
@@ -93,6 +106,9 @@ public class NumericHistogramAggregator extends AbstractHistogramAggregator {
         );
         // TODO: Stop using null here
         this.valuesSource = valuesSourceConfig.hasValues() ? (ValuesSource.Numeric) valuesSourceConfig.getValuesSource() : null;
+        this.fieldName = (valuesSource instanceof ValuesSource.Numeric.FieldData)
+            ? ((ValuesSource.Numeric.FieldData) valuesSource).getIndexFieldName()
+            : null;
     }
 
     @Override
@@ -103,6 +119,17 @@ public class NumericHistogramAggregator extends AbstractHistogramAggregator {
         return super.scoreMode();
     }
 
+    @Override
+    protected boolean tryPrecomputeAggregationForLeaf(LeafReaderContext ctx) throws IOException {
+        CompositeIndexFieldInfo supportedStarTree = getSupportedStarTree(this.context.getQueryShardContext());
+        if (supportedStarTree != null && valuesSource != null) {
+            StarTreeBucketCollector starTreeBucketCollector = getStarTreeBucketCollector(ctx, supportedStarTree, null);
+            StarTreeQueryHelper.preComputeBucketsWithStarTree(starTreeBucketCollector);
+            return true;
+        }
+        return false;
+    }
+
     @Override
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, final LeafBucketCollector sub) throws IOException {
         if (valuesSource == null) {
@@ -139,4 +166,59 @@ public class NumericHistogramAggregator extends AbstractHistogramAggregator {
             }
         };
     }
+
+    @Override
+    public List<DimensionFilter> getDimensionFilters() {
+        return StarTreeQueryHelper.collectDimensionFilters(new MatchAllFilter(fieldName), subAggregators);
+    }
+
+    @Override
+    public StarTreeBucketCollector getStarTreeBucketCollector(
+        LeafReaderContext ctx,
+        CompositeIndexFieldInfo starTree,
+        StarTreeBucketCollector parentCollector
+    ) throws IOException {
+        StarTreeValues starTreeValues = StarTreeQueryHelper.getStarTreeValues(ctx, starTree);
+        SortedNumericStarTreeValuesIterator valuesIterator = (SortedNumericStarTreeValuesIterator) starTreeValues
+            .getDimensionValuesIterator(fieldName);
+        SortedNumericStarTreeValuesIterator docCountsIterator = StarTreeQueryHelper.getDocCountsIterator(starTreeValues, starTree);
+        NumberFieldMapper.NumberFieldType fieldType = valuesSource.isFloatingPoint()
+            ? (NumberFieldMapper.NumberFieldType) context.mapperService().fieldType(fieldName)
+            : null;
+        return new StarTreeBucketCollector(
+            starTreeValues,
+            parentCollector == null ? StarTreeQueryHelper.getStarTreeResult(starTreeValues, context, getDimensionFilters()) : null
+        ) {
+            @Override
+            public void setSubCollectors() throws IOException {
+                for (Aggregator aggregator : subAggregators) {
+                    this.subCollectors.add(((StarTreePreComputeCollector) aggregator).getStarTreeBucketCollector(ctx, starTree, this));
+                }
+            }
+
+            @Override
+            public void collectStarTreeEntry(int starTreeEntry, long owningBucketOrd) throws IOException {
+                if (!valuesIterator.advanceExact(starTreeEntry) || !docCountsIterator.advanceExact(starTreeEntry)) {
+                    return;
+                }
+                long docCount = docCountsIterator.nextValue();
+
+                double previousKey = Double.NEGATIVE_INFINITY;
+                for (int i = 0, count = valuesIterator.entryValueCount(); i < count; i++) {
+                    long dimensionLongValue = valuesIterator.nextValue();
+                    // Only numeric & floating points are supported as of now in star-tree
+                    double value = fieldType != null ? fieldType.toDoubleValue(dimensionLongValue) : dimensionLongValue;
+                    double key = Math.floor((value - offset) / interval);
+                    if (key == previousKey) {
+                        continue;
+                    }
+                    if (hardBounds == null || hardBounds.contain(key * interval)) {
+                        long bucketOrd = bucketOrds.add(owningBucketOrd, Double.doubleToLongBits(key));
+                        collectStarTreeBucket(this, docCount, bucketOrd, starTreeEntry);
+                    }
+                    previousKey = key;
+                }
+            }
+        };
+    }
 }
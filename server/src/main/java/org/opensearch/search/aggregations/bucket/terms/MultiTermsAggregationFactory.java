@@ -9,6 +9,7 @@
 package org.opensearch.search.aggregations.bucket.terms;
 
 import org.opensearch.common.collect.Tuple;
+import org.opensearch.index.mapper.NumberFieldMapper;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
@@ -26,6 +27,7 @@ import org.opensearch.search.aggregations.support.ValuesSourceRegistry;
 import org.opensearch.search.internal.SearchContext;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -146,6 +148,7 @@ public class MultiTermsAggregationFactory extends AggregatorFactory {
             configs.stream()
                 .map(config -> queryShardContext.getValuesSourceRegistry().getAggregator(REGISTRY_KEY, config.v1()).build(config))
                 .collect(Collectors.toList()),
+            starTreeValuesSources(),
             configs.stream().map(c -> c.v1().format()).collect(Collectors.toList()),
             order,
             collectMode,
@@ -157,6 +160,52 @@ public class MultiTermsAggregationFactory extends AggregatorFactory {
         );
     }
 
+    /**
+     * The star-tree values sources are only created when the request is served from the star-tree, in which case
+     * all the fields are star-tree dimensions.
+     */
+    private List<MultiTermsAggregator.StarTreeValuesSource> starTreeValuesSources() {
+        if (queryShardContext.getStarTreeQueryContext() == null) {
+            return null;
+        }
+        List<MultiTermsAggregator.StarTreeValuesSource> starTreeValuesSources = new ArrayList<>(configs.size());
+        for (Tuple<ValuesSourceConfig, IncludeExclude> config : configs) {
+            ValuesSourceConfig valuesSourceConfig = config.v1();
+            IncludeExclude includeExclude = config.v2();
+            String fieldName = valuesSourceConfig.fieldContext().field();
+            if (valuesSourceConfig.getValuesSource() instanceof ValuesSource.Numeric valuesSource) {
+                if (valuesSource.isFloatingPoint()) {
+                    starTreeValuesSources.add(
+                        MultiTermsAggregator.InternalValuesSourceFactory.starTreeDoubleValuesSource(
+                            fieldName,
+                            (NumberFieldMapper.NumberFieldType) valuesSourceConfig.fieldType(),
+                            includeExclude == null ? null : includeExclude.convertToDoubleFilter()
+                        )
+                    );
+                } else {
+                    starTreeValuesSources.add(
+                        MultiTermsAggregator.InternalValuesSourceFactory.starTreeLongValuesSource(
+                            fieldName,
+                            includeExclude == null ? null : includeExclude.convertToLongFilter(valuesSourceConfig.format())
+                        )
+                    );
+                }
+            } else {
+                starTreeValuesSources.add(
+                    MultiTermsAggregator.InternalValuesSourceFactory.starTreeBytesValuesSource(
+                        fieldName,
+                        includeExclude == null ? null : includeExclude.convertToStringFilter(valuesSourceConfig.format())
+                    )
+                );
+            }
+        }
+        return starTreeValuesSources;
+    }
+
+    public List<ValuesSourceConfig> getValuesSourceConfigs() {
+        return configs.stream().map(Tuple::v1).collect(Collectors.toList());
+    }
+
     @Override
     protected boolean supportsConcurrentSegmentSearch() {
         return true;
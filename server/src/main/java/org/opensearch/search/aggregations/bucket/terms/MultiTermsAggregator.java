@@ -14,7 +14,9 @@ import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.NumericUtils;
 import org.apache.lucene.util.PriorityQueue;
 import org.opensearch.ExceptionsHelper;
+import org.opensearch.common.CheckedFunction;
 import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.Numbers;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.lease.Releasable;
@@ -23,8 +25,13 @@ import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
+import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedSetStarTreeValuesIterator;
 import org.opensearch.index.fielddata.SortedBinaryDocValues;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
+import org.opensearch.index.mapper.NumberFieldMapper;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
@@ -33,12 +40,17 @@ import org.opensearch.search.aggregations.CardinalityUpperBound;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalOrder;
 import org.opensearch.search.aggregations.LeafBucketCollector;
+import org.opensearch.search.aggregations.StarTreeBucketCollector;
+import org.opensearch.search.aggregations.StarTreePreComputeCollector;
 import org.opensearch.search.aggregations.bucket.BucketsAggregator;
 import org.opensearch.search.aggregations.bucket.DeferableBucketAggregator;
 import org.opensearch.search.aggregations.bucket.LocalBucketCountThresholds;
 import org.opensearch.search.aggregations.support.AggregationPath;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.startree.StarTreeQueryHelper;
+import org.opensearch.search.startree.filter.DimensionFilter;
+import org.opensearch.search.startree.filter.MatchAllFilter;
 
 import java.io.IOException;
 import java.math.BigInteger;
@@ -59,10 +71,12 @@ import static org.opensearch.search.aggregations.bucket.terms.TermsAggregator.de
  *
  * @opensearch.internal
  */
-public class MultiTermsAggregator extends DeferableBucketAggregator {
+public class MultiTermsAggregator extends DeferableBucketAggregator implements StarTreePreComputeCollector {
 
     private final BytesKeyedBucketOrds bucketOrds;
     private final MultiTermsValuesSource multiTermsValue;
+    @Nullable
+    private final List<StarTreeValuesSource> starTreeValuesSources;
     private final boolean showTermDocCountError;
     private final List<DocValueFormat> formats;
     private final TermsAggregator.BucketCountThresholds bucketCountThresholds;
@@ -84,10 +98,43 @@ public class MultiTermsAggregator extends DeferableBucketAggregator {
         Aggregator parent,
         CardinalityUpperBound cardinality,
         Map<String, Object> metadata
+    ) throws IOException {
+        this(
+            name,
+            factories,
+            showTermDocCountError,
+            internalValuesSources,
+            null,
+            formats,
+            order,
+            collectMode,
+            bucketCountThresholds,
+            context,
+            parent,
+            cardinality,
+            metadata
+        );
+    }
+
+    public MultiTermsAggregator(
+        String name,
+        AggregatorFactories factories,
+        boolean showTermDocCountError,
+        List<InternalValuesSource> internalValuesSources,
+        @Nullable List<StarTreeValuesSource> starTreeValuesSources,
+        List<DocValueFormat> formats,
+        BucketOrder order,
+        SubAggCollectionMode collectMode,
+        TermsAggregator.BucketCountThresholds bucketCountThresholds,
+        SearchContext context,
+        Aggregator parent,
+        CardinalityUpperBound cardinality,
+        Map<String, Object> metadata
     ) throws IOException {
         super(name, factories, context, parent, metadata);
         this.bucketOrds = BytesKeyedBucketOrds.build(context.bigArrays(), cardinality);
         this.multiTermsValue = new MultiTermsValuesSource(internalValuesSources);
+        this.starTreeValuesSources = starTreeValuesSources;
         this.showTermDocCountError = showTermDocCountError;
         this.formats = formats;
         this.bucketCountThresholds = bucketCountThresholds;
@@ -226,6 +273,70 @@ public class MultiTermsAggregator extends DeferableBucketAggregator {
         };
     }
 
+    @Override
+    protected boolean tryPrecomputeAggregationForLeaf(LeafReaderContext ctx) throws IOException {
+        if (starTreeValuesSources == null) {
+            return false;
+        }
+        CompositeIndexFieldInfo supportedStarTree = StarTreeQueryHelper.getSupportedStarTree(this.context.getQueryShardContext());
+        if (supportedStarTree != null) {
+            StarTreeBucketCollector starTreeBucketCollector = getStarTreeBucketCollector(ctx, supportedStarTree, null);
+            StarTreeQueryHelper.preComputeBucketsWithStarTree(starTreeBucketCollector);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public List<DimensionFilter> getDimensionFilters() {
+        List<DimensionFilter> dimensionFilters = new ArrayList<>(starTreeValuesSources.size());
+        for (StarTreeValuesSource starTreeValuesSource : starTreeValuesSources) {
+            dimensionFilters.add(new MatchAllFilter(starTreeValuesSource.fieldName()));
+        }
+        return StarTreeQueryHelper.collectDimensionFilters(dimensionFilters, subAggregators);
+    }
+
+    @Override
+    public StarTreeBucketCollector getStarTreeBucketCollector(
+        LeafReaderContext ctx,
+        CompositeIndexFieldInfo starTree,
+        StarTreeBucketCollector parent
+    ) throws IOException {
+        StarTreeValues starTreeValues = StarTreeQueryHelper.getStarTreeValues(ctx, starTree);
+        List<InternalValuesSourceCollector> collectors = new ArrayList<>(starTreeValuesSources.size());
+        for (StarTreeValuesSource starTreeValuesSource : starTreeValuesSources) {
+            collectors.add(starTreeValuesSource.apply(starTreeValues));
+        }
+        SortedNumericStarTreeValuesIterator docCountsIterator = StarTreeQueryHelper.getDocCountsIterator(starTreeValues, starTree);
+        return new StarTreeBucketCollector(
+            starTreeValues,
+            parent == null ? StarTreeQueryHelper.getStarTreeResult(starTreeValues, context, getDimensionFilters()) : null
+        ) {
+            private long entryDocCount;
+            private final MultiTermsValuesSourceCollector compositeKeysCollector = multiTermsValue.getValues(
+                collectors,
+                bucketOrds,
+                (starTreeEntry, bucketOrd) -> collectStarTreeBucket(this, entryDocCount, bucketOrd, starTreeEntry)
+            );
+
+            @Override
+            public void setSubCollectors() throws IOException {
+                for (Aggregator aggregator : subAggregators) {
+                    this.subCollectors.add(((StarTreePreComputeCollector) aggregator).getStarTreeBucketCollector(ctx, starTree, this));
+                }
+            }
+
+            @Override
+            public void collectStarTreeEntry(int starTreeEntry, long owningBucketOrd) throws IOException {
+                if (docCountsIterator.advanceExact(starTreeEntry) == false) {
+                    return;
+                }
+                entryDocCount = docCountsIterator.nextValue();
+                compositeKeysCollector.apply(starTreeEntry, owningBucketOrd);
+            }
+        };
+    }
+
     @Override
     protected void doClose() {
         Releasables.close(bucketOrds, multiTermsValue);
@@ -250,7 +361,9 @@ public class MultiTermsAggregator extends DeferableBucketAggregator {
 
     @Override
     protected boolean shouldDefer(Aggregator aggregator) {
-        return collectMode == Aggregator.SubAggCollectionMode.BREADTH_FIRST && !aggsUsedForSorting.contains(aggregator);
+        return context.getQueryShardContext().getStarTreeQueryContext() == null
+            && collectMode == Aggregator.SubAggCollectionMode.BREADTH_FIRST
+            && !aggsUsedForSorting.contains(aggregator);
     }
 
     private void collectZeroDocEntriesIfNeeded(long owningBucketOrd) throws IOException {
@@ -302,6 +415,43 @@ public class MultiTermsAggregator extends DeferableBucketAggregator {
         List<TermValue<?>> apply(int doc) throws IOException;
     }
 
+    /**
+     * Consumes the bucket ordinal of every composite key generated for a doc
+     */
+    @FunctionalInterface
+    interface CompositeKeyConsumer {
+        /**
+         * @param bucketOrd the ordinal returned by {@link BytesKeyedBucketOrds#add(long, BytesRef)}, negative if the key already existed
+         */
+        void accept(int doc, long bucketOrd) throws IOException;
+    }
+
+    /**
+     * Creates {@link InternalValuesSourceCollector} over the values of a star-tree dimension, where docs are star-tree entries.
+     *
+     * @opensearch.internal
+     */
+    static final class StarTreeValuesSource {
+        private final String fieldName;
+        private final CheckedFunction<StarTreeValues, InternalValuesSourceCollector, IOException> collectorFactory;
+
+        StarTreeValuesSource(
+            String fieldName,
+            CheckedFunction<StarTreeValues, InternalValuesSourceCollector, IOException> collectorFactory
+        ) {
+            this.fieldName = fieldName;
+            this.collectorFactory = collectorFactory;
+        }
+
+        String fieldName() {
+            return fieldName;
+        }
+
+        InternalValuesSourceCollector apply(StarTreeValues starTreeValues) throws IOException {
+            return collectorFactory.apply(starTreeValues);
+        }
+    }
+
     /**
      * Represents an individual term value.
      */
@@ -364,14 +514,34 @@ public class MultiTermsAggregator extends DeferableBucketAggregator {
             for (InternalValuesSource valuesSource : valuesSources) {
                 collectors.add(valuesSource.apply(ctx));
             }
-            boolean collectBucketOrds = aggregator != null && sub != null;
+            if (aggregator == null || sub == null) {
+                return getValues(collectors, bucketOrds, (doc, bucketOrd) -> {});
+            }
+            return getValues(collectors, bucketOrds, (doc, bucketOrd) -> {
+                if (bucketOrd < 0) {
+                    aggregator.collectExistingBucket(sub, doc, -1 - bucketOrd);
+                } else {
+                    aggregator.collectBucket(sub, doc, bucketOrd);
+                }
+            });
+        }
+
+        /**
+         * Generates the composite keys of the values provided by the collectors, which are either doc values collectors
+         * or star-tree collectors.
+         */
+        MultiTermsValuesSourceCollector getValues(
+            List<InternalValuesSourceCollector> collectors,
+            BytesKeyedBucketOrds bucketOrds,
+            CompositeKeyConsumer compositeKeyConsumer
+        ) {
             return new MultiTermsValuesSourceCollector() {
 
                 /**
                  * This method does the following : <br>
                  * <li>Fetches the values of every field present in the doc List<List<TermValue<?>>> via @{@link InternalValuesSourceCollector}</li>
                  * <li>Generates Composite keys from the fetched values for all fields present in the aggregation.</li>
-                 * <li>Adds every composite key to the @{@link BytesKeyedBucketOrds} and Optionally collects them via @{@link BucketsAggregator#collectBucket(LeafBucketCollector, int, long)}</li>
+                 * <li>Adds every composite key to the @{@link BytesKeyedBucketOrds} and passes its ordinal to the @{@link CompositeKeyConsumer}</li>
                  */
                 @Override
                 public void apply(int doc, long owningBucketOrd) throws IOException {
@@ -400,14 +570,7 @@ public class MultiTermsAggregator extends DeferableBucketAggregator {
                     if (collectedValues.size() == index) {
                         // Avoid performing a deep copy of the composite key by inlining.
                         long bucketOrd = bucketOrds.add(owningBucketOrd, scratch.bytes().toBytesRef());
-                        if (collectBucketOrds) {
-                            if (bucketOrd < 0) {
-                                bucketOrd = -1 - bucketOrd;
-                                aggregator.collectExistingBucket(sub, doc, bucketOrd);
-                            } else {
-                                aggregator.collectBucket(sub, doc, bucketOrd);
-                            }
-                        }
+                        compositeKeyConsumer.accept(doc, bucketOrd);
                         return;
                     }
 
@@ -523,6 +686,80 @@ public class MultiTermsAggregator extends DeferableBucketAggregator {
             };
         }
 
+        static StarTreeValuesSource starTreeBytesValuesSource(String fieldName, IncludeExclude.StringFilter includeExclude) {
+            return new StarTreeValuesSource(fieldName, starTreeValues -> {
+                SortedSetStarTreeValuesIterator values = (SortedSetStarTreeValuesIterator) starTreeValues.getDimensionValuesIterator(
+                    fieldName
+                );
+                return starTreeEntry -> {
+                    if (false == values.advanceExact(starTreeEntry)) {
+                        return Collections.emptyList();
+                    }
+                    int valuesCount = values.docValueCount();
+                    List<TermValue<?>> termValues = new ArrayList<>(valuesCount);
+                    // ordinals are unique, so there are no dups to take care of
+                    for (int i = 0; i < valuesCount; ++i) {
+                        BytesRef bytes = values.lookupOrd(values.nextOrd());
+                        if (includeExclude != null && false == includeExclude.accept(bytes)) {
+                            continue;
+                        }
+                        // Performing a deep copy is not required for field containing only one value.
+                        termValues.add(TermValue.of(valuesCount > 1 ? BytesRef.deepCopyOf(bytes) : bytes));
+                    }
+                    return termValues;
+                };
+            });
+        }
+
+        static StarTreeValuesSource starTreeLongValuesSource(String fieldName, IncludeExclude.LongFilter longFilter) {
+            return new StarTreeValuesSource(fieldName, starTreeValues -> {
+                SortedNumericStarTreeValuesIterator values = (SortedNumericStarTreeValuesIterator) starTreeValues
+                    .getDimensionValuesIterator(fieldName);
+                return starTreeEntry -> {
+                    if (false == values.advanceExact(starTreeEntry)) {
+                        return Collections.emptyList();
+                    }
+                    int valuesCount = values.entryValueCount();
+                    List<TermValue<?>> termValues = new ArrayList<>(valuesCount);
+                    for (int i = 0; i < valuesCount; ++i) {
+                        long val = values.nextValue();
+                        if (longFilter == null || longFilter.accept(val)) {
+                            termValues.add(TermValue.of(val));
+                        }
+                    }
+                    return termValues;
+                };
+            });
+        }
+
+        /**
+         * Star-tree stores the dimension values of floating point fields as sortable longs, which are converted by the field type
+         */
+        static StarTreeValuesSource starTreeDoubleValuesSource(
+            String fieldName,
+            NumberFieldMapper.NumberFieldType fieldType,
+            IncludeExclude.LongFilter longFilter
+        ) {
+            return new StarTreeValuesSource(fieldName, starTreeValues -> {
+                SortedNumericStarTreeValuesIterator values = (SortedNumericStarTreeValuesIterator) starTreeValues
+                    .getDimensionValuesIterator(fieldName);
+                return starTreeEntry -> {
+                    if (false == values.advanceExact(starTreeEntry)) {
+                        return Collections.emptyList();
+                    }
+                    int valuesCount = values.entryValueCount();
+                    List<TermValue<?>> termValues = new ArrayList<>(valuesCount);
+                    for (int i = 0; i < valuesCount; ++i) {
+                        double val = fieldType.toDoubleValue(values.nextValue());
+                        if (longFilter == null || longFilter.accept(NumericUtils.doubleToSortableLong(val))) {
+                            termValues.add(TermValue.of(val));
+                        }
+                    }
+                    return termValues;
+                };
+            });
+        }
+
         static InternalValuesSource doubleValueSource(ValuesSource.Numeric valuesSource, IncludeExclude.LongFilter longFilter) {
             return ctx -> {
                 SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
@@ -38,23 +38,31 @@ import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.ArrayUtils;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.ObjectArray;
+import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
+import org.opensearch.index.compositeindex.datacube.MetricStat;
+import org.opensearch.index.compositeindex.datacube.startree.utils.TDigestSketchType;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
+import org.opensearch.search.aggregations.StarTreeBucketCollector;
+import org.opensearch.search.aggregations.StarTreePreComputeCollector;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.startree.StarTreeQueryHelper;
 
 import java.io.IOException;
 import java.util.Map;
 
+import static org.opensearch.search.startree.StarTreeQueryHelper.getSupportedStarTree;
+
 /**
  * Base aggregator for the TDigest agg
  *
  * @opensearch.internal
  */
-abstract class AbstractTDigestPercentilesAggregator extends NumericMetricsAggregator.MultiValue {
+abstract class AbstractTDigestPercentilesAggregator extends NumericMetricsAggregator.MultiValue implements StarTreePreComputeCollector {
 
     private static int indexOfKey(double[] keys, double key) {
         return ArrayUtils.binarySearch(keys, key, 0.001);
@@ -66,6 +74,8 @@ abstract class AbstractTDigestPercentilesAggregator extends NumericMetricsAggreg
     protected ObjectArray<TDigestState> states;
     protected final double compression;
     protected final boolean keyed;
+    // pairs up the means and counts of the centroids of star-tree digests
+    private final TDigestSketchType.CentroidReader centroidReader = new TDigestSketchType.CentroidReader();
 
     AbstractTDigestPercentilesAggregator(
         String name,
@@ -113,6 +123,58 @@ abstract class AbstractTDigestPercentilesAggregator extends NumericMetricsAggreg
         };
     }
 
+    @Override
+    protected boolean tryPrecomputeAggregationForLeaf(LeafReaderContext ctx) throws IOException {
+        if (valuesSource == null) {
+            return false;
+        }
+        CompositeIndexFieldInfo supportedStarTree = getSupportedStarTree(this.context.getQueryShardContext());
+        if (supportedStarTree != null) {
+            if (parent != null && subAggregators.length == 0) {
+                // If this a child aggregator, then the parent will trigger star-tree pre-computation.
+                // Returning NO_OP_COLLECTOR explicitly because the getLeafCollector() are invoked starting from innermost aggregators
+                return true;
+            }
+            precomputeLeafUsingStarTree(ctx, supportedStarTree);
+            return true;
+        }
+        return false;
+    }
+
+    private void precomputeLeafUsingStarTree(LeafReaderContext ctx, CompositeIndexFieldInfo starTree) throws IOException {
+        final BigArrays bigArrays = context.bigArrays();
+        StarTreeQueryHelper.precomputeLeafUsingStarTree(
+            context,
+            (ValuesSource.Numeric) valuesSource,
+            ctx,
+            starTree,
+            MetricStat.PERCENTILES.getTypeName(),
+            value -> centroidReader.accept(getExistingOrNewHistogram(bigArrays, 0), value),
+            () -> {}
+        );
+    }
+
+    /**
+     * The parent aggregator invokes this method to get a StarTreeBucketCollector,
+     * which exposes collectStarTreeEntry() to be evaluated on filtered star tree entries
+     */
+    @Override
+    public StarTreeBucketCollector getStarTreeBucketCollector(
+        LeafReaderContext ctx,
+        CompositeIndexFieldInfo starTree,
+        StarTreeBucketCollector parentCollector
+    ) throws IOException {
+        final BigArrays bigArrays = context.bigArrays();
+        return StarTreeQueryHelper.getStarTreeBucketMetricCollector(
+            starTree,
+            MetricStat.PERCENTILES.getTypeName(),
+            (ValuesSource.Numeric) valuesSource,
+            parentCollector,
+            (bucket) -> getExistingOrNewHistogram(bigArrays, bucket),
+            (bucket, metricValue) -> centroidReader.accept(states.get(bucket), metricValue)
+        );
+    }
+
     private TDigestState getExistingOrNewHistogram(final BigArrays bigArrays, long bucket) {
         states = bigArrays.grow(states, bucket + 1);
         TDigestState state = states.get(bucket);
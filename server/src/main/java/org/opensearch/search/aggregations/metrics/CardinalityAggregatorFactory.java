@@ -32,13 +32,14 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.opensearch.index.compositeindex.datacube.MetricStat;
+import org.opensearch.index.compositeindex.datacube.startree.utils.HyperLogLogSketchType;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
 import org.opensearch.search.aggregations.AggregatorFactory;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
 import org.opensearch.search.aggregations.support.CoreValuesSourceType;
-import org.opensearch.search.aggregations.support.ValuesSourceAggregatorFactory;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.aggregations.support.ValuesSourceRegistry;
 import org.opensearch.search.internal.SearchContext;
@@ -52,7 +53,7 @@ import java.util.Map;
  *
  * @opensearch.internal
  */
-class CardinalityAggregatorFactory extends ValuesSourceAggregatorFactory {
+class CardinalityAggregatorFactory extends MetricAggregatorFactory {
 
     /**
      * Execution mode for cardinality agg
@@ -98,6 +99,19 @@ class CardinalityAggregatorFactory extends ValuesSourceAggregatorFactory {
         this.executionMode = executionHint == null ? null : ExecutionMode.fromString(executionHint);
     }
 
+    @Override
+    public MetricStat getMetricStat() {
+        return MetricStat.CARDINALITY;
+    }
+
+    /**
+     * Star-tree sketches can only be folded into lower precisions, see {@link HyperLogLogSketch}
+     */
+    @Override
+    public boolean supportsStarTreePrecomputation() {
+        return precision() <= HyperLogLogSketchType.STAR_TREE_PRECISION;
+    }
+
     public static void registerAggregators(ValuesSourceRegistry.Builder builder) {
         builder.register(CardinalityAggregationBuilder.REGISTRY_KEY, CoreValuesSourceType.ALL_CORE, CardinalityAggregator::new, true);
     }
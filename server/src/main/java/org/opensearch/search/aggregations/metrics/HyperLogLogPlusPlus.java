@@ -160,10 +160,11 @@ public final class HyperLogLogPlusPlus extends AbstractHyperLogLogPlusPlus {
     }
 
     protected void addRunLen(long bucketOrd, int register, int runLen) {
+        hll.ensureCapacity(bucketOrd + 1);
         if (algorithm.get(bucketOrd) == LINEAR_COUNTING) {
             upgradeToHll(bucketOrd);
         }
-        hll.addRunLen(0, register, runLen);
+        hll.addRunLen(bucketOrd, register, runLen);
     }
 
     void upgradeToHll(long bucketOrd) {
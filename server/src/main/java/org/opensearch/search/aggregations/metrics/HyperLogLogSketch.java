@@ -0,0 +1,236 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.opensearch.common.util.BitMixer;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * A single, mergeable set of HyperLogLog registers which can be stored alongside pre-aggregated values (e.g. as part of
+ * star-tree documents) and later be folded into a {@link HyperLogLogPlusPlus} counter.
+ * <p>
+ * The registers are computed with the same hashing and run length semantics as {@link AbstractHyperLogLog}, so a sketch merged
+ * into a {@link HyperLogLogPlusPlus} produces the same registers as if the original values were collected directly.
+ * <p>
+ * When persisted as doc values, a sketch is written as one long per non-empty register. The encoded value carries the precision
+ * of the sketch, the register index and the run length, see {@link #encode(int, int, int)}. As the precision is constant for a
+ * given sketch, the encoded values sort by register index.
+ *
+ * @opensearch.internal
+ */
+public final class HyperLogLogSketch {
+
+    private static final int PRECISION_SHIFT = 56;
+    private static final int REGISTER_SHIFT = 8;
+    private static final long REGISTER_MASK = (1L << (PRECISION_SHIFT - REGISTER_SHIFT)) - 1;
+    private static final int RUN_LEN_MASK = 0xFF;
+
+    private final int precision;
+    private final byte[] runLens;
+
+    public HyperLogLogSketch(int precision) {
+        this(precision, new byte[1 << checkPrecision(precision)]);
+    }
+
+    public HyperLogLogSketch(int precision, byte[] runLens) {
+        checkPrecision(precision);
+        if (runLens.length != 1 << precision) {
+            throw new IllegalArgumentException(
+                "expected [" + (1 << precision) + "] registers for precision [" + precision + "] but got [" + runLens.length + "]"
+            );
+        }
+        this.precision = precision;
+        this.runLens = runLens;
+    }
+
+    private static int checkPrecision(int precision) {
+        if (precision < AbstractCardinalityAlgorithm.MIN_PRECISION || precision > AbstractCardinalityAlgorithm.MAX_PRECISION) {
+            throw new IllegalArgumentException(
+                "precision must be between ["
+                    + AbstractCardinalityAlgorithm.MIN_PRECISION
+                    + "] and ["
+                    + AbstractCardinalityAlgorithm.MAX_PRECISION
+                    + "] but was ["
+                    + precision
+                    + "]"
+            );
+        }
+        return precision;
+    }
+
+    /**
+     * Returns the number of bytes needed to hold the registers of a sketch with the given precision.
+     */
+    public static int sizeInBytes(int precision) {
+        return 1 << checkPrecision(precision);
+    }
+
+    /**
+     * Hash of a long value, consistent with the numeric collectors of {@link CardinalityAggregator}.
+     */
+    public static long hash(long value) {
+        return BitMixer.mix64(value);
+    }
+
+    /**
+     * Hash of a double value, consistent with the floating point collectors of {@link CardinalityAggregator}.
+     */
+    public static long hash(double value) {
+        return BitMixer.mix64(Double.doubleToLongBits(value));
+    }
+
+    public int precision() {
+        return precision;
+    }
+
+    /**
+     * Returns the backing registers of this sketch.
+     */
+    public byte[] runLens() {
+        return runLens;
+    }
+
+    /**
+     * Collects a hashed value.
+     */
+    public void collect(long hash) {
+        addRunLen(Math.toIntExact(AbstractHyperLogLog.index(hash, precision)), AbstractHyperLogLog.runLen(hash, precision));
+    }
+
+    /**
+     * Collects a register value that was encoded with {@link #encode(int, int, int)}, folding it if it was encoded
+     * with a higher precision than the one of this sketch.
+     */
+    public void collectEncoded(long encoded) {
+        final int encodedPrecision = decodePrecision(encoded);
+        final int register = decodeRegister(encoded);
+        final int runLen = decodeRunLen(encoded);
+        addRunLen(foldRegister(register, encodedPrecision, precision), foldRunLen(register, runLen, encodedPrecision, precision));
+    }
+
+    private void addRunLen(int register, int runLen) {
+        if (runLen > runLens[register]) {
+            runLens[register] = (byte) runLen;
+        }
+    }
+
+    /**
+     * Merges the registers of the other sketch into this sketch.
+     */
+    public void merge(HyperLogLogSketch other) {
+        if (precision != other.precision) {
+            throw new IllegalArgumentException(
+                "cannot merge sketches with different precisions [" + precision + "] and [" + other.precision + "]"
+            );
+        }
+        for (int i = 0; i < runLens.length; i++) {
+            if (other.runLens[i] > runLens[i]) {
+                runLens[i] = other.runLens[i];
+            }
+        }
+    }
+
+    /**
+     * Returns a deep copy of this sketch.
+     */
+    public HyperLogLogSketch copy() {
+        return new HyperLogLogSketch(precision, Arrays.copyOf(runLens, runLens.length));
+    }
+
+    /**
+     * Provides the encoded value of every non-empty register, in ascending order.
+     */
+    public void forEachEncoded(LongConsumer consumer) {
+        for (int register = 0; register < runLens.length; register++) {
+            if (runLens[register] != 0) {
+                consumer.accept(encode(precision, register, runLens[register]));
+            }
+        }
+    }
+
+    /**
+     * Folds an encoded register value into the given bucket of a {@link HyperLogLogPlusPlus} counter. The encoded value
+     * must have been produced with a precision that is greater than or equal to the precision of the counter.
+     */
+    public static void mergeEncoded(HyperLogLogPlusPlus counts, long bucketOrd, long encoded) {
+        final int encodedPrecision = decodePrecision(encoded);
+        final int register = decodeRegister(encoded);
+        final int runLen = decodeRunLen(encoded);
+        counts.addRunLen(
+            bucketOrd,
+            foldRegister(register, encodedPrecision, counts.precision()),
+            foldRunLen(register, runLen, encodedPrecision, counts.precision())
+        );
+    }
+
+    /**
+     * Encodes a non-empty register as a long.
+     */
+    public static long encode(int precision, int register, int runLen) {
+        assert runLen > 0 && runLen <= RUN_LEN_MASK;
+        return ((long) precision << PRECISION_SHIFT) | ((long) register << REGISTER_SHIFT) | runLen;
+    }
+
+    static int decodePrecision(long encoded) {
+        return (int) (encoded >>> PRECISION_SHIFT);
+    }
+
+    static int decodeRegister(long encoded) {
+        return (int) ((encoded >>> REGISTER_SHIFT) & REGISTER_MASK);
+    }
+
+    static int decodeRunLen(long encoded) {
+        return (int) (encoded & RUN_LEN_MASK);
+    }
+
+    /**
+     * The register of a lower precision is made of the leading bits of the register of the higher precision.
+     */
+    static int foldRegister(int register, int fromPrecision, int toPrecision) {
+        checkFold(fromPrecision, toPrecision);
+        return register >>> (fromPrecision - toPrecision);
+    }
+
+    /**
+     * The trailing bits of the higher precision register become the leading bits of the hash tail of the lower precision, so
+     * they either define the run length on their own or extend the run length of the higher precision.
+     */
+    static int foldRunLen(int register, int runLen, int fromPrecision, int toPrecision) {
+        checkFold(fromPrecision, toPrecision);
+        final int shift = fromPrecision - toPrecision;
+        final int droppedBits = register & ((1 << shift) - 1);
+        if (droppedBits == 0) {
+            return shift + runLen;
+        }
+        return 1 + Integer.numberOfLeadingZeros(droppedBits) - (Integer.SIZE - shift);
+    }
+
+    private static void checkFold(int fromPrecision, int toPrecision) {
+        if (fromPrecision < toPrecision) {
+            throw new IllegalArgumentException(
+                "cannot fold registers of precision [" + fromPrecision + "] into higher precision [" + toPrecision + "]"
+            );
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        HyperLogLogSketch that = (HyperLogLogSketch) o;
+        return precision == that.precision && Arrays.equals(runLens, that.runLens);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * precision + Arrays.hashCode(runLens);
+    }
+}
@@ -34,4 +34,11 @@ public abstract class MetricAggregatorFactory extends ValuesSourceAggregatorFact
     }
 
     public abstract MetricStat getMetricStat();
+
+    /**
+     * Whether the request parameters of this aggregation allow it to be served from the pre-computed star-tree metric
+     */
+    public boolean supportsStarTreePrecomputation() {
+        return true;
+    }
 }
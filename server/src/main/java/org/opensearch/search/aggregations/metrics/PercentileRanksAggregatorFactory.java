@@ -32,13 +32,13 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.opensearch.index.compositeindex.datacube.MetricStat;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
 import org.opensearch.search.aggregations.AggregatorFactory;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
 import org.opensearch.search.aggregations.support.CoreValuesSourceType;
-import org.opensearch.search.aggregations.support.ValuesSourceAggregatorFactory;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.aggregations.support.ValuesSourceRegistry;
 import org.opensearch.search.internal.SearchContext;
@@ -52,7 +52,7 @@ import java.util.Map;
  *
  * @opensearch.internal
  */
-class PercentileRanksAggregatorFactory extends ValuesSourceAggregatorFactory {
+class PercentileRanksAggregatorFactory extends MetricAggregatorFactory {
 
     private final double[] percents;
     private final PercentilesConfig percentilesConfig;
@@ -85,6 +85,16 @@ class PercentileRanksAggregatorFactory extends ValuesSourceAggregatorFactory {
         this.keyed = keyed;
     }
 
+    @Override
+    public MetricStat getMetricStat() {
+        return MetricStat.PERCENTILES;
+    }
+
+    @Override
+    public boolean supportsStarTreePrecomputation() {
+        return percentilesConfig.supportsStarTreePrecomputation();
+    }
+
     @Override
     protected Aggregator createUnmapped(SearchContext searchContext, Aggregator parent, Map<String, Object> metadata) throws IOException {
 
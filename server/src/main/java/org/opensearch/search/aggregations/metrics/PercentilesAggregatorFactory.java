@@ -32,13 +32,13 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.opensearch.index.compositeindex.datacube.MetricStat;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
 import org.opensearch.search.aggregations.AggregatorFactory;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
 import org.opensearch.search.aggregations.support.CoreValuesSourceType;
-import org.opensearch.search.aggregations.support.ValuesSourceAggregatorFactory;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.aggregations.support.ValuesSourceRegistry;
 import org.opensearch.search.internal.SearchContext;
@@ -53,7 +53,7 @@ import java.util.Map;
  *
  * @opensearch.internal
  */
-class PercentilesAggregatorFactory extends ValuesSourceAggregatorFactory {
+class PercentilesAggregatorFactory extends MetricAggregatorFactory {
 
     private final double[] percents;
     private final PercentilesConfig percentilesConfig;
@@ -86,6 +86,16 @@ class PercentilesAggregatorFactory extends ValuesSourceAggregatorFactory {
         this.keyed = keyed;
     }
 
+    @Override
+    public MetricStat getMetricStat() {
+        return MetricStat.PERCENTILES;
+    }
+
+    @Override
+    public boolean supportsStarTreePrecomputation() {
+        return percentilesConfig.supportsStarTreePrecomputation();
+    }
+
     @Override
     protected Aggregator createUnmapped(SearchContext searchContext, Aggregator parent, Map<String, Object> metadata) throws IOException {
 
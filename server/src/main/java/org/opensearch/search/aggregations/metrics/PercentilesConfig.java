@@ -37,6 +37,7 @@ import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.compositeindex.datacube.startree.utils.TDigestSketchType;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.support.ValuesSource;
@@ -104,6 +105,13 @@ public abstract class PercentilesConfig implements ToXContent, Writeable {
         Map<String, Object> metadata
     ) throws IOException;
 
+    /**
+     * Whether the aggregation can be computed from the digests pre-aggregated in a star-tree
+     */
+    boolean supportsStarTreePrecomputation() {
+        return false;
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeEnum(method);
@@ -156,6 +164,14 @@ public abstract class PercentilesConfig implements ToXContent, Writeable {
             return compression;
         }
 
+        /**
+         * Star-tree digests can only be merged into digests of a lower or equal compression without loss of accuracy
+         */
+        @Override
+        boolean supportsStarTreePrecomputation() {
+            return compression <= TDigestSketchType.STAR_TREE_COMPRESSION;
+        }
+
         @Override
         public Aggregator createPercentilesAggregator(
             String name,
@@ -47,6 +47,7 @@ import org.apache.lucene.search.ConjunctionUtils;
 import org.apache.lucene.search.ConstantScoreQuery;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.FilterWeight;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.LeafCollector;
 import org.apache.lucene.search.Query;
@@ -97,6 +98,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.function.ToLongFunction;
 
 /**
  * Context-aware extension of {@link IndexSearcher}.
@@ -345,6 +347,9 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
                 ((ProfileWeight) weight).associateCollectorToLeaves(ctx, collector);
             }
             weight = wrapWeight(weight);
+            if (minDocId > 0 || maxDocId < ctx.reader().maxDoc()) {
+                weight = wrapPartitionWeight(weight);
+            }
             // See please https://github.com/apache/lucene/pull/964
             collector.setWeight(weight);
             leafCollector = collector.getLeafCollector(ctx);
@@ -497,6 +502,19 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         }
     }
 
+    /**
+     * Wraps the weight of a search on a partition of a segment. The count of the matches of the weight covers the entire
+     * segment, so it must not be used by collectors which only see a partition of it, like {@code TotalHitCountCollector}.
+     */
+    private static Weight wrapPartitionWeight(Weight weight) {
+        return new FilterWeight(weight) {
+            @Override
+            public int count(LeafReaderContext context) {
+                return -1;
+            }
+        };
+    }
+
     private static BitSet getSparseBitSetOrNull(Bits liveDocs) {
         if (liveDocs instanceof SparseFixedBitSet) {
             return (BitSet) liveDocs;
@@ -576,7 +594,51 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
      */
     @Override
     protected LeafSlice[] slices(List<LeafReaderContext> leaves) {
-        return slicesInternal(leaves, searchContext.getTargetMaxSliceCount());
+        final int targetMaxSlice = searchContext.getTargetMaxSliceCount();
+        final int minPartitionSize = searchContext.getIntraSegmentMinPartitionSize();
+        if (targetMaxSlice > 0 && searchContext.shouldUseCostBasedSlicing()) {
+            final ToLongFunction<LeafReaderContext> leafCost = queryCost(searchContext.query());
+            if (leafCost != null) {
+                final LeafSlice[] leafSlices = MaxTargetSliceSupplier.getSlices(leaves, targetMaxSlice, minPartitionSize, leafCost);
+                logger.debug("Slice count using cost based max target slice supplier [{}]", leafSlices.length);
+                return leafSlices;
+            }
+        }
+        return slicesInternal(leaves, targetMaxSlice, minPartitionSize);
+    }
+
+    /**
+     * Estimates the cost of searching each leaf with the given query from the cost of its scorers, scaled down by the share of
+     * deleted documents of the leaf. The weight is created by a plain searcher over the same reader, so that neither the
+     * profiler nor the query cache see it. Returns {@code null} if the cost of the query can't be estimated.
+     */
+    private ToLongFunction<LeafReaderContext> queryCost(Query query) {
+        if (query == null) {
+            return null;
+        }
+        final Weight weight;
+        try {
+            final IndexSearcher estimator = new IndexSearcher(getIndexReader());
+            estimator.setQueryCache(null);
+            estimator.setSimilarity(getSimilarity());
+            // the query of the search context is already rewritten
+            weight = estimator.createWeight(query, ScoreMode.COMPLETE_NO_SCORES, 1f);
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Failed to estimate the cost of the query, slicing by document count", e);
+            return null;
+        }
+        return leaf -> {
+            final int maxDoc = leaf.reader().maxDoc();
+            long cost;
+            try {
+                final ScorerSupplier scorerSupplier = weight.scorerSupplier(leaf);
+                cost = scorerSupplier == null ? 0 : Math.min(scorerSupplier.cost(), maxDoc);
+            } catch (IOException | RuntimeException e) {
+                cost = maxDoc;
+            }
+            // one more so that leaves which match nothing are still spread across the slices
+            return (long) ((double) cost * leaf.reader().numDocs() / Math.max(1, maxDoc)) + 1;
+        };
     }
 
     public DirectoryReader getDirectoryReader() {
@@ -647,6 +709,11 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
 
     // package-private for testing
     LeafSlice[] slicesInternal(List<LeafReaderContext> leaves, int targetMaxSlice) {
+        return slicesInternal(leaves, targetMaxSlice, 0);
+    }
+
+    // package-private for testing
+    LeafSlice[] slicesInternal(List<LeafReaderContext> leaves, int targetMaxSlice, int minPartitionSize) {
         LeafSlice[] leafSlices;
         if (targetMaxSlice == 0) {
             // use the default lucene slice calculation
@@ -654,7 +721,7 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
             logger.debug("Slice count using lucene default [{}]", leafSlices.length);
         } else {
             // use the custom slice calculation based on targetMaxSlice
-            leafSlices = MaxTargetSliceSupplier.getSlices(leaves, targetMaxSlice);
+            leafSlices = MaxTargetSliceSupplier.getSlices(leaves, targetMaxSlice, minPartitionSize);
             logger.debug("Slice count using max target slice supplier [{}]", leafSlices.length);
         }
         return leafSlices;
@@ -48,6 +48,7 @@ import org.opensearch.index.query.ParsedQuery;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.similarity.SimilarityService;
+import org.opensearch.indices.SegmentAggregationResultCache;
 import org.opensearch.search.SearchExtBuilder;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.aggregations.BucketCollectorProcessor;
@@ -568,6 +569,16 @@ public abstract class FilteredSearchContext extends SearchContext {
         return in.bucketCollectorProcessor();
     }
 
+    @Override
+    public void setSegmentAggregationResultCache(SegmentAggregationResultCache segmentAggregationResultCache) {
+        in.setSegmentAggregationResultCache(segmentAggregationResultCache);
+    }
+
+    @Override
+    public SegmentAggregationResultCache segmentAggregationResultCache() {
+        return in.segmentAggregationResultCache();
+    }
+
     @Override
     public boolean shouldUseConcurrentSearch() {
         return in.shouldUseConcurrentSearch();
@@ -578,6 +589,16 @@ public abstract class FilteredSearchContext extends SearchContext {
         return in.getTargetMaxSliceCount();
     }
 
+    @Override
+    public int getIntraSegmentMinPartitionSize() {
+        return in.getIntraSegmentMinPartitionSize();
+    }
+
+    @Override
+    public boolean shouldUseCostBasedSlicing() {
+        return in.shouldUseCostBasedSlicing();
+    }
+
     @Override
     public boolean shouldUseTimeSeriesDescSortOptimization() {
         return in.shouldUseTimeSeriesDescSortOptimization();
@@ -14,23 +14,64 @@ import org.apache.lucene.search.IndexSearcher;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.ToLongFunction;
 
 /**
  * Supplier to compute leaf slices based on passed in leaves and max target slice count to limit the number of computed slices. It sorts
  * all the leaves based on document count and then assign each leaf in round-robin fashion to the target slice count slices. Based on
  * experiment results as shared in <a href=https://github.com/opensearch-project/OpenSearch/issues/7358>issue-7358</a>
  * we can see this mechanism helps to achieve better tail/median latency over default lucene slice computation.
+ * <p>
+ * When a minimum partition size is given, segments which hold more documents than their share of the slices are split into
+ * partitions of doc id ranges, so that a shard with few large segments, like a force-merged one, is still searched by all slices.
+ * <p>
+ * Leaves are weighed by their document count by default. When the cost of searching each leaf is estimated up front, like the
+ * cost of the scorers of the query, the leaves are weighed by that cost instead, so that the slowest slice finishes sooner.
  *
  * @opensearch.internal
  */
 final class MaxTargetSliceSupplier {
 
+    private static final ToLongFunction<LeafReaderContext> MAX_DOC_COST = leaf -> leaf.reader().maxDoc();
+
     static IndexSearcher.LeafSlice[] getSlices(List<LeafReaderContext> leaves, int targetMaxSlice) {
+        return getSlices(leaves, targetMaxSlice, 0);
+    }
+
+    static IndexSearcher.LeafSlice[] getSlices(List<LeafReaderContext> leaves, int targetMaxSlice, int minPartitionSize) {
+        return getSlices(leaves, targetMaxSlice, minPartitionSize, MAX_DOC_COST);
+    }
+
+    /**
+     * Computes the slices, balancing them by the given cost of searching each leaf. The cost of a partition of a leaf is its
+     * share of the cost of the leaf.
+     */
+    static IndexSearcher.LeafSlice[] getSlices(
+        List<LeafReaderContext> leaves,
+        int targetMaxSlice,
+        int minPartitionSize,
+        ToLongFunction<LeafReaderContext> leafCost
+    ) {
         if (targetMaxSlice <= 0) {
             throw new IllegalArgumentException("MaxTargetSliceSupplier called with unexpected slice count of " + targetMaxSlice);
         }
+        if (minPartitionSize < 0) {
+            throw new IllegalArgumentException("MaxTargetSliceSupplier called with unexpected partition size of " + minPartitionSize);
+        }
+        // the cost function may be expensive, so it is called once per leaf
+        final Map<LeafReaderContext, Long> costs = new IdentityHashMap<>();
+        for (LeafReaderContext leaf : leaves) {
+            costs.put(leaf, Math.max(0L, leafCost.applyAsLong(leaf)));
+        }
+        if (minPartitionSize > 0) {
+            return getPartitionedSlices(leaves, targetMaxSlice, minPartitionSize, costs);
+        }
 
         // slice count should not exceed the segment count
         int targetSliceCount = Math.min(targetMaxSlice, leaves.size());
@@ -38,8 +79,8 @@ final class MaxTargetSliceSupplier {
         // Make a copy so we can sort:
         List<LeafReaderContext> sortedLeaves = new ArrayList<>(leaves);
 
-        // Sort by maxDoc, descending:
-        sortedLeaves.sort(Collections.reverseOrder(Comparator.comparingInt(l -> l.reader().maxDoc())));
+        // Sort by cost, descending:
+        sortedLeaves.sort(Collections.reverseOrder(Comparator.comparingLong(costs::get)));
 
         final List<List<IndexSearcher.LeafReaderContextPartition>> groupedLeaves = new ArrayList<>(targetSliceCount);
         for (int i = 0; i < targetSliceCount; ++i) {
@@ -54,16 +95,95 @@ final class MaxTargetSliceSupplier {
         for (int i = 0; i < sortedLeaves.size(); ++i) {
             minGroup = groupQueue.poll();
             groupedLeaves.get(minGroup.index).add(IndexSearcher.LeafReaderContextPartition.createForEntireSegment(sortedLeaves.get(i)));
-            minGroup.sum += sortedLeaves.get(i).reader().maxDoc();
+            minGroup.sum += costs.get(sortedLeaves.get(i));
             groupQueue.offer(minGroup);
         }
 
         return groupedLeaves.stream().map(IndexSearcher.LeafSlice::new).toArray(IndexSearcher.LeafSlice[]::new);
     }
 
+    private static IndexSearcher.LeafSlice[] getPartitionedSlices(
+        List<LeafReaderContext> leaves,
+        int targetMaxSlice,
+        int minPartitionSize,
+        Map<LeafReaderContext, Long> costs
+    ) {
+        long totalDocs = 0;
+        long totalCost = 0;
+        for (LeafReaderContext leaf : leaves) {
+            totalDocs += leaf.reader().maxDoc();
+            totalCost += costs.get(leaf);
+        }
+        // as many slices as segments, or more if the segments can be split into partitions of the minimum size
+        final long partitionableSliceCount = Math.max(leaves.size(), totalDocs / minPartitionSize);
+        final int targetSliceCount = (int) Math.min(targetMaxSlice, partitionableSliceCount);
+        if (targetSliceCount == 0) {
+            return new IndexSearcher.LeafSlice[0];
+        }
+        final long costPerSlice = Math.max(1L, (totalCost + targetSliceCount - 1) / targetSliceCount);
+
+        final List<IndexSearcher.LeafReaderContextPartition> partitions = new ArrayList<>();
+        final Map<IndexSearcher.LeafReaderContextPartition, Long> partitionCosts = new IdentityHashMap<>();
+        for (LeafReaderContext leaf : leaves) {
+            final int maxDoc = leaf.reader().maxDoc();
+            final long cost = costs.get(leaf);
+            // partitions of the same segment go to different slices, so a segment is split into at most targetSliceCount partitions
+            final long partitionCount = Math.min(
+                Math.min(targetSliceCount, maxDoc / minPartitionSize),
+                (cost + costPerSlice - 1) / costPerSlice
+            );
+            if (partitionCount <= 1) {
+                final IndexSearcher.LeafReaderContextPartition partition = IndexSearcher.LeafReaderContextPartition
+                    .createForEntireSegment(leaf);
+                partitions.add(partition);
+                partitionCosts.put(partition, cost);
+                continue;
+            }
+            final int partitionSize = (int) ((maxDoc + partitionCount - 1) / partitionCount);
+            for (int minDocId = 0; minDocId < maxDoc; minDocId += partitionSize) {
+                final int maxDocId = Math.min(maxDoc, minDocId + partitionSize);
+                final IndexSearcher.LeafReaderContextPartition partition = IndexSearcher.LeafReaderContextPartition
+                    .createFromAndTo(leaf, minDocId, maxDocId);
+                partitions.add(partition);
+                partitionCosts.put(partition, (long) ((double) cost * (maxDocId - minDocId) / maxDoc));
+            }
+        }
+
+        // assign the costliest partitions first, each to the cheapest slice so far which has no partition of its segment
+        partitions.sort(Collections.reverseOrder(Comparator.comparingLong(partitionCosts::get)));
+        final List<List<IndexSearcher.LeafReaderContextPartition>> groupedPartitions = new ArrayList<>(targetSliceCount);
+        final List<Set<LeafReaderContext>> groupedSegments = new ArrayList<>(targetSliceCount);
+        final PriorityQueue<Group> groupQueue = new PriorityQueue<>();
+        for (int i = 0; i < targetSliceCount; ++i) {
+            groupedPartitions.add(new ArrayList<>());
+            groupedSegments.add(new HashSet<>());
+            groupQueue.offer(new Group(i));
+        }
+        final List<Group> skippedGroups = new ArrayList<>();
+        for (IndexSearcher.LeafReaderContextPartition partition : partitions) {
+            final LeafReaderContext segment = partition.ctx;
+            Group group = groupQueue.poll();
+            while (groupedSegments.get(group.index).contains(segment)) {
+                skippedGroups.add(group);
+                group = groupQueue.poll();
+            }
+            groupedPartitions.get(group.index).add(partition);
+            groupedSegments.get(group.index).add(segment);
+            group.sum += partitionCosts.get(partition);
+            groupQueue.offer(group);
+            groupQueue.addAll(skippedGroups);
+            skippedGroups.clear();
+        }
+
+        return groupedPartitions.stream()
+            .filter(group -> group.isEmpty() == false)
+            .map(IndexSearcher.LeafSlice::new)
+            .toArray(IndexSearcher.LeafSlice[]::new);
+    }
+
     static class Group implements Comparable<Group> {
         final int index;
-        int sum;
+        long sum;
 
         public Group(int index) {
             this.index = index;
@@ -72,7 +192,7 @@ final class MaxTargetSliceSupplier {
 
         @Override
         public int compareTo(Group other) {
-            return Integer.compare(this.sum, other.sum);
+            return Long.compare(this.sum, other.sum);
         }
     }
 }
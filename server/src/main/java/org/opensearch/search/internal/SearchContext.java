@@ -53,6 +53,7 @@ import org.opensearch.index.query.ParsedQuery;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.similarity.SimilarityService;
+import org.opensearch.indices.SegmentAggregationResultCache;
 import org.opensearch.search.RescoreDocIds;
 import org.opensearch.search.SearchExtBuilder;
 import org.opensearch.search.SearchPhaseResult;
@@ -437,11 +438,13 @@ public abstract class SearchContext implements Releasable {
     }
 
     /**
-     * Returns local bucket count thresholds based on concurrent segment search status
+     * Returns local bucket count thresholds based on concurrent segment search status. The aggregators of a slice, or of a
+     * segment whose results are cached per segment, don't apply the shard min doc count as it only applies once their results
+     * are reduced on the shard.
      */
     public LocalBucketCountThresholds asLocalBucketCountThresholds(TermsAggregator.BucketCountThresholds bucketCountThresholds) {
         return new LocalBucketCountThresholds(
-            shouldUseConcurrentSearch() ? 0 : bucketCountThresholds.getShardMinDocCount(),
+            shouldUseConcurrentSearch() || segmentAggregationResultCache() != null ? 0 : bucketCountThresholds.getShardMinDocCount(),
             bucketCountThresholds.getShardSize()
         );
     }
@@ -518,8 +521,37 @@ public abstract class SearchContext implements Releasable {
 
     public abstract BucketCollectorProcessor bucketCollectorProcessor();
 
+    /**
+     * Sets the cache of the per segment aggregation results used to collect the non-global aggregations of this context.
+     */
+    public void setSegmentAggregationResultCache(SegmentAggregationResultCache segmentAggregationResultCache) {}
+
+    /**
+     * The cache of the per segment aggregation results, or {@code null} if the aggregations of this context are not cached per
+     * segment.
+     */
+    public SegmentAggregationResultCache segmentAggregationResultCache() {
+        return null;
+    }
+
     public abstract int getTargetMaxSliceCount();
 
+    /**
+     * Returns the minimum number of documents of the partitions which concurrent segment search splits large segments into, or
+     * 0 if segments should not be split for this request.
+     */
+    public int getIntraSegmentMinPartitionSize() {
+        return 0;
+    }
+
+    /**
+     * Returns whether concurrent segment search balances its slices by the estimated cost of the query on each segment, rather
+     * than by the number of documents of the segments.
+     */
+    public boolean shouldUseCostBasedSlicing() {
+        return false;
+    }
+
     public abstract boolean shouldUseTimeSeriesDescSortOptimization();
 
     public boolean getStarTreeIndexEnabled() {
@@ -106,6 +106,7 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
 
     private boolean canReturnNullResponseIfMatchNoDocs;
     private SearchSortValuesAndFormats bottomSortValues;
+    private boolean fetchWhileQuerying;
 
     // these are the only mutable fields, as they are subject to rewriting
     private AliasFilter aliasFilter;
@@ -265,6 +266,9 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
         bottomSortValues = in.readOptionalWriteable(SearchSortValuesAndFormats::new);
         readerId = in.readOptionalWriteable(ShardSearchContextId::new);
         keepAlive = in.readOptionalTimeValue();
+        if (in.getVersion().onOrAfter(Version.V_3_2_0)) {
+            fetchWhileQuerying = in.readBoolean();
+        }
         originalIndices = OriginalIndices.readOriginalIndices(in);
         assert keepAlive == null || readerId != null : "readerId: " + readerId + " keepAlive: " + keepAlive;
     }
@@ -287,6 +291,7 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
         this.preference = clone.preference;
         this.canReturnNullResponseIfMatchNoDocs = clone.canReturnNullResponseIfMatchNoDocs;
         this.bottomSortValues = clone.bottomSortValues;
+        this.fetchWhileQuerying = clone.fetchWhileQuerying;
         this.originalIndices = clone.originalIndices;
         this.readerId = clone.readerId;
         this.keepAlive = clone.keepAlive;
@@ -334,6 +339,9 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
         if (asKey == false) {
             out.writeOptionalWriteable(readerId);
             out.writeOptionalTimeValue(keepAlive);
+            if (out.getVersion().onOrAfter(Version.V_3_2_0)) {
+                out.writeBoolean(fetchWhileQuerying);
+            }
         }
     }
 
@@ -452,6 +460,19 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
         this.canReturnNullResponseIfMatchNoDocs = value;
     }
 
+    /**
+     * Returns true if the shard should fetch its top hits along with the query and return a
+     * {@link org.opensearch.search.fetch.QueryFetchSearchResult}, so that the coordinator does not need a fetch round trip for
+     * the hits of this shard which make it to the global top hits.
+     */
+    public boolean fetchWhileQuerying() {
+        return fetchWhileQuerying;
+    }
+
+    public void fetchWhileQuerying(boolean value) {
+        this.fetchWhileQuerying = value;
+    }
+
     private static final ThreadLocal<BytesStreamOutput> scratch = ThreadLocal.withInitial(BytesStreamOutput::new);
 
     /**
@@ -78,6 +78,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.stream.Collectors;
 
 import static org.opensearch.search.query.QueryCollectorContext.createEarlyTerminationCollectorContext;
@@ -295,6 +296,12 @@ public class QueryPhase {
                     queryResult.nodeQueueSize(rExecutor.getCurrentQueueSize());
                     queryResult.serviceTimeEWMA((long) rExecutor.getTaskExecutionEWMA());
                 }
+                ExecutorService searcherExecutor = searchContext.indexShard().getThreadPool().executor(ThreadPool.Names.INDEX_SEARCHER);
+                if (searcherExecutor instanceof ThreadPoolExecutor) {
+                    final ThreadPoolExecutor tExecutor = (ThreadPoolExecutor) searcherExecutor;
+                    final int poolSize = Math.max(1, tExecutor.getMaximumPoolSize());
+                    queryResult.searcherUtilization((double) (tExecutor.getActiveCount() + tExecutor.getQueue().size()) / poolSize);
+                }
 
                 return shouldRescore;
             } finally {
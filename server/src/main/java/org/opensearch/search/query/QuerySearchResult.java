@@ -34,6 +34,7 @@ package org.opensearch.search.query;
 
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.TotalHits;
+import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.io.stream.DelayableWriteable;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
@@ -87,6 +88,8 @@ public final class QuerySearchResult extends SearchPhaseResult {
     private boolean hasProfileResults;
     private long serviceTimeEWMA = -1;
     private int nodeQueueSize = -1;
+    private double searcherUtilization = -1;
+    private double fileCacheHitRatio = -1;
 
     private final boolean isNull;
 
@@ -327,6 +330,32 @@ public final class QuerySearchResult extends SearchPhaseResult {
         return this;
     }
 
+    /**
+     * Returns the number of concurrent segment search slices running or queued per thread of the index searcher pool of the
+     * node which executed the query, or -1 if unknown.
+     */
+    public double searcherUtilization() {
+        return this.searcherUtilization;
+    }
+
+    public QuerySearchResult searcherUtilization(double searcherUtilization) {
+        this.searcherUtilization = searcherUtilization;
+        return this;
+    }
+
+    /**
+     * Returns the recent ratio of the file cache lookups which hit the cache on the node which executed the query, or -1 if the
+     * shard does not read through the file cache.
+     */
+    public double fileCacheHitRatio() {
+        return this.fileCacheHitRatio;
+    }
+
+    public QuerySearchResult fileCacheHitRatio(double fileCacheHitRatio) {
+        this.fileCacheHitRatio = fileCacheHitRatio;
+        return this;
+    }
+
     /**
      * Returns <code>true</code> if this result has any suggest score docs
      */
@@ -364,6 +393,10 @@ public final class QuerySearchResult extends SearchPhaseResult {
         hasProfileResults = profileShardResults != null;
         serviceTimeEWMA = in.readZLong();
         nodeQueueSize = in.readInt();
+        if (in.getVersion().onOrAfter(Version.V_3_2_0)) {
+            searcherUtilization = in.readDouble();
+            fileCacheHitRatio = in.readDouble();
+        }
         setShardSearchRequest(in.readOptionalWriteable(ShardSearchRequest::new));
         setRescoreDocIds(new RescoreDocIds(in));
     }
@@ -406,6 +439,10 @@ public final class QuerySearchResult extends SearchPhaseResult {
         out.writeOptionalWriteable(profileShardResults);
         out.writeZLong(serviceTimeEWMA);
         out.writeInt(nodeQueueSize);
+        if (out.getVersion().onOrAfter(Version.V_3_2_0)) {
+            out.writeDouble(searcherUtilization);
+            out.writeDouble(fileCacheHitRatio);
+        }
         out.writeOptionalWriteable(getShardSearchRequest());
         getRescoreDocIds().writeTo(out);
     }
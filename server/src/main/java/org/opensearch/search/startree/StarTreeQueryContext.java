@@ -13,18 +13,25 @@ import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
 import org.opensearch.index.compositeindex.datacube.DateDimension;
 import org.opensearch.index.compositeindex.datacube.Dimension;
+import org.opensearch.index.compositeindex.datacube.DimensionDataType;
 import org.opensearch.index.compositeindex.datacube.Metric;
 import org.opensearch.index.compositeindex.datacube.MetricStat;
 import org.opensearch.index.compositeindex.datacube.NumericDimension;
+import org.opensearch.index.compositeindex.datacube.OrdinalDimension;
 import org.opensearch.index.compositeindex.datacube.startree.utils.date.DateTimeUnitAdapter;
 import org.opensearch.index.compositeindex.datacube.startree.utils.date.DateTimeUnitRounding;
 import org.opensearch.index.mapper.CompositeDataCubeFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.search.aggregations.AggregatorFactory;
 import org.opensearch.search.aggregations.bucket.histogram.DateHistogramAggregatorFactory;
+import org.opensearch.search.aggregations.bucket.histogram.HistogramAggregatorFactory;
 import org.opensearch.search.aggregations.bucket.range.RangeAggregatorFactory;
+import org.opensearch.search.aggregations.bucket.terms.MultiTermsAggregationFactory;
 import org.opensearch.search.aggregations.bucket.terms.TermsAggregatorFactory;
 import org.opensearch.search.aggregations.metrics.MetricAggregatorFactory;
+import org.opensearch.search.aggregations.support.ValuesSource;
+import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.startree.filter.StarTreeFilter;
 import org.opensearch.search.startree.filter.provider.StarTreeFilterProvider;
@@ -33,6 +40,7 @@ import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 /**
@@ -54,6 +62,12 @@ public class StarTreeQueryContext {
     private final QueryBuilder baseQueryBuilder;
     private StarTreeFilter baseStarTreeFilter;
 
+    /**
+     * Star-tree node lookups served from / missed by the per-segment node caches, possibly recorded by concurrent slices
+     */
+    private final LongAdder nodeCacheHits = new LongAdder();
+    private final LongAdder nodeCacheMisses = new LongAdder();
+
     // TODO : Implement storing and aggregating aggregation specific filters.
 
     public StarTreeQueryContext(SearchContext context, QueryBuilder baseQueryBuilder) {
@@ -99,6 +113,19 @@ public class StarTreeQueryContext {
         }
     }
 
+    public void recordNodeCacheStats(long hits, long misses) {
+        nodeCacheHits.add(hits);
+        nodeCacheMisses.add(misses);
+    }
+
+    public long getNodeCacheHits() {
+        return nodeCacheHits.sum();
+    }
+
+    public long getNodeCacheMisses() {
+        return nodeCacheMisses.sum();
+    }
+
     /**
      * Generates the Base StarTreeFilter and then recursively merges
      * any aggregation specific STF.
@@ -144,7 +171,10 @@ public class StarTreeQueryContext {
             MetricStat metricStat = ((MetricAggregatorFactory) aggregatorFactory).getMetricStat();
             field = ((MetricAggregatorFactory) aggregatorFactory).getField();
 
-            return field != null && supportedMetrics.containsKey(field) && supportedMetrics.get(field).contains(metricStat);
+            return field != null
+                && supportedMetrics.containsKey(field)
+                && supportedMetrics.get(field).contains(metricStat)
+                && ((MetricAggregatorFactory) aggregatorFactory).supportsStarTreePrecomputation();
         }
         return false;
     }
@@ -168,6 +198,33 @@ public class StarTreeQueryContext {
         return true;
     }
 
+    private static boolean validateMultiTermsAggregationSupport(
+        CompositeDataCubeFieldType compositeIndexFieldInfo,
+        MultiTermsAggregationFactory multiTermsAggregationFactory
+    ) {
+        for (ValuesSourceConfig config : multiTermsAggregationFactory.getValuesSourceConfigs()) {
+            // scripts and missing values cannot be resolved from the star-tree dimension values
+            if (config.fieldContext() == null || config.script() != null || config.missing() != null) {
+                return false;
+            }
+            String field = config.fieldContext().field();
+            boolean isKeywordDimension = config.getValuesSource() instanceof ValuesSource.Bytes;
+            boolean isNumericDimension = config.getValuesSource() instanceof ValuesSource.Numeric numeric
+                && numeric.isBigInteger() == false
+                && config.fieldType() instanceof NumberFieldMapper.NumberFieldType;
+            if (compositeIndexFieldInfo.getDimensions()
+                .stream()
+                .noneMatch(
+                    dimension -> field.equals(dimension.getField())
+                        && ((isKeywordDimension && dimension instanceof OrdinalDimension)
+                            || (isNumericDimension && dimension instanceof NumericDimension))
+                )) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private static boolean validateRangeAggregationSupport(
         CompositeDataCubeFieldType compositeIndexFieldInfo,
         AggregatorFactory aggregatorFactory
@@ -189,6 +246,20 @@ public class StarTreeQueryContext {
         return true;
     }
 
+    private static boolean validateHistogramAggregationSupport(
+        CompositeDataCubeFieldType compositeIndexFieldInfo,
+        HistogramAggregatorFactory histogramAggregatorFactory
+    ) {
+        // Validate request field is part of dimensions & is a signed numeric field
+        return compositeIndexFieldInfo.getDimensions()
+            .stream()
+            .anyMatch(
+                dimension -> dimension.getField().equals(histogramAggregatorFactory.getField())
+                    && dimension instanceof NumericDimension
+                    && dimension.getDimensionDataType() == DimensionDataType.LONG
+            );
+    }
+
     private StarTreeFilter getStarTreeFilter(
         SearchContext context,
         QueryBuilder queryBuilder,
@@ -264,6 +335,14 @@ public class StarTreeQueryContext {
                 compositeIndexFieldInfo,
                 rangeAggregatorFactory
             );
+            case HistogramAggregatorFactory histogramAggregatorFactory -> isValid = validateHistogramAggregationSupport(
+                compositeIndexFieldInfo,
+                histogramAggregatorFactory
+            );
+            case MultiTermsAggregationFactory multiTermsAggregationFactory -> isValid = validateMultiTermsAggregationSupport(
+                compositeIndexFieldInfo,
+                multiTermsAggregationFactory
+            );
             case MetricAggregatorFactory metricAggregatorFactory -> {
                 isValid = validateStarTreeMetricSupport(compositeIndexFieldInfo, metricAggregatorFactory);
                 return isValid && metricAggregatorFactory.getSubFactories().getFactories().length == 0;
@@ -177,8 +177,10 @@ public class StarTreeQueryHelper {
                 if (!metricValuesIterator.advanceExact(starTreeEntryBit)) {
                     return; // Skip if no entries for this document
                 }
-                long metricValue = metricValuesIterator.nextValue();
-                updateBucket.accept(bucket, metricValue);
+                for (int i = 0, count = metricValuesIterator.entryValueCount(); i < count; i++) {
+                    long metricValue = metricValuesIterator.nextValue();
+                    updateBucket.accept(bucket, metricValue);
+                }
             }
         };
     }
@@ -248,8 +250,14 @@ public class StarTreeQueryHelper {
     }
 
     public static List<DimensionFilter> collectDimensionFilters(DimensionFilter initialDimensionFilter, Aggregator[] subAggregators) {
-        List<DimensionFilter> dimensionFiltersToMerge = new ArrayList<>();
-        dimensionFiltersToMerge.add(initialDimensionFilter);
+        return collectDimensionFilters(List.of(initialDimensionFilter), subAggregators);
+    }
+
+    public static List<DimensionFilter> collectDimensionFilters(
+        List<DimensionFilter> initialDimensionFilters,
+        Aggregator[] subAggregators
+    ) {
+        List<DimensionFilter> dimensionFiltersToMerge = new ArrayList<>(initialDimensionFilters);
 
         for (Aggregator subAgg : subAggregators) {
             if (subAgg instanceof StarTreePreComputeCollector collector) {
@@ -14,11 +14,13 @@ import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.util.DocIdSetBuilder;
 import org.apache.lucene.util.FixedBitSet;
 import org.opensearch.index.compositeindex.datacube.Dimension;
+import org.opensearch.index.compositeindex.datacube.startree.fileformats.node.StarTreeNodeCacheStats;
 import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
 import org.opensearch.index.compositeindex.datacube.startree.node.StarTreeNode;
 import org.opensearch.index.compositeindex.datacube.startree.node.StarTreeNodeType;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.StarTreeValuesIterator;
+import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.startree.filter.DimensionFilter;
 import org.opensearch.search.startree.filter.MatchAllFilter;
@@ -60,7 +62,18 @@ public class StarTreeTraversalUtil {
             }
         }
 
+        StarTreeNodeCacheStats nodeCacheStats = starTreeValues.getNodeCacheStats();
+        long nodeCacheHits = nodeCacheStats.getHits();
+        long nodeCacheMisses = nodeCacheStats.getMisses();
         StarTreeResult starTreeResult = traverseStarTree(starTreeValues, starTreeFilter);
+        QueryShardContext queryShardContext = searchContext.getQueryShardContext();
+        if (queryShardContext != null && queryShardContext.getStarTreeQueryContext() != null) {
+            StarTreeQueryContext starTreeQueryContext = queryShardContext.getStarTreeQueryContext();
+            starTreeQueryContext.recordNodeCacheStats(
+                nodeCacheStats.getHits() - nodeCacheHits,
+                nodeCacheStats.getMisses() - nodeCacheMisses
+            );
+        }
 
         // Initialize FixedBitSet with size maxMatchedDoc + 1
         FixedBitSet bitSet = new FixedBitSet(starTreeResult.maxMatchedDoc + 1);
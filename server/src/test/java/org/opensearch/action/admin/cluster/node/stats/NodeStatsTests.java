@@ -49,10 +49,12 @@ import org.opensearch.cluster.routing.WeightedRoutingStats;
 import org.opensearch.cluster.service.ClusterManagerThrottlingStats;
 import org.opensearch.cluster.service.ClusterStateStats;
 import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.EvictionPolicy;
 import org.opensearch.common.cache.service.NodeCacheStats;
 import org.opensearch.common.cache.stats.CacheStats;
 import org.opensearch.common.cache.stats.DefaultCacheStatsHolder;
 import org.opensearch.common.cache.stats.DefaultCacheStatsHolderTests;
+import org.opensearch.common.cache.stats.EvictionPolicyStats;
 import org.opensearch.common.cache.stats.ImmutableCacheStatsHolder;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.metrics.OperationStats;
@@ -1002,12 +1004,19 @@ public class NodeStatsTests extends OpenSearchTestCase {
             ImmutableCacheStatsHolder cacheStats = statsHolder.getImmutableCacheStatsHolder(dimensionNames.toArray(new String[0]));
             TreeMap<CacheType, ImmutableCacheStatsHolder> cacheStatsMap = new TreeMap<>();
             cacheStatsMap.put(CacheType.INDICES_REQUEST_CACHE, cacheStats);
-            nodeCacheStats = new NodeCacheStats(cacheStatsMap, flags);
+            TreeMap<CacheType, EvictionPolicyStats> evictionPolicyStatsMap = new TreeMap<>();
+            if (randomBoolean()) {
+                evictionPolicyStatsMap.put(
+                    CacheType.INDICES_REQUEST_CACHE,
+                    new EvictionPolicyStats(randomFrom(EvictionPolicy.values()), randomInt(20), randomInt(20), randomInt(20), randomInt(20))
+                );
+            }
+            nodeCacheStats = new NodeCacheStats(cacheStatsMap, evictionPolicyStatsMap, flags);
         }
 
         RemoteStoreNodeStats remoteStoreNodeStats = null;
         if (frequently()) {
-            remoteStoreNodeStats = new RemoteStoreNodeStats() {
+            remoteStoreNodeStats = new RemoteStoreNodeStats(randomNonNegativeLong()) {
                 @Override
                 public long getLastSuccessfulFetchOfPinnedTimestamps() {
                     return 123456L;
@@ -590,4 +590,113 @@ public class FetchSearchPhaseTests extends OpenSearchTestCase {
         assertEquals(1, mockSearchPhaseContext.releasedSearchContexts.size());
         assertTrue(mockSearchPhaseContext.releasedSearchContexts.contains(ctx1));
     }
+
+    public void testSkipFetchForShardsWhichFetchedWhileQuerying() {
+        MockSearchPhaseContext mockSearchPhaseContext = new MockSearchPhaseContext(3);
+        SearchPhaseController controller = new SearchPhaseController(
+            writableRegistry(),
+            s -> InternalAggregationTestCase.emptyReduceContextBuilder()
+        );
+        QueryPhaseResultConsumer results = controller.newSearchPhaseResults(
+            OpenSearchExecutors.newDirectExecutorService(),
+            new NoopCircuitBreaker(CircuitBreaker.REQUEST),
+            SearchProgressListener.NOOP,
+            mockSearchPhaseContext.getRequest(),
+            3,
+            exc -> {}
+        );
+        int resultSetSize = 3;
+        final ShardSearchContextId ctx1 = new ShardSearchContextId(UUIDs.base64UUID(), 123);
+        final ShardSearchContextId ctx2 = new ShardSearchContextId(UUIDs.base64UUID(), 321);
+        final ShardSearchContextId ctx3 = new ShardSearchContextId(UUIDs.base64UUID(), 456);
+        // the global top hits are 42 and 43 of the first shard and 84 of the second one, the third shard has none of them
+        ScoreDoc[] firstShardDocs = new ScoreDoc[] { new ScoreDoc(42, 3.0F), new ScoreDoc(43, 2.5F), new ScoreDoc(44, 1.0F) };
+        results.consumeResult(queryFetchResult(ctx1, 0, resultSetSize, firstShardDocs), () -> {});
+        results.consumeResult(
+            queryFetchResult(ctx2, 1, resultSetSize, new ScoreDoc[] { new ScoreDoc(84, 2.8F), new ScoreDoc(85, 0.5F) }),
+            () -> {}
+        );
+        results.consumeResult(queryFetchResult(ctx3, 2, resultSetSize, new ScoreDoc[] { new ScoreDoc(99, 0.1F) }), () -> {});
+
+        mockSearchPhaseContext.searchTransport = new SearchTransportService(null, null) {
+            @Override
+            public void sendExecuteFetch(
+                Transport.Connection connection,
+                ShardFetchSearchRequest request,
+                SearchTask task,
+                SearchActionListener<FetchSearchResult> listener
+            ) {
+                fail("shards which fetched while querying must not be sent a fetch request");
+            }
+        };
+        FetchSearchPhase phase = new FetchSearchPhase(
+            results,
+            controller,
+            null,
+            mockSearchPhaseContext,
+            (searchResponse, scrollId) -> new SearchPhase("test") {
+                @Override
+                public void run() {
+                    mockSearchPhaseContext.sendSearchResponse(searchResponse, null);
+                }
+            }
+        );
+        phase.run();
+        mockSearchPhaseContext.assertNoFailure();
+        SearchResponse searchResponse = mockSearchPhaseContext.searchResponse.get();
+        assertNotNull(searchResponse);
+        assertEquals(6, searchResponse.getHits().getTotalHits().value());
+        assertEquals(3, searchResponse.getHits().getHits().length);
+        assertEquals(42, searchResponse.getHits().getAt(0).docId());
+        assertEquals(84, searchResponse.getHits().getAt(1).docId());
+        assertEquals(43, searchResponse.getHits().getAt(2).docId());
+        assertEquals(0, searchResponse.getFailedShards());
+        assertEquals(3, searchResponse.getSuccessfulShards());
+        // the shards released their contexts when they fetched, including the one without global top hits
+        assertTrue(mockSearchPhaseContext.releasedSearchContexts.isEmpty());
+    }
+
+    public void testPrefetchedResultKeepsTheGlobalTopHitsOfTheShard() {
+        final ShardSearchContextId ctx = new ShardSearchContextId(UUIDs.base64UUID(), 123);
+        QueryFetchSearchResult queryFetchResult = queryFetchResult(
+            ctx,
+            1,
+            3,
+            new ScoreDoc[] { new ScoreDoc(42, 3.0F), new ScoreDoc(43, 2.5F), new ScoreDoc(44, 1.0F) }
+        );
+
+        FetchSearchResult fetchResult = FetchSearchPhase.prefetchedResult(queryFetchResult, 1, 2);
+        assertEquals(ctx, fetchResult.getContextId());
+        assertEquals(1, fetchResult.getShardIndex());
+        assertEquals(queryFetchResult.getSearchShardTarget(), fetchResult.getSearchShardTarget());
+        SearchHits hits = fetchResult.hits();
+        assertEquals(2, hits.getHits().length);
+        assertEquals(42, hits.getAt(0).docId());
+        assertEquals(43, hits.getAt(1).docId());
+        assertEquals(3, hits.getTotalHits().value());
+        assertEquals(3.0F, hits.getMaxScore(), 0.0F);
+
+        // a shard never has more winners than it returned hits
+        assertEquals(3, FetchSearchPhase.prefetchedResult(queryFetchResult, 1, 5).hits().getHits().length);
+    }
+
+    private static QueryFetchSearchResult queryFetchResult(ShardSearchContextId ctx, int shardIndex, int size, ScoreDoc[] scoreDocs) {
+        ShardId shardId = new ShardId("test", "na", shardIndex);
+        SearchShardTarget shardTarget = new SearchShardTarget("node" + shardIndex, shardId, null, OriginalIndices.NONE);
+        QuerySearchResult queryResult = new QuerySearchResult(ctx, shardTarget, null);
+        TotalHits totalHits = new TotalHits(scoreDocs.length, TotalHits.Relation.EQUAL_TO);
+        float maxScore = scoreDocs[0].score;
+        queryResult.topDocs(new TopDocsAndMaxScore(new TopDocs(totalHits, scoreDocs), maxScore), new DocValueFormat[0]);
+        queryResult.size(size);
+        SearchHit[] hits = new SearchHit[scoreDocs.length];
+        for (int i = 0; i < scoreDocs.length; i++) {
+            hits[i] = new SearchHit(scoreDocs[i].doc);
+            hits[i].score(scoreDocs[i].score);
+        }
+        FetchSearchResult fetchResult = new FetchSearchResult(ctx, shardTarget);
+        fetchResult.hits(new SearchHits(hits, totalHits, maxScore));
+        QueryFetchSearchResult queryFetchResult = new QueryFetchSearchResult(queryResult, fetchResult);
+        queryFetchResult.setShardIndex(shardIndex);
+        return queryFetchResult;
+    }
 }
@@ -37,17 +37,25 @@ import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
 import org.opensearch.action.OriginalIndices;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.OpenSearchThreadPoolExecutor;
 import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.CircuitBreakingException;
 import org.opensearch.core.common.breaker.NoopCircuitBreaker;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.indices.breaker.CircuitBreakerService;
+import org.opensearch.indices.breaker.HierarchyCircuitBreakerService;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.aggregations.AggregationBuilders;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.metrics.InternalMax;
 import org.opensearch.search.aggregations.pipeline.PipelineAggregator;
+import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.TestThreadPool;
@@ -60,9 +68,14 @@ import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
+
 public class QueryPhaseResultConsumerTests extends OpenSearchTestCase {
 
     private SearchPhaseController searchPhaseController;
@@ -159,6 +172,173 @@ public class QueryPhaseResultConsumerTests extends OpenSearchTestCase {
         assertEquals(1, searchProgressListener.onFinalReduce.get());
     }
 
+    public void testIncrementalReduce() throws Exception {
+        SearchRequest searchRequest = new SearchRequest("index");
+        AtomicReference<Exception> onPartialMergeFailure = new AtomicReference<>();
+        QueryPhaseResultConsumer queryPhaseResultConsumer = new QueryPhaseResultConsumer(
+            searchRequest,
+            executor,
+            new NoopCircuitBreaker(CircuitBreaker.REQUEST),
+            searchPhaseController,
+            SearchProgressListener.NOOP,
+            writableRegistry(),
+            10,
+            onPartialMergeFailure::set,
+            true
+        );
+
+        CountDownLatch mergedLatch = new CountDownLatch(10);
+        for (int i = 0; i < 10; i++) {
+            SearchShardTarget searchShardTarget = new SearchShardTarget(
+                "node",
+                new ShardId("index", "uuid", i),
+                null,
+                OriginalIndices.NONE
+            );
+            QuerySearchResult querySearchResult = new QuerySearchResult();
+            TopDocs topDocs = new TopDocs(
+                new TotalHits(1, TotalHits.Relation.EQUAL_TO),
+                new ScoreDoc[] { new ScoreDoc(i, randomFloat()) }
+            );
+            querySearchResult.topDocs(new TopDocsAndMaxScore(topDocs, Float.NaN), new DocValueFormat[0]);
+            querySearchResult.setSearchShardTarget(searchShardTarget);
+            querySearchResult.setShardIndex(i);
+            queryPhaseResultConsumer.consumeResult(querySearchResult, mergedLatch::countDown);
+        }
+
+        assertTrue(mergedLatch.await(10, TimeUnit.SECONDS));
+        assertNull(onPartialMergeFailure.get());
+        // the results are merged without waiting for a batch of batched_reduce_size results
+        assertThat(queryPhaseResultConsumer.getNumReducePhases(), greaterThanOrEqualTo(1));
+        assertFalse(queryPhaseResultConsumer.pendingMerges.hasPendingMerges());
+
+        SearchPhaseController.ReducedQueryPhase reducedQueryPhase = queryPhaseResultConsumer.reduce();
+        assertEquals(10, reducedQueryPhase.totalHits.value());
+        assertEquals(10, reducedQueryPhase.sortedTopDocs.scoreDocs.length);
+    }
+
+    public void testIncrementalReduceAccountsMergedAggregationsInCircuitBreaker() throws Exception {
+        CircuitBreaker circuitBreaker = newRequestCircuitBreaker("100mb");
+        // runs the merges on demand, so that the breaker can be checked between them
+        List<Runnable> merges = new ArrayList<>();
+        SearchRequest searchRequest = new SearchRequest("index");
+        searchRequest.source(new SearchSourceBuilder().aggregation(AggregationBuilders.max("test").field("field")).size(0));
+        AtomicReference<Exception> onPartialMergeFailure = new AtomicReference<>();
+        QueryPhaseResultConsumer queryPhaseResultConsumer = new QueryPhaseResultConsumer(
+            searchRequest,
+            merges::add,
+            circuitBreaker,
+            searchPhaseController,
+            SearchProgressListener.NOOP,
+            writableRegistry(),
+            10,
+            onPartialMergeFailure::set,
+            true
+        );
+
+        // a merged max aggregation has the same size whatever the number of shard results merged into it
+        long mergedSize = InternalAggregations.from(
+            Collections.singletonList(new InternalMax("test", 0d, DocValueFormat.RAW, Collections.emptyMap()))
+        ).getSerializedSize();
+        for (int i = 0; i < 10; i++) {
+            AtomicBoolean merged = new AtomicBoolean();
+            queryPhaseResultConsumer.consumeResult(aggsResult(i, i), () -> merged.set(true));
+            // the shard result is accounted until it is merged, and its listener waits for the merge
+            assertFalse(merged.get());
+            assertThat(circuitBreaker.getUsed(), greaterThan(i == 0 ? 0L : mergedSize));
+            runAll(merges);
+            assertTrue(merged.get());
+            assertEquals(mergedSize, circuitBreaker.getUsed());
+        }
+        assertNull(onPartialMergeFailure.get());
+        assertEquals(10, queryPhaseResultConsumer.getNumReducePhases());
+
+        SearchPhaseController.ReducedQueryPhase reducedQueryPhase = queryPhaseResultConsumer.reduce();
+        InternalMax max = reducedQueryPhase.aggregations.get("test");
+        assertEquals(9d, max.getValue(), 0d);
+        // the final result stays accounted until the consumer is closed
+        assertEquals(reducedQueryPhase.aggregations.getSerializedSize(), circuitBreaker.getUsed());
+        queryPhaseResultConsumer.close();
+        assertEquals(0, circuitBreaker.getUsed());
+    }
+
+    public void testIncrementalReduceFailureNotifiesBufferedListeners() throws Exception {
+        // too small for the estimate of any merge
+        CircuitBreaker circuitBreaker = newRequestCircuitBreaker("1b");
+        List<Runnable> merges = new ArrayList<>();
+        SearchRequest searchRequest = new SearchRequest("index");
+        searchRequest.source(new SearchSourceBuilder().aggregation(AggregationBuilders.max("test").field("field")).size(0));
+        AtomicReference<Exception> onPartialMergeFailure = new AtomicReference<>();
+        QueryPhaseResultConsumer queryPhaseResultConsumer = new QueryPhaseResultConsumer(
+            searchRequest,
+            merges::add,
+            circuitBreaker,
+            searchPhaseController,
+            SearchProgressListener.NOOP,
+            writableRegistry(),
+            10,
+            onPartialMergeFailure::set,
+            true
+        );
+
+        AtomicInteger notified = new AtomicInteger();
+        // the first result starts a merge, the next ones are buffered until it completes
+        for (int i = 0; i < 3; i++) {
+            queryPhaseResultConsumer.consumeResult(aggsResult(i, i), notified::incrementAndGet);
+        }
+        assertEquals(1, merges.size());
+        assertEquals(0, notified.get());
+        assertThat(circuitBreaker.getUsed(), greaterThan(0L));
+
+        runAll(merges);
+        assertThat(onPartialMergeFailure.get(), instanceOf(CircuitBreakingException.class));
+        // the listeners of the merged and of the buffered results are notified, and the breaker is reset
+        assertEquals(3, notified.get());
+        assertEquals(0, circuitBreaker.getUsed());
+
+        // results which arrive after the failure are not buffered
+        queryPhaseResultConsumer.consumeResult(aggsResult(3, 3), notified::incrementAndGet);
+        assertEquals(4, notified.get());
+        assertTrue(merges.isEmpty());
+
+        expectThrows(CircuitBreakingException.class, queryPhaseResultConsumer::reduce);
+        queryPhaseResultConsumer.close();
+        assertEquals(0, circuitBreaker.getUsed());
+    }
+
+    private static CircuitBreaker newRequestCircuitBreaker(String limit) {
+        Settings settings = Settings.builder()
+            .put(HierarchyCircuitBreakerService.USE_REAL_MEMORY_USAGE_SETTING.getKey(), false)
+            .put(HierarchyCircuitBreakerService.REQUEST_CIRCUIT_BREAKER_LIMIT_SETTING.getKey(), limit)
+            .build();
+        CircuitBreakerService circuitBreakerService = new HierarchyCircuitBreakerService(
+            settings,
+            Collections.emptyList(),
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)
+        );
+        return circuitBreakerService.getBreaker(CircuitBreaker.REQUEST);
+    }
+
+    private static QuerySearchResult aggsResult(int shardIndex, double value) {
+        QuerySearchResult querySearchResult = new QuerySearchResult();
+        TopDocs topDocs = new TopDocs(new TotalHits(0, TotalHits.Relation.EQUAL_TO), new ScoreDoc[0]);
+        querySearchResult.topDocs(new TopDocsAndMaxScore(topDocs, Float.NaN), new DocValueFormat[0]);
+        querySearchResult.aggregations(
+            InternalAggregations.from(Collections.singletonList(new InternalMax("test", value, DocValueFormat.RAW, Collections.emptyMap())))
+        );
+        querySearchResult.setSearchShardTarget(
+            new SearchShardTarget("node", new ShardId("index", "uuid", shardIndex), null, OriginalIndices.NONE)
+        );
+        querySearchResult.setShardIndex(shardIndex);
+        return querySearchResult;
+    }
+
+    private static void runAll(List<Runnable> tasks) {
+        while (tasks.isEmpty() == false) {
+            tasks.remove(0).run();
+        }
+    }
+
     private static class ThrowingSearchProgressListener extends SearchProgressListener {
         private final AtomicInteger onQueryResult = new AtomicInteger(0);
         private final AtomicInteger onPartialReduce = new AtomicInteger(0);
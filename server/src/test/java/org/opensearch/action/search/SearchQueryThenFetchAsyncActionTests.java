@@ -43,6 +43,8 @@ import org.opensearch.action.OriginalIndices;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.routing.GroupShardsIterator;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.core.common.Strings;
@@ -78,6 +80,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class SearchQueryThenFetchAsyncActionTests extends OpenSearchTestCase {
     private SearchRequestOperationsListenerAssertingListener assertingListener;
@@ -285,4 +289,54 @@ public class SearchQueryThenFetchAsyncActionTests extends OpenSearchTestCase {
         assertThat(((FieldDoc) phase.sortedTopDocs.scoreDocs[0]).fields.length, equalTo(1));
         assertThat(((FieldDoc) phase.sortedTopDocs.scoreDocs[0]).fields[0], equalTo(0));
     }
+
+    public void testCanFetchWhileQuerying() {
+        SearchRequest request = new SearchRequest();
+        // disabled
+        assertFalse(SearchQueryThenFetchAsyncAction.canFetchWhileQuerying(request, 2, 0));
+        // single shard searches fetch while querying anyway
+        assertFalse(SearchQueryThenFetchAsyncAction.canFetchWhileQuerying(request, 1, 10));
+        // default size
+        assertTrue(SearchQueryThenFetchAsyncAction.canFetchWhileQuerying(request, 2, 10));
+        assertFalse(SearchQueryThenFetchAsyncAction.canFetchWhileQuerying(request, 2, 5));
+
+        request.source(new SearchSourceBuilder().size(5));
+        assertTrue(SearchQueryThenFetchAsyncAction.canFetchWhileQuerying(request, 2, 5));
+        assertFalse(SearchQueryThenFetchAsyncAction.canFetchWhileQuerying(request, 2, 4));
+
+        request.source(new SearchSourceBuilder().size(0));
+        assertFalse(SearchQueryThenFetchAsyncAction.canFetchWhileQuerying(request, 2, 10));
+
+        request.source(new SearchSourceBuilder().from(5).size(5));
+        assertFalse(SearchQueryThenFetchAsyncAction.canFetchWhileQuerying(request, 2, 10));
+
+        request.source(new SearchSourceBuilder().size(5).collapse(new CollapseBuilder("collapse_field")));
+        assertFalse(SearchQueryThenFetchAsyncAction.canFetchWhileQuerying(request, 2, 10));
+
+        request.source(new SearchSourceBuilder().size(5));
+        request.scroll(TimeValue.timeValueMinutes(1));
+        assertFalse(SearchQueryThenFetchAsyncAction.canFetchWhileQuerying(request, 2, 10));
+    }
+
+    public void testSupportsFetchWhileQuerying() {
+        DiscoveryNode node = new DiscoveryNode("node", buildNewFakeTransportAddress(), Version.V_3_2_0);
+        DiscoveryNode oldNode = new DiscoveryNode("old_node", buildNewFakeTransportAddress(), Version.V_3_1_0);
+        assertTrue(SearchQueryThenFetchAsyncAction.supportsFetchWhileQuerying(new SearchAsyncActionTests.MockConnection(node)));
+        assertFalse(SearchQueryThenFetchAsyncAction.supportsFetchWhileQuerying(new SearchAsyncActionTests.MockConnection(oldNode)));
+
+        // a connection proxied through a remote cluster gateway reports the version of the gateway rather than the target node
+        Transport.Connection proxied = mock(Transport.Connection.class);
+        when(proxied.getNode()).thenReturn(oldNode);
+        when(proxied.getVersion()).thenReturn(Version.V_3_2_0);
+        assertFalse(SearchQueryThenFetchAsyncAction.supportsFetchWhileQuerying(proxied));
+        when(proxied.getNode()).thenReturn(node);
+        when(proxied.getVersion()).thenReturn(Version.V_3_1_0);
+        assertFalse(SearchQueryThenFetchAsyncAction.supportsFetchWhileQuerying(proxied));
+    }
+
+    public void testFetchWhileQueryingMaxHitsIsCapped() {
+        Setting<Integer> setting = TransportSearchAction.SEARCH_FETCH_WHILE_QUERYING_MAX_HITS;
+        assertEquals(100, (int) setting.get(Settings.builder().put(setting.getKey(), 100).build()));
+        expectThrows(IllegalArgumentException.class, () -> setting.get(Settings.builder().put(setting.getKey(), 101).build()));
+    }
 }
@@ -61,7 +61,9 @@ import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
 public class CacheTests extends OpenSearchTestCase {
     private int numberOfEntries;
@@ -963,4 +965,117 @@ public class CacheTests extends OpenSearchTestCase {
             () -> CacheBuilder.<Integer, String>builder().setMaximumWeight(1000).setNumberOfSegments(21).build()
         );
     }
+
+    // cache some frequently accessed entries, then scan through many entries which are only accessed once; the
+    // W-TinyLFU policy rejects the scanned entries from the main region while the LRU policy lets them flush the cache
+    public void testWTinyLfuIsScanResistant() {
+        int maximumWeight = 100;
+        int hotEntries = 50;
+        Cache<Integer, String> tinyLfuCache = CacheBuilder.<Integer, String>builder()
+            .setMaximumWeight(maximumWeight)
+            .setEvictionPolicy(EvictionPolicy.W_TINY_LFU)
+            .build();
+        Cache<Integer, String> lruCache = CacheBuilder.<Integer, String>builder().setMaximumWeight(maximumWeight).build();
+        assertEquals(EvictionPolicy.W_TINY_LFU, tinyLfuCache.getEvictionPolicy());
+        assertEquals(EvictionPolicy.LRU, lruCache.getEvictionPolicy());
+
+        for (Cache<Integer, String> cache : List.of(tinyLfuCache, lruCache)) {
+            for (int i = 0; i < maximumWeight; i++) {
+                cache.put(i, Integer.toString(i));
+            }
+            for (int round = 0; round < 3; round++) {
+                for (int i = 0; i < hotEntries; i++) {
+                    assertEquals(Integer.toString(i), cache.get(i));
+                }
+            }
+            for (int i = maximumWeight; i < 20 * maximumWeight; i++) {
+                cache.put(i, Integer.toString(i));
+            }
+            assertEquals(maximumWeight, cache.weight());
+        }
+
+        for (int i = 0; i < hotEntries; i++) {
+            assertEquals(Integer.toString(i), tinyLfuCache.get(i));
+            assertNull(lruCache.get(i));
+        }
+        Cache.CacheStats tinyLfuStats = tinyLfuCache.stats();
+        Cache.CacheStats lruStats = lruCache.stats();
+        assertEquals(EvictionPolicy.W_TINY_LFU, tinyLfuStats.getEvictionPolicy());
+        assertEquals(EvictionPolicy.LRU, lruStats.getEvictionPolicy());
+        assertEquals(1.0, tinyLfuStats.getHitRatio(), 0.0);
+        assertEquals(0.75, lruStats.getHitRatio(), 0.0);
+        // every scanned entry but the ones colliding with hot entries in the frequency sketch is rejected
+        assertThat(tinyLfuStats.getAdmissionRejections(), greaterThan((long) 18 * maximumWeight));
+        assertEquals(0, lruStats.getAdmissionRejections());
+    }
+
+    // an entry which was accessed often before being cached is admitted to the main region of a W-TinyLFU cache
+    public void testWTinyLfuAdmitsFrequentlyAccessedEntries() {
+        int maximumWeight = 100;
+        Cache<Integer, String> cache = CacheBuilder.<Integer, String>builder()
+            .setMaximumWeight(maximumWeight)
+            .setEvictionPolicy(EvictionPolicy.W_TINY_LFU)
+            .build();
+        for (int i = 0; i < maximumWeight; i++) {
+            cache.put(i, Integer.toString(i));
+        }
+
+        int frequentKey = -1;
+        for (int i = 0; i < 5; i++) {
+            assertNull(cache.get(frequentKey));
+        }
+        cache.put(frequentKey, Integer.toString(frequentKey));
+        for (int i = maximumWeight; i < 10 * maximumWeight; i++) {
+            cache.put(i, Integer.toString(i));
+        }
+        assertEquals(Integer.toString(frequentKey), cache.get(frequentKey));
+        assertEquals(maximumWeight, cache.count());
+    }
+
+    // randomly mutate a W-TinyLFU cache and check that it stays within its maximum weight and that its entries can
+    // all be iterated over and invalidated
+    public void testWTinyLfuRandomOperations() {
+        int maximumWeight = randomIntBetween(1, 500);
+        Map<Integer, String> removed = new HashMap<>();
+        Cache<Integer, String> cache = CacheBuilder.<Integer, String>builder()
+            .setMaximumWeight(maximumWeight)
+            .setEvictionPolicy(EvictionPolicy.W_TINY_LFU)
+            .weigher((k, v) -> v.length())
+            .removalListener(notification -> removed.put(notification.getKey(), notification.getValue()))
+            .build();
+        Map<Integer, String> inserted = new HashMap<>();
+        for (int i = 0; i < numberOfEntries; i++) {
+            int key = randomIntBetween(0, 2 * maximumWeight);
+            if (randomBoolean()) {
+                cache.get(key);
+            } else if (rarely()) {
+                cache.invalidate(key);
+            } else {
+                String value = randomAlphaOfLengthBetween(1, 4);
+                cache.put(key, value);
+                inserted.put(key, value);
+            }
+            assertThat(cache.weight(), lessThanOrEqualTo((long) maximumWeight));
+        }
+
+        Set<Integer> keys = new HashSet<>();
+        for (Integer key : cache.keys()) {
+            assertTrue(keys.add(key));
+        }
+        long weight = 0;
+        for (Integer key : keys) {
+            String value = cache.get(key);
+            assertEquals(inserted.get(key), value);
+            weight += value.length();
+        }
+        assertEquals(cache.count(), keys.size());
+        assertEquals(cache.weight(), weight);
+
+        removed.clear();
+        cache.invalidateAll();
+        assertEquals(keys, removed.keySet());
+        assertEquals(0, cache.count());
+        assertEquals(0, cache.weight());
+        assertFalse(cache.keys().iterator().hasNext());
+    }
 }
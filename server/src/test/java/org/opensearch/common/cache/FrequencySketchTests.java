@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class FrequencySketchTests extends OpenSearchTestCase {
+
+    public void testInvalidWidth() {
+        expectThrows(IllegalArgumentException.class, () -> new FrequencySketch(0));
+        expectThrows(IllegalArgumentException.class, () -> new FrequencySketch(3));
+    }
+
+    public void testCountsAccesses() {
+        FrequencySketch sketch = new FrequencySketch(FrequencySketch.DEFAULT_WIDTH);
+        int hash = randomInt();
+        assertEquals(0, sketch.frequency(hash));
+        int accesses = randomIntBetween(1, FrequencySketch.MAX_FREQUENCY);
+        for (int i = 0; i < accesses; i++) {
+            sketch.increment(hash);
+        }
+        assertEquals(accesses, sketch.frequency(hash));
+    }
+
+    public void testFrequencySaturates() {
+        FrequencySketch sketch = new FrequencySketch(FrequencySketch.DEFAULT_WIDTH);
+        int hash = randomInt();
+        for (int i = 0; i < FrequencySketch.MAX_FREQUENCY * 2; i++) {
+            sketch.increment(hash);
+        }
+        assertEquals(FrequencySketch.MAX_FREQUENCY, sketch.frequency(hash));
+    }
+
+    public void testFrequenciesAreHalvedOverTime() {
+        int width = 64;
+        FrequencySketch sketch = new FrequencySketch(width);
+        int hotHash = "hot".hashCode();
+        for (int i = 0; i < 8; i++) {
+            sketch.increment(hotHash);
+        }
+        assertEquals(8, sketch.frequency(hotHash));
+
+        // Enough accesses to other keys eventually halve the frequency of the hot key. Until then, its estimated
+        // frequency can only grow because of collisions.
+        boolean halved = false;
+        for (int i = 0; i < 100 * width && halved == false; i++) {
+            sketch.increment(("key" + i).hashCode());
+            halved = sketch.frequency(hotHash) < 8;
+        }
+        assertTrue(halved);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache.service;
+
+import org.opensearch.Version;
+import org.opensearch.action.admin.indices.stats.CommonStatsFlags;
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.EvictionPolicy;
+import org.opensearch.common.cache.stats.DefaultCacheStatsHolder;
+import org.opensearch.common.cache.stats.EvictionPolicyStats;
+import org.opensearch.common.cache.stats.ImmutableCacheStatsHolder;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.TreeMap;
+
+public class NodeCacheStatsTests extends OpenSearchTestCase {
+
+    public void testEvictionPolicyStatsSerialization() throws IOException {
+        TreeMap<CacheType, ImmutableCacheStatsHolder> statsMap = new TreeMap<>();
+        statsMap.put(CacheType.INDICES_REQUEST_CACHE, new DefaultCacheStatsHolder(List.of(), "store").getImmutableCacheStatsHolder(null));
+        TreeMap<CacheType, EvictionPolicyStats> evictionPolicyStatsMap = new TreeMap<>();
+        EvictionPolicyStats evictionPolicyStats = new EvictionPolicyStats(EvictionPolicy.W_TINY_LFU, 1, 2, 3, 4);
+        evictionPolicyStatsMap.put(CacheType.INDICES_REQUEST_CACHE, evictionPolicyStats);
+        CommonStatsFlags flags = new CommonStatsFlags().includeCacheType(CacheType.INDICES_REQUEST_CACHE);
+        NodeCacheStats stats = new NodeCacheStats(statsMap, evictionPolicyStatsMap, flags);
+
+        NodeCacheStats deserialized = copy(stats, Version.V_3_2_0);
+        assertEquals(stats, deserialized);
+        assertEquals(evictionPolicyStats, deserialized.getEvictionPolicyStatsByCache(CacheType.INDICES_REQUEST_CACHE));
+
+        // older nodes don't know about the eviction policy stats
+        deserialized = copy(stats, Version.V_3_1_0);
+        assertEquals(stats.getStatsByCache(CacheType.INDICES_REQUEST_CACHE), deserialized.getStatsByCache(CacheType.INDICES_REQUEST_CACHE));
+        assertNull(deserialized.getEvictionPolicyStatsByCache(CacheType.INDICES_REQUEST_CACHE));
+    }
+
+    private static NodeCacheStats copy(NodeCacheStats stats, Version version) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.setVersion(version);
+            stats.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                in.setVersion(version);
+                return new NodeCacheStats(in);
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache.stats;
+
+import org.opensearch.common.cache.EvictionPolicy;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.BytesStreamInput;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Map;
+
+public class EvictionPolicyStatsTests extends OpenSearchTestCase {
+    public void testSerialization() throws Exception {
+        EvictionPolicyStats stats = new EvictionPolicyStats(randomFrom(EvictionPolicy.values()), 1, 2, 3, 4);
+        assertEquals(stats, copy(stats));
+
+        // the policy is unknown once the stats of caches with different policies were added up
+        EvictionPolicyStats mixedStats = new EvictionPolicyStats(null, 1, 2, 3, 4);
+        assertEquals(mixedStats, copy(mixedStats));
+    }
+
+    public void testAdd() {
+        EvictionPolicyStats lru = new EvictionPolicyStats(EvictionPolicy.LRU, 1, 2, 3, 0);
+        EvictionPolicyStats tinyLfu = new EvictionPolicyStats(EvictionPolicy.W_TINY_LFU, 4, 5, 6, 7);
+        assertEquals(new EvictionPolicyStats(EvictionPolicy.LRU, 2, 4, 6, 0), EvictionPolicyStats.add(lru, lru));
+        assertEquals(new EvictionPolicyStats(null, 5, 7, 9, 7), EvictionPolicyStats.add(lru, tinyLfu));
+        assertEquals(new EvictionPolicyStats(EvictionPolicy.W_TINY_LFU, 4, 5, 6, 10), tinyLfu.withAdditionalAdmissionRejections(3));
+    }
+
+    public void testHitRatio() {
+        assertEquals(0, new EvictionPolicyStats(EvictionPolicy.LRU, 0, 0, 0, 0).getHitRatio(), 0.0);
+        assertEquals(0.75, new EvictionPolicyStats(EvictionPolicy.LRU, 3, 1, 0, 0).getHitRatio(), 0.0);
+    }
+
+    public void testToXContent() throws Exception {
+        EvictionPolicyStats stats = new EvictionPolicyStats(EvictionPolicy.W_TINY_LFU, 1, 3, 5, 7);
+        XContentBuilder builder = XContentFactory.jsonBuilder().startObject();
+        stats.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        builder.endObject();
+        Map<String, Object> map = XContentHelper.convertToMap(MediaTypeRegistry.JSON.xContent(), builder.toString(), true);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> policyMap = (Map<String, Object>) map.get(EvictionPolicyStats.Fields.EVICTION_POLICY);
+        assertEquals("w_tiny_lfu", policyMap.get(EvictionPolicyStats.Fields.NAME));
+        assertEquals(0.25, (double) policyMap.get(EvictionPolicyStats.Fields.HIT_RATIO), 0.0);
+        assertEquals(7, policyMap.get(EvictionPolicyStats.Fields.ADMISSION_REJECTIONS));
+    }
+
+    private static EvictionPolicyStats copy(EvictionPolicyStats stats) throws Exception {
+        BytesStreamOutput os = new BytesStreamOutput();
+        stats.writeTo(os);
+        BytesStreamInput is = new BytesStreamInput(BytesReference.toBytes(os.bytes()));
+        return new EvictionPolicyStats(is);
+    }
+}
@@ -10,12 +10,14 @@ package org.opensearch.common.cache.store;
 
 import org.opensearch.common.Randomness;
 import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.EvictionPolicy;
 import org.opensearch.common.cache.ICache;
 import org.opensearch.common.cache.ICacheKey;
 import org.opensearch.common.cache.LoadAwareCacheLoader;
 import org.opensearch.common.cache.RemovalListener;
 import org.opensearch.common.cache.RemovalNotification;
 import org.opensearch.common.cache.settings.CacheSettings;
+import org.opensearch.common.cache.stats.EvictionPolicyStats;
 import org.opensearch.common.cache.stats.ImmutableCacheStats;
 import org.opensearch.common.cache.stats.ImmutableCacheStatsHolder;
 import org.opensearch.common.cache.store.config.CacheConfig;
@@ -29,6 +31,7 @@ import java.util.List;
 import java.util.Random;
 import java.util.UUID;
 
+import static org.opensearch.common.cache.store.settings.OpenSearchOnHeapCacheSettings.EVICTION_POLICY_KEY;
 import static org.opensearch.common.cache.store.settings.OpenSearchOnHeapCacheSettings.MAXIMUM_SIZE_IN_BYTES_KEY;
 
 public class OpenSearchOnHeapCacheTests extends OpenSearchTestCase {
@@ -132,6 +135,56 @@ public class OpenSearchOnHeapCacheTests extends OpenSearchTestCase {
         assertEquals(maxSizeFromConfig, onHeapCache.getMaximumWeight());
     }
 
+    public void testEvictionPolicySetting() {
+        Settings.Builder settingsBuilder = Settings.builder()
+            .put(
+                CacheSettings.getConcreteStoreNameSettingForCacheType(CacheType.INDICES_REQUEST_CACHE).getKey(),
+                OpenSearchOnHeapCache.OpenSearchOnHeapCacheFactory.NAME
+            );
+        OpenSearchOnHeapCache<String, String> onHeapCache = setupMaxSizeTest(settingsBuilder, 1000, 1000, true);
+        assertEquals(EvictionPolicy.LRU, onHeapCache.evictionPolicyStats().getEvictionPolicy());
+
+        settingsBuilder.put(
+            OpenSearchOnHeapCacheSettings.getSettingListForCacheType(CacheType.INDICES_REQUEST_CACHE).get(EVICTION_POLICY_KEY).getKey(),
+            "w_tiny_lfu"
+        );
+        onHeapCache = setupMaxSizeTest(settingsBuilder, 1000, 1000, true);
+        assertEquals(EvictionPolicy.W_TINY_LFU, onHeapCache.evictionPolicyStats().getEvictionPolicy());
+
+        settingsBuilder.put(
+            OpenSearchOnHeapCacheSettings.getSettingListForCacheType(CacheType.INDICES_REQUEST_CACHE).get(EVICTION_POLICY_KEY).getKey(),
+            "lfu"
+        );
+        expectThrows(IllegalArgumentException.class, () -> setupMaxSizeTest(settingsBuilder, 1000, 1000, true));
+    }
+
+    public void testEvictionPolicyStats() {
+        MockRemovalListener<String, String> listener = new MockRemovalListener<>();
+        int maxKeys = between(10, 50);
+        int numEvicted = between(10, 20);
+        OpenSearchOnHeapCache<String, String> cache = getCache(maxKeys, listener, true);
+
+        List<ICacheKey<String>> keysAdded = new ArrayList<>();
+        for (int i = 0; i < maxKeys + numEvicted; i++) {
+            ICacheKey<String> key = getICacheKey(UUID.randomUUID().toString());
+            keysAdded.add(key);
+            cache.put(key, UUID.randomUUID().toString());
+        }
+        // the least recently used keys were evicted
+        assertNull(cache.get(keysAdded.get(0)));
+        for (int i = numEvicted; i < keysAdded.size(); i++) {
+            assertNotNull(cache.get(keysAdded.get(i)));
+        }
+
+        EvictionPolicyStats stats = cache.evictionPolicyStats();
+        assertEquals(EvictionPolicy.LRU, stats.getEvictionPolicy());
+        assertEquals(maxKeys, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(numEvicted, stats.getEvictions());
+        assertEquals((double) maxKeys / (maxKeys + 1), stats.getHitRatio(), 0.0);
+        assertEquals(0, stats.getAdmissionRejections());
+    }
+
     private OpenSearchOnHeapCache<String, String> setupMaxSizeTest(
         Settings.Builder settingsBuilder,
         long maxSizeFromSetting,
@@ -253,4 +253,35 @@ public class BufferedAsyncIOProcessorTests extends OpenSearchTestCase {
             assertTrue(writeInvocationTimes.get(i) >= writeInvocationTimes.get(i - 1) + (bufferIntervalMs - 20) * 1_000_000);
         }
     }
+
+    public void testFlushProcessesBufferedItemsBeforeBufferInterval() throws InterruptedException {
+        AtomicInteger received = new AtomicInteger(0);
+        BufferedAsyncIOProcessor<Object> processor = new BufferedAsyncIOProcessor<>(
+            logger,
+            scaledRandomIntBetween(1, 2024),
+            threadContext,
+            threadpool,
+            () -> TimeValue.timeValueMinutes(10)
+        ) {
+            @Override
+            protected void write(List<Tuple<Object, Consumer<Exception>>> candidates) throws IOException {
+                received.addAndGet(candidates.size());
+            }
+
+            @Override
+            protected String getBufferProcessThreadPoolName() {
+                return ThreadPool.Names.TRANSLOG_SYNC;
+            }
+        };
+
+        // nothing is buffered, so there is nothing to flush
+        processor.flush();
+        assertEquals(0, received.get());
+
+        CountDownLatch processed = new CountDownLatch(1);
+        processor.put(new Object(), (e) -> processed.countDown());
+        processor.flush();
+        assertTrue(processed.await(10, TimeUnit.SECONDS));
+        assertEquals(1, received.get());
+    }
 }
@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util.concurrent;
+
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class StripedLockTests extends OpenSearchTestCase {
+
+    public void testStripesAreRoundedUpToPowerOfTwo() {
+        assertThat(new StripedLock<String>(1).stripes(), equalTo(1));
+        assertThat(new StripedLock<String>(2).stripes(), equalTo(2));
+        assertThat(new StripedLock<String>(3).stripes(), equalTo(4));
+        assertThat(new StripedLock<String>(64).stripes(), equalTo(64));
+        assertThat(new StripedLock<String>(65).stripes(), equalTo(128));
+        expectThrows(IllegalArgumentException.class, () -> new StripedLock<String>(0));
+    }
+
+    public void testCountersUnderLock() throws InterruptedException {
+        StripedLock<String> lock = new StripedLock<>(randomIntBetween(1, 16));
+        String[] names = new String[randomIntBetween(1, 40)];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = randomRealisticUnicodeOfLengthBetween(10, 20);
+        }
+        // plain, non-atomic counters which are only guarded by the striped lock; the map itself is not modified concurrently
+        Map<String, int[]> counters = new HashMap<>();
+        for (String name : names) {
+            counters.put(name, new int[1]);
+        }
+        int numThreads = randomIntBetween(3, 10);
+        int iterations = scaledRandomIntBetween(100, 1000);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        Thread[] threads = new Thread[numThreads];
+        for (int i = 0; i < numThreads; i++) {
+            threads[i] = new Thread(() -> {
+                try {
+                    startLatch.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                for (int j = 0; j < iterations; j++) {
+                    String name = randomFrom(names);
+                    try (Releasable ignored = lock.acquire(name)) {
+                        assertTrue(lock.isHeldByCurrentThread(name));
+                        int[] counter = counters.get(name);
+                        int value = counter[0];
+                        // widen the window for lost updates if the lock did not exclude other threads
+                        Thread.yield();
+                        counter[0] = value + 1;
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        startLatch.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(counters.values().stream().mapToInt(counter -> counter[0]).sum(), equalTo(numThreads * iterations));
+        for (String name : names) {
+            assertFalse(lock.isHeldByCurrentThread(name));
+        }
+    }
+
+    public void testReentrantAndTryAcquire() throws InterruptedException {
+        StripedLock<String> lock = new StripedLock<>(randomIntBetween(1, 16));
+        String key = randomAlphaOfLength(10);
+        try (Releasable first = lock.acquire(key); Releasable second = lock.tryAcquire(key)) {
+            assertNotNull("the lock is reentrant", second);
+            AtomicBoolean acquiredByOtherThread = new AtomicBoolean();
+            Thread thread = new Thread(() -> {
+                Releasable releasable = lock.tryAcquire(key);
+                acquiredByOtherThread.set(releasable != null);
+                if (releasable != null) {
+                    releasable.close();
+                }
+            });
+            thread.start();
+            thread.join();
+            assertFalse(acquiredByOtherThread.get());
+        }
+        assertFalse(lock.isHeldByCurrentThread(key));
+        try (Releasable releasable = lock.tryAcquire(key)) {
+            assertNotNull(releasable);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.cache.request;
+
+import org.opensearch.Version;
+import org.opensearch.common.cache.EvictionPolicy;
+import org.opensearch.common.cache.stats.EvictionPolicyStats;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+public class RequestCacheStatsTests extends OpenSearchTestCase {
+
+    public void testSegmentAggregationStatsSerialization() throws IOException {
+        final RequestCacheStats stats = new RequestCacheStats(1, 2, 3, 4);
+        stats.setSegmentAggregationStats(new RequestCacheStats(5, 6, 7, 8));
+
+        RequestCacheStats deserialized = copy(stats, Version.V_3_2_0);
+        assertEquals(3, deserialized.getHitCount());
+        assertEquals(5, deserialized.getSegmentAggregationStats().getMemorySizeInBytes());
+        assertEquals(6, deserialized.getSegmentAggregationStats().getEvictions());
+        assertEquals(7, deserialized.getSegmentAggregationStats().getHitCount());
+        assertEquals(8, deserialized.getSegmentAggregationStats().getMissCount());
+
+        // older nodes don't know about the segment aggregation stats
+        deserialized = copy(stats, Version.V_3_1_0);
+        assertEquals(3, deserialized.getHitCount());
+        assertEquals(4, deserialized.getMissCount());
+        assertNull(deserialized.getSegmentAggregationStats());
+
+        assertNull(copy(new RequestCacheStats(1, 2, 3, 4), Version.V_3_2_0).getSegmentAggregationStats());
+    }
+
+    public void testAddSegmentAggregationStats() {
+        final RequestCacheStats stats = new RequestCacheStats(1, 2, 3, 4);
+        stats.add(new RequestCacheStats(1, 1, 1, 1));
+        assertNull(stats.getSegmentAggregationStats());
+
+        final RequestCacheStats other = new RequestCacheStats();
+        other.setSegmentAggregationStats(new RequestCacheStats(5, 6, 7, 8));
+        stats.add(other);
+        stats.add(other);
+        assertEquals(4, stats.getHitCount());
+        assertEquals(10, stats.getSegmentAggregationStats().getMemorySizeInBytes());
+        assertEquals(16, stats.getSegmentAggregationStats().getMissCount());
+    }
+
+    public void testEvictionPolicyStatsSerialization() throws IOException {
+        final RequestCacheStats stats = new RequestCacheStats(1, 2, 3, 4);
+        stats.setEvictionPolicyStats(new EvictionPolicyStats(EvictionPolicy.W_TINY_LFU, 5, 6, 7, 8));
+
+        RequestCacheStats deserialized = copy(stats, Version.V_3_2_0);
+        assertEquals(stats.getEvictionPolicyStats(), deserialized.getEvictionPolicyStats());
+
+        // older nodes don't know about the eviction policy stats
+        deserialized = copy(stats, Version.V_3_1_0);
+        assertEquals(3, deserialized.getHitCount());
+        assertNull(deserialized.getEvictionPolicyStats());
+    }
+
+    public void testAddEvictionPolicyStats() {
+        final RequestCacheStats stats = new RequestCacheStats(1, 2, 3, 4);
+        stats.add(new RequestCacheStats(1, 1, 1, 1));
+        assertNull(stats.getEvictionPolicyStats());
+
+        final RequestCacheStats other = new RequestCacheStats();
+        other.setEvictionPolicyStats(new EvictionPolicyStats(EvictionPolicy.W_TINY_LFU, 5, 6, 7, 8));
+        stats.add(other);
+        stats.add(other);
+        assertEquals(new EvictionPolicyStats(EvictionPolicy.W_TINY_LFU, 10, 12, 14, 16), stats.getEvictionPolicyStats());
+    }
+
+    private static RequestCacheStats copy(RequestCacheStats stats, Version version) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.setVersion(version);
+            stats.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                in.setVersion(version);
+                return new RequestCacheStats(in);
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.opensearch.index.compositeindex.datacube.startree.utils.HyperLogLogSketchType;
+import org.opensearch.index.mapper.FieldValueConverter;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.metrics.HyperLogLogSketch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CardinalityValueAggregatorTests extends AbstractValueAggregatorTests {
+
+    private CardinalityValueAggregator aggregator;
+
+    public CardinalityValueAggregatorTests(FieldValueConverter fieldValueConverter) {
+        super(fieldValueConverter);
+    }
+
+    public void testMergeAggregatedValueAndSegmentValue() {
+        long randomLong1 = randomLong();
+        long randomLong2 = randomLong();
+        HyperLogLogSketch aggregated = aggregator.getInitialAggregatedValueForSegmentDocValue(randomLong1);
+        HyperLogLogSketch expected = sketchOf(randomLong1, randomLong2);
+        assertEquals(expected, aggregator.mergeAggregatedValueAndSegmentValue(aggregated, randomLong2));
+        assertEquals(sketchOf(randomLong2), aggregator.mergeAggregatedValueAndSegmentValue(null, randomLong2));
+        assertEquals(sketchOf(randomLong1), aggregator.mergeAggregatedValueAndSegmentValue(sketchOf(randomLong1), null));
+    }
+
+    public void testMergeAggregatedValues() {
+        long randomLong1 = randomLong();
+        long randomLong2 = randomLong();
+        HyperLogLogSketch value = sketchOf(randomLong1);
+        assertEquals(sketchOf(randomLong1, randomLong2), aggregator.mergeAggregatedValues(value, sketchOf(randomLong2)));
+        assertEquals(sketchOf(randomLong1), aggregator.mergeAggregatedValues(sketchOf(randomLong1), null));
+        assertEquals(sketchOf(randomLong2), aggregator.mergeAggregatedValues(null, sketchOf(randomLong2)));
+        // the merged value must never be modified
+        assertEquals(sketchOf(randomLong1), value);
+    }
+
+    public void testGetInitialAggregatedValue() {
+        HyperLogLogSketch value = sketchOf(randomLong());
+        HyperLogLogSketch initial = aggregator.getInitialAggregatedValue(value);
+        assertEquals(value, initial);
+        assertNotSame(value, initial);
+    }
+
+    public void testToAggregatedValueType() {
+        HyperLogLogSketch sketch = sketchOf(randomLong(), randomLong(), randomLong());
+        List<Long> encoded = new ArrayList<>();
+        sketch.forEachEncoded(encoded::add);
+        assertEquals(sketch, aggregator.toAggregatedValueType(encoded.stream().mapToLong(Long::longValue).toArray()));
+        HyperLogLogSketch singleRegister = aggregator.toAggregatedValueType(HyperLogLogSketch.encode(sketch.precision(), 0, 1));
+        assertEquals(1, singleRegister.runLens()[0]);
+        assertNull(aggregator.toAggregatedValueType((Long) null));
+        assertNull(aggregator.toAggregatedValueType(new long[0]));
+    }
+
+    public void testIdentityMetricValue() {
+        assertNull(aggregator.getIdentityMetricValue());
+    }
+
+    public void testGetAggregatedValueType() {
+        HyperLogLogSketchType valueType = (HyperLogLogSketchType) aggregator.getAggregatedValueType();
+        assertEquals(HyperLogLogSketchType.STAR_TREE_PRECISION, valueType.getPrecision());
+    }
+
+    @Override
+    public void testGetInitialAggregatedValueForSegmentDocValue() {
+        long randomLong = randomLong();
+        assertEquals(sketchOf(randomLong), aggregator.getInitialAggregatedValueForSegmentDocValue(randomLong));
+    }
+
+    @Override
+    public ValueAggregator getValueAggregator(FieldValueConverter fieldValueConverter) {
+        aggregator = new CardinalityValueAggregator(fieldValueConverter);
+        return aggregator;
+    }
+
+    /**
+     * Builds the sketch the cardinality aggregation would build when collecting the given doc values.
+     */
+    private HyperLogLogSketch sketchOf(long... segmentDocValues) {
+        HyperLogLogSketch sketch = new HyperLogLogSketch(HyperLogLogSketchType.STAR_TREE_PRECISION);
+        for (long segmentDocValue : segmentDocValues) {
+            if (fieldValueConverter instanceof NumberFieldMapper.NumberType numberType
+                && numberType != NumberFieldMapper.NumberType.UNSIGNED_LONG
+                && numberType.numericType().isFloatingPoint() == false) {
+                sketch.collect(HyperLogLogSketch.hash(segmentDocValue));
+            } else {
+                sketch.collect(HyperLogLogSketch.hash(fieldValueConverter.toDoubleValue(segmentDocValue)));
+            }
+        }
+        return sketch;
+    }
+}
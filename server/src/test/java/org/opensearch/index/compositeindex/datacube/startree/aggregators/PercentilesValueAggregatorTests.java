@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.opensearch.index.compositeindex.datacube.startree.utils.TDigestSketchType;
+import org.opensearch.index.mapper.FieldValueConverter;
+import org.opensearch.search.aggregations.metrics.TDigestState;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.tdunning.math.stats.Centroid;
+
+public class PercentilesValueAggregatorTests extends AbstractValueAggregatorTests {
+
+    private PercentilesValueAggregator aggregator;
+
+    public PercentilesValueAggregatorTests(FieldValueConverter fieldValueConverter) {
+        super(fieldValueConverter);
+    }
+
+    public void testMergeAggregatedValueAndSegmentValue() {
+        long randomLong1 = randomValue();
+        long randomLong2 = randomValue();
+        TDigestState aggregated = aggregator.getInitialAggregatedValueForSegmentDocValue(randomLong1);
+        assertEquals(digestOf(randomLong1, randomLong2), aggregator.mergeAggregatedValueAndSegmentValue(aggregated, randomLong2));
+        assertEquals(digestOf(randomLong2), aggregator.mergeAggregatedValueAndSegmentValue(null, randomLong2));
+        assertEquals(digestOf(randomLong1), aggregator.mergeAggregatedValueAndSegmentValue(digestOf(randomLong1), null));
+    }
+
+    public void testMergeAggregatedValues() {
+        long randomLong1 = randomValue();
+        long randomLong2 = randomValue();
+        TDigestState value = digestOf(randomLong1);
+        TDigestState merged = aggregator.mergeAggregatedValues(value, digestOf(randomLong2));
+        assertEquals(2, merged.size());
+        assertEquals(digestOf(randomLong1), aggregator.mergeAggregatedValues(digestOf(randomLong1), null));
+        assertEquals(digestOf(randomLong2), aggregator.mergeAggregatedValues(null, digestOf(randomLong2)));
+        // the merged value must never be modified
+        assertEquals(digestOf(randomLong1), value);
+    }
+
+    public void testGetInitialAggregatedValue() {
+        TDigestState value = digestOf(randomValue());
+        TDigestState initial = aggregator.getInitialAggregatedValue(value);
+        assertEquals(value, initial);
+        assertNotSame(value, initial);
+    }
+
+    public void testToAggregatedValueType() {
+        TDigestState digest = new TDigestState(TDigestSketchType.STAR_TREE_COMPRESSION);
+        int numValues = randomIntBetween(1, 100);
+        for (int i = 0; i < numValues; i++) {
+            digest.add(randomDoubleBetween(1e8, 1e9, true));
+        }
+        List<Long> encoded = new ArrayList<>();
+        ((TDigestSketchType) aggregator.getAggregatedValueType()).forEachDocValue(digest, encoded::add);
+        TDigestState converted = aggregator.toAggregatedValueType(encoded.stream().mapToLong(Long::longValue).toArray());
+        // the digest is rebuilt from its centroids with full precision, as it is when read from the wire at query time
+        TDigestState expected = new TDigestState(TDigestSketchType.STAR_TREE_COMPRESSION);
+        for (Centroid centroid : digest.centroids()) {
+            expected.add(centroid.mean(), centroid.count());
+        }
+        assertEquals(expected.size(), converted.size());
+        assertEquals(expected.quantile(0.5), converted.quantile(0.5), 0.0);
+        assertEquals(expected.quantile(0.99), converted.quantile(0.99), 0.0);
+        assertNull(aggregator.toAggregatedValueType((Long) null));
+        assertNull(aggregator.toAggregatedValueType(new long[0]));
+    }
+
+    public void testIdentityMetricValue() {
+        assertNull(aggregator.getIdentityMetricValue());
+    }
+
+    @Override
+    public void testGetInitialAggregatedValueForSegmentDocValue() {
+        long randomLong = randomValue();
+        assertEquals(digestOf(randomLong), aggregator.getInitialAggregatedValueForSegmentDocValue(randomLong));
+    }
+
+    @Override
+    public ValueAggregator getValueAggregator(FieldValueConverter fieldValueConverter) {
+        aggregator = new PercentilesValueAggregator(fieldValueConverter);
+        return aggregator;
+    }
+
+    /**
+     * Digests do not accept NaN, which some random sortable bits of floating point types decode to
+     */
+    private long randomValue() {
+        long value;
+        do {
+            value = randomLong();
+        } while (Double.isNaN(fieldValueConverter.toDoubleValue(value)));
+        return value;
+    }
+
+    private TDigestState digestOf(long... segmentDocValues) {
+        TDigestState digest = new TDigestState(TDigestSketchType.STAR_TREE_COMPRESSION);
+        for (long segmentDocValue : segmentDocValues) {
+            digest.add(fieldValueConverter.toDoubleValue(segmentDocValue));
+        }
+        return digest;
+    }
+}
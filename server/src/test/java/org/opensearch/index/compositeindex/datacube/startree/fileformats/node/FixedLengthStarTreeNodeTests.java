@@ -194,6 +194,51 @@ public class FixedLengthStarTreeNodeTests extends OpenSearchTestCase {
         assertNull(starTreeNode.getChildForDimensionValue(invalidDimensionValue));
     }
 
+    public void testNodeCache() throws IOException {
+        long starTreeDataLength = 33L * (node.getChildren().size() + 2);
+        int numNodes = node.getChildren().size() + 2;
+        int maxCachedNodes = randomIntBetween(0, numNodes + 2);
+        StarTreeNodeCache nodeCache = StarTreeNodeCache.build(
+            dataIn.randomAccessSlice(0, starTreeDataLength),
+            starTreeDataLength,
+            maxCachedNodes
+        );
+        assertEquals(Math.min(maxCachedNodes, numNodes), nodeCache.size());
+        assertTrue(nodeCache.ramBytesUsed() > 0);
+
+        StarTreeMetadata starTreeMetadata = mock(StarTreeMetadata.class);
+        when(starTreeMetadata.getDataLength()).thenReturn(starTreeDataLength);
+        StarTreeNodeCacheStats nodeCacheStats = new StarTreeNodeCacheStats();
+        FixedLengthStarTreeNode cachedRoot = (FixedLengthStarTreeNode) StarTreeFactory.createStarTree(
+            dataIn,
+            starTreeMetadata,
+            nodeCache,
+            nodeCacheStats
+        );
+        StarTreeTestUtils.assertStarTreeNode(cachedRoot, node);
+        assertEquals(starTreeNode.getChildDimensionId(), cachedRoot.getChildDimensionId());
+
+        Iterator<FixedLengthStarTreeNode> expectedChildren = starTreeNode.getChildrenIterator();
+        Iterator<FixedLengthStarTreeNode> cachedChildren = cachedRoot.getChildrenIterator();
+        while (expectedChildren.hasNext()) {
+            FixedLengthStarTreeNode expected = expectedChildren.next();
+            FixedLengthStarTreeNode cached = cachedChildren.next();
+            assertEquals(expected.nodeId(), cached.nodeId());
+            assertEquals(expected.getDimensionId(), cached.getDimensionId());
+            assertEquals(expected.getDimensionValue(), cached.getDimensionValue());
+            assertEquals(expected.getStartDocId(), cached.getStartDocId());
+            assertEquals(expected.getEndDocId(), cached.getEndDocId());
+            assertEquals(expected.getAggregatedDocId(), cached.getAggregatedDocId());
+            assertEquals(expected.getStarTreeNodeType(), cached.getStarTreeNodeType());
+            assertEquals(expected.getNumChildren(), cached.getNumChildren());
+        }
+        assertFalse(cachedChildren.hasNext());
+
+        // the root and every child have been created exactly once
+        assertEquals(numNodes, nodeCacheStats.getHits() + nodeCacheStats.getMisses());
+        assertEquals(Math.min(maxCachedNodes, numNodes), nodeCacheStats.getHits());
+    }
+
     public void testOnlyRootNodePresent() throws IOException {
 
         Directory directory = newFSDirectory(createTempDir());
@@ -0,0 +1,53 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.datacube.startree.utils;
+
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.store.RandomAccessInput;
+import org.opensearch.search.aggregations.metrics.HyperLogLogSketch;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Unit tests for {@link HyperLogLogSketchType}
+ */
+public class HyperLogLogSketchTypeTests extends OpenSearchTestCase {
+
+    public void testWriteAndRead() throws IOException {
+        HyperLogLogSketchType sketchType = new HyperLogLogSketchType(HyperLogLogSketchType.STAR_TREE_PRECISION);
+        HyperLogLogSketch sketch = new HyperLogLogSketch(HyperLogLogSketchType.STAR_TREE_PRECISION);
+        int numValues = randomIntBetween(1, 10000);
+        for (int i = 0; i < numValues; i++) {
+            sketch.collect(randomLong());
+        }
+        // the sketch follows the other values of a star-tree document
+        int offset = randomIntBetween(0, 64);
+        byte[] bytes = new byte[offset + sketchType.getSizeInBytes()];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.nativeOrder());
+        buffer.position(offset);
+        sketchType.write(sketch, buffer);
+        assertEquals(bytes.length, buffer.position());
+
+        try (FSDirectory directory = FSDirectory.open(createTempDir("HyperLogLogSketchTypeTests"))) {
+            try (IndexOutput output = directory.createOutput("test_file", IOContext.DEFAULT)) {
+                output.writeBytes(bytes, bytes.length);
+            }
+            try (IndexInput input = directory.openInput("test_file", IOContext.DEFAULT)) {
+                RandomAccessInput randomAccessInput = input.randomAccessSlice(0, input.length());
+                assertEquals(sketch, sketchType.read(randomAccessInput, offset));
+            }
+        }
+    }
+}
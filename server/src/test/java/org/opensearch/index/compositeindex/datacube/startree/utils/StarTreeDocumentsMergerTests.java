@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.datacube.startree.utils;
+
+import org.opensearch.index.compositeindex.datacube.DimensionDataType;
+import org.opensearch.index.compositeindex.datacube.startree.StarTreeDocument;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+
+/**
+ * Unit tests for {@link StarTreeDocumentsMerger}
+ */
+public class StarTreeDocumentsMergerTests extends OpenSearchTestCase {
+
+    private static final BiFunction<StarTreeDocument, StarTreeDocument, StarTreeDocument> SUM_REDUCER = (aggregated, document) -> {
+        if (aggregated == null) {
+            return new StarTreeDocument(Arrays.copyOf(document.dimensions, document.dimensions.length), document.metrics.clone());
+        }
+        aggregated.metrics[0] = (Long) aggregated.metrics[0] + (Long) document.metrics[0];
+        return aggregated;
+    };
+
+    public void testMergeRandomSortedSources() {
+        int numDimensions = randomIntBetween(1, 4);
+        List<Comparator<Long>> comparators = new ArrayList<>();
+        for (int i = 0; i < numDimensions; i++) {
+            DimensionDataType dataType = randomFrom(DimensionDataType.values());
+            comparators.add(dataType::compare);
+        }
+        Comparator<Long[]> documentComparator = (a, b) -> StarTreeDocumentsMerger.compareDimensions(a, b, comparators);
+
+        int numSources = randomIntBetween(1, 6);
+        List<Iterator<StarTreeDocument>> sources = new ArrayList<>();
+        Map<Long[], Long> expected = new TreeMap<>(documentComparator);
+        for (int source = 0; source < numSources; source++) {
+            Map<Long[], Long> sourceDocuments = new TreeMap<>(documentComparator);
+            int numDocs = randomIntBetween(0, 50);
+            for (int doc = 0; doc < numDocs; doc++) {
+                Long[] dimensions = new Long[numDimensions];
+                for (int dim = 0; dim < numDimensions; dim++) {
+                    dimensions[dim] = randomBoolean() && randomBoolean() ? null : randomLongBetween(-3, 3);
+                }
+                long metric = randomLongBetween(0, 100);
+                sourceDocuments.merge(dimensions, metric, Long::sum);
+                expected.merge(dimensions, metric, Long::sum);
+            }
+            List<StarTreeDocument> sortedDocuments = new ArrayList<>();
+            for (Map.Entry<Long[], Long> entry : sourceDocuments.entrySet()) {
+                sortedDocuments.add(new StarTreeDocument(entry.getKey(), new Object[] { entry.getValue() }));
+            }
+            sources.add(sortedDocuments.iterator());
+        }
+
+        Iterator<StarTreeDocument> merged = StarTreeDocumentsMerger.merge(sources, comparators, SUM_REDUCER);
+        for (Map.Entry<Long[], Long> entry : expected.entrySet()) {
+            assertTrue(merged.hasNext());
+            StarTreeDocument document = merged.next();
+            assertArrayEquals(entry.getKey(), document.dimensions);
+            assertEquals(entry.getValue(), document.metrics[0]);
+        }
+        assertFalse(merged.hasNext());
+        expectThrows(NoSuchElementException.class, merged::next);
+    }
+
+    public void testMergeCollidingDocuments() {
+        List<Comparator<Long>> comparators = List.of(DimensionDataType.LONG::compare, DimensionDataType.LONG::compare);
+        List<Iterator<StarTreeDocument>> sources = List.of(
+            List.of(document(1L, 1L, 1), document(1L, 2L, 2), document(3L, null, 3)).iterator(),
+            List.of(document(1L, 2L, 10), document(2L, 1L, 20), document(3L, null, 30)).iterator(),
+            Collections.<StarTreeDocument>emptyIterator()
+        );
+
+        Iterator<StarTreeDocument> merged = StarTreeDocumentsMerger.merge(sources, comparators, SUM_REDUCER);
+        assertDocument(merged.next(), 1L, 1L, 1);
+        assertDocument(merged.next(), 1L, 2L, 12);
+        assertDocument(merged.next(), 2L, 1L, 20);
+        assertDocument(merged.next(), 3L, null, 33);
+        assertFalse(merged.hasNext());
+    }
+
+    public void testMergeNoSources() {
+        Iterator<StarTreeDocument> merged = StarTreeDocumentsMerger.merge(
+            Collections.emptyList(),
+            List.of(DimensionDataType.LONG::compare),
+            SUM_REDUCER
+        );
+        assertFalse(merged.hasNext());
+    }
+
+    private static StarTreeDocument document(Long dim1, Long dim2, long metric) {
+        return new StarTreeDocument(new Long[] { dim1, dim2 }, new Object[] { metric });
+    }
+
+    private static void assertDocument(StarTreeDocument document, Long dim1, Long dim2, long metric) {
+        assertArrayEquals(new Long[] { dim1, dim2 }, document.dimensions);
+        assertEquals(metric, document.metrics[0]);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.datacube.startree.utils;
+
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.store.RandomAccessInput;
+import org.opensearch.search.aggregations.metrics.TDigestState;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.tdunning.math.stats.Centroid;
+
+/**
+ * Unit tests for {@link TDigestSketchType}
+ */
+public class TDigestSketchTypeTests extends OpenSearchTestCase {
+
+    public void testEncodedMeansSortBeforeCounts() {
+        double mean1 = randomDoubleBetween(-1e12, 1e12, true);
+        double mean2 = mean1 + randomDoubleBetween(1, 1000, true);
+        long encoded1 = TDigestSketchType.encodeMean(mean1);
+        long encoded2 = TDigestSketchType.encodeMean(mean2);
+        long count1 = TDigestSketchType.encodeCount(0, randomIntBetween(1, Integer.MAX_VALUE));
+        long count2 = TDigestSketchType.encodeCount(1, randomIntBetween(1, Integer.MAX_VALUE));
+        assertTrue(encoded1 < encoded2);
+        assertTrue(encoded2 < count1);
+        assertTrue(TDigestSketchType.encodeMean(Double.POSITIVE_INFINITY) < count1);
+        assertTrue(count1 < count2);
+    }
+
+    public void testCentroidReaderKeepsFullPrecision() {
+        // means above 2^24 with a fraction cannot be represented as floats
+        double mean1 = (1 << 24) + 0.25;
+        double mean2 = 1e15 + 0.5;
+        List<Long> values = List.of(
+            TDigestSketchType.encodeMean(mean1),
+            TDigestSketchType.encodeMean(mean2),
+            TDigestSketchType.encodeCount(0, 3),
+            TDigestSketchType.encodeCount(1, 7)
+        );
+        TDigestSketchType.CentroidReader reader = new TDigestSketchType.CentroidReader();
+        TDigestState digest = new TDigestState(TDigestSketchType.STAR_TREE_COMPRESSION);
+        for (long value : values) {
+            reader.accept(digest, value);
+        }
+        List<Centroid> centroids = new ArrayList<>(digest.centroids());
+        assertEquals(2, centroids.size());
+        assertEquals(mean1, centroids.get(0).mean(), 0.0);
+        assertEquals(3, centroids.get(0).count());
+        assertEquals(mean2, centroids.get(1).mean(), 0.0);
+        assertEquals(7, centroids.get(1).count());
+    }
+
+    public void testForEachDocValue() {
+        TDigestSketchType sketchType = new TDigestSketchType(TDigestSketchType.STAR_TREE_COMPRESSION);
+        TDigestSketchType.CentroidReader reader = new TDigestSketchType.CentroidReader();
+        // the reader is shared by all the star-tree documents of a segment
+        int numDigests = randomIntBetween(1, 3);
+        for (int d = 0; d < numDigests; d++) {
+            TDigestState digest = randomDigest();
+            List<Long> values = new ArrayList<>();
+            sketchType.forEachDocValue(digest, values::add);
+            assertEquals(2 * digest.centroidCount(), values.size());
+            List<Long> sorted = new ArrayList<>(values);
+            Collections.sort(sorted);
+            // the star-tree stores sorted doc values, which keeps the order of the doc values of a digest
+            assertEquals(values, sorted);
+
+            TDigestState read = new TDigestState(TDigestSketchType.STAR_TREE_COMPRESSION);
+            for (long value : sorted) {
+                reader.accept(read, value);
+            }
+            assertSameDigest(digest, read);
+        }
+    }
+
+    public void testWriteAndRead() throws IOException {
+        TDigestSketchType sketchType = new TDigestSketchType(TDigestSketchType.STAR_TREE_COMPRESSION);
+        TDigestState digest = randomDigest();
+        byte[] bytes = new byte[sketchType.getSizeInBytes()];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.nativeOrder());
+        sketchType.write(digest, buffer);
+        assertEquals(sketchType.getSizeInBytes(), buffer.position());
+
+        try (FSDirectory directory = FSDirectory.open(createTempDir("TDigestSketchTypeTests"))) {
+            try (IndexOutput output = directory.createOutput("test_file", IOContext.DEFAULT)) {
+                output.writeBytes(bytes, bytes.length);
+            }
+            try (IndexInput input = directory.openInput("test_file", IOContext.DEFAULT)) {
+                RandomAccessInput randomAccessInput = input.randomAccessSlice(0, input.length());
+                TDigestState read = sketchType.read(randomAccessInput, 0);
+                assertSameDigest(digest, read);
+            }
+        }
+    }
+
+    /**
+     * Asserts the digest matches one rebuilt from the centroids of the original digest, as digests are rebuilt when they are
+     * read from the wire at query time.
+     */
+    private static void assertSameDigest(TDigestState digest, TDigestState read) {
+        TDigestState expected = new TDigestState(TDigestSketchType.STAR_TREE_COMPRESSION);
+        for (Centroid centroid : digest.centroids()) {
+            expected.add(centroid.mean(), centroid.count());
+        }
+        assertEquals(expected.size(), read.size());
+        assertEquals(expected.centroidCount(), read.centroidCount());
+        for (double q : new double[] { 0, 0.01, 0.5, 0.99, 1 }) {
+            assertEquals(expected.quantile(q), read.quantile(q), 0.0);
+        }
+    }
+
+    private static TDigestState randomDigest() {
+        TDigestState digest = new TDigestState(TDigestSketchType.STAR_TREE_COMPRESSION);
+        int numValues = randomIntBetween(1, 10000);
+        for (int i = 0; i < numValues; i++) {
+            digest.add(randomDoubleBetween(1e8, 1e9, true));
+        }
+        return digest;
+    }
+}
@@ -149,7 +149,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
         List<BytesRef> keyList = new ArrayList<>(keySet);
         ConcurrentHashMap<BytesRef, VersionValue> values = new ConcurrentHashMap<>();
         ConcurrentHashMap<BytesRef, DeleteVersionValue> deletes = new ConcurrentHashMap<>();
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = new LiveVersionMap(randomBoolean() ? 0 : randomIntBetween(1, 64));
         int numThreads = randomIntBetween(2, 5);
 
         Thread[] threads = new Thread[numThreads];
@@ -404,7 +404,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
     }
 
     public void testPruneTombstonesWhileLocked() throws InterruptedException, IOException {
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = new LiveVersionMap(randomBoolean() ? 0 : randomIntBetween(1, 64));
         BytesRef uid = uid("1");
 
         try (Releasable ignore = map.acquireLock(uid)) {
@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.SegmentCommitInfo;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.store.Directory;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.index.Index;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.merge.MergeStats;
+import org.opensearch.index.merge.MergedSegmentTransferTracker;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.indices.recovery.RecoverySettings;
+import org.opensearch.indices.replication.common.ReplicationType;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MergedSegmentWarmerTests extends OpenSearchTestCase {
+
+    private RecoverySettings recoverySettings;
+    private IndexShard indexShard;
+    private MergedSegmentTransferTracker tracker;
+    private MergedSegmentWarmer warmer;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        recoverySettings = mock(RecoverySettings.class);
+        indexShard = mock(IndexShard.class);
+        tracker = new MergedSegmentTransferTracker();
+        when(indexShard.shardId()).thenReturn(new ShardId(new Index("test", "uuid"), 0));
+        when(indexShard.indexSettings()).thenReturn(
+            MergedSegmentWarmerFactoryTests.createIndexSettings(
+                false,
+                Settings.builder().put(IndexMetadata.INDEX_REPLICATION_TYPE_SETTING.getKey(), ReplicationType.SEGMENT).build()
+            )
+        );
+        when(indexShard.mergedSegmentTransferTracker()).thenReturn(tracker);
+        warmer = new MergedSegmentWarmer(mock(TransportService.class), recoverySettings, mock(ClusterService.class), indexShard);
+    }
+
+    public void testSkipsSegmentsBelowMinSize() throws IOException {
+        when(recoverySettings.getMergedSegmentReplicationMinSegmentSize()).thenReturn(new ByteSizeValue(Long.MAX_VALUE));
+        try (Directory dir = newDirectory(); DirectoryReader reader = openSingleSegmentReader(dir)) {
+            warmer.warm(reader.leaves().get(0).reader());
+        }
+
+        verify(indexShard, never()).publishMergedSegment(any());
+        final MergeStats stats = stats();
+        assertEquals(1, stats.getTotalWarmSkippedCount());
+        assertEquals(0, stats.getTotalWarmInvocationsCount());
+        assertEquals(0, stats.getTotalBytesPublished().getBytes());
+    }
+
+    public void testPublishesSegment() throws IOException {
+        when(recoverySettings.getMergedSegmentReplicationMinSegmentSize()).thenReturn(new ByteSizeValue(0));
+        final long segmentSize;
+        try (Directory dir = newDirectory(); DirectoryReader reader = openSingleSegmentReader(dir)) {
+            final SegmentReader segmentReader = (SegmentReader) reader.leaves().get(0).reader();
+            segmentSize = segmentReader.getSegmentInfo().sizeInBytes();
+            warmer.warm(segmentReader);
+            verify(indexShard).publishMergedSegment(segmentReader.getSegmentInfo());
+        }
+
+        final MergeStats stats = stats();
+        assertEquals(1, stats.getTotalWarmInvocationsCount());
+        assertEquals(0, stats.getTotalWarmFailureCount());
+        assertEquals(0, stats.getTotalWarmSkippedCount());
+        assertEquals(0, stats.getOngoingWarms());
+        // counted once for the segment, not once per replica
+        assertEquals(segmentSize, stats.getTotalBytesPublished().getBytes());
+    }
+
+    public void testPublishFailureDoesNotFailMerge() throws IOException {
+        when(recoverySettings.getMergedSegmentReplicationMinSegmentSize()).thenReturn(new ByteSizeValue(0));
+        doAnswer(invocation -> {
+            assertEquals(1, stats().getOngoingWarms());
+            Thread.sleep(10);
+            throw new IOException("simulated publish failure");
+        }).when(indexShard).publishMergedSegment(any(SegmentCommitInfo.class));
+
+        try (Directory dir = newDirectory(); DirectoryReader reader = openSingleSegmentReader(dir)) {
+            warmer.warm(reader.leaves().get(0).reader());
+        }
+
+        final MergeStats stats = stats();
+        assertEquals(1, stats.getTotalWarmInvocationsCount());
+        assertEquals(1, stats.getTotalWarmFailureCount());
+        assertEquals(0, stats.getOngoingWarms());
+        assertThat(stats.getTotalWarmTime().millis(), greaterThan(0L));
+        assertEquals(0, stats.getTotalBytesPublished().getBytes());
+    }
+
+    private MergeStats stats() {
+        final MergeStats stats = new MergeStats();
+        tracker.addTo(stats);
+        return stats;
+    }
+
+    private static DirectoryReader openSingleSegmentReader(Directory dir) throws IOException {
+        try (IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig())) {
+            final Document doc = new Document();
+            doc.add(new StringField("id", "1", Field.Store.YES));
+            writer.addDocument(doc);
+            writer.commit();
+        }
+        final DirectoryReader reader = DirectoryReader.open(dir);
+        assertEquals(1, reader.leaves().size());
+        return reader;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.merge;
+
+import org.opensearch.Version;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+public class MergedSegmentTransferTrackerTests extends OpenSearchTestCase {
+
+    public void testAddToMergeStats() throws IOException {
+        final MergedSegmentTransferTracker tracker = new MergedSegmentTransferTracker();
+        tracker.incrementTotalWarmInvocationsCount();
+        tracker.incrementTotalWarmInvocationsCount();
+        tracker.incrementOngoingWarms();
+        tracker.addTotalWarmTimeMillis(100);
+        tracker.incrementTotalWarmFailureCount();
+        tracker.incrementTotalWarmSkippedCount();
+        tracker.addTotalBytesPublished(1024);
+        tracker.addTotalBytesReceived(2048);
+
+        final MergeStats mergeStats = new MergeStats();
+        tracker.addTo(mergeStats);
+        // accumulated across shards
+        final MergeStats total = new MergeStats();
+        total.add(mergeStats);
+        total.add(mergeStats);
+        assertEquals(4, total.getTotalWarmInvocationsCount());
+        assertEquals(2, total.getOngoingWarms());
+        assertEquals(200, total.getTotalWarmTime().millis());
+        assertEquals(2, total.getTotalWarmFailureCount());
+        assertEquals(2, total.getTotalWarmSkippedCount());
+        assertEquals(2048, total.getTotalBytesPublished().getBytes());
+        assertEquals(4096, total.getTotalBytesReceived().getBytes());
+
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            mergeStats.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                final MergeStats deserialized = new MergeStats(in);
+                assertEquals(2, deserialized.getTotalWarmInvocationsCount());
+                assertEquals(1, deserialized.getOngoingWarms());
+                assertEquals(100, deserialized.getTotalWarmTime().millis());
+                assertEquals(1, deserialized.getTotalWarmFailureCount());
+                assertEquals(1, deserialized.getTotalWarmSkippedCount());
+                assertEquals(1024, deserialized.getTotalBytesPublished().getBytes());
+                assertEquals(2048, deserialized.getTotalBytesReceived().getBytes());
+            }
+        }
+    }
+
+    public void testSerializationWithOlderVersion() throws IOException {
+        final MergedSegmentTransferTracker tracker = new MergedSegmentTransferTracker();
+        tracker.incrementTotalWarmInvocationsCount();
+        tracker.addTotalBytesPublished(1024);
+        final MergeStats mergeStats = new MergeStats();
+        mergeStats.addUnreferencedFileCleanUpStats(3);
+        tracker.addTo(mergeStats);
+
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.setVersion(Version.V_3_1_0);
+            mergeStats.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                in.setVersion(Version.V_3_1_0);
+                final MergeStats deserialized = new MergeStats(in);
+                assertEquals(3, deserialized.getUnreferencedFileCleanUpsPerformed());
+                assertEquals(0, deserialized.getTotalWarmInvocationsCount());
+                assertEquals(0, deserialized.getTotalBytesPublished().getBytes());
+            }
+        }
+    }
+}
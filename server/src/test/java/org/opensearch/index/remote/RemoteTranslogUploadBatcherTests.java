@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.remote;
+
+import org.opensearch.common.util.concurrent.BufferedAsyncIOProcessor;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class RemoteTranslogUploadBatcherTests extends OpenSearchTestCase {
+
+    public void testFlushesAllShardsWhenLimitIsReached() {
+        final RemoteTranslogUploadBatcher batcher = new RemoteTranslogUploadBatcher(() -> new ByteSizeValue(1, ByteSizeUnit.KB));
+        final BufferedAsyncIOProcessor<?> first = mock(BufferedAsyncIOProcessor.class);
+        final BufferedAsyncIOProcessor<?> second = mock(BufferedAsyncIOProcessor.class);
+        batcher.register(first);
+        batcher.register(second);
+
+        batcher.onBuffered(512);
+        batcher.maybeFlush();
+        verify(first, never()).flush();
+        verify(second, never()).flush();
+
+        batcher.onBuffered(512);
+        batcher.maybeFlush();
+        verify(first, times(1)).flush();
+        verify(second, times(1)).flush();
+        assertEquals(1, batcher.getFlushCount());
+        assertEquals(1024, batcher.getBufferedBytes());
+
+        // the shards are not flushed again until what they buffered was uploaded
+        batcher.onBuffered(512);
+        batcher.maybeFlush();
+        assertEquals(1, batcher.getFlushCount());
+        batcher.onUploaded(1536);
+        assertEquals(0, batcher.getBufferedBytes());
+
+        batcher.unregister(second);
+        batcher.onBuffered(1024);
+        batcher.maybeFlush();
+        verify(first, times(2)).flush();
+        verify(second, times(1)).flush();
+        assertEquals(2, batcher.getFlushCount());
+    }
+
+    public void testFlushesAgainWhileAboveLimit() {
+        final RemoteTranslogUploadBatcher batcher = new RemoteTranslogUploadBatcher(() -> new ByteSizeValue(1, ByteSizeUnit.KB));
+        final BufferedAsyncIOProcessor<?> processor = mock(BufferedAsyncIOProcessor.class);
+        batcher.register(processor);
+
+        batcher.onBuffered(2048);
+        batcher.maybeFlush();
+        verify(processor, times(1)).flush();
+
+        // an upload completed but the node is still above the limit, so the next write flushes again without crossing it
+        batcher.onUploaded(512);
+        batcher.onBuffered(512);
+        batcher.maybeFlush();
+        verify(processor, times(2)).flush();
+        batcher.onBuffered(512);
+        batcher.maybeFlush();
+        verify(processor, times(2)).flush();
+        assertEquals(2, batcher.getFlushCount());
+        assertEquals(2560, batcher.getBufferedBytes());
+    }
+
+    public void testNoFlushWhenLimitIsDisabled() {
+        final AtomicReference<ByteSizeValue> limit = new AtomicReference<>(ByteSizeValue.ZERO);
+        final RemoteTranslogUploadBatcher batcher = new RemoteTranslogUploadBatcher(limit::get);
+        final BufferedAsyncIOProcessor<?> processor = mock(BufferedAsyncIOProcessor.class);
+        batcher.register(processor);
+
+        batcher.onBuffered(1024 * 1024);
+        batcher.maybeFlush();
+        verify(processor, never()).flush();
+        assertEquals(0, batcher.getFlushCount());
+        batcher.onUploaded(1024 * 1024);
+
+        // the limit is dynamic
+        limit.set(new ByteSizeValue(1, ByteSizeUnit.MB));
+        batcher.onBuffered(1024 * 1024);
+        batcher.maybeFlush();
+        verify(processor, times(1)).flush();
+    }
+}
@@ -80,7 +80,9 @@ public class SearchStatsTests extends OpenSearchTestCase implements SearchReques
             .starTreeQueryCount(1)
             .starTreeQueryTimeInMillis(1)
             .starTreeQueryCurrent(1)
-            .starTreeQueryCurrent(1);
+            .starTreeQueryCurrent(1)
+            .starTreeNodeCacheHitCount(1)
+            .starTreeNodeCacheMissCount(1);
         groupStats2.put("group1", defaultStats.build());
         SearchStats searchStats1 = new SearchStats(defaultStats.build(), 0, groupStats1);
         SearchStats searchStats2 = new SearchStats(defaultStats.build(), 0, groupStats2);
@@ -143,6 +145,8 @@ public class SearchStatsTests extends OpenSearchTestCase implements SearchReques
         assertEquals(equalTo, stats.getStarTreeQueryCount());
         assertEquals(equalTo, stats.getStarTreeQueryTimeInMillis());
         assertEquals(equalTo, stats.getStarTreeQueryCurrent());
+        assertEquals(equalTo, stats.getStarTreeNodeCacheHitCount());
+        assertEquals(equalTo, stats.getStarTreeNodeCacheMissCount());
         assertEquals(equalTo, stats.getFetchCount());
         assertEquals(equalTo, stats.getFetchTimeInMillis());
         assertEquals(equalTo, stats.getFetchCurrent());
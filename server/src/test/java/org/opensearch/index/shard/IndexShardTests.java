@@ -2764,6 +2764,54 @@ public class IndexShardTests extends IndexShardTestCase {
         closeShards(indexShard);
     }
 
+    public void testGroupCommitSyncsBufferedLocationsAtOnce() throws Exception {
+        final Settings settings = Settings.builder()
+            .put(IndexSettings.INDEX_TRANSLOG_DURABILITY_SETTING.getKey(), Translog.Durability.REQUEST)
+            .put(IndexSettings.INDEX_TRANSLOG_GROUP_COMMIT_MAX_WINDOW_SETTING.getKey(), TimeValue.timeValueMillis(100))
+            .build();
+        final IndexShard shard = newStartedShard(true, settings);
+        final long syncsBefore = shard.translogStats().getSyncStats().getTotal();
+
+        // occupy the translog_sync threads, so that the locations are buffered until the processing of the first one runs
+        final int syncThreads = threadPool.info(ThreadPool.Names.TRANSLOG_SYNC).getMax();
+        final CountDownLatch blocked = new CountDownLatch(syncThreads);
+        final CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < syncThreads; i++) {
+            threadPool.executor(ThreadPool.Names.TRANSLOG_SYNC).execute(() -> {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+            });
+        }
+        blocked.await();
+
+        final int numDocs = randomIntBetween(2, 10);
+        final CountDownLatch synced = new CountDownLatch(numDocs);
+        final AtomicReference<Exception> failure = new AtomicReference<>();
+        for (int i = 0; i < numDocs; i++) {
+            final Translog.Location location = indexDoc(shard, "_doc", Integer.toString(i)).getTranslogLocation();
+            shard.sync(location, e -> {
+                if (e != null) {
+                    failure.set(e);
+                }
+                synced.countDown();
+            });
+        }
+        assertTrue(shard.isSyncNeeded());
+        assertEquals(numDocs, synced.getCount());
+
+        release.countDown();
+        assertTrue(synced.await(30, TimeUnit.SECONDS));
+        assertNull(failure.get());
+        assertFalse(shard.isSyncNeeded());
+        assertEquals(syncsBefore + 1, shard.translogStats().getSyncStats().getTotal());
+        assertEquals(numDocs, shard.translogStats().getSyncStats().getMaxBatchSize());
+        closeShards(shard);
+    }
+
     public void testRestoreShard() throws IOException {
         final IndexShard source = newStartedShard(true);
         IndexShard target = newStartedShard(true);
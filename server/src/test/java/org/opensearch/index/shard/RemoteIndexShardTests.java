@@ -18,14 +18,20 @@ import org.opensearch.cluster.SnapshotsInProgress;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.common.concurrent.GatedCloseable;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.BufferedAsyncIOProcessor;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.index.IndexSettings;
 import org.opensearch.index.engine.DocIdSeqNoAndSource;
 import org.opensearch.index.engine.Engine;
 import org.opensearch.index.engine.InternalEngine;
 import org.opensearch.index.engine.NRTReplicationEngineFactory;
+import org.opensearch.index.remote.RemoteTranslogUploadBatcher;
 import org.opensearch.index.snapshots.IndexShardSnapshotStatus;
 import org.opensearch.index.store.Store;
 import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.index.translog.Translog;
 import org.opensearch.indices.replication.CheckpointInfoResponse;
 import org.opensearch.indices.replication.GetSegmentFilesResponse;
 import org.opensearch.indices.replication.RemoteStoreReplicationSource;
@@ -57,6 +63,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
@@ -65,6 +72,7 @@ import static org.opensearch.index.engine.EngineTestCase.assertAtMostOneLuceneDo
 import static org.opensearch.index.shard.RemoteStoreRefreshListener.EXCLUDE_FILES;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
@@ -709,4 +717,68 @@ public class RemoteIndexShardTests extends SegmentReplicationIndexShardTests {
             .collect(Collectors.toSet());
         assertEquals("Expected a single segment file", 1, segmentsFileNames.size());
     }
+
+    public void testTranslogUploadBatcherCountsAllOperationsOfASync() throws Exception {
+        final Settings indexSettings = Settings.builder()
+            .put(settings)
+            // keep the syncs buffered until the end of the test
+            .put(IndexSettings.INDEX_REMOTE_TRANSLOG_BUFFER_INTERVAL_SETTING.getKey(), "10m")
+            .build();
+        try (ReplicationGroup shards = createGroup(0, indexSettings, indexMapping, new NRTReplicationEngineFactory(), createTempDir())) {
+            shards.startPrimary();
+            final IndexShard primary = shards.getPrimary();
+            final RemoteTranslogUploadBatcher batcher = translogUploadBatcher;
+            final long initialBufferedBytes = batcher.getBufferedBytes();
+            final CountDownLatch latch = new CountDownLatch(2);
+
+            final Translog.Location first = indexDoc(primary, "_doc", "0").getTranslogLocation();
+            primary.sync(first, e -> latch.countDown());
+            final long bufferedBytes = batcher.getBufferedBytes();
+            assertEquals(initialBufferedBytes + first.size, bufferedBytes);
+
+            // a bulk request only syncs the largest location of its operations
+            final int numOps = randomIntBetween(2, 10);
+            Translog.Location last = null;
+            for (int i = 1; i <= numOps; i++) {
+                last = indexDoc(primary, "_doc", Integer.toString(i)).getTranslogLocation();
+            }
+            assertEquals(first.generation, last.generation);
+            primary.sync(last, e -> latch.countDown());
+            final long bulkBytes = last.translogLocation + last.size - (first.translogLocation + first.size);
+            assertThat(bulkBytes, greaterThan((long) last.size));
+            assertEquals(bufferedBytes + bulkBytes, batcher.getBufferedBytes());
+
+            ((BufferedAsyncIOProcessor<?>) primary.getTranslogSyncProcessor()).flush();
+            latch.await();
+            assertEquals(initialBufferedBytes, batcher.getBufferedBytes());
+        }
+    }
+
+    public void testTranslogUploadBatcherUploadsOnceTheLimitIsReached() throws Exception {
+        final Settings indexSettings = Settings.builder()
+            .put(settings)
+            // without the batcher, the syncs would stay buffered until the end of the test
+            .put(IndexSettings.INDEX_REMOTE_TRANSLOG_BUFFER_INTERVAL_SETTING.getKey(), "10m")
+            .build();
+        translogUploadBatcher = new RemoteTranslogUploadBatcher(() -> new ByteSizeValue(1, ByteSizeUnit.KB));
+        try (ReplicationGroup shards = createGroup(0, indexSettings, indexMapping, new NRTReplicationEngineFactory(), createTempDir())) {
+            shards.startPrimary();
+            final IndexShard primary = shards.getPrimary();
+            final RemoteTranslogUploadBatcher batcher = translogUploadBatcher;
+
+            final List<CountDownLatch> synced = new ArrayList<>();
+            int id = 0;
+            while (batcher.getFlushCount() == 0) {
+                final CountDownLatch latch = new CountDownLatch(1);
+                primary.sync(indexDoc(primary, "_doc", Integer.toString(id++)).getTranslogLocation(), e -> latch.countDown());
+                synced.add(latch);
+            }
+            assertThat(id, greaterThan(1));
+            for (CountDownLatch latch : synced) {
+                assertTrue(latch.await(30, TimeUnit.SECONDS));
+            }
+            assertEquals(0, batcher.getBufferedBytes());
+            assertEquals(1, batcher.getFlushCount());
+        }
+    }
 }
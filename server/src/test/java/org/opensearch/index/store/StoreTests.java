@@ -405,6 +405,105 @@ public class StoreTests extends OpenSearchTestCase {
         IOUtils.close(store);
     }
 
+    public void testWrittenFileChecksums() throws IOException {
+        final ShardId shardId = new ShardId("index", "_na_", 1);
+        final IndexSettings remoteIndexSettings = IndexSettingsModule.newIndexSettings(
+            "index",
+            Settings.builder()
+                .put(IndexMetadata.SETTING_VERSION_CREATED, org.opensearch.Version.CURRENT)
+                .put(IndexMetadata.SETTING_REMOTE_STORE_ENABLED, true)
+                .build()
+        );
+        Store store = new Store(shardId, remoteIndexSettings, StoreTests.newDirectory(random()), new DummyShardLock(shardId));
+        IndexWriter writer = new IndexWriter(
+            store.directory(),
+            newIndexWriterConfig(random(), new MockAnalyzer(random())).setCodec(TestUtil.getDefaultCodec())
+        );
+        int docs = 1 + random().nextInt(100);
+        for (int i = 0; i < docs; i++) {
+            Document doc = new Document();
+            doc.add(new TextField("id", "" + i, random().nextBoolean() ? Field.Store.YES : Field.Store.NO));
+            doc.add(new TextField("body", TestUtil.randomRealisticUnicodeString(random()), Field.Store.YES));
+            writer.addDocument(doc);
+        }
+        writer.commit();
+        writer.close();
+
+        // the checksums stored in the footers are known without reading the files, including the renamed segments_N file
+        for (String file : store.directory().listAll()) {
+            if (file.equals(IndexWriter.WRITE_LOCK_NAME) || file.startsWith("extra")) {
+                continue;
+            }
+            try (IndexInput input = store.directory().openInput(file, IOContext.READONCE)) {
+                assertEquals(file, Long.toString(CodecUtil.retrieveChecksum(input)), store.getWrittenFileChecksum(file));
+            }
+        }
+
+        // a file without a codec footer
+        try (IndexOutput output = store.directory().createOutput("foo.bar", IOContext.DEFAULT)) {
+            output.writeBytes(new byte[32], 32);
+        }
+        assertNull(store.getWrittenFileChecksum("foo.bar"));
+
+        final String segmentsFile = store.readLastCommittedSegmentsInfo().getSegmentsFileName();
+        assertNotNull(store.getWrittenFileChecksum(segmentsFile));
+        store.directory().deleteFile(segmentsFile);
+        assertNull(store.getWrittenFileChecksum(segmentsFile));
+        assertDeleteContent(store, store.directory());
+        IOUtils.close(store);
+    }
+
+    public void testWrittenFileChecksumsNotCapturedWithoutRemoteStore() throws IOException {
+        final ShardId shardId = new ShardId("index", "_na_", 1);
+        Store store = new Store(shardId, INDEX_SETTINGS, StoreTests.newDirectory(random()), new DummyShardLock(shardId));
+        try (IndexOutput output = store.directory().createOutput("foo.bar", IOContext.DEFAULT)) {
+            output.writeInt(randomInt());
+            output.writeLong(randomLong());
+            CodecUtil.writeFooter(output);
+        }
+        assertNull(store.getWrittenFileChecksum("foo.bar"));
+        assertDeleteContent(store, store.directory());
+        IOUtils.close(store);
+    }
+
+    public void testWrittenFileChecksumsOfFixedSizeWrites() throws IOException {
+        final ShardId shardId = new ShardId("index", "_na_", 1);
+        final IndexSettings remoteIndexSettings = IndexSettingsModule.newIndexSettings(
+            "index",
+            Settings.builder()
+                .put(IndexMetadata.SETTING_VERSION_CREATED, org.opensearch.Version.CURRENT)
+                .put(IndexMetadata.SETTING_REMOTE_STORE_ENABLED, true)
+                .build()
+        );
+        Store store = new Store(shardId, remoteIndexSettings, StoreTests.newDirectory(random()), new DummyShardLock(shardId));
+        try (IndexOutput output = store.directory().createOutput("foo.bar", IOContext.DEFAULT)) {
+            CodecUtil.writeHeader(output, "foo", 0);
+            final int numValues = randomIntBetween(1, 10);
+            for (int i = 0; i < numValues; i++) {
+                output.writeShort((short) randomInt());
+                output.writeInt(randomInt());
+                output.writeLong(randomLong());
+            }
+            CodecUtil.writeFooter(output);
+        }
+        try (IndexInput input = store.directory().openInput("foo.bar", IOContext.READONCE)) {
+            assertEquals(Long.toString(CodecUtil.retrieveChecksum(input)), store.getWrittenFileChecksum("foo.bar"));
+        }
+        store.directory().deleteFile("foo.bar");
+        assertNull(store.getWrittenFileChecksum("foo.bar"));
+
+        // a footer followed by fixed size writes is not the footer of the file
+        try (IndexOutput output = store.directory().createOutput("foo.bar", IOContext.DEFAULT)) {
+            CodecUtil.writeHeader(output, "foo", 0);
+            CodecUtil.writeFooter(output);
+            output.writeLong(randomLong());
+            output.writeLong(randomLong());
+        }
+        assertNull(store.getWrittenFileChecksum("foo.bar"));
+        assertDeleteContent(store, store.directory());
+        IOUtils.close(store);
+    }
+
     public void testCheckIntegrity() throws IOException {
         Directory dir = newDirectory();
         long luceneFileLength = 0;
@@ -32,6 +32,8 @@ import org.junit.Before;
 import java.io.EOFException;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.any;
@@ -102,6 +104,56 @@ public class OnDemandBlockSnapshotIndexInputTests extends OpenSearchTestCase {
         );
     }
 
+    public void testReadAheadOnSequentialReads() throws IOException {
+        final int blockSizeShift = 12;
+        final int blockSize = 1 << blockSizeShift;
+        final int numBlocks = 10;
+        when(transferManager.fetchBlob(any())).thenAnswer(invocation -> new ByteArrayIndexInput("test", new byte[blockSize]));
+        final List<String> prefetched = new ArrayList<>();
+        doAnswer(invocation -> {
+            for (BlobFetchRequest blobFetchRequest : invocation.<List<BlobFetchRequest>>getArgument(0)) {
+                prefetched.add(blobFetchRequest.getFileName());
+            }
+            return null;
+        }).when(transferManager).prefetchBlobs(any());
+
+        try (
+            FSDirectory directory = new MMapDirectory(path, lockFactory);
+            IndexInput indexInput = new OnDemandBlockSnapshotIndexInput(
+                OnDemandBlockIndexInput.builder()
+                    .resourceDescription(RESOURCE_DESCRIPTION)
+                    .length((long) numBlocks * blockSize)
+                    .blockSizeShift(blockSizeShift)
+                    .maxReadAheadBlocks(4)
+                    .isClone(IS_CLONE),
+                new BlobStoreIndexShardSnapshot.FileInfo(
+                    FILE_NAME,
+                    new StoreFileMetadata(FILE_NAME, (long) numBlocks * blockSize, "", Version.LATEST),
+                    null
+                ),
+                directory,
+                transferManager
+            )
+        ) {
+            // random access does not prefetch
+            indexInput.seek(5L * blockSize);
+            indexInput.seek(0);
+            assertTrue(prefetched.isEmpty());
+
+            // the read-ahead window doubles with every block read sequentially: block 1 prefetches block 2, block 2
+            // prefetches blocks 3 and 4, block 3 prefetches blocks 5 to 7 and so on, and each block is prefetched once
+            final byte[] buffer = new byte[blockSize / 2];
+            for (int i = 0; i < 2 * numBlocks; i++) {
+                indexInput.readBytes(buffer, 0, buffer.length);
+            }
+            final List<String> expected = new ArrayList<>();
+            for (int blockId = 2; blockId < numBlocks; blockId++) {
+                expected.add(FILE_NAME + "_block_" + blockId);
+            }
+            assertEquals(expected, prefetched);
+        }
+    }
+
     private void verifyChunkedRepository(long blockSize, long repositoryChunkSize, long fileSize) throws IOException {
         when(transferManager.fetchBlob(any())).thenReturn(new ByteArrayIndexInput("test", new byte[(int) blockSize]));
         try (
@@ -8,6 +8,7 @@
 
 package org.opensearch.index.store.remote.filecache;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -131,7 +132,19 @@ public class AggregateFileCacheStatsTests extends OpenSearchTestCase {
                 stats.hitCount(),
                 stats.missCount(),
                 FileCacheStatsType.PINNED_FILE_STATS
-            )
+            ),
+            new FileCacheStats(
+                stats.activeUsage(),
+                fileCacheCapacity,
+                stats.usage(),
+                stats.pinnedUsage(),
+                stats.evictionWeight(),
+                stats.hitCount(),
+                stats.missCount(),
+                FileCacheStatsType.PRIORITY_FILE_STATS
+            ),
+            randomLongBetween(0, 100),
+            randomLongBetween(0, 100)
         );
     }
 
@@ -169,6 +182,8 @@ public class AggregateFileCacheStatsTests extends OpenSearchTestCase {
         assertEquals(original.getCacheHits(), deserialized.getCacheHits());
         assertEquals(original.getCacheMisses(), deserialized.getCacheMisses());
         assertEquals(original.getTimestamp(), deserialized.getTimestamp());
+        assertEquals(original.getPrefetchedBlobs(), deserialized.getPrefetchedBlobs());
+        assertEquals(original.getPrefetchHits(), deserialized.getPrefetchHits());
 
         XContentBuilder builder = XContentFactory.jsonBuilder();
         builder.startObject();
@@ -193,4 +208,21 @@ public class AggregateFileCacheStatsTests extends OpenSearchTestCase {
             }
         }
     }
+
+    public void testFileCacheStatsSerializationWithOlderVersion() throws IOException {
+        final AggregateFileCacheStats fileCacheStats = getMockFileCacheStats();
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.setVersion(Version.V_3_1_0);
+            fileCacheStats.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                in.setVersion(Version.V_3_1_0);
+                final AggregateFileCacheStats deserialized = new AggregateFileCacheStats(in);
+                assertEquals(fileCacheStats.getUsed(), deserialized.getUsed());
+                assertEquals(0, deserialized.getPriorityFileCacheStats().getUsed());
+                assertEquals(0, deserialized.getPriorityFileCacheStats().getHits());
+                assertEquals(0, deserialized.getPrefetchedBlobs());
+                assertEquals(0, deserialized.getPrefetchHits());
+            }
+        }
+    }
 }
@@ -386,6 +386,34 @@ public class FileCacheTests extends OpenSearchTestCase {
 
     }
 
+    public void testRecentHitRatio() {
+        FileCache fileCache = createFileCache(MEGA_BYTES);
+        final long window = FileCache.HIT_RATIO_WINDOW_NANOS;
+        final long start = System.nanoTime();
+        // no lookups so far
+        assertEquals(-1, fileCache.recentHitRatio(start + window), 0.0);
+
+        for (int i = 0; i < 4; i++) {
+            fileCache.put(createPath(Integer.toString(i)), new StubCachedIndexInput(8 * MEGA_BYTES));
+        }
+        fileCache.get(createPath("0"));
+        fileCache.get(createPath("1"));
+        fileCache.get(createPath("2"));
+        fileCache.get(createPath("-1"));
+        // the ratio is only updated once the window is over
+        assertEquals(-1, fileCache.recentHitRatio(start + window + window / 2), 0.0);
+        assertEquals(0.75, fileCache.recentHitRatio(start + 2 * window), 0.0);
+
+        // a window without lookups keeps the ratio of the last window with lookups
+        assertEquals(0.75, fileCache.recentHitRatio(start + 3 * window), 0.0);
+
+        // only the lookups of the last window count
+        fileCache.get(createPath("3"));
+        fileCache.get(createPath("-2"));
+        assertEquals(0.75, fileCache.recentHitRatio(start + 3 * window + window / 2), 0.0);
+        assertEquals(0.5, fileCache.recentHitRatio(start + 4 * window), 0.0);
+    }
+
     public void testCacheRestore() throws IOException {
         String indexName = "test-index";
         String shardId = "0";
@@ -398,6 +426,59 @@ public class FileCacheTests extends OpenSearchTestCase {
         assertEquals(0, fileCache.activeUsage());
     }
 
+    public void testJournalRestoresAccessOrder() throws IOException {
+        String indexName = "test-index";
+        String shardId = "0";
+        createFile(indexName, shardId, "a");
+        createFile(indexName, shardId, "b");
+        createFile(indexName, shardId, "c");
+        Path shardCachePath = path.resolve(NodeEnvironment.CACHE_FOLDER).resolve(indexName).resolve(shardId);
+        Path localStorePath = shardCachePath.resolve(RemoteSnapshotDirectoryFactory.LOCAL_STORE_LOCATION).toAbsolutePath();
+        Path journalFile = path.resolve(FileCache.JOURNAL_FILE_NAME);
+
+        // a single segment, so that the access order is global
+        FileCache fileCache = FileCacheFactory.createConcurrentLRUFileCache(30, 1, new NoopCircuitBreaker(CircuitBreaker.REQUEST));
+        fileCache.restoreFromDirectory(List.of(shardCachePath));
+        for (String name : List.of("b", "a", "c")) {
+            fileCache.incRef(localStorePath.resolve(name));
+            fileCache.decRef(localStorePath.resolve(name));
+        }
+        fileCache.writeJournal(journalFile);
+
+        // a restarted node restores the files in the order they are listed, and then their access order from the journal
+        FileCache restoredFileCache = FileCacheFactory.createConcurrentLRUFileCache(30, 1, new NoopCircuitBreaker(CircuitBreaker.REQUEST));
+        restoredFileCache.restoreFromDirectory(List.of(shardCachePath));
+        assertEquals(3, restoredFileCache.restoreAccessOrder(journalFile));
+        assertEquals(0, restoredFileCache.activeUsage());
+        // the journal is only replayed once, a later restart without a clean shutdown must not replay it again
+        assertFalse(Files.exists(journalFile));
+
+        // the least recently used file before the restart is evicted first
+        restoredFileCache.put(createPath("new"), new StubCachedIndexInput(9));
+        assertNull(restoredFileCache.getRef(localStorePath.resolve("b")));
+        assertNotNull(restoredFileCache.getRef(localStorePath.resolve("a")));
+        assertNotNull(restoredFileCache.getRef(localStorePath.resolve("c")));
+    }
+
+    public void testRestoreAccessOrderWithoutJournal() throws IOException {
+        FileCache fileCache = createFileCache(MEGA_BYTES);
+        assertEquals(0, fileCache.restoreAccessOrder(path.resolve(FileCache.JOURNAL_FILE_NAME)));
+    }
+
+    public void testRestoreAccessOrderFromCorruptedJournal() throws IOException {
+        FileCache fileCache = createFileCache(MEGA_BYTES);
+        fileCache.put(createPath("0"), new StubCachedIndexInput(8));
+        fileCache.decRef(createPath("0"));
+        Path journalFile = path.resolve(FileCache.JOURNAL_FILE_NAME);
+        fileCache.writeJournal(journalFile);
+
+        byte[] bytes = Files.readAllBytes(journalFile);
+        int position = randomIntBetween(0, bytes.length - 1);
+        bytes[position] = (byte) (bytes[position] ^ 0xff);
+        Files.write(journalFile, bytes);
+        expectThrows(IOException.class, () -> fileCache.restoreAccessOrder(journalFile));
+    }
+
     public void testCloseIndexInputReferences() throws IOException {
         FileCache fileCache = createFileCache(MEGA_BYTES);
         // Add some entries to cache
@@ -24,8 +24,11 @@ import org.hamcrest.MatcherAssert;
 import org.junit.After;
 import org.junit.Before;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -35,6 +38,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.mockito.Mockito.doReturn;
@@ -330,6 +334,119 @@ public abstract class TransferManagerTestCase extends OpenSearchTestCase {
         assertEquals(Optional.of(1), Optional.of(fileCache.getRef(blobFetchRequest.getFilePath())));
     }
 
+    public void testPrefetch() throws Exception {
+        List<BlobFetchRequest.BlobPart> blobParts = new ArrayList<>();
+        blobParts.add(new BlobFetchRequest.BlobPart("blob", 0, EIGHT_MB));
+        BlobFetchRequest blobFetchRequest = BlobFetchRequest.builder().fileName("file").directory(directory).blobParts(blobParts).build();
+
+        transferManager.prefetchBlob(blobFetchRequest);
+        // the download releases its reference once it completes
+        assertBusy(() -> assertEquals(Optional.of(0), Optional.of(fileCache.getRef(blobFetchRequest.getFilePath()))));
+        assertEquals(1, fileCache.fileCacheStats().getPrefetchedBlobs());
+        MatcherAssert.assertThat(fileCache.usage(), equalTo((long) EIGHT_MB));
+
+        // prefetching a cached blob is a no-op
+        transferManager.prefetchBlob(blobFetchRequest);
+        assertEquals(1, fileCache.fileCacheStats().getPrefetchedBlobs());
+        assertEquals(Optional.of(0), Optional.of(fileCache.getRef(blobFetchRequest.getFilePath())));
+
+        try (IndexInput i = transferManager.fetchBlob(blobFetchRequest)) {
+            assertIndexInputIsFunctional(i);
+        }
+        try (IndexInput i = transferManager.fetchBlob(blobFetchRequest)) {
+            assertIndexInputIsFunctional(i);
+        }
+        // the second read of the prefetched blob is a regular cache hit
+        assertEquals(1, fileCache.fileCacheStats().getPrefetchHits());
+    }
+
+    public void testCoalesceBlobParts() {
+        List<BlobFetchRequest.BlobPart> coalesced = TransferManager.coalesce(
+            List.of(
+                new BlobFetchRequest.BlobPart("a", 0, 10),
+                new BlobFetchRequest.BlobPart("a", 10, 5),
+                new BlobFetchRequest.BlobPart("b", 15, 5),
+                new BlobFetchRequest.BlobPart("b", 25, 5)
+            )
+        );
+        assertEquals(3, coalesced.size());
+        assertEquals("a", coalesced.get(0).getBlobName());
+        assertEquals(0, coalesced.get(0).getPosition());
+        assertEquals(15, coalesced.get(0).getLength());
+        assertEquals(15, coalesced.get(1).getPosition());
+        assertEquals(25, coalesced.get(2).getPosition());
+    }
+
+    public void testPrefetchCoalescesAdjacentBlobs() throws Exception {
+        final byte[] data = randomByteArrayOfLength(4096);
+        final List<String> reads = Collections.synchronizedList(new ArrayList<>());
+        final TransferManager coalescingTransferManager = new TransferManager((name, position, length) -> {
+            reads.add(name + "[" + position + ":" + length + "]");
+            return new ByteArrayInputStream(data, (int) position, (int) length);
+        }, fileCache, threadPool);
+
+        final List<BlobFetchRequest> blobFetchRequests = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            blobFetchRequests.add(
+                BlobFetchRequest.builder()
+                    .fileName("block_" + i)
+                    .directory(directory)
+                    .blobParts(List.of(new BlobFetchRequest.BlobPart("blob", i * 1024, 1024)))
+                    .build()
+            );
+        }
+        coalescingTransferManager.prefetchBlobs(blobFetchRequests);
+        assertBusy(() -> {
+            for (BlobFetchRequest blobFetchRequest : blobFetchRequests) {
+                assertEquals(Optional.of(0), Optional.of(fileCache.getRef(blobFetchRequest.getFilePath())));
+            }
+        });
+        // all blocks were downloaded with a single ranged read
+        assertEquals(List.of("blob[0:4096]"), reads);
+        assertEquals(4, fileCache.fileCacheStats().getPrefetchedBlobs());
+
+        for (int i = 0; i < 4; i++) {
+            try (IndexInput indexInput = coalescingTransferManager.fetchBlob(blobFetchRequests.get(i))) {
+                final byte[] block = new byte[1024];
+                indexInput.readBytes(block, 0, block.length);
+                assertArrayEquals(Arrays.copyOfRange(data, i * 1024, (i + 1) * 1024), block);
+            }
+        }
+        assertEquals(1, reads.size());
+        assertEquals(4, fileCache.fileCacheStats().getPrefetchHits());
+    }
+
+    public void testParallelDownloadOfLargeBlob() throws Exception {
+        final int length = (int) (2 * TransferManager.PARALLEL_DOWNLOAD_PART_SIZE);
+        final byte[] data = new byte[length];
+        data[0] = 1;
+        data[length / 2] = 2;
+        data[length - 1] = 3;
+        final List<String> reads = Collections.synchronizedList(new ArrayList<>());
+        final TransferManager parallelTransferManager = new TransferManager((name, position, readLength) -> {
+            reads.add(name + "[" + position + ":" + readLength + "]");
+            return new ByteArrayInputStream(data, (int) position, (int) readLength);
+        }, fileCache, threadPool);
+
+        BlobFetchRequest blobFetchRequest = BlobFetchRequest.builder()
+            .fileName("large-file")
+            .directory(directory)
+            .blobParts(List.of(new BlobFetchRequest.BlobPart("large-blob", 0, length)))
+            .build();
+        try (IndexInput indexInput = parallelTransferManager.fetchBlob(blobFetchRequest)) {
+            assertEquals(1, indexInput.readByte());
+            indexInput.seek(length / 2);
+            assertEquals(2, indexInput.readByte());
+            indexInput.seek(length - 1);
+            assertEquals(3, indexInput.readByte());
+        }
+        final long partSize = TransferManager.PARALLEL_DOWNLOAD_PART_SIZE;
+        MatcherAssert.assertThat(
+            reads,
+            containsInAnyOrder("large-blob[0:" + partSize + "]", "large-blob[" + partSize + ":" + partSize + "]")
+        );
+    }
+
     protected abstract void initializeTransferManager() throws IOException;
 
     protected abstract void mockExceptionWhileReading() throws IOException;
@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+import org.opensearch.index.store.remote.utils.cache.stats.AggregateRefCountedCacheStats;
+
+public class SegmentedLRUCacheTests extends RefCountedCacheTestCase {
+    public SegmentedLRUCacheTests() {
+        super(new LRUCache<>(CAPACITY, n -> {}, value -> value, true, key -> false));
+    }
+
+    public void testScanDoesNotEvictProtectedEntries() {
+        final LRUCache<String, Long> cache = new LRUCache<>(CAPACITY, n -> {}, value -> value, true, key -> false);
+        // accessed twice, so promoted to the protected segment
+        cache.put("hot", 20L);
+        cache.decRef("hot");
+        cache.get("hot");
+        cache.decRef("hot");
+
+        // a scan over many entries which are only accessed once
+        for (int i = 0; i < 50; i++) {
+            final String key = "scan-" + i;
+            cache.put(key, 10L);
+            cache.decRef(key);
+        }
+        assertNotNull(cache.get("hot"));
+        assertNull(cache.get("scan-0"));
+    }
+
+    public void testScanEvictsEntriesOfUnsegmentedCache() {
+        final LRUCache<String, Long> cache = new LRUCache<>(CAPACITY, n -> {}, value -> value);
+        cache.put("hot", 20L);
+        cache.decRef("hot");
+        cache.get("hot");
+        cache.decRef("hot");
+
+        for (int i = 0; i < 50; i++) {
+            final String key = "scan-" + i;
+            cache.put(key, 10L);
+            cache.decRef(key);
+        }
+        assertNull(cache.get("hot"));
+    }
+
+    public void testPriorityEntriesAreProtected() {
+        final LRUCache<String, Long> cache = new LRUCache<>(CAPACITY, n -> {}, value -> value, true, key -> key.startsWith("priority"));
+        cache.put("priority", 20L);
+        cache.decRef("priority");
+
+        for (int i = 0; i < 50; i++) {
+            final String key = "scan-" + i;
+            cache.put(key, 10L);
+            cache.decRef(key);
+        }
+        assertNotNull(cache.get("priority"));
+        cache.decRef("priority");
+
+        final AggregateRefCountedCacheStats stats = (AggregateRefCountedCacheStats) cache.stats();
+        assertEquals(1, stats.getPriorityFileCacheStats().hitCount());
+        assertEquals(20L, stats.getPriorityFileCacheStats().usage());
+        assertEquals(0L, stats.getPriorityFileCacheStats().evictionWeight());
+    }
+
+    public void testProtectedSegmentIsBounded() {
+        final LRUCache<String, Long> cache = new LRUCache<>(CAPACITY, n -> {}, value -> value, true, key -> false);
+        // promote more entries than the protected segment can hold
+        for (int i = 0; i < 6; i++) {
+            final String key = Integer.toString(i);
+            cache.put(key, 15L);
+            cache.decRef(key);
+            cache.get(key);
+            cache.decRef(key);
+        }
+        // the least recently used protected entry was demoted, and is evicted before the other protected entries
+        cache.put("new", 15L);
+        cache.decRef("new");
+        assertNull(cache.get("0"));
+        for (int i = 1; i < 6; i++) {
+            assertNotNull(cache.get(Integer.toString(i)));
+        }
+    }
+}
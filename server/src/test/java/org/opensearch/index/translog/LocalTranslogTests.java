@@ -529,6 +529,8 @@ public class LocalTranslogTests extends OpenSearchTestCase {
                         + 271
                         + ",\"earliest_last_modified_age\":"
                         + stats.getEarliestLastModifiedAge()
+                        + ",\"sync\":{\"total\":0,\"total_locations\":0,\"average_batch_size\":0.0,\"max_batch_size\":0,"
+                        + "\"total_time_in_millis\":0,\"max_time_in_millis\":0}"
                         + ",\"remote_store\":{\"upload\":{"
                         + "\"total_uploads\":{\"started\":0,\"failed\":0,\"succeeded\":0},"
                         + "\"total_upload_size\":{\"started_bytes\":0,\"failed_bytes\":0,\"succeeded_bytes\":0}"
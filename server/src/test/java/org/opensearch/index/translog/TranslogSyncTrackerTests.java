@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+public class TranslogSyncTrackerTests extends OpenSearchTestCase {
+
+    public void testEmptyStats() {
+        TranslogSyncStats stats = new TranslogSyncTracker().stats();
+        assertEquals(0, stats.getTotal());
+        assertEquals(0, stats.getTotalLocations());
+        assertEquals(0, stats.getMaxBatchSize());
+        assertEquals(0, stats.getTotalTimeInNanos());
+        assertEquals(0, stats.getMaxTimeInNanos());
+        assertEquals(0.0, stats.getAverageBatchSize(), 0.0);
+    }
+
+    public void testStats() throws IOException {
+        TranslogSyncTracker tracker = new TranslogSyncTracker();
+        tracker.onSync(1, 100);
+        tracker.onSync(7, 300);
+        tracker.onSync(4, 200);
+
+        TranslogSyncStats stats = tracker.stats();
+        assertEquals(3, stats.getTotal());
+        assertEquals(12, stats.getTotalLocations());
+        assertEquals(7, stats.getMaxBatchSize());
+        assertEquals(600, stats.getTotalTimeInNanos());
+        assertEquals(300, stats.getMaxTimeInNanos());
+        assertEquals(4.0, stats.getAverageBatchSize(), 0.0);
+
+        TranslogSyncStats other = new TranslogSyncStats(2, 20, 15, 100, 60);
+        stats.add(other);
+        assertEquals(5, stats.getTotal());
+        assertEquals(32, stats.getTotalLocations());
+        assertEquals(15, stats.getMaxBatchSize());
+        assertEquals(700, stats.getTotalTimeInNanos());
+        assertEquals(300, stats.getMaxTimeInNanos());
+
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            stats.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                assertEquals(stats, new TranslogSyncStats(in));
+            }
+        }
+    }
+
+    public void testGroupCommitWindowFollowsSyncLatency() {
+        TranslogSyncTracker tracker = new TranslogSyncTracker();
+        TimeValue maxWindow = TimeValue.timeValueMillis(10);
+        assertEquals(TimeValue.ZERO, tracker.groupCommitWindow(maxWindow));
+
+        for (int i = 0; i < 50; i++) {
+            tracker.onSync(randomIntBetween(1, 100), TimeValue.timeValueMillis(2).nanos());
+        }
+        TimeValue window = tracker.groupCommitWindow(maxWindow);
+        assertTrue(window.nanos() > TimeValue.timeValueMillis(1).nanos());
+        assertTrue(window.nanos() <= TimeValue.timeValueMillis(2).nanos());
+
+        // slow syncs never buffer locations for longer than the maximum window
+        for (int i = 0; i < 50; i++) {
+            tracker.onSync(randomIntBetween(1, 100), TimeValue.timeValueSeconds(1).nanos());
+        }
+        assertEquals(maxWindow, tracker.groupCommitWindow(maxWindow));
+    }
+}
@@ -71,6 +71,7 @@ import org.opensearch.index.engine.InternalEngineFactory;
 import org.opensearch.index.mapper.KeywordFieldMapper;
 import org.opensearch.index.mapper.Mapper;
 import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.shard.IllegalIndexShardStateException;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.IndexShardState;
@@ -80,6 +81,14 @@ import org.opensearch.indices.IndicesService.ShardDeletionCheckResult;
 import org.opensearch.plugins.EnginePlugin;
 import org.opensearch.plugins.MapperPlugin;
 import org.opensearch.plugins.Plugin;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.AggregatorFactory;
+import org.opensearch.search.aggregations.SearchContextAggregations;
+import org.opensearch.search.aggregations.bucket.sampler.SamplerAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.terms.SignificantTermsAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.terms.SignificantTextAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.MaxAggregationBuilder;
 import org.opensearch.search.internal.ContextIndexSearcher;
 import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.test.IndexSettingsModule;
@@ -684,6 +693,127 @@ public class IndicesServiceTests extends OpenSearchSingleNodeTestCase {
         }
     }
 
+    public void testCanCacheSizeNonzeroWithIndexSetting() {
+        // The index setting, when set, takes precedence over INDICES_REQUEST_CACHE_MAX_SIZE_TO_CACHE_SETTING.
+        int maxCacheableSize = 20;
+        Settings indexSettings = Settings.builder()
+            .put(IndicesRequestCache.INDEX_REQUEST_CACHE_MAX_SIZE_ALLOWED_IN_CACHE_SETTING.getKey(), maxCacheableSize)
+            .build();
+        final IndexService indexService = createIndex("test", indexSettings);
+        ShardSearchRequest request = mock(ShardSearchRequest.class);
+        when(request.requestCache()).thenReturn(null);
+
+        IndicesService indicesService = getIndicesService();
+        DelegatingCacheHelper cacheHelper = mock(DelegatingCacheHelper.class);
+        for (int clusterMaxCacheableSize : new int[] { 0, maxCacheableSize * 2 }) {
+            indicesService.setMaxSizeInRequestCache(clusterMaxCacheableSize);
+            Map<TestSearchContext, Boolean> expectedResultMap = Map.of(
+                getTestContext(indexService, 0),
+                true,
+                getTestContext(indexService, maxCacheableSize),
+                true,
+                getTestContext(indexService, maxCacheableSize + 5),
+                false
+            );
+            for (Map.Entry<TestSearchContext, Boolean> entry : expectedResultMap.entrySet()) {
+                TestSearchContext context = entry.getKey();
+                setupMocksForCanCache(context, cacheHelper);
+                assertEquals(entry.getValue(), indicesService.canCache(request, context));
+            }
+        }
+    }
+
+    public void testCanCacheSegmentAggregations() {
+        IndicesService indicesService = getIndicesService();
+        AggregatorFactories factories = mock(AggregatorFactories.class);
+        when(factories.hasNonGlobalAggregator()).thenReturn(true);
+        when(factories.allFactoriesSupportConcurrentSearch()).thenReturn(true);
+        when(factories.getFactories()).thenReturn(new AggregatorFactory[0]);
+        SearchContextAggregations aggregations = new SearchContextAggregations(factories, null);
+
+        final IndexService disabledIndexService = createIndex("disabled");
+        TestSearchContext context = getTestContext(disabledIndexService, 0);
+        context.aggregations(aggregations);
+        assertFalse(indicesService.canCacheSegmentAggregations(context));
+
+        final IndexService indexService = createIndex(
+            "enabled",
+            Settings.builder().put(SegmentAggregationResultCache.INDEX_CACHE_SEGMENT_AGGREGATIONS_ENABLED_SETTING.getKey(), true).build()
+        );
+        context = getTestContext(indexService, 0);
+        assertFalse(indicesService.canCacheSegmentAggregations(context));
+        context.aggregations(aggregations);
+        assertTrue(indicesService.canCacheSegmentAggregations(context));
+
+        // requests returning hits or whose aggregations depend on the other segments are not cached per segment
+        context = getTestContext(indexService, 10);
+        context.aggregations(aggregations);
+        assertFalse(indicesService.canCacheSegmentAggregations(context));
+        context = getTestContext(indexService, 0);
+        context.aggregations(aggregations);
+        context.terminateAfter(5);
+        assertFalse(indicesService.canCacheSegmentAggregations(context));
+        context = getTestContext(indexService, 0);
+        context.aggregations(aggregations);
+        context.minimumScore(1.0f);
+        assertFalse(indicesService.canCacheSegmentAggregations(context));
+
+        when(factories.hasNonGlobalAggregator()).thenReturn(false);
+        context = getTestContext(indexService, 0);
+        context.aggregations(aggregations);
+        assertFalse(indicesService.canCacheSegmentAggregations(context));
+    }
+
+    public void testCanCacheSegmentAggregationsRequiresConcurrentSearchSupport() throws IOException {
+        IndicesService indicesService = getIndicesService();
+        final IndexService indexService = createIndex(
+            "enabled",
+            Settings.builder().put(SegmentAggregationResultCache.INDEX_CACHE_SEGMENT_AGGREGATIONS_ENABLED_SETTING.getKey(), true).build()
+        );
+        TestSearchContext context = getTestContext(indexService, 0);
+        QueryShardContext queryShardContext = indexService.newQueryShardContext(0, null, () -> 0L, null);
+
+        // the results of a sampler depend on the documents sampled across the whole shard
+        AggregatorFactories.Builder builder = new AggregatorFactories.Builder().addAggregator(
+            new SamplerAggregationBuilder("sampler").subAggregation(new MaxAggregationBuilder("max").field("field"))
+        );
+        context.aggregations(new SearchContextAggregations(builder.build(queryShardContext, null), null));
+        assertFalse(indicesService.canCacheSegmentAggregations(context));
+
+        builder = new AggregatorFactories.Builder().addAggregator(new MaxAggregationBuilder("max").field("field"));
+        context = getTestContext(indexService, 0);
+        context.aggregations(new SearchContextAggregations(builder.build(queryShardContext, null), null));
+        assertTrue(indicesService.canCacheSegmentAggregations(context));
+    }
+
+    public void testCanCacheSegmentAggregationsRejectsSignificanceAggregations() throws IOException {
+        IndicesService indicesService = getIndicesService();
+        final IndexService indexService = createIndex(
+            "enabled",
+            Settings.builder().put(SegmentAggregationResultCache.INDEX_CACHE_SEGMENT_AGGREGATIONS_ENABLED_SETTING.getKey(), true).build()
+        );
+        TestSearchContext context = getTestContext(indexService, 0);
+        QueryShardContext queryShardContext = indexService.newQueryShardContext(0, null, () -> 0L, null);
+
+        // the significance of a term depends on the statistics of the whole shard
+        AggregatorFactories.Builder builder = new AggregatorFactories.Builder().addAggregator(
+            new TermsAggregationBuilder("terms").field("field")
+                .subAggregation(new SignificantTermsAggregationBuilder("significant").field("field"))
+        );
+        context.aggregations(new SearchContextAggregations(builder.build(queryShardContext, null), null));
+        assertFalse(indicesService.canCacheSegmentAggregations(context));
+
+        builder = new AggregatorFactories.Builder().addAggregator(new SignificantTextAggregationBuilder("significant", "field"));
+        context = getTestContext(indexService, 0);
+        context.aggregations(new SearchContextAggregations(builder.build(queryShardContext, null), null));
+        assertFalse(indicesService.canCacheSegmentAggregations(context));
+
+        builder = new AggregatorFactories.Builder().addAggregator(new TermsAggregationBuilder("terms").field("field"));
+        context = getTestContext(indexService, 0);
+        context.aggregations(new SearchContextAggregations(builder.build(queryShardContext, null), null));
+        assertTrue(indicesService.canCacheSegmentAggregations(context));
+    }
+
     private void setupMocksForCanCache(TestSearchContext context, IndexReader.CacheHelper cacheHelper) {
         ContextIndexSearcher searcher = mock(ContextIndexSearcher.class);
         context.setSearcher(searcher);
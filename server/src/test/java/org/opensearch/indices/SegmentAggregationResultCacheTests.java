@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Collections;
+
+public class SegmentAggregationResultCacheTests extends OpenSearchTestCase {
+
+    public void testInvalidatesOnlyTheResultsOfClosedSegments() throws Exception {
+        final SegmentAggregationResultCache cache = new SegmentAggregationResultCache(
+            Settings.EMPTY,
+            new NamedWriteableRegistry(Collections.emptyList())
+        );
+        final BytesReference firstRequest = new BytesArray("first");
+        final BytesReference secondRequest = new BytesArray("second");
+        final ShardId shardId = new ShardId("index", "_na_", 0);
+
+        final Directory firstDir = newDirectory();
+        final Directory secondDir = newDirectory();
+        final IndexWriter firstWriter = new IndexWriter(firstDir, newIndexWriterConfig());
+        final IndexWriter secondWriter = new IndexWriter(secondDir, newIndexWriterConfig());
+        firstWriter.addDocument(new Document());
+        secondWriter.addDocument(new Document());
+        final DirectoryReader firstReader = DirectoryReader.open(firstWriter);
+        final DirectoryReader secondReader = DirectoryReader.open(secondWriter);
+        final LeafReaderContext firstLeaf = firstReader.leaves().get(0);
+        final LeafReaderContext secondLeaf = secondReader.leaves().get(0);
+
+        assertNull(cache.get(shardId, firstLeaf, firstRequest));
+        cache.put(shardId, firstLeaf, firstRequest, InternalAggregations.EMPTY);
+        cache.put(shardId, firstLeaf, secondRequest, InternalAggregations.EMPTY);
+        cache.put(shardId, secondLeaf, firstRequest, InternalAggregations.EMPTY);
+        assertEquals(3, cache.count());
+        assertNotNull(cache.get(shardId, firstLeaf, firstRequest));
+        assertNull(cache.get(shardId, secondLeaf, secondRequest));
+
+        firstReader.close();
+        firstWriter.close();
+        assertEquals(1, cache.count());
+        assertNotNull(cache.get(shardId, secondLeaf, firstRequest));
+
+        IOUtils.close(secondReader, secondWriter, firstDir, secondDir);
+        assertEquals(0, cache.count());
+        cache.close();
+    }
+
+    public void testClearsOnlyTheResultsOfTheShard() throws Exception {
+        final SegmentAggregationResultCache cache = new SegmentAggregationResultCache(
+            Settings.EMPTY,
+            new NamedWriteableRegistry(Collections.emptyList())
+        );
+        final BytesReference request = new BytesArray("request");
+        final ShardId firstShard = new ShardId("index", "_na_", 0);
+        final ShardId secondShard = new ShardId("index", "_na_", 1);
+
+        final Directory dir = newDirectory();
+        final IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig());
+        writer.addDocument(new Document());
+        final DirectoryReader reader = DirectoryReader.open(writer);
+        final LeafReaderContext leaf = reader.leaves().get(0);
+
+        cache.put(firstShard, leaf, request, InternalAggregations.EMPTY);
+        cache.put(secondShard, leaf, request, InternalAggregations.EMPTY);
+        assertNotNull(cache.get(firstShard, leaf, request));
+        assertEquals(2, cache.count());
+        assertEquals(1, cache.stats().getHitCount());
+        assertTrue(cache.stats().getMemorySizeInBytes() > 0);
+
+        cache.clear(firstShard);
+        assertEquals(1, cache.count());
+        assertNull(cache.get(firstShard, leaf, request));
+        assertNotNull(cache.get(secondShard, leaf, request));
+        assertEquals(1, cache.stats().getMissCount());
+
+        IOUtils.close(reader, writer, dir);
+        assertEquals(0, cache.count());
+        cache.close();
+    }
+}
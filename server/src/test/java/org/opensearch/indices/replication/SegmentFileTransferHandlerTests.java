@@ -25,6 +25,7 @@ import org.opensearch.indices.recovery.MultiChunkTransfer;
 import org.junit.Assert;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.function.IntSupplier;
@@ -124,6 +125,52 @@ public class SegmentFileTransferHandlerTests extends IndexShardTestCase {
         IOUtils.close(transfer);
     }
 
+    public void testSendFiles_fromOffset() throws IOException, InterruptedException {
+        final StoreFileMetadata file = filesToSend[0];
+        final long offset = randomLongBetween(1, file.length() - 1);
+        final CountDownLatch countDownLatch = new CountDownLatch(1);
+        final FileChunkWriter chunkWriter = spy(new FileChunkWriter() {
+            @Override
+            public void writeFileChunk(
+                StoreFileMetadata fileMetadata,
+                long position,
+                BytesReference content,
+                boolean lastChunk,
+                int totalTranslogOps,
+                ActionListener<Void> listener
+            ) {
+                assertTrue(file.isSame(fileMetadata));
+                assertEquals(offset, position);
+                assertEquals(file.length() - offset, content.length());
+                assertTrue(lastChunk);
+                countDownLatch.countDown();
+            }
+        });
+
+        SegmentFileTransferHandler handler = new SegmentFileTransferHandler(
+            shard,
+            targetNode,
+            chunkWriter,
+            logger,
+            shard.getThreadPool(),
+            cancellableThreads,
+            fileChunkSizeInBytes,
+            maxConcurrentFileChunks
+        );
+        final MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk> transfer = handler.createTransfer(
+            shard.store(),
+            filesToSend,
+            Map.of(file.name(), offset),
+            translogOps,
+            mock(ActionListener.class)
+        );
+
+        transfer.start();
+        assertTrue(countDownLatch.await(5, TimeUnit.SECONDS));
+        verify(chunkWriter, times(1)).writeFileChunk(any(), anyLong(), any(), anyBoolean(), anyInt(), any());
+        IOUtils.close(transfer);
+    }
+
     public void testSendFiles_cancelThreads_beforeStart() throws IOException, InterruptedException {
         final FileChunkWriter chunkWriter = spy(new FileChunkWriter() {
             @Override
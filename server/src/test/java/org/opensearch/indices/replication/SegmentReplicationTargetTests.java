@@ -8,6 +8,7 @@
 
 package org.opensearch.indices.replication;
 
+import org.apache.lucene.codecs.CodecUtil;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.StringField;
@@ -21,14 +22,18 @@ import org.apache.lucene.index.Term;
 import org.apache.lucene.store.ByteBuffersDataOutput;
 import org.apache.lucene.store.ByteBuffersIndexOutput;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.tests.analysis.MockAnalyzer;
 import org.apache.lucene.tests.util.TestUtil;
 import org.apache.lucene.util.Version;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.OpenSearchCorruptionException;
 import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.lucene.store.ByteArrayIndexInput;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.engine.NRTReplicationEngineFactory;
@@ -489,6 +494,138 @@ public class SegmentReplicationTargetTests extends IndexShardTestCase {
         }, mock(BiConsumer.class));
     }
 
+    public void testResumesPartiallyCopiedFileAfterFailure() throws IOException {
+        final String fileName = "_100.cfe";
+        final ByteBuffersDataOutput fileBuffer = new ByteBuffersDataOutput();
+        try (ByteBuffersIndexOutput indexOutput = new ByteBuffersIndexOutput(fileBuffer, fileName, fileName)) {
+            CodecUtil.writeHeader(indexOutput, "test", 0);
+            final byte[] content = randomByteArrayOfLength(randomIntBetween(100, 1000));
+            indexOutput.writeBytes(content, content.length);
+            CodecUtil.writeFooter(indexOutput);
+        }
+        final byte[] bytes = fileBuffer.toArrayCopy();
+        final long checksum = CodecUtil.retrieveChecksum(new ByteArrayIndexInput(fileName, bytes));
+        final StoreFileMetadata file = new StoreFileMetadata(fileName, bytes.length, Store.digestToString(checksum), Version.LATEST);
+        final int copiedBytes = randomIntBetween(1, bytes.length - 1);
+        final RetainedSegmentFiles retainedFiles = new RetainedSegmentFiles(spyIndexShard.store());
+
+        // the first round copies the leading bytes of the file and fails
+        SegmentReplicationSource failingSource = new TestReplicationSource() {
+            @Override
+            public void getCheckpointMetadata(
+                long replicationId,
+                ReplicationCheckpoint checkpoint,
+                ActionListener<CheckpointInfoResponse> listener
+            ) {
+                listener.onResponse(new CheckpointInfoResponse(checkpoint, Map.of(fileName, file), buffer.toArrayCopy()));
+            }
+
+            @Override
+            public void getSegmentFiles(
+                long replicationId,
+                ReplicationCheckpoint checkpoint,
+                List<StoreFileMetadata> filesToFetch,
+                IndexShard indexShard,
+                BiConsumer<String, Long> fileProgressTracker,
+                ActionListener<GetSegmentFilesResponse> listener
+            ) {
+                segrepTarget.writeFileChunk(file, 0, new BytesArray(bytes, 0, copiedBytes), false, 0, mock(ActionListener.class));
+                listener.onFailure(new IOException("dummy failure"));
+            }
+        };
+        segrepTarget = new SegmentReplicationTarget(
+            spyIndexShard,
+            repCheckpoint,
+            failingSource,
+            mock(SegmentReplicationTargetService.SegmentReplicationListener.class),
+            retainedFiles
+        );
+        segrepTarget.startReplication(new ActionListener<Void>() {
+            @Override
+            public void onResponse(Void replicationResponse) {
+                Assert.fail();
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                segrepTarget.fail(new ReplicationFailedException(e), false);
+            }
+        }, mock(BiConsumer.class));
+        assertEquals(1, retainedFiles.size());
+
+        // the next round only fetches the remaining bytes of the file
+        SegmentReplicationSource resumingSource = new TestReplicationSource() {
+            @Override
+            public void getCheckpointMetadata(
+                long replicationId,
+                ReplicationCheckpoint checkpoint,
+                ActionListener<CheckpointInfoResponse> listener
+            ) {
+                listener.onResponse(new CheckpointInfoResponse(checkpoint, Map.of(fileName, file), buffer.toArrayCopy()));
+            }
+
+            @Override
+            public void getSegmentFiles(
+                long replicationId,
+                ReplicationCheckpoint checkpoint,
+                List<StoreFileMetadata> filesToFetch,
+                IndexShard indexShard,
+                BiConsumer<String, Long> fileProgressTracker,
+                ActionListener<GetSegmentFilesResponse> listener
+            ) {
+                Assert.fail("expected the files to be fetched from offsets");
+            }
+
+            @Override
+            public void getSegmentFiles(
+                long replicationId,
+                ReplicationCheckpoint checkpoint,
+                List<StoreFileMetadata> filesToFetch,
+                Map<String, Long> fileOffsets,
+                IndexShard indexShard,
+                BiConsumer<String, Long> fileProgressTracker,
+                ActionListener<GetSegmentFilesResponse> listener
+            ) {
+                assertEquals(List.of(file), filesToFetch);
+                assertEquals(Map.of(fileName, (long) copiedBytes), fileOffsets);
+                final BytesArray remaining = new BytesArray(bytes, copiedBytes, bytes.length - copiedBytes);
+                segrepTarget.writeFileChunk(file, copiedBytes, remaining, true, 0, mock(ActionListener.class));
+                listener.onResponse(new GetSegmentFilesResponse(filesToFetch));
+            }
+
+            @Override
+            public boolean supportsFileOffsets() {
+                return true;
+            }
+        };
+        segrepTarget = new SegmentReplicationTarget(
+            spyIndexShard,
+            repCheckpoint,
+            resumingSource,
+            mock(SegmentReplicationTargetService.SegmentReplicationListener.class),
+            retainedFiles
+        );
+        segrepTarget.startReplication(new ActionListener<Void>() {
+            @Override
+            public void onResponse(Void replicationResponse) {
+                try (IndexInput indexInput = spyIndexShard.store().directory().openInput(fileName, IOContext.READONCE)) {
+                    assertEquals(bytes.length, indexInput.length());
+                    assertEquals(checksum, CodecUtil.checksumEntireFile(indexInput));
+                } catch (IOException ex) {
+                    throw new AssertionError(ex);
+                }
+                segrepTarget.markAsDone();
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                logger.error("Unexpected onFailure", e);
+                Assert.fail();
+            }
+        }, mock(BiConsumer.class));
+        assertEquals(0, retainedFiles.size());
+    }
+
     /**
      * Generates a list of Store.MetadataSnapshot with two elements where second snapshot has extra files due to delete
      * operation. A list of snapshots is returned so that identical files have same checksum.
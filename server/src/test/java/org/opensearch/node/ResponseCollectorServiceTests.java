@@ -32,14 +32,17 @@
 
 package org.opensearch.node;
 
+import org.opensearch.Version;
 import org.opensearch.cluster.ClusterChangedEvent;
 import org.opensearch.cluster.ClusterName;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.transport.TransportAddress;
 import org.opensearch.test.ClusterServiceUtils;
 import org.opensearch.test.OpenSearchTestCase;
@@ -48,11 +51,13 @@ import org.opensearch.threadpool.ThreadPool;
 import org.junit.After;
 import org.junit.Before;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
 
 public class ResponseCollectorServiceTests extends OpenSearchTestCase {
 
@@ -141,6 +146,79 @@ public class ResponseCollectorServiceTests extends OpenSearchTestCase {
         }
     }
 
+    public void testLoadAwareRanking() {
+        collector.addNodeStatistics("warm", 1, 100_000_000, 10_000_000, 0.5, 1.0);
+        collector.addNodeStatistics("cold", 1, 100_000_000, 10_000_000, 0.5, 0.0);
+        Map<String, ResponseCollectorService.ComputedNodeStats> nodeStats = collector.getAllNodeStatistics();
+        assertThat(nodeStats.get("warm").searcherUtilization, equalTo(0.5));
+        assertThat(nodeStats.get("cold").cacheHitRatio, equalTo(0.0));
+        // the C3 ranking ignores the index searcher pool and the file cache
+        assertThat(nodeStats.get("warm").rank(1), equalTo(nodeStats.get("cold").rank(1)));
+
+        String rankingKey = ResponseCollectorService.ADAPTIVE_SELECTION_RANKING_SETTING.getKey();
+        clusterService.getClusterSettings().applySettings(Settings.builder().put(rankingKey, "load_aware").build());
+        nodeStats = collector.getAllNodeStatistics();
+        assertThat(nodeStats.get("warm").rank(1), lessThan(nodeStats.get("cold").rank(1)));
+
+        // slices waiting for the threads of the index searcher pool rank the node lower
+        collector.addNodeStatistics("busy", 1, 100_000_000, 10_000_000, 4.0, 1.0);
+        nodeStats = collector.getAllNodeStatistics();
+        assertThat(nodeStats.get("warm").rank(1), lessThan(nodeStats.get("busy").rank(1)));
+
+        // nodes which do not report the new statistics keep them unknown
+        collector.addNodeStatistics("old", 1, 100_000_000, 10_000_000);
+        nodeStats = collector.getAllNodeStatistics();
+        assertThat(nodeStats.get("old").searcherUtilization, equalTo(-1.0));
+        assertThat(nodeStats.get("old").cacheHitRatio, equalTo(-1.0));
+    }
+
+    public void testComputedNodeStatsSerialization() throws IOException {
+        ResponseCollectorService.ComputedNodeStats stats = new ResponseCollectorService.ComputedNodeStats(
+            "node",
+            1,
+            randomIntBetween(0, 100),
+            randomDoubleBetween(1, 100_000_000, true),
+            randomDoubleBetween(1, 10_000_000, true),
+            randomDoubleBetween(0, 4, true),
+            randomDoubleBetween(0, 1, true),
+            ResponseCollectorService.Ranking.LOAD_AWARE
+        );
+
+        ResponseCollectorService.ComputedNodeStats deserialized = copy(stats, Version.V_3_2_0);
+        assertThat(deserialized.nodeId, equalTo(stats.nodeId));
+        assertThat(deserialized.queueSize, equalTo(stats.queueSize));
+        assertThat(deserialized.searcherUtilization, equalTo(stats.searcherUtilization));
+        assertThat(deserialized.cacheHitRatio, equalTo(stats.cacheHitRatio));
+        // the ranking is serialized too, so the copy ranks the node the same way
+        assertThat(deserialized.rank(1), equalTo(stats.rank(1)));
+
+        // older nodes don't know about the load signals and the ranking, and rank with the C3 formula
+        deserialized = copy(stats, Version.V_3_1_0);
+        assertThat(deserialized.responseTime, equalTo(stats.responseTime));
+        assertThat(deserialized.searcherUtilization, equalTo(-1.0));
+        assertThat(deserialized.cacheHitRatio, equalTo(-1.0));
+        ResponseCollectorService.ComputedNodeStats c3Stats = new ResponseCollectorService.ComputedNodeStats(
+            stats.nodeId,
+            1,
+            stats.queueSize,
+            stats.responseTime,
+            stats.serviceTime
+        );
+        assertThat(deserialized.rank(1), equalTo(c3Stats.rank(1)));
+    }
+
+    private static ResponseCollectorService.ComputedNodeStats copy(ResponseCollectorService.ComputedNodeStats stats, Version version)
+        throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.setVersion(version);
+            stats.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                in.setVersion(version);
+                return new ResponseCollectorService.ComputedNodeStats(in);
+            }
+        }
+    }
+
     public void testNodeRemoval() throws Exception {
         collector.addNodeStatistics("node1", randomIntBetween(1, 100), randomIntBetween(1, 100), randomIntBetween(1, 100));
         collector.addNodeStatistics("node2", randomIntBetween(1, 100), randomIntBetween(1, 100), randomIntBetween(1, 100));
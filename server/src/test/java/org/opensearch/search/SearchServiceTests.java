@@ -85,6 +85,7 @@ import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.index.search.stats.SearchStats;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.SearchOperationListener;
+import org.opensearch.index.store.remote.filecache.FileCache;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.settings.InternalOrPrivateSettingsPlugin;
 import org.opensearch.plugins.Plugin;
@@ -114,6 +115,7 @@ import org.opensearch.search.sort.FieldSortBuilder;
 import org.opensearch.search.sort.MinAndMax;
 import org.opensearch.search.sort.SortOrder;
 import org.opensearch.search.suggest.SuggestBuilder;
+import org.opensearch.test.IndexSettingsModule;
 import org.opensearch.test.OpenSearchSingleNodeTestCase;
 import org.opensearch.threadpool.ThreadPool;
 import org.junit.Before;
@@ -1318,6 +1320,55 @@ public class SearchServiceTests extends OpenSearchSingleNodeTestCase {
         service.freeReaderContext(queryResult.getContextId());
     }
 
+    public void testQueryPhaseReportsLoadSignals() throws Exception {
+        createIndex("index");
+        client().prepareIndex("index").setId("1").setSource("field", "value").setRefreshPolicy(IMMEDIATE).get();
+
+        SearchService service = getInstanceFromNode(SearchService.class);
+        IndicesService indicesService = getInstanceFromNode(IndicesService.class);
+        IndexShard indexShard = indicesService.indexServiceSafe(resolveIndex("index")).getShard(0);
+
+        SearchRequest searchRequest = new SearchRequest().allowPartialSearchResults(true).scroll(new Scroll(TimeValue.timeValueMinutes(1)));
+        ShardSearchRequest shardSearchRequest = new ShardSearchRequest(
+            OriginalIndices.NONE,
+            searchRequest,
+            indexShard.shardId(),
+            1,
+            new AliasFilter(null, Strings.EMPTY_ARRAY),
+            1.0f,
+            -1,
+            null,
+            null
+        );
+
+        PlainActionFuture<SearchPhaseResult> queryFuture = new PlainActionFuture<>();
+        SearchShardTask task = new SearchShardTask(123L, "", "", "", null, Collections.emptyMap());
+        service.executeQueryPhase(shardSearchRequest, randomBoolean(), task, queryFuture);
+        SearchPhaseResult searchPhaseResult = queryFuture.get();
+        QuerySearchResult queryResult = searchPhaseResult.queryResult();
+
+        assertTrue(queryResult.searcherUtilization() >= 0);
+        // the index is not read through the file cache
+        assertEquals(-1, queryResult.fileCacheHitRatio(), 0.0);
+
+        service.freeReaderContext(searchPhaseResult.getContextId());
+    }
+
+    public void testFileCacheHitRatio() {
+        FileCache fileCache = mock(FileCache.class);
+        when(fileCache.recentHitRatio()).thenReturn(0.8);
+        IndexSettings warmIndexSettings = IndexSettingsModule.newIndexSettings(
+            "index",
+            Settings.builder().put(IndexModule.IS_WARM_INDEX_SETTING.getKey(), true).build()
+        );
+        IndexSettings hotIndexSettings = IndexSettingsModule.newIndexSettings("index", Settings.EMPTY);
+
+        assertEquals(0.8, SearchService.fileCacheHitRatio(fileCache, warmIndexSettings), 0.0);
+        // only the shards which read through the file cache report its hit ratio
+        assertEquals(-1, SearchService.fileCacheHitRatio(fileCache, hotIndexSettings), 0.0);
+        assertEquals(-1, SearchService.fileCacheHitRatio(null, warmIndexSettings), 0.0);
+    }
+
     public void testExecuteFetchPhaseWithoutProfiler() throws Exception {
         createIndex("index");
         client().prepareIndex("index").setId("1").setSource("field", "value").setRefreshPolicy(IMMEDIATE).get();
@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.opensearch.search.aggregations.metrics.AbstractHyperLogLog.MAX_PRECISION;
+import static org.opensearch.search.aggregations.metrics.AbstractHyperLogLog.MIN_PRECISION;
+
+public class HyperLogLogSketchTests extends OpenSearchTestCase {
+
+    public void testEncodeDecode() {
+        final int precision = randomIntBetween(MIN_PRECISION, MAX_PRECISION);
+        final int register = randomIntBetween(0, (1 << precision) - 1);
+        final int runLen = randomIntBetween(1, 64 - precision + 1);
+        final long encoded = HyperLogLogSketch.encode(precision, register, runLen);
+        assertEquals(precision, HyperLogLogSketch.decodePrecision(encoded));
+        assertEquals(register, HyperLogLogSketch.decodeRegister(encoded));
+        assertEquals(runLen, HyperLogLogSketch.decodeRunLen(encoded));
+    }
+
+    public void testCollectMatchesHyperLogLog() {
+        final int precision = randomIntBetween(MIN_PRECISION, MAX_PRECISION);
+        final HyperLogLogSketch sketch = new HyperLogLogSketch(precision);
+        final int numValues = randomIntBetween(1, 10000);
+        for (int i = 0; i < numValues; i++) {
+            final long hash = randomLong();
+            sketch.collect(hash);
+            final int register = Math.toIntExact(AbstractHyperLogLog.index(hash, precision));
+            assertTrue(sketch.runLens()[register] >= AbstractHyperLogLog.runLen(hash, precision));
+        }
+    }
+
+    public void testFoldIntoLowerPrecision() {
+        final int highPrecision = randomIntBetween(MIN_PRECISION, MAX_PRECISION);
+        final int lowPrecision = randomIntBetween(MIN_PRECISION, highPrecision);
+        final HyperLogLogSketch high = new HyperLogLogSketch(highPrecision);
+        final HyperLogLogSketch expected = new HyperLogLogSketch(lowPrecision);
+        final int numValues = randomIntBetween(1, 10000);
+        for (int i = 0; i < numValues; i++) {
+            final long hash = randomBoolean() ? randomLong() : randomLong() & randomFrom(0xFFFFFFFFL, ~0xFFFFFFFFL, 0L);
+            high.collect(hash);
+            expected.collect(hash);
+        }
+        final HyperLogLogSketch folded = new HyperLogLogSketch(lowPrecision);
+        high.forEachEncoded(folded::collectEncoded);
+        assertEquals(expected, folded);
+    }
+
+    public void testMergeEncodedMatchesDirectCollection() {
+        final int highPrecision = randomIntBetween(MIN_PRECISION, MAX_PRECISION);
+        final int lowPrecision = randomIntBetween(MIN_PRECISION, highPrecision);
+        final long bucket = randomIntBetween(0, 5);
+        final HyperLogLogSketch sketch = new HyperLogLogSketch(highPrecision);
+        try (
+            HyperLogLogPlusPlus direct = new HyperLogLogPlusPlus(lowPrecision, BigArrays.NON_RECYCLING_INSTANCE, 1);
+            HyperLogLogPlusPlus merged = new HyperLogLogPlusPlus(lowPrecision, BigArrays.NON_RECYCLING_INSTANCE, 1)
+        ) {
+            final int numValues = randomIntBetween(1, 10000);
+            for (int i = 0; i < numValues; i++) {
+                final long hash = HyperLogLogSketch.hash(randomLong());
+                sketch.collect(hash);
+                direct.collect(bucket, hash);
+            }
+            sketch.forEachEncoded(encoded -> HyperLogLogSketch.mergeEncoded(merged, bucket, encoded));
+            // sketches are always merged as registers, so the direct counter must not use linear counting either
+            if (direct.getAlgorithm(bucket) == AbstractHyperLogLogPlusPlus.LINEAR_COUNTING) {
+                direct.upgradeToHll(bucket);
+            }
+            assertEquals(runLens(direct, bucket), runLens(merged, bucket));
+            assertEquals(direct.cardinality(bucket), merged.cardinality(bucket));
+        }
+    }
+
+    public void testMergeRejectsDifferentPrecisions() {
+        final int precision = randomIntBetween(MIN_PRECISION, MAX_PRECISION - 1);
+        final HyperLogLogSketch sketch = new HyperLogLogSketch(precision);
+        expectThrows(IllegalArgumentException.class, () -> sketch.merge(new HyperLogLogSketch(precision + 1)));
+    }
+
+    public void testCannotFoldIntoHigherPrecision() {
+        final int precision = randomIntBetween(MIN_PRECISION, MAX_PRECISION - 1);
+        final HyperLogLogSketch sketch = new HyperLogLogSketch(precision + 1);
+        final long encoded = HyperLogLogSketch.encode(precision, 0, 1);
+        expectThrows(IllegalArgumentException.class, () -> sketch.collectEncoded(encoded));
+    }
+
+    public void testCopy() {
+        final HyperLogLogSketch sketch = new HyperLogLogSketch(randomIntBetween(MIN_PRECISION, MAX_PRECISION));
+        sketch.collect(randomLong());
+        final HyperLogLogSketch copy = sketch.copy();
+        assertEquals(sketch, copy);
+        copy.collect(randomLong());
+        assertNotSame(sketch.runLens(), copy.runLens());
+    }
+
+    private static List<Byte> runLens(HyperLogLogPlusPlus counts, long bucket) {
+        final List<Byte> runLens = new ArrayList<>();
+        final AbstractHyperLogLog.RunLenIterator iterator = counts.getHyperLogLog(bucket);
+        while (iterator.next()) {
+            runLens.add(iterator.value());
+        }
+        return runLens;
+    }
+}
@@ -38,6 +38,7 @@ import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.IntPoint;
 import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.FilterDirectoryReader;
 import org.apache.lucene.index.IndexWriter;
@@ -50,6 +51,7 @@ import org.apache.lucene.index.Term;
 import org.apache.lucene.index.TermsEnum;
 import org.apache.lucene.search.BoostQuery;
 import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.ConstantScoreWeight;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.IndexSearcher;
@@ -62,6 +64,8 @@ import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.ScorerSupplier;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopScoreDocCollectorManager;
+import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.util.Accountable;
@@ -94,11 +98,13 @@ import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.opensearch.search.internal.ContextIndexSearcher.intersectScorerAndBitSet;
 import static org.opensearch.search.internal.ExitableDirectoryReader.ExitableLeafReader;
@@ -107,6 +113,7 @@ import static org.opensearch.search.internal.ExitableDirectoryReader.ExitableTer
 import static org.opensearch.search.internal.IndexReaderUtils.getLeaves;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -430,6 +437,202 @@ public class ContextIndexSearcherTests extends OpenSearchTestCase {
         }
     }
 
+    public void testSearchWithIntraSegmentPartitions() throws Exception {
+        final int numDocs = 1000;
+        try (
+            final Directory directory = newDirectory();
+            IndexWriter iw = new IndexWriter(
+                directory,
+                new IndexWriterConfig(new StandardAnalyzer()).setMergePolicy(NoMergePolicy.INSTANCE)
+            )
+        ) {
+            int groupOneDocs = 0;
+            for (int i = 0; i < numDocs; i++) {
+                Document document = new Document();
+                document.add(new StringField("group", "g" + (i % 3), Field.Store.NO));
+                document.add(new TextField("body", "foo ".repeat(i % 7 + 1) + "bar", Field.Store.NO));
+                iw.addDocument(document);
+                if (i % 3 == 1) {
+                    groupOneDocs++;
+                }
+            }
+            iw.commit();
+            final ExecutorService executor = Executors.newFixedThreadPool(4);
+            try (DirectoryReader directoryReader = DirectoryReader.open(directory)) {
+                assertEquals(1, directoryReader.leaves().size());
+                ContextIndexSearcher sequentialSearcher = newSearcher(directoryReader, null, newSearchContext(0, 0));
+                ContextIndexSearcher partitionedSearcher = newSearcher(directoryReader, executor, newSearchContext(4, 100));
+
+                // the single segment is split into partitions which are searched by different slices
+                IndexSearcher.LeafSlice[] slices = partitionedSearcher.getSlices();
+                assertEquals(4, slices.length);
+                for (IndexSearcher.LeafSlice slice : slices) {
+                    assertEquals(1, slice.partitions.length);
+                    assertThat(slice.partitions[0].maxDocId - slice.partitions[0].minDocId, lessThan(numDocs));
+                }
+
+                // the count of the weight covers the entire segment, so it must not be used for a partition
+                for (Query query : List.of(new TermQuery(new Term("group", "g1")), new MatchAllDocsQuery())) {
+                    assertEquals(sequentialSearcher.count(query), partitionedSearcher.count(query));
+                }
+                assertEquals(groupOneDocs, partitionedSearcher.count(new TermQuery(new Term("group", "g1"))));
+                assertEquals(numDocs, partitionedSearcher.count(new MatchAllDocsQuery()));
+
+                // track_total_hits: true
+                Query query = new TermQuery(new Term("body", "foo"));
+                TopDocs expected = sequentialSearcher.search(query, new TopScoreDocCollectorManager(10, null, Integer.MAX_VALUE));
+                TopDocs actual = partitionedSearcher.search(query, new TopScoreDocCollectorManager(10, null, Integer.MAX_VALUE));
+                assertEquals(new TotalHits(numDocs, TotalHits.Relation.EQUAL_TO), expected.totalHits);
+                assertEquals(expected.totalHits, actual.totalHits);
+                assertEquals(expected.scoreDocs.length, actual.scoreDocs.length);
+                for (int i = 0; i < expected.scoreDocs.length; i++) {
+                    assertEquals(expected.scoreDocs[i].doc, actual.scoreDocs[i].doc);
+                    assertEquals(expected.scoreDocs[i].score, actual.scoreDocs[i].score, 0f);
+                }
+            } finally {
+                terminate(executor);
+            }
+        }
+    }
+
+    public void testCostBasedSlices() throws Exception {
+        try (
+            final Directory directory = newDirectory();
+            IndexWriter iw = new IndexWriter(
+                directory,
+                new IndexWriterConfig(new StandardAnalyzer()).setMergePolicy(NoMergePolicy.INSTANCE)
+            )
+        ) {
+            // four segments of the same size, only the first one matches the query
+            for (int segment = 0; segment < 4; segment++) {
+                for (int i = 0; i < 100; i++) {
+                    Document document = new Document();
+                    document.add(new StringField("group", segment == 0 ? "hot" : "cold", Field.Store.NO));
+                    iw.addDocument(document);
+                }
+                iw.commit();
+            }
+            try (DirectoryReader directoryReader = DirectoryReader.open(directory)) {
+                SearchContext searchContext = newSearchContext(2, 0);
+                when(searchContext.shouldUseCostBasedSlicing()).thenReturn(true);
+                ContextIndexSearcher searcher = newSearcher(directoryReader, mock(ExecutorService.class), searchContext);
+                List<LeafReaderContext> leaves = searcher.getIndexReader().leaves();
+                assertEquals(4, leaves.size());
+
+                // the cost of the scorers of the query puts the matching segment into a slice of its own
+                when(searchContext.query()).thenReturn(new TermQuery(new Term("group", "hot")));
+                assertSlicedAlone(searcher.slices(leaves), 0);
+
+                // a leaf whose scorers can't be created is assumed to match all its documents
+                when(searchContext.query()).thenReturn(new CostEstimationFailureQuery(false));
+                assertSlicedAlone(searcher.slices(leaves), 0);
+
+                // without a query or a weight the leaves are sliced by document count
+                when(searchContext.query()).thenReturn(null);
+                assertSlicePartitionCounts(searcher.slices(leaves), 2, 2);
+                when(searchContext.query()).thenReturn(new CostEstimationFailureQuery(true));
+                assertSlicePartitionCounts(searcher.slices(leaves), 2, 2);
+            }
+        }
+    }
+
+    private static void assertSlicedAlone(IndexSearcher.LeafSlice[] slices, int leafOrd) {
+        assertSlicePartitionCounts(slices, 1, 3);
+        for (IndexSearcher.LeafSlice slice : slices) {
+            if (slice.partitions.length == 1) {
+                assertEquals(leafOrd, slice.partitions[0].ctx.ord);
+            }
+        }
+    }
+
+    private static void assertSlicePartitionCounts(IndexSearcher.LeafSlice[] slices, int... expectedCounts) {
+        int[] counts = new int[slices.length];
+        for (int i = 0; i < slices.length; i++) {
+            counts[i] = slices[i].partitions.length;
+        }
+        Arrays.sort(counts);
+        assertArrayEquals(expectedCounts, counts);
+    }
+
+    /**
+     * Query whose weight can't be created, or which matches nothing but fails to create the scorers of the first leaf.
+     */
+    private static class CostEstimationFailureQuery extends Query {
+
+        private final boolean failToCreateWeight;
+
+        CostEstimationFailureQuery(boolean failToCreateWeight) {
+            this.failToCreateWeight = failToCreateWeight;
+        }
+
+        @Override
+        public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) throws IOException {
+            if (failToCreateWeight) {
+                throw new IOException("simulated failure to create the weight");
+            }
+            return new ConstantScoreWeight(this, boost) {
+                @Override
+                public ScorerSupplier scorerSupplier(LeafReaderContext context) throws IOException {
+                    if (context.ord == 0) {
+                        throw new IOException("simulated failure to create the scorers");
+                    }
+                    return null;
+                }
+
+                @Override
+                public boolean isCacheable(LeafReaderContext ctx) {
+                    return false;
+                }
+            };
+        }
+
+        @Override
+        public String toString(String field) {
+            return "CostEstimationFailureQuery(failToCreateWeight=" + failToCreateWeight + ")";
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return sameClassAs(obj) && failToCreateWeight == ((CostEstimationFailureQuery) obj).failToCreateWeight;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * classHash() + Boolean.hashCode(failToCreateWeight);
+        }
+
+        @Override
+        public void visit(QueryVisitor visitor) {
+            visitor.visitLeaf(this);
+        }
+    }
+
+    private static SearchContext newSearchContext(int targetMaxSliceCount, int minPartitionSize) {
+        SearchContext searchContext = mock(SearchContext.class);
+        IndexShard indexShard = mock(IndexShard.class);
+        when(searchContext.indexShard()).thenReturn(indexShard);
+        when(indexShard.getSearchOperationListener()).thenReturn(new SearchOperationListener() {
+        });
+        when(searchContext.bucketCollectorProcessor()).thenReturn(SearchContext.NO_OP_BUCKET_COLLECTOR_PROCESSOR);
+        when(searchContext.shouldUseConcurrentSearch()).thenReturn(targetMaxSliceCount > 0);
+        when(searchContext.getTargetMaxSliceCount()).thenReturn(targetMaxSliceCount);
+        when(searchContext.getIntraSegmentMinPartitionSize()).thenReturn(minPartitionSize);
+        return searchContext;
+    }
+
+    private static ContextIndexSearcher newSearcher(DirectoryReader reader, ExecutorService executor, SearchContext searchContext)
+        throws IOException {
+        return new ContextIndexSearcher(
+            reader,
+            IndexSearcher.getDefaultSimilarity(),
+            IndexSearcher.getDefaultQueryCache(),
+            IndexSearcher.getDefaultQueryCachingPolicy(),
+            true,
+            executor,
+            searchContext
+        );
+    }
+
     private SparseFixedBitSet query(LeafReaderContext leaf, String field, String value) throws IOException {
         SparseFixedBitSet sparseFixedBitSet = new SparseFixedBitSet(leaf.reader().maxDoc());
         TermsEnum tenum = leaf.reader().terms(field).iterator();
@@ -19,10 +19,13 @@ import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.FixedBitSet;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.ToLongFunction;
 
 import static org.opensearch.search.internal.IndexReaderUtils.getLeaves;
 
@@ -124,4 +127,117 @@ public class MaxTargetSliceSupplierTests extends OpenSearchTestCase {
             }
         }
     }
+
+    public void testPartitionsLargeSegment() throws Exception {
+        try (
+            final Directory directory = newDirectory();
+            final IndexWriter iw = new IndexWriter(
+                directory,
+                new IndexWriterConfig(new StandardAnalyzer()).setMergePolicy(NoMergePolicy.INSTANCE)
+            )
+        ) {
+            indexDocs(iw, 90);
+            indexDocs(iw, 10);
+
+            try (DirectoryReader directoryReader = DirectoryReader.open(directory)) {
+                List<LeafReaderContext> leaves = directoryReader.leaves();
+                assertEquals(2, leaves.size());
+
+                // without a partition size segments are never split
+                assertEquals(2, MaxTargetSliceSupplier.getSlices(leaves, 4, 0).length);
+
+                IndexSearcher.LeafSlice[] slices = MaxTargetSliceSupplier.getSlices(leaves, 4, 10);
+                assertEquals(4, slices.length);
+                assertPartitionsCoverLeaves(leaves, slices);
+                for (IndexSearcher.LeafSlice slice : slices) {
+                    assertTrue(slice.getMaxDocs() >= 10);
+                }
+
+                // partitions are never smaller than the partition size
+                slices = MaxTargetSliceSupplier.getSlices(leaves, 4, 40);
+                assertEquals(2, slices.length);
+                assertPartitionsCoverLeaves(leaves, slices);
+                for (IndexSearcher.LeafSlice slice : slices) {
+                    assertTrue(slice.getMaxDocs() >= 40);
+                }
+            }
+        }
+    }
+
+    public void testCostBasedGroup() throws Exception {
+        try (
+            final Directory directory = newDirectory();
+            final IndexWriter iw = new IndexWriter(
+                directory,
+                new IndexWriterConfig(new StandardAnalyzer()).setMergePolicy(NoMergePolicy.INSTANCE)
+            )
+        ) {
+            indexDocs(iw, 90);
+            indexDocs(iw, 5);
+            indexDocs(iw, 5);
+
+            try (DirectoryReader directoryReader = DirectoryReader.open(directory)) {
+                List<LeafReaderContext> leaves = directoryReader.leaves();
+                assertEquals(3, leaves.size());
+                // the query barely matches in the largest segment, so the small segments are the costly ones
+                final ToLongFunction<LeafReaderContext> leafCost = leaf -> leaf.reader().maxDoc() > 10 ? 1 : 100;
+
+                // by document count the small segments share a slice
+                IndexSearcher.LeafSlice[] slices = MaxTargetSliceSupplier.getSlices(leaves, 2);
+                assertEquals(2, slices.length);
+                assertEquals(1, slices[0].partitions.length);
+                assertEquals(90, slices[0].getMaxDocs());
+
+                // by cost the small segments go to different slices
+                slices = MaxTargetSliceSupplier.getSlices(leaves, 2, 0, leafCost);
+                assertEquals(2, slices.length);
+                for (IndexSearcher.LeafSlice slice : slices) {
+                    assertEquals(1, Arrays.stream(slice.partitions).filter(p -> p.ctx.reader().maxDoc() == 5).count());
+                }
+
+                // cheap segments are not split into partitions, however large they are
+                slices = MaxTargetSliceSupplier.getSlices(leaves, 4, 10, leafCost);
+                assertEquals(3, slices.length);
+                assertPartitionsCoverLeaves(leaves, slices);
+                for (IndexSearcher.LeafSlice slice : slices) {
+                    assertEquals(1, slice.partitions.length);
+                }
+            }
+        }
+    }
+
+    public void testNegativePartitionSize() throws Exception {
+        assertThrows(IllegalArgumentException.class, () -> MaxTargetSliceSupplier.getSlices(getLeaves(2), 2, randomIntBetween(-3, -1)));
+    }
+
+    private static void indexDocs(IndexWriter iw, int count) throws Exception {
+        for (int i = 0; i < count; ++i) {
+            Document document = new Document();
+            document.add(new StringField("field1", "value", Field.Store.NO));
+            iw.addDocument(document);
+        }
+        iw.commit();
+    }
+
+    private static void assertPartitionsCoverLeaves(List<LeafReaderContext> leaves, IndexSearcher.LeafSlice[] slices) {
+        for (LeafReaderContext leaf : leaves) {
+            final FixedBitSet docs = new FixedBitSet(leaf.reader().maxDoc());
+            for (IndexSearcher.LeafSlice slice : slices) {
+                int partitionsOfLeaf = 0;
+                for (IndexSearcher.LeafReaderContextPartition partition : slice.partitions) {
+                    if (partition.ctx != leaf) {
+                        continue;
+                    }
+                    partitionsOfLeaf++;
+                    final int maxDocId = Math.min(partition.maxDocId, leaf.reader().maxDoc());
+                    for (int doc = partition.minDocId; doc < maxDocId; ++doc) {
+                        assertFalse("doc [" + doc + "] is in several partitions", docs.getAndSet(doc));
+                    }
+                }
+                // a slice never searches a segment twice
+                assertTrue(partitionsOfLeaf <= 1);
+            }
+            assertEquals(leaf.reader().maxDoc(), docs.cardinality());
+        }
+    }
 }
@@ -56,6 +56,7 @@ import org.opensearch.index.query.RandomQueryBuilder;
 import org.opensearch.indices.InvalidAliasNameException;
 import org.opensearch.search.AbstractSearchTestCase;
 import org.opensearch.search.SearchSortValuesAndFormatsTests;
+import org.opensearch.test.VersionUtils;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -83,6 +84,23 @@ public class ShardSearchRequestTests extends AbstractSearchTestCase {
         assertEquals(shardSearchTransportRequest, deserializedRequest);
     }
 
+    public void testFetchWhileQueryingSerialization() throws Exception {
+        ShardSearchRequest request = new ShardSearchRequest(new ShardId("index", "_na_", 0), randomNonNegativeLong(), AliasFilter.EMPTY);
+        assertFalse(request.fetchWhileQuerying());
+        request.fetchWhileQuerying(true);
+        assertTrue(new ShardSearchRequest(request).fetchWhileQuerying());
+
+        ShardSearchRequest deserializedRequest = copyWriteable(request, namedWriteableRegistry, ShardSearchRequest::new, Version.V_3_2_0);
+        assertTrue(deserializedRequest.fetchWhileQuerying());
+
+        // nodes before 3.2.0 do not know the flag and keep the regular query then fetch flow
+        Version oldVersion = VersionUtils.randomVersionBetween(random(), Version.V_3_0_0, VersionUtils.getPreviousVersion(Version.V_3_2_0));
+        deserializedRequest = copyWriteable(request, namedWriteableRegistry, ShardSearchRequest::new, oldVersion);
+        assertFalse(deserializedRequest.fetchWhileQuerying());
+        assertEquals(request.shardId(), deserializedRequest.shardId());
+        assertEquals(request.nowInMillis(), deserializedRequest.nowInMillis());
+    }
+
     public void testClone() throws Exception {
         for (int i = 0; i < 10; i++) {
             ShardSearchRequest shardSearchTransportRequest = createShardSearchRequest();
@@ -124,6 +142,7 @@ public class ShardSearchRequestTests extends AbstractSearchTestCase {
             keepAlive
         );
         req.canReturnNullResponseIfMatchNoDocs(randomBoolean());
+        req.fetchWhileQuerying(randomBoolean());
         if (randomBoolean()) {
             req.setBottomSortValues(SearchSortValuesAndFormatsTests.randomInstance());
         }
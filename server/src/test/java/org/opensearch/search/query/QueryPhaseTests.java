@@ -353,6 +353,9 @@ public class QueryPhaseTests extends IndexShardTestCase {
         QuerySearchResult results = context.queryResult();
         assertThat(results.serviceTimeEWMA(), greaterThanOrEqualTo(0L));
         assertThat(results.nodeQueueSize(), greaterThanOrEqualTo(0));
+        assertThat(results.searcherUtilization(), greaterThanOrEqualTo(0.0));
+        // only the search service knows whether the shard reads through the file cache
+        assertEquals(-1, results.fileCacheHitRatio(), 0.0);
         reader.close();
         dir.close();
     }
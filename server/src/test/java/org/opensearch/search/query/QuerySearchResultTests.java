@@ -120,6 +120,30 @@ public class QuerySearchResultTests extends OpenSearchTestCase {
         assertEquals(querySearchResult.terminatedEarly(), deserialized.terminatedEarly());
     }
 
+    public void testLoadSignalsSerialization() throws Exception {
+        ShardId shardId = new ShardId("index", "uuid", randomInt());
+        QuerySearchResult querySearchResult = new QuerySearchResult(
+            new ShardSearchContextId(UUIDs.base64UUID(), randomLong()),
+            new SearchShardTarget("node", shardId, null, OriginalIndices.NONE),
+            null
+        );
+        TopDocs topDocs = new TopDocs(new TotalHits(randomLongBetween(0, Long.MAX_VALUE), TotalHits.Relation.EQUAL_TO), new ScoreDoc[0]);
+        querySearchResult.topDocs(new TopDocsAndMaxScore(topDocs, randomFloat()), new DocValueFormat[0]);
+        querySearchResult.searcherUtilization(randomDoubleBetween(0, 10, true));
+        querySearchResult.fileCacheHitRatio(randomDoubleBetween(0, 1, true));
+
+        QuerySearchResult deserialized = copyWriteable(querySearchResult, namedWriteableRegistry, QuerySearchResult::new, Version.V_3_2_0);
+        assertEquals(querySearchResult.searcherUtilization(), deserialized.searcherUtilization(), 0.0);
+        assertEquals(querySearchResult.fileCacheHitRatio(), deserialized.fileCacheHitRatio(), 0.0);
+        assertEquals(querySearchResult.topDocs().topDocs.totalHits, deserialized.topDocs().topDocs.totalHits);
+
+        // older nodes don't send the load signals, which are unknown then
+        deserialized = copyWriteable(querySearchResult, namedWriteableRegistry, QuerySearchResult::new, Version.V_3_1_0);
+        assertEquals(-1, deserialized.searcherUtilization(), 0.0);
+        assertEquals(-1, deserialized.fileCacheHitRatio(), 0.0);
+        assertEquals(querySearchResult.topDocs().topDocs.totalHits, deserialized.topDocs().topDocs.totalHits);
+    }
+
     public void testNullResponse() throws Exception {
         QuerySearchResult querySearchResult = QuerySearchResult.nullInstance();
         QuerySearchResult deserialized = copyWriteable(querySearchResult, namedWriteableRegistry, QuerySearchResult::new, Version.CURRENT);
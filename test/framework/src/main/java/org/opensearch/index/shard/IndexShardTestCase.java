@@ -103,6 +103,7 @@ import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.mapper.SourceToParse;
 import org.opensearch.index.remote.RemoteStoreStatsTrackerFactory;
 import org.opensearch.index.remote.RemoteTranslogTransferTracker;
+import org.opensearch.index.remote.RemoteTranslogUploadBatcher;
 import org.opensearch.index.replication.TestReplicationSource;
 import org.opensearch.index.seqno.ReplicationTracker;
 import org.opensearch.index.seqno.RetentionLeaseSyncer;
@@ -239,6 +240,8 @@ public abstract class IndexShardTestCase extends OpenSearchTestCase {
     protected ThreadPool threadPool;
     protected long primaryTerm;
     protected ClusterService clusterService;
+    // shared by the shards of a test, as it is by the shards of a node
+    protected RemoteTranslogUploadBatcher translogUploadBatcher;
 
     @Override
     public void setUp() throws Exception {
@@ -246,6 +249,7 @@ public abstract class IndexShardTestCase extends OpenSearchTestCase {
         threadPool = setUpThreadPool();
         primaryTerm = randomIntBetween(1, 100); // use random but fixed term for creating shards
         clusterService = createClusterService(threadPool);
+        translogUploadBatcher = new RemoteTranslogUploadBatcher(DefaultRemoteStoreSettings.INSTANCE::getClusterRemoteTranslogBufferSize);
         failOnShardFailures();
     }
 
@@ -738,7 +742,8 @@ public abstract class IndexShardTestCase extends OpenSearchTestCase {
                 new Object(),
                 clusterService.getClusterApplierService(),
                 MergedSegmentPublisher.EMPTY,
-                ReferencedSegmentsPublisher.EMPTY
+                ReferencedSegmentsPublisher.EMPTY,
+                translogUploadBatcher
             );
             indexShard.addShardFailureCallback(DEFAULT_SHARD_FAILURE_HANDLER);
             if (remoteStoreStatsTrackerFactory != null) {